@@ -4,12 +4,15 @@ import com.zenax.armorsets.ArmorSetsPlugin;
 import com.zenax.armorsets.addon.AbstractAddon;
 import com.zenax.dungeons.combat.CombatHandler;
 import com.zenax.dungeons.combat.MobManager;
+import com.zenax.dungeons.combat.ai.AiScheduler;
 import com.zenax.dungeons.combat.boss.BossManager;
 import com.zenax.dungeons.commands.DungeonsCommand;
 import com.zenax.dungeons.dungeon.DungeonCompletionHandler;
 import com.zenax.dungeons.dungeon.DungeonEventHandler;
 import com.zenax.dungeons.dungeon.DungeonManager;
 import com.zenax.dungeons.generation.DungeonGenerator;
+import com.zenax.dungeons.generation.DungeonPool;
+import com.zenax.dungeons.generation.room.RoomTemplateCache;
 import com.zenax.dungeons.lobby.LobbyHandler;
 import com.zenax.dungeons.lobby.LobbyManager;
 import com.zenax.dungeons.loot.LootManager;
@@ -48,9 +51,12 @@ public class DungeonsAddon extends AbstractAddon {
     private LobbyManager lobbyManager;
     private MobManager mobManager;
     private BossManager bossManager;
+    private AiScheduler aiScheduler;
     private LootManager lootManager;
     private ObjectiveManager objectiveManager;
     private DungeonGenerator dungeonGenerator;
+    private RoomTemplateCache roomTemplateCache;
+    private DungeonPool dungeonPool;
     private DungeonWorldManager worldManager;
 
     // Handlers
@@ -112,6 +118,12 @@ public class DungeonsAddon extends AbstractAddon {
         }
 
         // Shutdown managers in reverse order
+        if (aiScheduler != null) {
+            aiScheduler.shutdown();
+        }
+        if (dungeonPool != null) {
+            dungeonPool.shutdown();
+        }
         if (dungeonManager != null) {
             dungeonManager.shutdown();
         }
@@ -155,6 +167,9 @@ public class DungeonsAddon extends AbstractAddon {
         bossManager.loadBossTemplates(loadConfig("mobs/bosses.yml"));
         lootManager.loadLootTables();
         portalManager.loadPortals();
+        roomTemplateCache.loadConfig(config);
+        dungeonPool.loadConfig(config);
+        aiScheduler.loadConfig(config);
 
         info("Dungeons addon reloaded!");
     }
@@ -198,6 +213,7 @@ public class DungeonsAddon extends AbstractAddon {
 
         // Dungeon manager
         dungeonManager = new DungeonManager(plugin);
+        dungeonManager.setWorldManager(worldManager);
         FileConfiguration dungeonConfig = loadConfig("dungeons/example_dungeon.yml");
         dungeonManager.loadDungeons(dungeonConfig);
 
@@ -230,11 +246,27 @@ public class DungeonsAddon extends AbstractAddon {
         lootManager = new LootManager(this);
         lootManager.loadLootTables();
 
-        // Objective manager
+        // Objective manager (fed typed events by the dungeon manager)
         objectiveManager = new ObjectiveManager();
-
-        // Dungeon generator
+        dungeonManager.setObjectiveManager(objectiveManager);
+        bossManager.setPhaseListener((boss, phase) ->
+            dungeonManager.postBossPhase(boss.getEntity().getUniqueId(), phase.getPhaseNumber()));
+
+        // Boss and mob AI, staggered over ticks with a per-instance time budget
+        aiScheduler = new AiScheduler(plugin, dungeonManager, mobManager, bossManager);
+        aiScheduler.loadConfig(config);
+        aiScheduler.start();
+
+        // Dungeon generator, stamping rooms from compiled templates
+        roomTemplateCache = new RoomTemplateCache(new File(getDataFolder(), "cache/room-templates"), plugin.getLogger());
+        roomTemplateCache.loadConfig(config);
         dungeonGenerator = new DungeonGenerator(plugin);
+        dungeonGenerator.setRoomTemplateCache(roomTemplateCache);
+
+        // Pre-generated dungeon pool (warms up in the background)
+        dungeonPool = new DungeonPool(plugin, dungeonGenerator, dungeonManager, worldManager);
+        dungeonPool.loadConfig(config);
+        dungeonPool.start();
     }
 
     private void initializeHandlers() {
@@ -257,18 +289,6 @@ public class DungeonsAddon extends AbstractAddon {
         // Dungeon event handler (handles player death, respawn, exit portal interaction)
         dungeonEventHandler = new DungeonEventHandler(this, dungeonManager, completionHandler);
         plugin.getServer().getPluginManager().registerEvents(dungeonEventHandler, plugin);
-
-        // Start dungeon update task (checks for completion/timeout)
-        startDungeonUpdateTask();
-    }
-
-    /**
-     * Starts the periodic task that updates dungeon instances.
-     */
-    private void startDungeonUpdateTask() {
-        plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            dungeonManager.updateInstances();
-        }, 20L, 20L); // Check every second
     }
 
     private void registerCommand() {
@@ -359,6 +379,18 @@ public class DungeonsAddon extends AbstractAddon {
         return dungeonGenerator;
     }
 
+    public RoomTemplateCache getRoomTemplateCache() {
+        return roomTemplateCache;
+    }
+
+    public DungeonPool getDungeonPool() {
+        return dungeonPool;
+    }
+
+    public AiScheduler getAiScheduler() {
+        return aiScheduler;
+    }
+
     public DungeonCompletionHandler getCompletionHandler() {
         return completionHandler;
     }
@@ -2,6 +2,7 @@ package com.zenax.dungeons.combat;
 
 import com.zenax.dungeons.dungeon.DungeonInstance;
 import com.zenax.dungeons.dungeon.DungeonManager;
+import com.zenax.dungeons.objective.ObjectiveEvent;
 import com.zenax.dungeons.stats.StatManager;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Entity;
@@ -13,6 +14,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityRemoveEvent;
 import org.bukkit.event.entity.EntityTargetEvent;
 
 /**
@@ -187,10 +189,11 @@ public class CombatHandler implements Listener {
         broadcastToDungeon(instance, deathMessage);
 
         // Check if this was the boss
-        if (entity.getUniqueId().equals(instance.getBossUuid())) {
+        boolean boss = entity.getUniqueId().equals(instance.getBossUuid());
+        if (boss) {
             broadcastToDungeon(instance, ChatColor.GOLD + "BOSS DEFEATED!");
-            // Boss completion logic would go here
         }
+        dungeonManager.post(instance, new ObjectiveEvent.MobKilled(entity.getUniqueId(), mob.getRoomId(), boss));
 
         // Check for room clear
         checkRoomClear(instance, mob.getRoomId());
@@ -200,33 +203,51 @@ public class CombatHandler implements Listener {
     }
 
     /**
-     * Handles entity targeting events.
-     * Ensures dungeon mobs only target players in their dungeon instance.
+     * A boss that despawns or is removed without dying never fires a death event,
+     * so tell the instance it's gone; otherwise the run could never complete.
      */
-    @EventHandler(priority = EventPriority.HIGH)
-    public void onEntityTarget(EntityTargetEvent event) {
-        if (event.isCancelled()) {
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveEvent event) {
+        // Deaths are handled above, and an unloaded chunk doesn't end the fight
+        if (event.getCause() == EntityRemoveEvent.Cause.DEATH || event.getCause() == EntityRemoveEvent.Cause.UNLOAD) {
             return;
         }
 
         Entity entity = event.getEntity();
+        DungeonMob mob = mobManager.getMob(entity);
+        if (mob == null || mob.isDead()) {
+            return;
+        }
 
-        // Check if this is a dungeon mob
-        if (!mobManager.isDungeonMob(entity)) {
+        DungeonInstance instance = dungeonManager.getInstance(mob.getDungeonInstanceId());
+        if (instance == null || !entity.getUniqueId().equals(instance.getBossUuid())) {
             return;
         }
+        dungeonManager.post(instance, new ObjectiveEvent.MobKilled(entity.getUniqueId(), mob.getRoomId(), true));
+    }
 
-        DungeonMob mob = mobManager.getMob(entity);
-        if (mob == null) {
+    /**
+     * Handles entity targeting events.
+     * Ensures dungeon mobs only target players in their dungeon instance.
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onEntityTarget(EntityTargetEvent event) {
+        if (event.isCancelled()) {
             return;
         }
 
-        // Get target
+        // Only player targets matter; skip the mob lookup for everything else
         Entity target = event.getTarget();
         if (!(target instanceof Player)) {
             return;
         }
 
+        // Check if this is a dungeon mob
+        DungeonMob mob = mobManager.getMob(event.getEntity());
+        if (mob == null) {
+            return;
+        }
+
         Player targetPlayer = (Player) target;
 
         // Get dungeon instance
@@ -263,6 +284,7 @@ public class CombatHandler implements Listener {
         if (remainingMobs == 0) {
             broadcastToDungeon(instance, ChatColor.GREEN + "Room cleared!");
             // Room clear logic would go here (unlock doors, spawn chest, etc.)
+            dungeonManager.post(instance, new ObjectiveEvent.RoomCleared(roomId));
         }
     }
 
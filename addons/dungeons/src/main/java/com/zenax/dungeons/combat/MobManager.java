@@ -10,6 +10,10 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.inventory.EntityEquipment;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -302,11 +306,12 @@ public class MobManager {
         for (Map.Entry<UUID, DungeonMob> entry : activeMobs.entrySet()) {
             DungeonMob mob = entry.getValue();
             if (mob.getDungeonInstanceId().equals(dungeonInstanceId)) {
+                // Untrack first so the removal isn't mistaken for a boss leaving mid-fight
+                activeMobs.remove(entry.getKey());
                 Entity entity = mob.getEntity();
                 if (entity != null && entity.isValid()) {
                     entity.remove();
                 }
-                activeMobs.remove(entry.getKey());
                 despawned++;
             }
         }
@@ -314,6 +319,15 @@ public class MobManager {
         return despawned;
     }
 
+    /**
+     * Gets a live view of all active mobs.
+     *
+     * @return Unmodifiable view of the active mobs
+     */
+    public Collection<DungeonMob> getActiveMobs() {
+        return Collections.unmodifiableCollection(activeMobs.values());
+    }
+
     /**
      * Gets the number of active mobs.
      *
@@ -355,14 +369,15 @@ public class MobManager {
      * Clears all mob data.
      */
     public void clearAll() {
-        // Despawn all active mobs
-        for (DungeonMob mob : activeMobs.values()) {
+        // Despawn all active mobs, untracked first as in despawnAllMobs
+        List<DungeonMob> mobs = new ArrayList<>(activeMobs.values());
+        activeMobs.clear();
+        for (DungeonMob mob : mobs) {
             Entity entity = mob.getEntity();
             if (entity != null && entity.isValid()) {
                 entity.remove();
             }
         }
-        activeMobs.clear();
     }
 
     /**
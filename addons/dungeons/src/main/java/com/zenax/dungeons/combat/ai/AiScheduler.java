@@ -0,0 +1,306 @@
+package com.zenax.dungeons.combat.ai;
+
+import com.zenax.dungeons.combat.DungeonMob;
+import com.zenax.dungeons.combat.MobManager;
+import com.zenax.dungeons.combat.boss.BossEntity;
+import com.zenax.dungeons.combat.boss.BossManager;
+import com.zenax.dungeons.combat.boss.ability.BossAbility;
+import com.zenax.dungeons.dungeon.DungeonInstance;
+import com.zenax.dungeons.dungeon.DungeonManager;
+import com.zenax.dungeons.dungeon.DungeonState;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Drives boss and dungeon mob AI ("thinks") on one tick task.
+ *
+ * Each entity thinks every few ticks rather than every tick, with a per-entity offset so
+ * thinks are spread evenly over the interval. Entities with no player within the active
+ * range drop to the idle interval. Each dungeon instance gets a fixed slice of tick time;
+ * thinks that don't fit wait for the next tick, oldest first, so many concurrent runs
+ * can't stack up in a single tick.
+ *
+ * Target queries go through the {@link InstancePlayerIndex} built at the start of the tick.
+ *
+ * Main thread only.
+ */
+public class AiScheduler {
+    private static final long PURGE_INTERVAL_TICKS = 200L;
+
+    private final Plugin plugin;
+    private final DungeonManager dungeonManager;
+    private final MobManager mobManager;
+    private final BossManager bossManager;
+    private final InstancePlayerIndex playerIndex = new InstancePlayerIndex();
+
+    private final Map<UUID, AgentState> states = new HashMap<>();
+    private final Map<UUID, List<Due>> dueByInstance = new HashMap<>();
+    private BukkitTask task;
+    private long currentTick;
+
+    // Last-second statistics for the status command
+    private int thinks;
+    private int deferred;
+    private int thinksPerSecond;
+    private int deferredPerSecond;
+
+    // Configuration
+    private int bossInterval;
+    private int mobInterval;
+    private int idleInterval;
+    private double activeRange;
+    private long instanceBudgetNanos;
+
+    /**
+     * Creates a new AI scheduler.
+     *
+     * @param plugin The plugin instance
+     * @param dungeonManager The dungeon manager (for instances and their players)
+     * @param mobManager The mob manager
+     * @param bossManager The boss manager
+     */
+    public AiScheduler(Plugin plugin, DungeonManager dungeonManager, MobManager mobManager, BossManager bossManager) {
+        this.plugin = plugin;
+        this.dungeonManager = dungeonManager;
+        this.mobManager = mobManager;
+        this.bossManager = bossManager;
+    }
+
+    /**
+     * Reads AI scheduling settings.
+     *
+     * @param config The addon configuration
+     */
+    public void loadConfig(FileConfiguration config) {
+        ConfigurationSection section = config.getConfigurationSection("performance.ai");
+        bossInterval = Math.max(1, section != null ? section.getInt("boss-interval-ticks", 2) : 2);
+        mobInterval = Math.max(1, section != null ? section.getInt("mob-interval-ticks", 10) : 10);
+        idleInterval = Math.max(1, section != null ? section.getInt("idle-interval-ticks", 40) : 40);
+        activeRange = section != null ? section.getDouble("active-range", 48.0) : 48.0;
+        instanceBudgetNanos = Math.max(50, section != null ? section.getLong("instance-budget-micros", 1000) : 1000) * 1000L;
+    }
+
+    /**
+     * Starts the AI tick task.
+     */
+    public void start() {
+        if (task == null) {
+            task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops the AI tick task.
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        states.clear();
+        dueByInstance.clear();
+        playerIndex.clear();
+    }
+
+    /**
+     * Gets the player index rebuilt every tick.
+     *
+     * @return The shared index
+     */
+    public InstancePlayerIndex getPlayerIndex() {
+        return playerIndex;
+    }
+
+    private void tick() {
+        currentTick++;
+        playerIndex.clear();
+        for (List<Due> due : dueByInstance.values()) {
+            due.clear();
+        }
+
+        // Snapshot players, then queue the bosses that are due
+        for (DungeonInstance instance : dungeonManager.getInstances()) {
+            if (instance.getState() != DungeonState.ACTIVE) {
+                continue;
+            }
+            UUID instanceId = instance.getInstanceId();
+            for (UUID playerUuid : instance.getPlayerUuids()) {
+                Player player = Bukkit.getPlayer(playerUuid);
+                if (player != null && player.isOnline() && player.getWorld().equals(instance.getWorld())) {
+                    playerIndex.addPlayer(instanceId, player);
+                }
+            }
+
+            UUID bossUuid = instance.getBossUuid();
+            BossEntity boss = bossUuid != null ? bossManager.getBoss(bossUuid) : null;
+            if (boss != null) {
+                if (boss.isDead()) {
+                    bossManager.removeBoss(bossUuid);
+                    states.remove(bossUuid);
+                } else {
+                    if (boss.getInstanceId() == null) {
+                        boss.attach(instanceId, playerIndex);
+                    }
+                    queueIfDue(instance, bossUuid, bossInterval, boss, null);
+                }
+            }
+        }
+
+        // Index mobs and queue the ones that are due
+        for (DungeonMob mob : mobManager.getActiveMobs()) {
+            if (mob.isDead()) {
+                states.remove(mob.getEntityId());
+                continue;
+            }
+            DungeonInstance instance = dungeonManager.getInstance(mob.getDungeonInstanceId());
+            if (instance == null || instance.getState() != DungeonState.ACTIVE) {
+                continue;
+            }
+            playerIndex.addMob(instance.getInstanceId(), mob.getEntity().getLocation());
+            queueIfDue(instance, mob.getEntityId(), mobInterval, null, mob);
+        }
+
+        for (List<Due> due : dueByInstance.values()) {
+            if (!due.isEmpty()) {
+                runInstance(due);
+            }
+        }
+
+        if (currentTick % 20 == 0) {
+            thinksPerSecond = thinks;
+            deferredPerSecond = deferred;
+            thinks = 0;
+            deferred = 0;
+        }
+        if (currentTick % PURGE_INTERVAL_TICKS == 0) {
+            states.keySet().removeIf(id -> !mobManager.isDungeonMob(id) && bossManager.getBoss(id) == null);
+            dueByInstance.values().removeIf(List::isEmpty);
+        }
+    }
+
+    private void queueIfDue(DungeonInstance instance, UUID entityId, int interval, BossEntity boss, DungeonMob mob) {
+        AgentState state = states.computeIfAbsent(entityId, id ->
+            // Spread newcomers over their interval instead of thinking together
+            new AgentState(currentTick + Math.floorMod(id.hashCode(), interval), currentTick));
+        if (state.nextThink <= currentTick) {
+            dueByInstance.computeIfAbsent(instance.getInstanceId(), id -> new ArrayList<>())
+                .add(new Due(instance, state, boss, mob));
+        }
+    }
+
+    /**
+     * Runs one instance's due thinks, oldest first, until its time slice is spent.
+     */
+    private void runInstance(List<Due> due) {
+        due.sort(Comparator.comparingLong(d -> d.state.nextThink));
+        long start = System.nanoTime();
+        for (int i = 0; i < due.size(); i++) {
+            if (i > 0 && System.nanoTime() - start > instanceBudgetNanos) {
+                deferred += due.size() - i;
+                return;
+            }
+            Due next = due.get(i);
+            int elapsed = (int) Math.max(1, currentTick - next.state.lastThink);
+            int interval;
+            try {
+                interval = next.boss != null
+                    ? thinkBoss(next.instance, next.boss, elapsed)
+                    : thinkMob(next.instance, next.mob);
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error in dungeon AI think: " + e.getMessage());
+                interval = idleInterval;
+            }
+            next.state.lastThink = currentTick;
+            next.state.nextThink = currentTick + interval;
+            thinks++;
+        }
+    }
+
+    /**
+     * Ticks a boss and lets it use one ability on the nearest player.
+     *
+     * @return Ticks until the boss thinks again
+     */
+    private int thinkBoss(DungeonInstance instance, BossEntity boss, int elapsed) {
+        boss.tick(elapsed);
+        Location location = boss.getLocation();
+        if (boss.isDead() || location == null) {
+            return bossInterval;
+        }
+
+        Player target = playerIndex.getNearestPlayer(instance.getInstanceId(), location, activeRange);
+        if (target == null) {
+            return idleInterval;
+        }
+        for (BossAbility ability : boss.getTemplate().getAbilitiesForPhase(boss.getCurrentPhase())) {
+            if (boss.useAbility(ability, target)) {
+                break;
+            }
+        }
+        return bossInterval;
+    }
+
+    /**
+     * Keeps a mob on one of its own instance's players.
+     *
+     * @return Ticks until the mob thinks again
+     */
+    private int thinkMob(DungeonInstance instance, DungeonMob mob) {
+        Entity entity = mob.getEntity();
+        if (!(entity instanceof Mob creature)) {
+            return idleInterval;
+        }
+
+        Player nearest = playerIndex.getNearestPlayer(instance.getInstanceId(), entity.getLocation(), activeRange);
+        if (nearest == null) {
+            return idleInterval;
+        }
+        LivingEntity current = creature.getTarget();
+        if (!(current instanceof Player player) || player.isDead() || !instance.hasPlayer(player)) {
+            creature.setTarget(nearest);
+        }
+        return mobInterval;
+    }
+
+    /**
+     * Gets a one-line summary for the status command.
+     *
+     * @return Formatted status line
+     */
+    public String getStatusLine() {
+        return ChatColor.GRAY + "AI Scheduler: " + ChatColor.WHITE + states.size() + " agents" +
+               ChatColor.GRAY + " (" + thinksPerSecond + " thinks/s, " + deferredPerSecond + " deferred/s)";
+    }
+
+    /**
+     * When an entity last thought and when it thinks next, in scheduler ticks.
+     */
+    private static final class AgentState {
+        private long nextThink;
+        private long lastThink;
+
+        private AgentState(long nextThink, long lastThink) {
+            this.nextThink = nextThink;
+            this.lastThink = lastThink;
+        }
+    }
+
+    private record Due(DungeonInstance instance, AgentState state, BossEntity boss, DungeonMob mob) {
+    }
+}
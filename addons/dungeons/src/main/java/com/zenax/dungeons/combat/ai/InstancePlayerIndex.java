@@ -0,0 +1,159 @@
+package com.zenax.dungeons.combat.ai;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Snapshot of where each dungeon instance's players and mobs are, rebuilt once per tick
+ * by the {@link AiScheduler}. Every instance owns its own region of the dungeon world,
+ * so bucketing by instance already partitions space; a query only walks the handful of
+ * players (or the instance's mobs) in one bucket instead of scanning world entities.
+ *
+ * Bounds checks are boxes, matching {@code Entity#getNearbyEntities}.
+ *
+ * Main thread only.
+ */
+public class InstancePlayerIndex {
+    private final Map<UUID, Bucket> buckets = new HashMap<>();
+
+    /**
+     * Forgets the previous snapshot.
+     */
+    void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * Records a player's current position.
+     *
+     * @param instanceId The player's dungeon instance
+     * @param player The player
+     */
+    void addPlayer(UUID instanceId, Player player) {
+        Location location = player.getLocation();
+        bucket(instanceId).players.add(new PlayerPoint(player, location.getX(), location.getY(), location.getZ()));
+    }
+
+    /**
+     * Records a dungeon mob's current position.
+     *
+     * @param instanceId The mob's dungeon instance
+     * @param location The mob's location
+     */
+    void addMob(UUID instanceId, Location location) {
+        Bucket bucket = bucket(instanceId);
+        if (bucket.mobCount * 3 == bucket.mobs.length) {
+            double[] grown = new double[bucket.mobs.length * 2];
+            System.arraycopy(bucket.mobs, 0, grown, 0, bucket.mobs.length);
+            bucket.mobs = grown;
+        }
+        int i = bucket.mobCount++ * 3;
+        bucket.mobs[i] = location.getX();
+        bucket.mobs[i + 1] = location.getY();
+        bucket.mobs[i + 2] = location.getZ();
+    }
+
+    private Bucket bucket(UUID instanceId) {
+        return buckets.computeIfAbsent(instanceId, id -> new Bucket());
+    }
+
+    /**
+     * Finds the closest live player of an instance.
+     *
+     * @param instanceId The dungeon instance
+     * @param location The search centre
+     * @param range Maximum distance on each axis
+     * @return The nearest player, or null if none is in range
+     */
+    public Player getNearestPlayer(UUID instanceId, Location location, double range) {
+        Bucket bucket = buckets.get(instanceId);
+        if (bucket == null) {
+            return null;
+        }
+
+        Player nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (PlayerPoint point : bucket.players) {
+            double dx = point.x - location.getX();
+            double dy = point.y - location.getY();
+            double dz = point.z - location.getZ();
+            if (Math.abs(dx) > range || Math.abs(dy) > range || Math.abs(dz) > range || point.player.isDead()) {
+                continue;
+            }
+            double distance = dx * dx + dy * dy + dz * dz;
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = point.player;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Gets every player of an instance within a box around a location.
+     *
+     * @param instanceId The dungeon instance
+     * @param location The box centre
+     * @param radius Half-size of the box
+     * @return The players inside the box
+     */
+    public List<Player> getPlayersWithin(UUID instanceId, Location location, double radius) {
+        Bucket bucket = buckets.get(instanceId);
+        if (bucket == null) {
+            return Collections.emptyList();
+        }
+
+        List<Player> players = new ArrayList<>();
+        for (PlayerPoint point : bucket.players) {
+            if (Math.abs(point.x - location.getX()) <= radius &&
+                Math.abs(point.y - location.getY()) <= radius &&
+                Math.abs(point.z - location.getZ()) <= radius) {
+                players.add(point.player);
+            }
+        }
+        return players;
+    }
+
+    /**
+     * Counts an instance's dungeon mobs within a box around a location.
+     *
+     * @param instanceId The dungeon instance
+     * @param location The box centre
+     * @param radius Half-size of the box
+     * @return The number of mobs inside the box
+     */
+    public int countMobsWithin(UUID instanceId, Location location, double radius) {
+        Bucket bucket = buckets.get(instanceId);
+        if (bucket == null) {
+            return 0;
+        }
+
+        int count = 0;
+        double[] mobs = bucket.mobs;
+        for (int i = 0; i < bucket.mobCount * 3; i += 3) {
+            if (Math.abs(mobs[i] - location.getX()) <= radius &&
+                Math.abs(mobs[i + 1] - location.getY()) <= radius &&
+                Math.abs(mobs[i + 2] - location.getZ()) <= radius) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private record PlayerPoint(Player player, double x, double y, double z) {
+    }
+
+    private static final class Bucket {
+        private final List<PlayerPoint> players = new ArrayList<>(4);
+        // x, y, z per mob
+        private double[] mobs = new double[48];
+        private int mobCount;
+    }
+}
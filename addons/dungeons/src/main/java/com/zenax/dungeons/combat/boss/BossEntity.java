@@ -1,5 +1,6 @@
 package com.zenax.dungeons.combat.boss;
 
+import com.zenax.dungeons.combat.ai.InstancePlayerIndex;
 import com.zenax.dungeons.combat.boss.ability.BossAbility;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -11,6 +12,7 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Represents an active instance of a boss in the world.
@@ -26,6 +28,11 @@ public class BossEntity {
     private int invulnerabilityTicks;
     private final Map<String, Long> abilityCooldowns;
     private boolean isDead;
+    private Consumer<BossPhase> phaseListener;
+    private final List<Entity> minions;
+    // Set once the AI scheduler drives this boss
+    private UUID instanceId;
+    private InstancePlayerIndex playerIndex;
 
     /**
      * Creates a new boss entity instance.
@@ -42,6 +49,7 @@ public class BossEntity {
         this.invulnerabilityTicks = 0;
         this.abilityCooldowns = new HashMap<>();
         this.isDead = false;
+        this.minions = new ArrayList<>();
     }
 
     /**
@@ -143,6 +151,19 @@ public class BossEntity {
 
         // Update boss bar
         updateBossBar(getHealthPercentage());
+
+        if (phaseListener != null) {
+            phaseListener.accept(phase);
+        }
+    }
+
+    /**
+     * Sets the listener told when this boss enters a new phase.
+     *
+     * @param phaseListener Receives the phase entered
+     */
+    public void setPhaseListener(Consumer<BossPhase> phaseListener) {
+        this.phaseListener = phaseListener;
     }
 
     /**
@@ -238,13 +259,22 @@ public class BossEntity {
      * Ticks the boss entity, updating cooldowns and invulnerability.
      */
     public void tick() {
+        tick(1);
+    }
+
+    /**
+     * Ticks the boss entity after a number of server ticks have passed since the last call.
+     *
+     * @param elapsedTicks Server ticks since the previous tick
+     */
+    public void tick(int elapsedTicks) {
         if (isDead) {
             return;
         }
 
         // Update invulnerability
         if (invulnerable && invulnerabilityTicks > 0) {
-            invulnerabilityTicks--;
+            invulnerabilityTicks -= elapsedTicks;
             if (invulnerabilityTicks <= 0) {
                 invulnerable = false;
             }
@@ -364,6 +394,55 @@ public class BossEntity {
         return new HashMap<>(abilityCooldowns);
     }
 
+    /**
+     * Links this boss to its dungeon instance and the scheduler's player index,
+     * so abilities can query nearby players without scanning entities.
+     *
+     * @param instanceId The dungeon instance the boss belongs to
+     * @param playerIndex The shared index, refreshed every tick
+     */
+    public void attach(UUID instanceId, InstancePlayerIndex playerIndex) {
+        this.instanceId = instanceId;
+        this.playerIndex = playerIndex;
+    }
+
+    /**
+     * Gets the dungeon instance this boss belongs to.
+     *
+     * @return The instance ID, or null if the boss isn't scheduled
+     */
+    public UUID getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Gets the shared player index.
+     *
+     * @return The index, or null if the boss isn't scheduled
+     */
+    public InstancePlayerIndex getPlayerIndex() {
+        return playerIndex;
+    }
+
+    /**
+     * Records a minion summoned by this boss.
+     *
+     * @param minion The summoned entity
+     */
+    public void addMinion(Entity minion) {
+        minions.add(minion);
+    }
+
+    /**
+     * Gets the number of this boss's minions that are still alive.
+     *
+     * @return The live minion count
+     */
+    public int getLiveMinionCount() {
+        minions.removeIf(minion -> !minion.isValid() || minion.isDead());
+        return minions.size();
+    }
+
     @Override
     public String toString() {
         return "BossEntity{" +
@@ -9,6 +9,7 @@ import org.bukkit.entity.EntityType;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 /**
  * Manages all boss templates and active boss instances.
@@ -17,6 +18,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class BossManager {
     private final Map<String, BossTemplate> templates;
     private final Map<UUID, BossEntity> activeBosses;
+    private BiConsumer<BossEntity, BossPhase> phaseListener;
 
     /**
      * Creates a new boss manager.
@@ -63,6 +65,15 @@ public class BossManager {
         return loaded;
     }
 
+    /**
+     * Sets the listener told whenever a spawned boss enters a new phase.
+     *
+     * @param phaseListener Receives the boss and the phase entered
+     */
+    public void setPhaseListener(BiConsumer<BossEntity, BossPhase> phaseListener) {
+        this.phaseListener = phaseListener;
+    }
+
     /**
      * Spawns a boss at the specified location.
      *
@@ -90,6 +101,11 @@ public class BossManager {
 
             // Create boss entity
             BossEntity bossEntity = new BossEntity(entity, template);
+            bossEntity.setPhaseListener(phase -> {
+                if (phaseListener != null) {
+                    phaseListener.accept(bossEntity, phase);
+                }
+            });
 
             // Initialize with difficulty scaling
             double difficultyMultiplier = difficulty != null ? difficulty.getMobMultiplier() : 1.0;
@@ -173,33 +189,6 @@ public class BossManager {
         return new ArrayList<>(activeBosses.values());
     }
 
-    /**
-     * Ticks all active bosses.
-     * Should be called periodically (e.g., every tick or every few ticks).
-     */
-    public void tickBosses() {
-        Iterator<Map.Entry<UUID, BossEntity>> iterator = activeBosses.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, BossEntity> entry = iterator.next();
-            BossEntity boss = entry.getValue();
-
-            // Check if boss is still valid
-            if (boss.isDead()) {
-                boss.setDead();
-                iterator.remove();
-                continue;
-            }
-
-            // Tick the boss
-            try {
-                boss.tick();
-            } catch (Exception e) {
-                System.err.println("Error ticking boss " + boss.getBossId() + ": " + e.getMessage());
-                e.printStackTrace();
-            }
-        }
-    }
-
     /**
      * Handles phase transition for a boss.
      * Called when a boss should transition to a new phase.
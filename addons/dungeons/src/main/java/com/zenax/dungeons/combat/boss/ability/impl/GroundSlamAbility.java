@@ -1,5 +1,6 @@
 package com.zenax.dungeons.combat.boss.ability.impl;
 
+import com.zenax.dungeons.combat.ai.InstancePlayerIndex;
 import com.zenax.dungeons.combat.boss.BossEntity;
 import com.zenax.dungeons.combat.boss.ability.AbilityType;
 import com.zenax.dungeons.combat.boss.ability.BossAbility;
@@ -11,7 +12,9 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -59,34 +62,43 @@ public class GroundSlamAbility extends BossAbility {
         double verticalKnockback = (double) getParam("verticalKnockback", 0.5);
 
         // Find all nearby players
-        for (Entity entity : bossEntity.getNearbyEntities(radius, radius, radius)) {
-            if (entity instanceof Player) {
-                Player player = (Player) entity;
-                if (player.isDead()) {
-                    continue;
+        List<Player> targets = new ArrayList<>();
+        InstancePlayerIndex index = boss.getPlayerIndex();
+        if (index != null) {
+            targets.addAll(index.getPlayersWithin(boss.getInstanceId(), bossLoc, radius));
+        } else {
+            for (Entity entity : bossEntity.getNearbyEntities(radius, radius, radius)) {
+                if (entity instanceof Player) {
+                    targets.add((Player) entity);
                 }
+            }
+        }
 
-                // Calculate direction from boss to player
-                Vector direction = player.getLocation().toVector()
-                    .subtract(bossLoc.toVector())
-                    .normalize();
-
-                // Apply knockback
-                Vector knockback = direction.multiply(knockbackStrength);
-                knockback.setY(verticalKnockback);
-                player.setVelocity(knockback);
-
-                // Deal damage
-                player.damage(damage, bossEntity);
-
-                // Spawn particles at player location
-                String particleName = (String) getParam("particle", Particle.EXPLOSION.name());
-                try {
-                    Particle particle = Particle.valueOf(particleName);
-                    player.getWorld().spawnParticle(particle, player.getLocation(), 5, 0.5, 0.5, 0.5, 0.1);
-                } catch (IllegalArgumentException e) {
-                    player.getWorld().spawnParticle(Particle.EXPLOSION, player.getLocation(), 5, 0.5, 0.5, 0.5, 0.1);
-                }
+        for (Player player : targets) {
+            if (player.isDead()) {
+                continue;
+            }
+
+            // Calculate direction from boss to player
+            Vector direction = player.getLocation().toVector()
+                .subtract(bossLoc.toVector())
+                .normalize();
+
+            // Apply knockback
+            Vector knockback = direction.multiply(knockbackStrength);
+            knockback.setY(verticalKnockback);
+            player.setVelocity(knockback);
+
+            // Deal damage
+            player.damage(damage, bossEntity);
+
+            // Spawn particles at player location
+            String particleName = (String) getParam("particle", Particle.EXPLOSION.name());
+            try {
+                Particle particle = Particle.valueOf(particleName);
+                player.getWorld().spawnParticle(particle, player.getLocation(), 5, 0.5, 0.5, 0.5, 0.1);
+            } catch (IllegalArgumentException e) {
+                player.getWorld().spawnParticle(Particle.EXPLOSION, player.getLocation(), 5, 0.5, 0.5, 0.5, 0.1);
             }
         }
 
@@ -1,5 +1,6 @@
 package com.zenax.dungeons.combat.boss.ability.impl;
 
+import com.zenax.dungeons.combat.ai.InstancePlayerIndex;
 import com.zenax.dungeons.combat.boss.BossEntity;
 import com.zenax.dungeons.combat.boss.ability.AbilityType;
 import com.zenax.dungeons.combat.boss.ability.BossAbility;
@@ -86,6 +87,7 @@ public class SummonMinionsAbility extends BossAbility {
             try {
                 // Spawn minion
                 Entity minion = bossLoc.getWorld().spawnEntity(spawnLoc, minionType);
+                boss.addMinion(minion);
 
                 // Configure minion if it's a mob
                 if (minion instanceof Mob) {
@@ -162,9 +164,17 @@ public class SummonMinionsAbility extends BossAbility {
         // Check if there are already too many nearby mobs
         Entity bossEntity = boss.getEntity();
         if (bossEntity != null) {
-            long nearbyMobCount = bossEntity.getNearbyEntities(15, 15, 15).stream()
-                .filter(e -> e instanceof Monster)
-                .count();
+            long nearbyMobCount;
+            InstancePlayerIndex index = boss.getPlayerIndex();
+            if (index != null) {
+                // Scheduled bosses: own minions plus the instance's indexed mobs, no entity scan
+                nearbyMobCount = boss.getLiveMinionCount() +
+                                 index.countMobsWithin(boss.getInstanceId(), bossEntity.getLocation(), 15);
+            } else {
+                nearbyMobCount = bossEntity.getNearbyEntities(15, 15, 15).stream()
+                    .filter(e -> e instanceof Monster)
+                    .count();
+            }
 
             // Limit total mobs to prevent overwhelming players
             if (nearbyMobCount > 20) {
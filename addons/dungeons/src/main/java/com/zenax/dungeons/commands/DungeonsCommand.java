@@ -212,6 +212,11 @@ public class DungeonsCommand implements CommandExecutor, TabCompleter {
             portalManager.clearAllPortals();
         }
 
+        // Pooled dungeons live in the dungeon world - drop them before it goes
+        if (addon.getDungeonPool() != null) {
+            addon.getDungeonPool().clear();
+        }
+
         // Reset the dungeon world
         if (worldManager != null) {
             worldManager.resetWorld();
@@ -254,6 +259,24 @@ public class DungeonsCommand implements CommandExecutor, TabCompleter {
                 int playerCount = dungeonWorld.getPlayers().size();
                 sender.sendMessage(ChatColor.GRAY + "Players in Dungeon World: " + ChatColor.WHITE + playerCount);
             }
+            if (worldManager.getRegionAllocator() != null) {
+                sender.sendMessage(ChatColor.GRAY + "Instance Regions: " + ChatColor.WHITE +
+                                 worldManager.getRegionAllocator().getSummary());
+            }
+        }
+
+        if (addon.getDungeonPool() != null) {
+            for (String line : addon.getDungeonPool().getStatusLines()) {
+                sender.sendMessage(line);
+            }
+        }
+
+        if (addon.getRoomTemplateCache() != null) {
+            sender.sendMessage(addon.getRoomTemplateCache().getStatusLine());
+        }
+
+        if (addon.getAiScheduler() != null) {
+            sender.sendMessage(addon.getAiScheduler().getStatusLine());
         }
 
         return true;
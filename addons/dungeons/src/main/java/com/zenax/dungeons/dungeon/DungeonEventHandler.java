@@ -64,8 +64,7 @@ public class DungeonEventHandler implements Listener {
         // Check for party wipe (all players dead)
         if (isPartyWiped(instance)) {
             addon.info("Party wipe detected in dungeon " + instance.getInstanceId());
-            instance.setState(DungeonState.FAILED);
-            completionHandler.handleFailure(instance, DungeonCompletionHandler.FailureReason.PARTY_WIPE);
+            dungeonManager.failInstance(instance, DungeonCompletionHandler.FailureReason.PARTY_WIPE);
         }
     }
 
@@ -149,8 +148,7 @@ public class DungeonEventHandler implements Listener {
         // Check if dungeon is now empty
         if (instance.isEmpty() && instance.getState() == DungeonState.ACTIVE) {
             addon.info("Dungeon " + instance.getInstanceId() + " abandoned - all players left");
-            instance.setState(DungeonState.FAILED);
-            completionHandler.handleFailure(instance, DungeonCompletionHandler.FailureReason.ABANDONED);
+            dungeonManager.failInstance(instance, DungeonCompletionHandler.FailureReason.ABANDONED);
         }
     }
 
@@ -1,5 +1,6 @@
 package com.zenax.dungeons.dungeon;
 
+import com.zenax.dungeons.world.InstanceRegion;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
@@ -26,6 +27,7 @@ public class DungeonInstance {
     // World and location data
     private final World world;
     private final Location spawnPoint;
+    private InstanceRegion region;
 
     // Room and mob tracking
     private final Map<String, Location> rooms;
@@ -103,6 +105,19 @@ public class DungeonInstance {
         return spawnPoint.clone();
     }
 
+    /**
+     * Gets the dungeon world region this instance occupies.
+     *
+     * @return The region, or null if the instance was placed at a fixed location
+     */
+    public InstanceRegion getRegion() {
+        return region;
+    }
+
+    public void setRegion(InstanceRegion region) {
+        this.region = region;
+    }
+
     public Map<String, Location> getRooms() {
         return new HashMap<>(rooms);
     }
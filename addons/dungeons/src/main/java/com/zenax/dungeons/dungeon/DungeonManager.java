@@ -1,11 +1,16 @@
 package com.zenax.dungeons.dungeon;
 
+import com.zenax.dungeons.objective.ObjectiveEvent;
+import com.zenax.dungeons.objective.ObjectiveManager;
+import com.zenax.dungeons.world.DungeonWorldManager;
+import com.zenax.dungeons.world.RegionAllocator;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -13,15 +18,24 @@ import java.util.logging.Level;
 
 /**
  * Manages all dungeon templates and active instances.
+ *
+ * Instance lifecycle is event driven: activating an instance schedules its own timeout
+ * on the server scheduler, and completion is pushed in through {@link #post} as mobs,
+ * bosses and rooms report progress. Nothing runs for an instance while it is idle.
  */
 public class DungeonManager {
     private final Plugin plugin;
     private final Map<String, Dungeon> dungeonTemplates;
     private final Map<UUID, DungeonInstance> activeInstances;
     private final Map<UUID, UUID> playerToInstance;
+    private final Map<UUID, BukkitTask> timeouts;
 
     // Completion handler (set after construction)
     private DungeonCompletionHandler completionHandler;
+    // World manager, for releasing instance regions (set after construction)
+    private DungeonWorldManager worldManager;
+    // Objective manager, for objective-mode progress (set after construction)
+    private ObjectiveManager objectiveManager;
 
     /**
      * Creates a new dungeon manager.
@@ -33,6 +47,7 @@ public class DungeonManager {
         this.dungeonTemplates = new ConcurrentHashMap<>();
         this.activeInstances = new ConcurrentHashMap<>();
         this.playerToInstance = new ConcurrentHashMap<>();
+        this.timeouts = new ConcurrentHashMap<>();
     }
 
     /**
@@ -152,6 +167,9 @@ public class DungeonManager {
             playerToInstance.remove(playerUuid);
         }
 
+        cancelTimeout(instance);
+        releaseRegion(instance);
+
         plugin.getLogger().info("Destroyed dungeon instance: " + instanceId);
         return true;
     }
@@ -304,6 +322,15 @@ public class DungeonManager {
         return playerToInstance.containsKey(playerUuid);
     }
 
+    /**
+     * Gets a live view of all instances.
+     *
+     * @return Unmodifiable view of the instances
+     */
+    public Collection<DungeonInstance> getInstances() {
+        return Collections.unmodifiableCollection(activeInstances.values());
+    }
+
     /**
      * Gets the number of active instances.
      *
@@ -362,6 +389,8 @@ public class DungeonManager {
                 }
 
                 iterator.remove();
+                cancelTimeout(instance);
+                releaseRegion(instance);
                 cleaned++;
                 plugin.getLogger().info("Cleaned up finished instance: " + entry.getKey());
             }
@@ -370,6 +399,31 @@ public class DungeonManager {
         return cleaned;
     }
 
+    /**
+     * Hands an instance's world region back for clearing and reuse.
+     *
+     * @param instance The instance being removed
+     */
+    private void releaseRegion(DungeonInstance instance) {
+        if (instance.getRegion() == null || worldManager == null) {
+            return;
+        }
+        RegionAllocator allocator = worldManager.getRegionAllocator();
+        if (allocator != null) {
+            allocator.release(instance.getRegion());
+        }
+        instance.setRegion(null);
+    }
+
+    /**
+     * Sets the world manager used to release instance regions.
+     *
+     * @param worldManager The dungeon world manager
+     */
+    public void setWorldManager(DungeonWorldManager worldManager) {
+        this.worldManager = worldManager;
+    }
+
     /**
      * Sets the completion handler for this manager.
      *
@@ -389,37 +443,134 @@ public class DungeonManager {
     }
 
     /**
-     * Updates all active dungeon instances.
-     * Should be called periodically to check for completion, time limits, etc.
+     * Sets the objective manager that receives posted events.
+     *
+     * @param objectiveManager The objective manager
      */
-    public void updateInstances() {
-        for (DungeonInstance instance : activeInstances.values()) {
+    public void setObjectiveManager(ObjectiveManager objectiveManager) {
+        this.objectiveManager = objectiveManager;
+    }
+
+    /**
+     * Starts a run: tracks the instance, marks it active and schedules its time limit.
+     *
+     * @param instance The placed instance players are entering
+     */
+    public void activateInstance(DungeonInstance instance) {
+        activeInstances.put(instance.getInstanceId(), instance);
+        instance.setState(DungeonState.ACTIVE);
+        scheduleTimeout(instance);
+    }
+
+    private void scheduleTimeout(DungeonInstance instance) {
+        long remaining = instance.getTimeRemaining();
+        if (remaining < 0) {
+            return; // No time limit
+        }
+        BukkitTask task = plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            timeouts.remove(instance.getInstanceId());
             if (instance.getState() != DungeonState.ACTIVE) {
-                continue;
+                return;
+            }
+            // Ticks run slower than the wall clock under lag, never faster; re-arm if early anyway
+            if (!instance.isTimeExpired()) {
+                scheduleTimeout(instance);
+                return;
             }
+            plugin.getLogger().info("Instance " + instance.getInstanceId() + " failed due to time limit");
+            failInstance(instance, DungeonCompletionHandler.FailureReason.TIME_EXPIRED);
+        }, Math.max(1, remaining) * 20L);
+
+        BukkitTask previous = timeouts.put(instance.getInstanceId(), task);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
 
-            // Check time limit
-            if (instance.isTimeExpired()) {
-                instance.setState(DungeonState.FAILED);
-                plugin.getLogger().info("Instance " + instance.getInstanceId() + " failed due to time limit");
+    private void cancelTimeout(DungeonInstance instance) {
+        BukkitTask task = timeouts.remove(instance.getInstanceId());
+        if (task != null) {
+            task.cancel();
+        }
+    }
 
-                // Trigger failure handling
-                if (completionHandler != null) {
-                    completionHandler.handleFailure(instance, DungeonCompletionHandler.FailureReason.TIME_EXPIRED);
+    /**
+     * Pushes an event into an active instance: objectives are updated, and the run is
+     * completed as soon as its objective mode is satisfied.
+     *
+     * @param instance The instance the event happened in
+     * @param event The event
+     */
+    public void post(DungeonInstance instance, ObjectiveEvent event) {
+        if (instance == null || instance.getState() != DungeonState.ACTIVE) {
+            return;
+        }
+
+        switch (instance.getObjectiveMode()) {
+            case BOSS_KILL:
+                if (event instanceof ObjectiveEvent.MobKilled killed && killed.boss()) {
+                    completeInstance(instance);
                 }
-                continue;
+                break;
+            case OBJECTIVES:
+                if (objectiveManager != null && objectiveManager.post(instance, event)
+                    && instance.areAllObjectivesComplete()) {
+                    completeInstance(instance);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Pushes a boss phase change into the instance that boss belongs to.
+     *
+     * @param bossUuid The boss entity UUID
+     * @param phase The phase number entered
+     */
+    public void postBossPhase(UUID bossUuid, int phase) {
+        for (DungeonInstance instance : activeInstances.values()) {
+            if (bossUuid.equals(instance.getBossUuid())) {
+                post(instance, new ObjectiveEvent.BossPhaseChanged(bossUuid, phase));
+                return;
             }
+        }
+    }
 
-            // Check completion
-            if (instance.isComplete()) {
-                instance.setState(DungeonState.COMPLETED);
-                plugin.getLogger().info("Instance " + instance.getInstanceId() + " completed");
+    /**
+     * Ends an active run in victory.
+     *
+     * @param instance The instance
+     */
+    public void completeInstance(DungeonInstance instance) {
+        if (instance.getState() != DungeonState.ACTIVE) {
+            return;
+        }
+        instance.setState(DungeonState.COMPLETED);
+        cancelTimeout(instance);
+        plugin.getLogger().info("Instance " + instance.getInstanceId() + " completed");
 
-                // Trigger completion handling
-                if (completionHandler != null) {
-                    completionHandler.handleCompletion(instance);
-                }
-            }
+        if (completionHandler != null) {
+            completionHandler.handleCompletion(instance);
+        }
+    }
+
+    /**
+     * Ends an active run in failure.
+     *
+     * @param instance The instance
+     * @param reason Why the run failed
+     */
+    public void failInstance(DungeonInstance instance, DungeonCompletionHandler.FailureReason reason) {
+        if (instance.getState() != DungeonState.ACTIVE) {
+            return;
+        }
+        instance.setState(DungeonState.FAILED);
+        cancelTimeout(instance);
+
+        if (completionHandler != null) {
+            completionHandler.handleFailure(instance, reason);
         }
     }
 
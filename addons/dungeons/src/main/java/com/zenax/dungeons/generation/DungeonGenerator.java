@@ -1,20 +1,27 @@
 package com.zenax.dungeons.generation;
 
+import com.zenax.dungeons.DungeonsAddon;
 import com.zenax.dungeons.dungeon.Dungeon;
 import com.zenax.dungeons.dungeon.DungeonDifficulty;
 import com.zenax.dungeons.dungeon.DungeonInstance;
 import com.zenax.dungeons.dungeon.ObjectiveMode;
+import com.zenax.dungeons.generation.algorithm.NoiseField;
 import com.zenax.dungeons.generation.algorithm.NoiseGenerator;
 import com.zenax.dungeons.generation.layout.DungeonLayout;
 import com.zenax.dungeons.generation.layout.DungeonLayoutGenerator;
 import com.zenax.dungeons.generation.layout.LayoutEdge;
 import com.zenax.dungeons.generation.layout.LayoutNode;
 import com.zenax.dungeons.generation.room.Room;
+import com.zenax.dungeons.generation.room.RoomTemplate;
+import com.zenax.dungeons.generation.room.RoomTemplateCache;
 import com.zenax.dungeons.generation.room.RoomType;
+import com.zenax.dungeons.generation.voxel.VoxelBuffer;
+import com.zenax.dungeons.generation.voxel.VoxelPlacer;
+import com.zenax.dungeons.world.InstanceRegion;
+import com.zenax.dungeons.world.RegionAllocator;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.BoundingBox;
@@ -33,29 +40,159 @@ public class DungeonGenerator {
     // Grid cell size for room placement
     private static final int CELL_SIZE = 25;
 
+    // Progress milestones: buffer building ends at BUILD_END, placement at PLACEMENT_END
+    private static final double BUILD_END = 0.45;
+    private static final double PLACEMENT_END = 0.95;
+    private static final long DEFAULT_PLACEMENT_BUDGET_MS = 10;
+
+    // Blocks a room (plus alcoves and corridor walls) can reach beyond its layout cell centre
+    private static final int FOOTPRINT_MARGIN = 24;
+    // Floor height of dungeons placed in allocated regions
+    private static final int REGION_BASE_Y = 64;
+
+    // Room extent from its centre (stone fill) and height above its floor
+    private static final int ROOM_RADIUS = 16;
+    private static final int ROOM_HEIGHT = 12;
+
+    private RoomTemplateCache roomTemplates;
+
     public DungeonGenerator(Plugin plugin) {
         this.plugin = plugin;
         this.random = new Random();
     }
 
     /**
-     * Generates a dungeon on the main thread.
+     * Sets the cache rooms are stamped from. Without one, every room is generated block by block.
+     *
+     * @param roomTemplates The room template cache (may be null)
+     */
+    public void setRoomTemplateCache(RoomTemplateCache roomTemplates) {
+        this.roomTemplates = roomTemplates;
+    }
+
+    /**
+     * Generates a dungeon in two stages: the layout and every block are computed into a
+     * {@link VoxelBuffer} on a worker thread, then the buffer is placed chunk by chunk on the
+     * main thread under a per-tick time budget. Both callbacks run on the main thread.
      */
     public void generateDungeonAsync(Dungeon template, World world, Location origin,
                                     Consumer<Double> progressCallback,
                                     Consumer<DungeonInstance> completionCallback) {
+        prepare(template, world, origin.clone(), null, getPlacementBudgetMillis(), progressCallback,
+                toInstance(template, progressCallback, completionCallback));
+    }
+
+    /**
+     * Same as {@link #generateDungeonAsync(Dungeon, World, Location, Consumer, Consumer)}, but
+     * the dungeon gets its own region sized to its layout. The region is released with the instance.
+     */
+    public void generateDungeonAsync(Dungeon template, RegionAllocator allocator,
+                                    Consumer<Double> progressCallback,
+                                    Consumer<DungeonInstance> completionCallback) {
+        prepare(template, null, null, allocator, getPlacementBudgetMillis(), progressCallback,
+                toInstance(template, progressCallback, completionCallback));
+    }
+
+    private Consumer<PreparedDungeon> toInstance(Dungeon template, Consumer<Double> progressCallback,
+                                                 Consumer<DungeonInstance> completionCallback) {
+        return prepared -> {
+            DungeonInstance instance = null;
+            if (prepared != null) {
+                try {
+                    instance = createInstance(prepared, template.getDefaultDifficulty(),
+                                              getDefaultObjectiveMode(template));
+                    updateProgress(progressCallback, 1.0);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+            completionCallback.accept(instance);
+        };
+    }
+
+    /**
+     * Builds and places a dungeon in a region of its own without creating an instance for it
+     * yet, so it can be handed to a party later (see {@link DungeonPool}). Callbacks run on the
+     * main thread; the completion receives null if generation failed.
+     *
+     * @param template The dungeon template
+     * @param allocator The allocator the dungeon's region is taken from
+     * @param placementBudgetMillis Milliseconds per tick spent placing blocks
+     * @param progressCallback Receives progress 0.0-PLACEMENT_END (may be null)
+     * @param completionCallback Receives the placed dungeon, or null
+     */
+    public void prepareDungeonAsync(Dungeon template, RegionAllocator allocator, long placementBudgetMillis,
+                                    Consumer<Double> progressCallback,
+                                    Consumer<PreparedDungeon> completionCallback) {
+        prepare(template, null, null, allocator, placementBudgetMillis, progressCallback, completionCallback);
+    }
+
+    /**
+     * Either {@code origin} (in {@code world}) or {@code allocator} is given; with an allocator
+     * the origin is chosen off-thread once the layout, and so the footprint, is known.
+     */
+    private void prepare(Dungeon template, World fixedWorld, Location fixedOrigin, RegionAllocator allocator,
+                         long placementBudgetMillis, Consumer<Double> progressCallback,
+                         Consumer<PreparedDungeon> completionCallback) {
+        long seed = generateSeed();
+        Map<String, Material> theme = template.getThemeMaterials();
+        World world = allocator != null ? allocator.getWorld() : fixedWorld;
+
         new BukkitRunnable() {
             @Override
             public void run() {
+                InstanceRegion region = null;
+                DungeonBlueprint built;
                 try {
-                    DungeonInstance instance = generateDungeon(template, world, origin, progressCallback);
-                    completionCallback.accept(instance);
+                    DungeonLayout layout = new DungeonLayoutGenerator(seed).generate(template);
+                    Location origin = fixedOrigin;
+                    if (allocator != null) {
+                        int[] bounds = getGridBounds(layout);
+                        region = allocator.allocate(
+                            (bounds[2] - bounds[0]) * CELL_SIZE + FOOTPRINT_MARGIN * 2 + 1,
+                            (bounds[3] - bounds[1]) * CELL_SIZE + FOOTPRINT_MARGIN * 2 + 1);
+                        origin = new Location(world,
+                            region.getMinX() + FOOTPRINT_MARGIN - bounds[0] * CELL_SIZE,
+                            REGION_BASE_Y,
+                            region.getMinZ() + FOOTPRINT_MARGIN - bounds[1] * CELL_SIZE);
+                    }
+
+                    // Buffer building is pure - progress is forwarded to the main thread
+                    built = buildBlueprint(theme, world, origin, layout, seed,
+                        progress -> runSync(() -> updateProgress(progressCallback, progress)));
                 } catch (Exception e) {
                     e.printStackTrace();
-                    completionCallback.accept(null);
+                    InstanceRegion failed = region;
+                    runSync(() -> {
+                        if (failed != null) allocator.release(failed);
+                        completionCallback.accept(null);
+                    });
+                    return;
                 }
+
+                DungeonBlueprint blueprint = built;
+                InstanceRegion placedRegion = region;
+                runSync(() -> placeBlueprint(template, world, placedRegion, blueprint, placementBudgetMillis,
+                                             progressCallback, completionCallback));
             }
-        }.runTask(plugin);
+        }.runTaskAsynchronously(plugin);
+    }
+
+    /**
+     * Gets the layout's grid extent as {minX, minZ, maxX, maxZ}.
+     */
+    private int[] getGridBounds(DungeonLayout layout) {
+        int[] bounds = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE};
+        for (LayoutNode node : layout.getNodes()) {
+            bounds[0] = Math.min(bounds[0], node.getGridX());
+            bounds[1] = Math.min(bounds[1], node.getGridZ());
+            bounds[2] = Math.max(bounds[2], node.getGridX());
+            bounds[3] = Math.max(bounds[3], node.getGridZ());
+        }
+        if (bounds[0] > bounds[2]) {
+            return new int[]{0, 0, 0, 0};
+        }
+        return bounds;
     }
 
     public DungeonInstance generateDungeon(Dungeon template, World world, Location origin) {
@@ -63,23 +200,60 @@ public class DungeonGenerator {
     }
 
     /**
-     * Main generation method using layout-first approach.
-     * Uses 4-phase generation: fill corridors, fill rooms, carve rooms, carve corridors.
+     * Generates a dungeon synchronously: builds the voxel buffer and places it in one go.
+     * Prefer {@link #generateDungeonAsync} for anything players wait on.
      */
     public DungeonInstance generateDungeon(Dungeon template, World world, Location origin,
                                           Consumer<Double> progressCallback) {
-        long seed = System.currentTimeMillis() + random.nextLong();
-        updateProgress(progressCallback, 0.0);
+        long seed = generateSeed();
+        DungeonBlueprint blueprint = buildBlueprint(template.getThemeMaterials(), world, origin,
+                                                    new DungeonLayoutGenerator(seed).generate(template),
+                                                    seed, progressCallback);
+        VoxelPlacer.placeNow(world, blueprint.voxels());
+        updateProgress(progressCallback, PLACEMENT_END);
+        DungeonInstance instance = createInstance(toPrepared(template, world, null, blueprint),
+                                                  template.getDefaultDifficulty(), getDefaultObjectiveMode(template));
+        updateProgress(progressCallback, 1.0);
+        return instance;
+    }
 
-        // Step 1: Generate abstract layout
-        DungeonLayoutGenerator layoutGenerator = new DungeonLayoutGenerator(seed);
-        DungeonLayout layout = layoutGenerator.generate(template);
+    /**
+     * Main thread: place the buffer under the tick budget, then hand back the placed dungeon.
+     */
+    private void placeBlueprint(Dungeon template, World world, InstanceRegion region, DungeonBlueprint blueprint,
+                                long budgetMillis, Consumer<Double> progressCallback,
+                                Consumer<PreparedDungeon> completionCallback) {
+        if (region != null) {
+            // Record before placing, so even a half-placed dungeon is cleared on release
+            region.recordWritten(blueprint.voxels());
+        }
+        int[] lastPercent = {-1};
+        VoxelPlacer.place(plugin, world, blueprint.voxels(), budgetMillis,
+            placed -> {
+                // Only report whole-percent changes of the overall progress
+                double overall = BUILD_END + placed * (PLACEMENT_END - BUILD_END);
+                int percent = (int) (overall * 100);
+                if (percent != lastPercent[0]) {
+                    lastPercent[0] = percent;
+                    updateProgress(progressCallback, percent / 100.0);
+                }
+            },
+            () -> completionCallback.accept(toPrepared(template, world, region, blueprint)));
+    }
+
+    /**
+     * Pure generation stage - safe off the main thread. Runs the layout-first, 4-phase
+     * generation (fill rooms, fill corridors, carve corridors, carve rooms) into a voxel
+     * buffer; later phases overwrite earlier ones in memory, so each block is placed once.
+     */
+    private DungeonBlueprint buildBlueprint(Map<String, Material> theme, World world, Location origin,
+                                            DungeonLayout layout, long seed, Consumer<Double> progressCallback) {
+        // Step 1 (abstract layout) is done by the caller
         updateProgress(progressCallback, 0.05);
 
         plugin.getLogger().info("Generated dungeon layout: " + layout.getNodes().size() + " rooms");
 
         // Prepare for physical generation
-        Map<String, Material> theme = template.getThemeMaterials();
         Material wallMat = theme.getOrDefault("wall", Material.STONE);
         int baseY = origin.getBlockY();
         int originX = origin.getBlockX();
@@ -94,42 +268,67 @@ public class DungeonGenerator {
         }
 
         NoiseGenerator noise = new NoiseGenerator(seed);
+        VoxelBuffer voxels = new VoxelBuffer();
+        WallPalette walls = new WallPalette(voxels, wallMat);
+
+        // Compiled rooms, when the template cache is on
+        Map<LayoutNode, RoomTemplate> templates = new HashMap<>();
+        RoomTemplateCache cache = roomTemplates;
+        if (cache != null && cache.isEnabled()) {
+            for (LayoutNode node : layout.getNodes()) {
+                int bucket = cache.getBucket(seed + node.getId());
+                templates.put(node, cache.get(node.getType(), wallMat, ROOM_RADIUS, ROOM_HEIGHT, bucket,
+                                              () -> compileRoomTemplate(wallMat, bucket)));
+            }
+        }
 
         // ===== PHASE 1: Fill room stone =====
         for (LayoutNode node : layout.getNodes()) {
             int[] pos = nodePositions.get(node);
-            fillRoomStone(world, node, pos[0], baseY, pos[1], wallMat, noise);
+            RoomTemplate template = templates.get(node);
+            if (template != null) {
+                template.stamp(voxels, RoomTemplate.Layer.FILL, pos[0], baseY, pos[1],
+                               RoomTemplateCache.getTransform(seed + node.getId()));
+            } else {
+                fillRoomStone(voxels, walls, pos[0], baseY, pos[1], noise);
+            }
         }
-        updateProgress(progressCallback, 0.2);
+        updateProgress(progressCallback, 0.15);
 
         // ===== PHASE 2: Fill corridor stone =====
         for (LayoutEdge edge : layout.getEdges()) {
             int[] posA = nodePositions.get(edge.getNodeA());
             int[] posB = nodePositions.get(edge.getNodeB());
             if (posA != null && posB != null) {
-                fillCorridorStone(world, posA[0], baseY + 1, posA[1], posB[0], posB[1], wallMat, noise);
+                fillCorridorStone(voxels, walls, posA[0], baseY + 1, posA[1], posB[0], posB[1], noise);
             }
         }
-        updateProgress(progressCallback, 0.4);
+        updateProgress(progressCallback, 0.25);
 
         // ===== PHASE 3: Carve corridors =====
         for (LayoutEdge edge : layout.getEdges()) {
             int[] posA = nodePositions.get(edge.getNodeA());
             int[] posB = nodePositions.get(edge.getNodeB());
             if (posA != null && posB != null) {
-                carveCorridorInterior(world, posA[0], baseY + 1, posA[1], posB[0], posB[1], noise);
+                carveCorridorInterior(voxels, posA[0], baseY + 1, posA[1], posB[0], posB[1], noise);
             }
         }
-        updateProgress(progressCallback, 0.6);
+        updateProgress(progressCallback, 0.35);
 
         // ===== PHASE 4: Carve rooms =====
         Map<LayoutNode, Room> nodeToRoom = new HashMap<>();
         for (LayoutNode node : layout.getNodes()) {
             int[] pos = nodePositions.get(node);
-            Room room = carveRoomInterior(world, node, pos[0], baseY, pos[1], theme, noise);
-            nodeToRoom.put(node, room);
+            RoomTemplate template = templates.get(node);
+            if (template != null) {
+                template.stamp(voxels, RoomTemplate.Layer.CARVE, pos[0], baseY, pos[1],
+                               RoomTemplateCache.getTransform(seed + node.getId()));
+            } else {
+                carveRoomInterior(voxels, seed + node.getId(), pos[0], baseY, pos[1]);
+            }
+            nodeToRoom.put(node, createRoom(world, node, pos[0], baseY, pos[1]));
         }
-        updateProgress(progressCallback, 0.8);
+        updateProgress(progressCallback, BUILD_END);
 
         // Calculate spawn location
         Location spawnLocation = origin.clone().add(0, 2, 0);
@@ -140,41 +339,77 @@ public class DungeonGenerator {
             }
         }
 
-        // Create dungeon instance
-        DungeonDifficulty difficulty = template.getDefaultDifficulty();
-        ObjectiveMode objectiveMode = template.getAvailableObjectiveModes().isEmpty() ?
-                                     ObjectiveMode.BOSS_KILL :
-                                     template.getAvailableObjectiveModes().get(0);
-
-        DungeonInstance instance = new DungeonInstance(template, difficulty, objectiveMode, world, spawnLocation);
+        return new DungeonBlueprint(voxels, new ArrayList<>(nodeToRoom.values()), spawnLocation,
+                                    layout.getNodes().size());
+    }
 
-        for (Map.Entry<LayoutNode, Room> entry : nodeToRoom.entrySet()) {
-            instance.addRoom(entry.getValue().getId(), entry.getValue().getCenter());
+    /**
+     * Wraps a placed dungeon in a live instance. Main thread.
+     *
+     * @param prepared The placed dungeon
+     * @param difficulty The difficulty for this run
+     * @param objectiveMode The objective mode for this run
+     * @return The new instance, in the LOBBY state
+     */
+    public DungeonInstance createInstance(PreparedDungeon prepared, DungeonDifficulty difficulty,
+                                          ObjectiveMode objectiveMode) {
+        DungeonInstance instance = new DungeonInstance(prepared.template(), difficulty, objectiveMode,
+                                                       prepared.world(), prepared.spawnLocation());
+        instance.setRegion(prepared.region());
+
+        for (Room room : prepared.rooms()) {
+            instance.addRoom(room.getId(), room.getCenter());
         }
 
-        updateProgress(progressCallback, 0.95);
-
         instance.setState(com.zenax.dungeons.dungeon.DungeonState.LOBBY);
-        updateProgress(progressCallback, 1.0);
-
-        plugin.getLogger().info("Dungeon generation complete: " + layout.getNodes().size() + " rooms");
         return instance;
     }
 
+    private PreparedDungeon toPrepared(Dungeon template, World world, InstanceRegion region, DungeonBlueprint blueprint) {
+        plugin.getLogger().info("Dungeon generation complete: " + blueprint.roomCount() + " rooms (" +
+                                blueprint.voxels().getBlockCount() + " blocks)");
+        return new PreparedDungeon(template, world, region, blueprint.spawnLocation(),
+                                   blueprint.rooms(), blueprint.roomCount());
+    }
+
+    private ObjectiveMode getDefaultObjectiveMode(Dungeon template) {
+        return template.getAvailableObjectiveModes().isEmpty() ?
+               ObjectiveMode.BOSS_KILL :
+               template.getAvailableObjectiveModes().get(0);
+    }
+
+    /**
+     * Generates one room shape around (0, 0, 0) and compiles it. Rooms in the same bucket
+     * share the shape; the stamp transform varies it per room.
+     */
+    private RoomTemplate compileRoomTemplate(Material wallMat, int bucket) {
+        long bucketSeed = 0x5DEECE66DL * (bucket + 1);
+        NoiseGenerator noise = new NoiseGenerator(bucketSeed);
+
+        VoxelBuffer filled = new VoxelBuffer();
+        fillRoomStone(filled, new WallPalette(filled, wallMat), 0, 0, 0, noise);
+        VoxelBuffer carved = new VoxelBuffer();
+        fillRoomStone(carved, new WallPalette(carved, wallMat), 0, 0, 0, noise);
+        carveRoomInterior(carved, bucketSeed + 1, 0, 0, 0);
+
+        return RoomTemplate.compile(filled, carved, ROOM_RADIUS, -2, ROOM_HEIGHT + 3);
+    }
+
     /**
      * PHASE 1: Fills room volume with varied stone mix.
      */
-    private void fillRoomStone(World world, LayoutNode node, int centerX, int baseY, int centerZ,
-                               Material wallMat, NoiseGenerator noise) {
-        int halfWidth = 16;
-        int halfDepth = 16;
-        int height = 12;
+    private void fillRoomStone(VoxelBuffer voxels, WallPalette walls,
+                               int centerX, int baseY, int centerZ, NoiseGenerator noise) {
+        int halfWidth = ROOM_RADIUS;
+        int halfDepth = ROOM_RADIUS;
+        int height = ROOM_HEIGHT;
 
         for (int x = -halfWidth; x <= halfWidth; x++) {
             for (int z = -halfDepth; z <= halfDepth; z++) {
+                // Variation only depends on the column
+                short wall = walls.pick(noise, centerX + x, centerZ + z);
                 for (int y = -2; y <= height + 2; y++) {
-                    Block block = world.getBlockAt(centerX + x, baseY + y, centerZ + z);
-                    setWallBlock(block, wallMat, noise, centerX + x, centerZ + z);
+                    voxels.set(centerX + x, baseY + y, centerZ + z, wall);
                 }
             }
         }
@@ -183,24 +418,33 @@ public class DungeonGenerator {
     /**
      * PHASE 4: Carves room interior - ONLY places air using lobby cave noise logic.
      */
-    private Room carveRoomInterior(World world, LayoutNode node, int centerX, int baseY, int centerZ,
-                                   Map<String, Material> theme, NoiseGenerator noise) {
-        int halfWidth = 14;
-        int halfDepth = 14;
-        int height = 12;
-
-        NoiseGenerator roomNoise = new NoiseGenerator(noise.getSeed() + node.getId());
-        Random random = new Random(noise.getSeed() + node.getId());
+    private void carveRoomInterior(VoxelBuffer voxels, long roomSeed, int centerX, int baseY, int centerZ) {
+        int halfWidth = ROOM_RADIUS - 2;
+        int halfDepth = ROOM_RADIUS - 2;
+        int height = ROOM_HEIGHT;
+        short air = voxels.getAirId();
+
+        NoiseGenerator roomNoise = new NoiseGenerator(roomSeed);
+        Random random = new Random(roomSeed);
+
+        // Noise for organic shape (same as lobby), sampled for every column at once
+        int minX = centerX - halfWidth - 2;
+        int minZ = centerZ - halfDepth - 2;
+        int maxX = centerX + halfWidth + 2;
+        int maxZ = centerZ + halfDepth + 2;
+        NoiseField ceilingField = NoiseField.octave2D(roomNoise, minX, minZ, maxX, maxZ, 0.12, 0.12, 0, 3, 0.5, 1.0);
+        NoiseField floorField = NoiseField.octave2D(roomNoise, minX, minZ, maxX, maxZ, 0.15, 0.15, 100, 2, 0.5, 1.0);
+        NoiseField widthField = NoiseField.octave2D(roomNoise, minX, minZ, maxX, maxZ, 0.08, 0.1, 0, 2, 0.5, 1.0);
+        NoiseField wallField = NoiseField.octave3D(roomNoise, minX, minZ, maxX, maxZ, baseY, 0.2, 0.15, 0.2, 2, 0.5, 1.0);
 
         for (int x = -halfWidth - 2; x <= halfWidth + 2; x++) {
             for (int z = -halfDepth - 2; z <= halfDepth + 2; z++) {
                 int worldX = centerX + x;
                 int worldZ = centerZ + z;
 
-                // Noise for organic shape (same as lobby)
-                double ceilingNoise = roomNoise.octaveNoise2D(worldX * 0.12, worldZ * 0.12, 3, 0.5, 1.0);
-                double floorNoise = roomNoise.octaveNoise2D(worldX * 0.15 + 100, worldZ * 0.15 + 100, 2, 0.5, 1.0);
-                double widthNoise = roomNoise.octaveNoise2D(worldX * 0.08, worldZ * 0.1, 2, 0.5, 1.0);
+                double ceilingNoise = ceilingField.get(worldX, worldZ);
+                double floorNoise = floorField.get(worldX, worldZ);
+                double widthNoise = widthField.get(worldX, worldZ);
 
                 double baseCaveWidth = halfWidth + widthNoise * 3;
                 double baseCeilingHeight = 7 + ceilingNoise * 3;
@@ -223,7 +467,7 @@ public class DungeonGenerator {
                 wallBlend = Math.max(0, Math.min(1, wallBlend));
 
                 // 3D noise for wall irregularity
-                double wallNoise3D = roomNoise.octaveNoise3D(worldX * 0.2, baseY * 0.15, worldZ * 0.2, 2, 0.5, 1.0);
+                double wallNoise3D = wallField.get(worldX, worldZ);
                 wallBlend += wallNoise3D * 0.3;
                 wallBlend = Math.max(0, Math.min(1, wallBlend));
 
@@ -240,19 +484,27 @@ public class DungeonGenerator {
                     if (worldY > floorY && worldY < ceilingY) {
                         // Skip some blocks in transitional zone for organic walls
                         if (wallBlend < 0.5 && random.nextFloat() < (0.5 - wallBlend)) continue;
-                        world.getBlockAt(worldX, worldY, worldZ).setType(Material.AIR);
+                        voxels.set(worldX, worldY, worldZ, air);
                     }
                 }
             }
         }
 
         // Alcoves - carve more air
-        carveRoomAlcoves(world, roomNoise, random, centerX, baseY, centerZ, halfWidth, halfDepth, height);
+        carveRoomAlcoves(voxels, roomNoise, centerX, baseY, centerZ, halfWidth, halfDepth, height);
 
         // Formations
-        addRoomFormations(world, roomNoise, random, centerX, baseY, centerZ, halfWidth, halfDepth, height);
+        addRoomFormations(voxels, roomNoise, random, centerX, baseY, centerZ, halfWidth, halfDepth, height);
+    }
+
+    /**
+     * Creates the room object (bounds, spawn points, chests) for a carved room.
+     */
+    private Room createRoom(World world, LayoutNode node, int centerX, int baseY, int centerZ) {
+        int halfWidth = ROOM_RADIUS - 2;
+        int halfDepth = ROOM_RADIUS - 2;
+        int height = ROOM_HEIGHT;
 
-        // Room object
         BoundingBox bounds = new BoundingBox(centerX - halfWidth, baseY, centerZ - halfDepth,
                                               centerX + halfWidth, baseY + height, centerZ + halfDepth);
         Location center = new Location(world, centerX, baseY + 2, centerZ);
@@ -263,28 +515,14 @@ public class DungeonGenerator {
         return room;
     }
 
-    /**
-     * Sets a wall block with material variation.
-     */
-    private void setWallBlock(Block block, Material baseMat, NoiseGenerator noise, int x, int z) {
-        double variation = noise.noise2D(x * 0.25, z * 0.25);
-        if (variation > 0.4) {
-            block.setType(Material.COBBLESTONE);
-        } else if (variation > 0.1) {
-            block.setType(baseMat);
-        } else if (variation > -0.2) {
-            block.setType(Material.ANDESITE);
-        } else {
-            block.setType(Material.DIORITE);
-        }
-    }
-
     /**
      * Carves alcoves in room walls - ONLY carves air.
      */
-    private void carveRoomAlcoves(World world, NoiseGenerator noise, Random random,
+    private void carveRoomAlcoves(VoxelBuffer voxels, NoiseGenerator noise,
                                   int centerX, int baseY, int centerZ,
                                   int halfWidth, int halfLength, int height) {
+        short air = voxels.getAirId();
+
         // X walls
         for (int z = -halfLength + 2; z <= halfLength - 2; z++) {
             for (int y = 2; y < height - 2; y++) {
@@ -294,7 +532,7 @@ public class DungeonGenerator {
                 if (noiseVal > 0.35) {
                     int depth = noiseVal > 0.5 ? 2 : 1;
                     for (int d = 0; d < depth; d++) {
-                        world.getBlockAt(centerX - halfWidth + 1 + d, baseY + y, centerZ + z).setType(Material.AIR);
+                        voxels.set(centerX - halfWidth + 1 + d, baseY + y, centerZ + z, air);
                     }
                 }
 
@@ -304,7 +542,7 @@ public class DungeonGenerator {
                 if (noiseVal > 0.35) {
                     int depth = noiseVal > 0.5 ? 2 : 1;
                     for (int d = 0; d < depth; d++) {
-                        world.getBlockAt(centerX + halfWidth - 1 - d, baseY + y, centerZ + z).setType(Material.AIR);
+                        voxels.set(centerX + halfWidth - 1 - d, baseY + y, centerZ + z, air);
                     }
                 }
             }
@@ -319,7 +557,7 @@ public class DungeonGenerator {
                 if (noiseVal > 0.35) {
                     int depth = noiseVal > 0.5 ? 2 : 1;
                     for (int d = 0; d < depth; d++) {
-                        world.getBlockAt(centerX + x, baseY + y, centerZ - halfLength + 1 + d).setType(Material.AIR);
+                        voxels.set(centerX + x, baseY + y, centerZ - halfLength + 1 + d, air);
                     }
                 }
 
@@ -329,7 +567,7 @@ public class DungeonGenerator {
                 if (noiseVal > 0.35) {
                     int depth = noiseVal > 0.5 ? 2 : 1;
                     for (int d = 0; d < depth; d++) {
-                        world.getBlockAt(centerX + x, baseY + y, centerZ + halfLength - 1 - d).setType(Material.AIR);
+                        voxels.set(centerX + x, baseY + y, centerZ + halfLength - 1 - d, air);
                     }
                 }
             }
@@ -339,7 +577,7 @@ public class DungeonGenerator {
     /**
      * Adds stalactites and stalagmites to room.
      */
-    private void addRoomFormations(World world, NoiseGenerator noise, Random random,
+    private void addRoomFormations(VoxelBuffer voxels, NoiseGenerator noise, Random random,
                                    int centerX, int baseY, int centerZ,
                                    int halfWidth, int halfLength, int height) {
         for (int x = -halfWidth + 2; x <= halfWidth - 2; x++) {
@@ -354,75 +592,57 @@ public class DungeonGenerator {
 
                 // Stalactites
                 if (formationNoise > 0.4 && random.nextFloat() < 0.2) {
-                    int ceilingY = findCeiling(world, worldX, baseY, worldZ, height);
+                    int ceilingY = findCeiling(voxels, worldX, baseY, worldZ, height);
                     if (ceilingY > 0) {
                         int len = 1 + random.nextInt(3);
-                        placeStalactite(world, worldX, ceilingY, worldZ, len);
+                        placeDripstone(voxels, worldX, ceilingY - 1, worldZ, len, -1);
                     }
                 }
 
                 // Stalagmites
                 if (formationNoise < -0.3 && random.nextFloat() < 0.15) {
-                    int floorY = findFloor(world, worldX, baseY, worldZ);
+                    int floorY = findFloor(voxels, worldX, baseY, worldZ);
                     if (floorY > 0) {
                         int len = 1 + random.nextInt(2);
-                        placeStalagmite(world, worldX, floorY + 1, worldZ, len);
+                        placeDripstone(voxels, worldX, floorY + 1, worldZ, len, 1);
                     }
                 }
             }
         }
     }
 
-    private int findCeiling(World world, int x, int baseY, int z, int height) {
+    private int findCeiling(VoxelBuffer voxels, int x, int baseY, int z, int height) {
         for (int y = baseY + height - 1; y > baseY; y--) {
-            if (world.getBlockAt(x, y, z).getType() != Material.AIR &&
-                world.getBlockAt(x, y - 1, z).getType() == Material.AIR) {
+            if (!voxels.isAir(x, y, z) && voxels.isAir(x, y - 1, z)) {
                 return y;
             }
         }
         return -1;
     }
 
-    private int findFloor(World world, int x, int baseY, int z) {
+    private int findFloor(VoxelBuffer voxels, int x, int baseY, int z) {
+        // Everything this generator writes is either air or solid stone/dripstone
         for (int y = baseY + 5; y >= baseY - 2; y--) {
-            Block block = world.getBlockAt(x, y, z);
-            Block above = world.getBlockAt(x, y + 1, z);
-            if (block.getType().isSolid() && !above.getType().isSolid()) {
+            if (!voxels.isAir(x, y, z) && voxels.isAir(x, y + 1, z)) {
                 return y;
             }
         }
         return -1;
     }
 
-    private void placeStalactite(World world, int x, int ceilingY, int z, int length) {
-        for (int i = 0; i < length; i++) {
-            Block block = world.getBlockAt(x, ceilingY - i - 1, z);
-            if (block.getType() != Material.AIR) break;
-            block.setType(Material.POINTED_DRIPSTONE);
-            if (block.getBlockData() instanceof org.bukkit.block.data.type.PointedDripstone pd) {
-                pd.setVerticalDirection(org.bukkit.block.BlockFace.DOWN);
-                pd.setThickness(i == length - 1 ?
-                    org.bukkit.block.data.type.PointedDripstone.Thickness.TIP :
-                    (i == 0 ? org.bukkit.block.data.type.PointedDripstone.Thickness.BASE :
-                        org.bukkit.block.data.type.PointedDripstone.Thickness.MIDDLE));
-                block.setBlockData(pd);
-            }
-        }
-    }
-
-    private void placeStalagmite(World world, int x, int floorY, int z, int length) {
+    /**
+     * Places a pointed dripstone column growing from {@code startY}.
+     *
+     * @param direction -1 hangs down from a ceiling, 1 grows up from a floor
+     */
+    private void placeDripstone(VoxelBuffer voxels, int x, int startY, int z, int length, int direction) {
+        String vertical = direction < 0 ? "down" : "up";
         for (int i = 0; i < length; i++) {
-            Block block = world.getBlockAt(x, floorY + i, z);
-            if (block.getType() != Material.AIR) break;
-            block.setType(Material.POINTED_DRIPSTONE);
-            if (block.getBlockData() instanceof org.bukkit.block.data.type.PointedDripstone pd) {
-                pd.setVerticalDirection(org.bukkit.block.BlockFace.UP);
-                pd.setThickness(i == length - 1 ?
-                    org.bukkit.block.data.type.PointedDripstone.Thickness.TIP :
-                    (i == 0 ? org.bukkit.block.data.type.PointedDripstone.Thickness.BASE :
-                        org.bukkit.block.data.type.PointedDripstone.Thickness.MIDDLE));
-                block.setBlockData(pd);
-            }
+            int y = startY + i * direction;
+            if (!voxels.isAir(x, y, z)) break;
+            String thickness = i == length - 1 ? "tip" : (i == 0 ? "base" : "middle");
+            voxels.set(x, y, z, voxels.paletteId(
+                "minecraft:pointed_dripstone[vertical_direction=" + vertical + ",thickness=" + thickness + "]"));
         }
     }
 
@@ -470,33 +690,31 @@ public class DungeonGenerator {
     /**
      * PHASE 2: Fills corridor path with varied stone mix (L-shaped).
      */
-    private void fillCorridorStone(World world, int x1, int y, int z1, int x2, int z2,
-                                   Material wallMat, NoiseGenerator noise) {
+    private void fillCorridorStone(VoxelBuffer voxels, WallPalette walls, int x1, int y, int z1, int x2, int z2,
+                                   NoiseGenerator noise) {
         int halfWidth = 5;
         int height = 8;
 
         // First leg (X direction)
         int xDir = x2 > x1 ? 1 : -1;
         for (int x = x1; x != x2; x += xDir) {
-            for (int ox = -halfWidth; ox <= halfWidth; ox++) {
-                for (int oz = -halfWidth; oz <= halfWidth; oz++) {
-                    for (int oy = -2; oy <= height + 2; oy++) {
-                        Block block = world.getBlockAt(x + ox, y + oy, z1 + oz);
-                        setWallBlock(block, wallMat, noise, x + ox, z1 + oz);
-                    }
-                }
-            }
+            fillCorridorSegment(voxels, walls, x, y, z1, halfWidth, height, noise);
         }
 
         // Second leg (Z direction)
         int zDir = z2 > z1 ? 1 : -1;
         for (int z = z1; z != z2 + zDir; z += zDir) {
-            for (int ox = -halfWidth; ox <= halfWidth; ox++) {
-                for (int oz = -halfWidth; oz <= halfWidth; oz++) {
-                    for (int oy = -2; oy <= height + 2; oy++) {
-                        Block block = world.getBlockAt(x2 + ox, y + oy, z + oz);
-                        setWallBlock(block, wallMat, noise, x2 + ox, z + oz);
-                    }
+            fillCorridorSegment(voxels, walls, x2, y, z, halfWidth, height, noise);
+        }
+    }
+
+    private void fillCorridorSegment(VoxelBuffer voxels, WallPalette walls, int centerX, int y, int centerZ,
+                                         int halfWidth, int height, NoiseGenerator noise) {
+        for (int ox = -halfWidth; ox <= halfWidth; ox++) {
+            for (int oz = -halfWidth; oz <= halfWidth; oz++) {
+                short wall = walls.pick(noise, centerX + ox, centerZ + oz);
+                for (int oy = -2; oy <= height + 2; oy++) {
+                    voxels.set(centerX + ox, y + oy, centerZ + oz, wall);
                 }
             }
         }
@@ -505,29 +723,50 @@ public class DungeonGenerator {
     /**
      * PHASE 3: Carves corridor interior - ONLY places air.
      */
-    private void carveCorridorInterior(World world, int x1, int y, int z1, int x2, int z2, NoiseGenerator noise) {
+    private void carveCorridorInterior(VoxelBuffer voxels, int x1, int y, int z1, int x2, int z2, NoiseGenerator noise) {
         int halfWidth = 3;
         int height = 4;
 
+        int reach = halfWidth + 1;
+
         // First leg (X direction)
         int xDir = x2 > x1 ? 1 : -1;
-        for (int x = x1; x != x2; x += xDir) {
-            carveCorridorSlice(world, x, y, z1, halfWidth, height, noise);
+        if (x1 != x2) {
+            CorridorNoise legNoise = sampleCorridorNoise(noise, Math.min(x1, x2) - reach, z1 - reach,
+                                                         Math.max(x1, x2) + reach, z1 + reach, y);
+            for (int x = x1; x != x2; x += xDir) {
+                carveCorridorSlice(voxels, x, y, z1, halfWidth, height, noise, legNoise);
+            }
         }
 
         // Second leg (Z direction)
         int zDir = z2 > z1 ? 1 : -1;
+        CorridorNoise legNoise = sampleCorridorNoise(noise, x2 - reach, Math.min(z1, z2) - reach,
+                                                     x2 + reach, Math.max(z1, z2) + reach, y);
         for (int z = z1; z != z2 + zDir; z += zDir) {
-            carveCorridorSlice(world, x2, y, z, halfWidth, height, noise);
+            carveCorridorSlice(voxels, x2, y, z, halfWidth, height, noise, legNoise);
         }
     }
 
+    /**
+     * Samples a corridor leg's shape noise once; its slices overlap, so per-slice sampling
+     * would evaluate each column several times.
+     */
+    private CorridorNoise sampleCorridorNoise(NoiseGenerator noise, int minX, int minZ, int maxX, int maxZ, int baseY) {
+        return new CorridorNoise(
+            NoiseField.octave2D(noise, minX, minZ, maxX, maxZ, 0.15, 0.15, 0, 3, 0.5, 1.0),
+            NoiseField.octave2D(noise, minX, minZ, maxX, maxZ, 0.18, 0.18, 100, 2, 0.5, 1.0),
+            NoiseField.octave2D(noise, minX, minZ, maxX, maxZ, 0.1, 0.1, 0, 2, 0.5, 1.0),
+            NoiseField.octave3D(noise, minX, minZ, maxX, maxZ, baseY, 0.25, 0.2, 0.25, 1, 0.5, 1.0));
+    }
+
     /**
      * Carves a single corridor slice - ONLY places air. Cave-like with noise variation.
      */
-    private void carveCorridorSlice(World world, int centerX, int baseY, int centerZ,
-                                    int halfWidth, int height, NoiseGenerator noise) {
+    private void carveCorridorSlice(VoxelBuffer voxels, int centerX, int baseY, int centerZ,
+                                    int halfWidth, int height, NoiseGenerator noise, CorridorNoise legNoise) {
         Random random = new Random(noise.getSeed() + centerX * 31 + centerZ);
+        short air = voxels.getAirId();
 
         for (int ox = -halfWidth - 1; ox <= halfWidth + 1; ox++) {
             for (int oz = -halfWidth - 1; oz <= halfWidth + 1; oz++) {
@@ -535,9 +774,9 @@ public class DungeonGenerator {
                 int worldZ = centerZ + oz;
 
                 // Noise for organic shape
-                double ceilingNoise = noise.octaveNoise2D(worldX * 0.15, worldZ * 0.15, 3, 0.5, 1.0);
-                double floorNoise = noise.octaveNoise2D(worldX * 0.18 + 100, worldZ * 0.18 + 100, 2, 0.5, 1.0);
-                double widthNoise = noise.octaveNoise2D(worldX * 0.1, worldZ * 0.1, 2, 0.5, 1.0);
+                double ceilingNoise = legNoise.ceiling().get(worldX, worldZ);
+                double floorNoise = legNoise.floor().get(worldX, worldZ);
+                double widthNoise = legNoise.width().get(worldX, worldZ);
 
                 double baseCaveWidth = halfWidth + widthNoise * 2;
                 double distFromCenter = Math.sqrt(ox * ox + oz * oz);
@@ -553,7 +792,7 @@ public class DungeonGenerator {
                 wallBlend = Math.max(0, Math.min(1, wallBlend));
 
                 // 3D noise for wall irregularity
-                double wallNoise3D = noise.noise3D(worldX * 0.25, baseY * 0.2, worldZ * 0.25);
+                double wallNoise3D = legNoise.wall().get(worldX, worldZ);
                 wallBlend += wallNoise3D * 0.3;
                 wallBlend = Math.max(0, Math.min(1, wallBlend));
 
@@ -572,7 +811,7 @@ public class DungeonGenerator {
                 for (int worldY = floorY + 1; worldY < ceilingY; worldY++) {
                     // Skip some blocks in transitional zone for organic walls
                     if (wallBlend < 0.5 && random.nextFloat() < (0.5 - wallBlend)) continue;
-                    world.getBlockAt(worldX, worldY, worldZ).setType(Material.AIR);
+                    voxels.set(worldX, worldY, worldZ, air);
                 }
             }
         }
@@ -584,7 +823,76 @@ public class DungeonGenerator {
         }
     }
 
+    private void runSync(Runnable task) {
+        if (plugin.isEnabled()) {
+            plugin.getServer().getScheduler().runTask(plugin, task);
+        }
+    }
+
+    private long getPlacementBudgetMillis() {
+        DungeonsAddon addon = DungeonsAddon.getInstance();
+        if (addon == null || addon.getConfiguration() == null) {
+            return DEFAULT_PLACEMENT_BUDGET_MS;
+        }
+        return addon.getConfiguration().getLong("performance.generation-tick-budget-ms", DEFAULT_PLACEMENT_BUDGET_MS);
+    }
+
     public long generateSeed() {
         return System.currentTimeMillis() + random.nextLong();
     }
+
+    /**
+     * Shape noise of one corridor leg, per column.
+     */
+    private record CorridorNoise(NoiseField ceiling, NoiseField floor, NoiseField width, NoiseField wall) {}
+
+    /**
+     * Output of the off-thread stage: every block plus the room metadata.
+     */
+    private record DungeonBlueprint(VoxelBuffer voxels, List<Room> rooms, Location spawnLocation, int roomCount) {}
+
+    /**
+     * A dungeon whose blocks are already in the world, waiting for a party.
+     *
+     * @param template The template it was built from
+     * @param world The world it was placed in
+     * @param region The region it occupies, or null if it was placed at a fixed origin
+     * @param spawnLocation Where players enter
+     * @param rooms The carved rooms
+     * @param roomCount The number of layout rooms
+     */
+    public record PreparedDungeon(Dungeon template, World world, InstanceRegion region, Location spawnLocation,
+                                  List<Room> rooms, int roomCount) {}
+
+    /**
+     * Palette indices for the wall stone mix, resolved once per dungeon.
+     */
+    private static final class WallPalette {
+        private final short cobblestone;
+        private final short base;
+        private final short andesite;
+        private final short diorite;
+
+        private WallPalette(VoxelBuffer voxels, Material baseMat) {
+            this.cobblestone = voxels.paletteId(Material.COBBLESTONE);
+            this.base = voxels.paletteId(baseMat);
+            this.andesite = voxels.paletteId(Material.ANDESITE);
+            this.diorite = voxels.paletteId(Material.DIORITE);
+        }
+
+        /**
+         * Picks a wall block with material variation.
+         */
+        private short pick(NoiseGenerator noise, int x, int z) {
+            double variation = noise.noise2D(x * 0.25, z * 0.25);
+            if (variation > 0.4) {
+                return cobblestone;
+            } else if (variation > 0.1) {
+                return base;
+            } else if (variation > -0.2) {
+                return andesite;
+            }
+            return diorite;
+        }
+    }
 }
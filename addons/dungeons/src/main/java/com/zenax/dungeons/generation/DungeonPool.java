@@ -0,0 +1,303 @@
+package com.zenax.dungeons.generation;
+
+import com.zenax.dungeons.dungeon.Dungeon;
+import com.zenax.dungeons.dungeon.DungeonDifficulty;
+import com.zenax.dungeons.dungeon.DungeonManager;
+import com.zenax.dungeons.generation.DungeonGenerator.PreparedDungeon;
+import com.zenax.dungeons.world.DungeonWorldManager;
+import com.zenax.dungeons.world.RegionAllocator;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a small stock of already-built dungeons per template and difficulty, so a party
+ * starting a run gets a ready dungeon instantly instead of waiting for generation.
+ *
+ * Stock is built in the background one dungeon at a time, only while the server's TPS is
+ * healthy, and each pool refills no faster than its configured warm-up interval. Each
+ * pooled dungeon occupies its own region of the dungeon world (see {@link RegionAllocator}).
+ *
+ * Main thread only.
+ */
+public class DungeonPool {
+    private static final long WARMUP_CHECK_TICKS = 20L;
+    private static final long STARTUP_DELAY_TICKS = 200L;
+
+    private final Plugin plugin;
+    private final DungeonGenerator generator;
+    private final DungeonManager dungeonManager;
+    private final DungeonWorldManager worldManager;
+
+    private final Map<String, Pool> pools = new LinkedHashMap<>();
+    private BukkitTask warmupTask;
+    private boolean building;
+    // Bumped by clear() so builds started against the old world are discarded
+    private int epoch;
+
+    // Configuration
+    private boolean enabled;
+    private double minTps;
+    private long tickBudgetMillis;
+
+    /**
+     * Creates a new dungeon pool.
+     *
+     * @param plugin The plugin instance
+     * @param generator The dungeon generator
+     * @param dungeonManager The dungeon manager (for templates)
+     * @param worldManager The dungeon world manager (for pool slots)
+     */
+    public DungeonPool(Plugin plugin, DungeonGenerator generator, DungeonManager dungeonManager,
+                       DungeonWorldManager worldManager) {
+        this.plugin = plugin;
+        this.generator = generator;
+        this.dungeonManager = dungeonManager;
+        this.worldManager = worldManager;
+    }
+
+    /**
+     * Reads pool settings and rebuilds the pool table from the loaded templates.
+     * Ready dungeons of pools that still exist are kept.
+     *
+     * @param config The addon configuration
+     */
+    public void loadConfig(FileConfiguration config) {
+        ConfigurationSection section = config.getConfigurationSection("performance.instance-pool");
+        enabled = section != null && section.getBoolean("enabled", true);
+        int defaultSize = section != null ? section.getInt("size", 1) : 1;
+        int defaultInterval = section != null ? section.getInt("warmup-interval-seconds", 30) : 30;
+        minTps = section != null ? section.getDouble("min-tps", 18.5) : 18.5;
+        tickBudgetMillis = Math.max(1, section != null ? section.getLong("tick-budget-ms", 4) : 4);
+        ConfigurationSection overrides = section != null ? section.getConfigurationSection("templates") : null;
+
+        Map<String, Pool> previous = new LinkedHashMap<>(pools);
+        pools.clear();
+        for (Dungeon template : dungeonManager.getAllDungeons().values()) {
+            ConfigurationSection override = overrides != null ? overrides.getConfigurationSection(template.getId()) : null;
+            int size = Math.max(0, override != null ? override.getInt("size", defaultSize) : defaultSize);
+            int interval = Math.max(1, override != null ? override.getInt("warmup-interval-seconds", defaultInterval) : defaultInterval);
+
+            for (DungeonDifficulty difficulty : getDifficulties(template, override)) {
+                String key = key(template.getId(), difficulty);
+                Pool pool = new Pool(template.getId(), difficulty, size, interval * 1000L);
+                Pool old = previous.get(key);
+                if (old != null) {
+                    pool.ready.addAll(old.ready);
+                    pool.lastBuildStarted = old.lastBuildStarted;
+                    pool.hits = old.hits;
+                    pool.misses = old.misses;
+                }
+                pools.put(key, pool);
+                previous.remove(key);
+            }
+        }
+
+        // Templates or difficulties that are no longer pooled give their regions back
+        for (Pool dropped : previous.values()) {
+            releaseAll(dropped);
+        }
+    }
+
+    private List<DungeonDifficulty> getDifficulties(Dungeon template, ConfigurationSection override) {
+        List<DungeonDifficulty> difficulties = new ArrayList<>();
+        if (override != null) {
+            for (String name : override.getStringList("difficulties")) {
+                DungeonDifficulty difficulty = DungeonDifficulty.fromString(name);
+                if (difficulty == null) {
+                    plugin.getLogger().warning("Unknown pool difficulty '" + name + "' for dungeon " + template.getId());
+                } else if (!difficulties.contains(difficulty)) {
+                    difficulties.add(difficulty);
+                }
+            }
+        }
+        if (difficulties.isEmpty()) {
+            difficulties.add(template.getDefaultDifficulty());
+        }
+        return difficulties;
+    }
+
+    /**
+     * Starts the background warm-up task.
+     */
+    public void start() {
+        if (warmupTask == null) {
+            warmupTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::warmup,
+                STARTUP_DELAY_TICKS, WARMUP_CHECK_TICKS);
+        }
+    }
+
+    private void releaseAll(Pool pool) {
+        RegionAllocator allocator = worldManager.getRegionAllocator();
+        for (PreparedDungeon prepared : pool.ready) {
+            if (allocator != null && prepared.region() != null) {
+                allocator.release(prepared.region());
+            }
+        }
+        pool.ready.clear();
+    }
+
+    /**
+     * Stops warm-up and forgets every ready dungeon.
+     */
+    public void shutdown() {
+        if (warmupTask != null) {
+            warmupTask.cancel();
+            warmupTask = null;
+        }
+        pools.clear();
+    }
+
+    /**
+     * Forgets every ready dungeon without releasing regions.
+     * Call before the dungeon world is reset (the allocator is recreated with it).
+     */
+    public void clear() {
+        for (Pool pool : pools.values()) {
+            pool.ready.clear();
+            pool.lastBuildStarted = 0;
+        }
+        building = false;
+        epoch++;
+    }
+
+    /**
+     * Takes a ready dungeon for a template and difficulty. The pool refills in the background.
+     *
+     * @param template The dungeon template
+     * @param difficulty The selected difficulty
+     * @return A placed dungeon, or null if none is ready (generate one instead)
+     */
+    public PreparedDungeon take(Dungeon template, DungeonDifficulty difficulty) {
+        Pool pool = pools.get(key(template.getId(), difficulty));
+        if (!enabled || pool == null || pool.ready.isEmpty()) {
+            if (pool != null) pool.misses++;
+            return null;
+        }
+
+        pool.hits++;
+        PreparedDungeon prepared = pool.ready.poll();
+        if (prepared.template() != template) {
+            // Templates were reloaded since it was built - run it with the current settings
+            prepared = new PreparedDungeon(template, prepared.world(), prepared.region(), prepared.spawnLocation(),
+                                           prepared.rooms(), prepared.roomCount());
+        }
+        return prepared;
+    }
+
+    /**
+     * Runs every second: starts at most one warm-up build, for the emptiest eligible pool.
+     */
+    private void warmup() {
+        if (!enabled || building || !worldManager.isReady()) {
+            return;
+        }
+        if (Bukkit.getTPS()[0] < minTps) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Pool target = null;
+        for (Pool pool : pools.values()) {
+            int missing = pool.size - pool.ready.size();
+            if (missing <= 0 || now - pool.lastBuildStarted < pool.intervalMillis) {
+                continue;
+            }
+            if (target == null || missing > target.size - target.ready.size()) {
+                target = pool;
+            }
+        }
+        if (target == null) {
+            return;
+        }
+
+        Dungeon template = dungeonManager.getDungeon(target.templateId);
+        RegionAllocator allocator = worldManager.getRegionAllocator();
+        if (template == null || allocator == null) {
+            return;
+        }
+
+        Pool pool = target;
+        int buildEpoch = epoch;
+        pool.lastBuildStarted = now;
+        building = true;
+        generator.prepareDungeonAsync(template, allocator, tickBudgetMillis, null, prepared -> {
+            if (buildEpoch != epoch) {
+                return; // World was reset while building
+            }
+            building = false;
+            if (prepared == null) {
+                plugin.getLogger().warning("Failed to pre-generate dungeon " + pool.templateId + " (" + pool.difficulty + ")");
+                return;
+            }
+            // A reload may have replaced the pool; stock whichever one has this key now
+            Pool current = pools.get(key(pool.templateId, pool.difficulty));
+            if (current != null) {
+                current.ready.add(prepared);
+            } else if (prepared.region() != null) {
+                allocator.release(prepared.region());
+            }
+        });
+    }
+
+    /**
+     * Gets a status line per pool for the dungeon command.
+     *
+     * @return Formatted status lines
+     */
+    public List<String> getStatusLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(ChatColor.GRAY + "Dungeon Pool: " + ChatColor.WHITE + (enabled ? "Enabled" : "Disabled") +
+                  (building ? ChatColor.YELLOW + " (warming up)" : ""));
+        for (Pool pool : pools.values()) {
+            lines.add(ChatColor.GRAY + "  - " + pool.templateId + " (" + pool.difficulty.getColoredDisplayName() +
+                      ChatColor.GRAY + "): " + ChatColor.WHITE + pool.ready.size() + "/" + pool.size +
+                      ChatColor.GRAY + " ready, " + pool.hits + " hits, " + pool.misses + " misses");
+        }
+        return lines;
+    }
+
+    /**
+     * Checks if the pool hands out dungeons.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private static String key(String templateId, DungeonDifficulty difficulty) {
+        return templateId + ":" + difficulty.name();
+    }
+
+    /**
+     * Ready stock and settings for one template and difficulty.
+     */
+    private static final class Pool {
+        private final String templateId;
+        private final DungeonDifficulty difficulty;
+        private final int size;
+        private final long intervalMillis;
+        private final Deque<PreparedDungeon> ready = new ArrayDeque<>();
+        private long lastBuildStarted;
+        private int hits;
+        private int misses;
+
+        private Pool(String templateId, DungeonDifficulty difficulty, int size, long intervalMillis) {
+            this.templateId = templateId;
+            this.difficulty = difficulty;
+            this.size = size;
+            this.intervalMillis = intervalMillis;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.zenax.dungeons.generation.algorithm;
+
+/**
+ * Octave noise sampled once for every column of a rectangle, looked up by block position.
+ * Lets generators that read the same noise per column (or per overlapping slice) fill it
+ * in one grid call instead of sampling block by block.
+ */
+public final class NoiseField {
+    private final int minX;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeZ;
+    private final double[] values;
+
+    private NoiseField(int minX, int minZ, int sizeX, int sizeZ) {
+        this.minX = minX;
+        this.minZ = minZ;
+        this.sizeX = sizeX;
+        this.sizeZ = sizeZ;
+        this.values = new double[sizeX * sizeZ];
+    }
+
+    /**
+     * Samples {@code octaveNoise2D(x * scaleX + offset, z * scaleZ + offset, ...)} for every
+     * column from (minX, minZ) to (maxX, maxZ) inclusive.
+     *
+     * @param noise The noise generator
+     * @param minX Lowest block X
+     * @param minZ Lowest block Z
+     * @param maxX Highest block X
+     * @param maxZ Highest block Z
+     * @param scaleX Multiplier applied to block X
+     * @param scaleZ Multiplier applied to block Z
+     * @param offset Added to both scaled coordinates
+     * @param octaves Number of noise layers to combine
+     * @param persistence How much each octave contributes
+     * @param scale Scale of the noise
+     * @return The sampled field
+     */
+    public static NoiseField octave2D(NoiseGenerator noise, int minX, int minZ, int maxX, int maxZ,
+                                      double scaleX, double scaleZ, double offset,
+                                      int octaves, double persistence, double scale) {
+        NoiseField field = new NoiseField(minX, minZ, maxX - minX + 1, maxZ - minZ + 1);
+        noise.fillOctaveGrid(field.values, minX, 0, minZ, field.sizeX, 1, field.sizeZ,
+                             scaleX, 0, scaleZ, offset, octaves, persistence, scale);
+        return field;
+    }
+
+    /**
+     * Samples {@code octaveNoise3D(x * scaleX, y * scaleY, z * scaleZ, ...)} at a fixed block Y
+     * for every column from (minX, minZ) to (maxX, maxZ) inclusive.
+     *
+     * @param noise The noise generator
+     * @param minX Lowest block X
+     * @param minZ Lowest block Z
+     * @param maxX Highest block X
+     * @param maxZ Highest block Z
+     * @param y The block Y sampled
+     * @param scaleX Multiplier applied to block X
+     * @param scaleY Multiplier applied to block Y
+     * @param scaleZ Multiplier applied to block Z
+     * @param octaves Number of noise layers to combine (1 gives plain noise3D)
+     * @param persistence How much each octave contributes
+     * @param scale Scale of the noise
+     * @return The sampled field
+     */
+    public static NoiseField octave3D(NoiseGenerator noise, int minX, int minZ, int maxX, int maxZ, int y,
+                                      double scaleX, double scaleY, double scaleZ,
+                                      int octaves, double persistence, double scale) {
+        NoiseField field = new NoiseField(minX, minZ, maxX - minX + 1, maxZ - minZ + 1);
+        noise.fillOctaveGrid(field.values, minX, y, minZ, field.sizeX, 1, field.sizeZ,
+                             scaleX, scaleY, scaleZ, 0, octaves, persistence, scale);
+        return field;
+    }
+
+    /**
+     * Gets the sampled value of a column.
+     *
+     * @param x Block X, within the sampled rectangle
+     * @param z Block Z, within the sampled rectangle
+     * @return The noise value
+     */
+    public double get(int x, int z) {
+        return values[(x - minX) + (z - minZ) * sizeX];
+    }
+}
@@ -1,23 +1,25 @@
 package com.zenax.dungeons.generation.algorithm;
 
+import java.util.Arrays;
 import java.util.Random;
 
 /**
  * Perlin/Simplex noise generator for creating organic shapes.
  * Used for cave generation and natural-looking terrain features.
+ *
+ * Besides single samples, whole grids (e.g. a 16x16x16 section or a room's columns) can be
+ * filled in one call. Grid fills give exactly the same values as sampling point by point,
+ * but work out lattice cells, fade curves and hashes once per row instead of once per sample.
  */
 public class NoiseGenerator {
     private final long seed;
     private final Random random;
     private final int[] permutation;
 
-    // Gradient vectors for 3D noise
-    private static final int[][] GRADIENTS_3D = {
-        {1, 1, 0}, {-1, 1, 0}, {1, -1, 0}, {-1, -1, 0},
-        {1, 0, 1}, {-1, 0, 1}, {1, 0, -1}, {-1, 0, -1},
-        {0, 1, 1}, {0, -1, 1}, {0, 1, -1}, {0, -1, -1},
-        {1, 1, 0}, {-1, 1, 0}, {0, -1, 1}, {0, -1, -1}
-    };
+    // Gradient vectors for 3D noise, one array per component
+    private static final double[] GRAD_X = {1, -1, 1, -1, 1, -1, 1, -1, 0, 0, 0, 0, 1, -1, 0, 0};
+    private static final double[] GRAD_Y = {1, 1, -1, -1, 0, 0, 0, 0, 1, -1, 1, -1, 1, 1, -1, -1};
+    private static final double[] GRAD_Z = {0, 0, 0, 0, 1, 1, -1, -1, 1, 1, -1, -1, 0, 0, 1, -1};
 
     /**
      * Creates a new noise generator with the given seed.
@@ -57,7 +59,7 @@ public class NoiseGenerator {
      * @return Noise value between -1.0 and 1.0
      */
     public double noise2D(double x, double z) {
-        return noise3D(x, z, 0);
+        return noiseFlat(x, z, false);
     }
 
     /**
@@ -145,7 +147,199 @@ public class NoiseGenerator {
      * @return Combined noise value
      */
     public double octaveNoise2D(double x, double z, int octaves, double persistence, double scale) {
-        return octaveNoise3D(x, 0, z, octaves, persistence, scale);
+        double total = 0;
+        double frequency = scale;
+        double amplitude = 1;
+        double maxValue = 0;
+
+        for (int i = 0; i < octaves; i++) {
+            total += noiseFlat(x * frequency, z * frequency, true) * amplitude;
+            maxValue += amplitude;
+            amplitude *= persistence;
+            frequency *= 2;
+        }
+
+        return total / maxValue;
+    }
+
+    /**
+     * 3D noise on a plane through the origin: only 4 of the 8 cube corners contribute,
+     * because the fade curve of the zero coordinate is 0.
+     *
+     * @param a First coordinate (X)
+     * @param b Second coordinate (Z if {@code zeroY}, otherwise Y)
+     * @param zeroY true for noise3D(a, 0, b), false for noise3D(a, b, 0)
+     * @return The same value noise3D would return
+     */
+    private double noiseFlat(double a, double b, boolean zeroY) {
+        int A = fastFloor(a);
+        int B = fastFloor(b);
+        double x = a - A;
+        double y = b - B;
+        A &= 255;
+        B &= 255;
+        double u = fade(x);
+        double v = fade(y);
+
+        int[] p = permutation;
+        int h00;
+        int h10;
+        int h01;
+        int h11;
+        if (zeroY) {
+            // Corners (x, 0, z): hash order is X, then Y = 0, then Z
+            h00 = p[p[p[A]] + B];
+            h10 = p[p[p[A + 1]] + B];
+            h01 = p[p[p[A]] + B + 1];
+            h11 = p[p[p[A + 1]] + B + 1];
+            return lerp(v,
+                lerp(u, GRAD_X[h00 & 15] * x + GRAD_Z[h00 & 15] * y,
+                        GRAD_X[h10 & 15] * (x - 1) + GRAD_Z[h10 & 15] * y),
+                lerp(u, GRAD_X[h01 & 15] * x + GRAD_Z[h01 & 15] * (y - 1),
+                        GRAD_X[h11 & 15] * (x - 1) + GRAD_Z[h11 & 15] * (y - 1)));
+        }
+        // Corners (x, y, 0)
+        h00 = p[p[p[A] + B]];
+        h10 = p[p[p[A + 1] + B]];
+        h01 = p[p[p[A] + B + 1]];
+        h11 = p[p[p[A + 1] + B + 1]];
+        return lerp(v,
+            lerp(u, GRAD_X[h00 & 15] * x + GRAD_Y[h00 & 15] * y,
+                    GRAD_X[h10 & 15] * (x - 1) + GRAD_Y[h10 & 15] * y),
+            lerp(u, GRAD_X[h01 & 15] * x + GRAD_Y[h01 & 15] * (y - 1),
+                    GRAD_X[h11 & 15] * (x - 1) + GRAD_Y[h11 & 15] * (y - 1)));
+    }
+
+    /**
+     * Fills a 16x16x16 section with octave noise, one call per section.
+     *
+     * @param out Receives 4096 values, indexed x + z * 16 + y * 256
+     * @param sectionX Section X (block X / 16)
+     * @param sectionY Section Y (block Y / 16)
+     * @param sectionZ Section Z (block Z / 16)
+     * @param scaleX Multiplier applied to block X before sampling
+     * @param scaleY Multiplier applied to block Y before sampling
+     * @param scaleZ Multiplier applied to block Z before sampling
+     * @param octaves Number of noise layers to combine
+     * @param persistence How much each octave contributes
+     * @param scale Scale of the noise
+     */
+    public void fillSection3D(double[] out, int sectionX, int sectionY, int sectionZ,
+                              double scaleX, double scaleY, double scaleZ,
+                              int octaves, double persistence, double scale) {
+        fillOctaveGrid(out, sectionX << 4, sectionY << 4, sectionZ << 4, 16, 16, 16,
+                       scaleX, scaleY, scaleZ, 0, octaves, persistence, scale);
+    }
+
+    /**
+     * Fills a block-aligned box with octave noise. Each value equals
+     * {@code octaveNoise3D(bx * scaleX + offset, by * scaleY, bz * scaleZ + offset, ...)}
+     * for the block (bx, by, bz); with {@code sizeY} 1 and {@code scaleY} 0 it equals
+     * {@code octaveNoise2D(bx * scaleX + offset, bz * scaleZ + offset, ...)}.
+     *
+     * @param out Receives sizeX * sizeY * sizeZ values, indexed dx + dz * sizeX + dy * sizeX * sizeZ
+     * @param minX Lowest block X
+     * @param minY Lowest block Y
+     * @param minZ Lowest block Z
+     * @param sizeX Blocks along X
+     * @param sizeY Blocks along Y
+     * @param sizeZ Blocks along Z
+     * @param scaleX Multiplier applied to block X
+     * @param scaleY Multiplier applied to block Y
+     * @param scaleZ Multiplier applied to block Z
+     * @param offset Added to the scaled X and Z coordinates
+     * @param octaves Number of noise layers to combine
+     * @param persistence How much each octave contributes
+     * @param scale Scale of the noise
+     */
+    public void fillOctaveGrid(double[] out, int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ,
+                               double scaleX, double scaleY, double scaleZ, double offset,
+                               int octaves, double persistence, double scale) {
+        int volume = sizeX * sizeY * sizeZ;
+        Arrays.fill(out, 0, volume, 0);
+
+        // Octave table and per-axis lattice data, computed once per grid instead of per sample
+        int[] cellX = new int[sizeX];
+        int[] cellY = new int[sizeY];
+        int[] cellZ = new int[sizeZ];
+        double[] fracX = new double[sizeX];
+        double[] fracY = new double[sizeY];
+        double[] fracZ = new double[sizeZ];
+        double[] fadeX = new double[sizeX];
+        double[] fadeY = new double[sizeY];
+        double[] fadeZ = new double[sizeZ];
+        int[] p = permutation;
+
+        double frequency = scale;
+        double amplitude = 1;
+        double maxValue = 0;
+        for (int octave = 0; octave < octaves; octave++) {
+            prepareAxis(minX, sizeX, scaleX, offset, frequency, cellX, fracX, fadeX);
+            prepareAxis(minY, sizeY, scaleY, 0, frequency, cellY, fracY, fadeY);
+            prepareAxis(minZ, sizeZ, scaleZ, offset, frequency, cellZ, fracZ, fadeZ);
+
+            for (int dx = 0; dx < sizeX; dx++) {
+                int X = cellX[dx];
+                double x = fracX[dx];
+                double u = fadeX[dx];
+                int pX = p[X];
+                int pX1 = p[X + 1];
+                for (int dy = 0; dy < sizeY; dy++) {
+                    int Y = cellY[dy];
+                    double y = fracY[dy];
+                    double v = fadeY[dy];
+                    int pA = p[pX + Y];
+                    int pAB = p[pX + Y + 1];
+                    int pB = p[pX1 + Y];
+                    int pBB = p[pX1 + Y + 1];
+                    int rowBase = dy * sizeX * sizeZ + dx;
+                    for (int dz = 0; dz < sizeZ; dz++) {
+                        int Z = cellZ[dz];
+                        double z = fracZ[dz];
+                        double w = fadeZ[dz];
+                        int AA = pA + Z;
+                        int AB = pAB + Z;
+                        int BA = pB + Z;
+                        int BB = pBB + Z;
+
+                        double n = lerp(w,
+                            lerp(v,
+                                lerp(u, grad(p[AA], x, y, z),
+                                        grad(p[BA], x - 1, y, z)),
+                                lerp(u, grad(p[AB], x, y - 1, z),
+                                        grad(p[BB], x - 1, y - 1, z))),
+                            lerp(v,
+                                lerp(u, grad(p[AA + 1], x, y, z - 1),
+                                        grad(p[BA + 1], x - 1, y, z - 1)),
+                                lerp(u, grad(p[AB + 1], x, y - 1, z - 1),
+                                        grad(p[BB + 1], x - 1, y - 1, z - 1))));
+                        out[rowBase + dz * sizeX] += n * amplitude;
+                    }
+                }
+            }
+
+            maxValue += amplitude;
+            amplitude *= persistence;
+            frequency *= 2;
+        }
+
+        for (int i = 0; i < volume; i++) {
+            out[i] /= maxValue;
+        }
+    }
+
+    /**
+     * Lattice cell, offset within the cell and fade value for each block along one axis.
+     */
+    private void prepareAxis(int min, int size, double axisScale, double offset, double frequency,
+                             int[] cells, double[] fracs, double[] fades) {
+        for (int i = 0; i < size; i++) {
+            double c = ((min + i) * axisScale + offset) * frequency;
+            int floor = fastFloor(c);
+            cells[i] = floor & 255;
+            fracs[i] = c - floor;
+            fades[i] = fade(fracs[i]);
+        }
     }
 
     /**
@@ -192,8 +386,7 @@ public class NoiseGenerator {
      */
     private double grad(int hash, double x, double y, double z) {
         int h = hash & 15;
-        int[] gradient = GRADIENTS_3D[h];
-        return gradient[0] * x + gradient[1] * y + gradient[2] * z;
+        return GRAD_X[h] * x + GRAD_Y[h] * y + GRAD_Z[h] * z;
     }
 
     /**
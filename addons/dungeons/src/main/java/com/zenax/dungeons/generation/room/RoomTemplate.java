@@ -0,0 +1,288 @@
+package com.zenax.dungeons.generation.room;
+
+import com.zenax.dungeons.generation.voxel.VoxelBuffer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A room's geometry compiled once and stamped into many dungeons.
+ *
+ * The template covers a box centred on the room (local X/Z from {@code -radius} to
+ * {@code radius}, local Y from {@code minY} to {@code maxY}) and holds two layers, matching
+ * the generator's phases: the solid {@link Layer#FILL} written before corridors, and the
+ * {@link Layer#CARVE} (air and formations) written after them. Each layer is stored as
+ * run-length encoded palette ids, one column at a time, so a room takes a few kilobytes.
+ *
+ * Templates are immutable and safe to share between generation threads.
+ */
+public final class RoomTemplate {
+    private static final int MAGIC = 0x52544D50; // "RTMP"
+    private static final int MAX_RUN = 0xFFFF;
+
+    /** Number of distinct {@link #stamp} transforms (4 rotations, each optionally mirrored) */
+    public static final int TRANSFORM_COUNT = 8;
+
+    /**
+     * The generation phase a layer belongs to.
+     */
+    public enum Layer {
+        /** Solid stone, written before corridors */
+        FILL,
+        /** Air and formations, written after corridors */
+        CARVE
+    }
+
+    private final int radius;
+    private final int minY;
+    private final int maxY;
+    private final String[] palette;
+    // Packed runs: (palette id << 16) | run length, palette id 0 is UNSET
+    private final int[] fillRuns;
+    private final int[] carveRuns;
+
+    private RoomTemplate(int radius, int minY, int maxY, String[] palette, int[] fillRuns, int[] carveRuns) {
+        this.radius = radius;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.palette = palette;
+        this.fillRuns = fillRuns;
+        this.carveRuns = carveRuns;
+    }
+
+    /**
+     * Compiles a template from a room built around (0, 0, 0).
+     *
+     * @param filled Buffer holding only the room's fill phase
+     * @param carved Buffer holding the fill phase with the carve phase applied on top
+     * @param radius Horizontal extent from the room centre
+     * @param minY Lowest local Y written
+     * @param maxY Highest local Y written
+     * @return The compiled template
+     */
+    public static RoomTemplate compile(VoxelBuffer filled, VoxelBuffer carved, int radius, int minY, int maxY) {
+        List<String> palette = new ArrayList<>();
+        palette.add(null); // UNSET
+        short[] fillMap = new short[filled.getPalette().size()];
+        short[] carveMap = new short[carved.getPalette().size()];
+
+        RunWriter fill = new RunWriter();
+        RunWriter carve = new RunWriter();
+        for (int x = -radius; x <= radius; x++) {
+            for (int z = -radius; z <= radius; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    short before = filled.get(x, y, z);
+                    short after = carved.get(x, y, z);
+                    fill.add(remap(before, filled, fillMap, palette));
+                    // The carve layer keeps only what the carve phase changed
+                    boolean changed = after != VoxelBuffer.UNSET
+                        && (before == VoxelBuffer.UNSET
+                            || !carved.getPalette().get(after).equals(filled.getPalette().get(before)));
+                    carve.add(changed ? remap(after, carved, carveMap, palette) : VoxelBuffer.UNSET);
+                }
+            }
+        }
+
+        return new RoomTemplate(radius, minY, maxY, palette.toArray(new String[0]), fill.finish(), carve.finish());
+    }
+
+    private static short remap(short id, VoxelBuffer source, short[] map, List<String> palette) {
+        if (id == VoxelBuffer.UNSET) {
+            return VoxelBuffer.UNSET;
+        }
+        if (map[id] == 0) {
+            String state = source.getPalette().get(id);
+            int index = palette.indexOf(state);
+            if (index < 0) {
+                index = palette.size();
+                palette.add(state);
+            }
+            map[id] = (short) index;
+        }
+        return map[id];
+    }
+
+    /**
+     * Writes one layer into a buffer, rotated and/or mirrored around the room centre.
+     * Unset positions are left untouched.
+     *
+     * @param target The dungeon buffer
+     * @param layer The layer to write
+     * @param centerX World X of the room centre
+     * @param baseY World Y of the room floor (local Y 0)
+     * @param centerZ World Z of the room centre
+     * @param transform 0-7: quarter turns in the low two bits, mirror on X in bit 2
+     */
+    public void stamp(VoxelBuffer target, Layer layer, int centerX, int baseY, int centerZ, int transform) {
+        short[] ids = new short[palette.length];
+        for (int i = 1; i < palette.length; i++) {
+            ids[i] = target.paletteId(palette[i]);
+        }
+
+        int rotation = transform & 3;
+        boolean mirror = (transform & 4) != 0;
+        int height = maxY - minY + 1;
+        int columns = radius * 2 + 1;
+
+        int[] runs = layer == Layer.FILL ? fillRuns : carveRuns;
+        int index = 0;
+        for (int run : runs) {
+            short id = ids[run >>> 16];
+            int length = run & MAX_RUN;
+            if (id == VoxelBuffer.UNSET) {
+                index += length;
+                continue;
+            }
+            for (int end = index + length; index < end; index++) {
+                int column = index / height;
+                int lx = column / columns - radius;
+                int lz = column % columns - radius;
+                if (mirror) {
+                    lx = -lx;
+                }
+                int wx;
+                int wz;
+                switch (rotation) {
+                    case 1 -> { wx = -lz; wz = lx; }
+                    case 2 -> { wx = -lx; wz = -lz; }
+                    case 3 -> { wx = lz; wz = -lx; }
+                    default -> { wx = lx; wz = lz; }
+                }
+                target.set(centerX + wx, baseY + minY + index % height, centerZ + wz, id);
+            }
+        }
+    }
+
+    /**
+     * Writes the template in its binary form.
+     *
+     * @param out The stream to write to
+     * @param version Generator version, checked again by {@link #read}
+     * @throws IOException If writing fails
+     */
+    public void write(DataOutputStream out, int version) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(version);
+        out.writeShort(radius);
+        out.writeShort(minY);
+        out.writeShort(maxY);
+        out.writeShort(palette.length - 1);
+        for (int i = 1; i < palette.length; i++) {
+            out.writeUTF(palette[i]);
+        }
+        writeRuns(out, fillRuns);
+        writeRuns(out, carveRuns);
+    }
+
+    private static void writeRuns(DataOutputStream out, int[] runs) throws IOException {
+        out.writeInt(runs.length);
+        for (int run : runs) {
+            out.writeInt(run);
+        }
+    }
+
+    /**
+     * Reads a template written by {@link #write}.
+     *
+     * @param in The stream to read from
+     * @param version The current generator version
+     * @return The template, or null if it was written by another generator version
+     * @throws IOException If the data is unreadable
+     */
+    public static RoomTemplate read(DataInputStream in, int version) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a room template");
+        }
+        if (in.readInt() != version) {
+            return null;
+        }
+        int radius = in.readShort();
+        int minY = in.readShort();
+        int maxY = in.readShort();
+        String[] palette = new String[in.readShort() + 1];
+        for (int i = 1; i < palette.length; i++) {
+            palette[i] = in.readUTF();
+        }
+        int[] fillRuns = readRuns(in, palette.length);
+        int[] carveRuns = readRuns(in, palette.length);
+
+        long volume = (long) (radius * 2 + 1) * (radius * 2 + 1) * (maxY - minY + 1);
+        if (countBlocks(fillRuns) != volume || countBlocks(carveRuns) != volume) {
+            throw new IOException("Room template size mismatch");
+        }
+        return new RoomTemplate(radius, minY, maxY, palette, fillRuns, carveRuns);
+    }
+
+    private static int[] readRuns(DataInputStream in, int paletteSize) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Bad run count");
+        }
+        int[] runs = new int[count];
+        for (int i = 0; i < count; i++) {
+            runs[i] = in.readInt();
+            if ((runs[i] >>> 16) >= paletteSize) {
+                throw new IOException("Palette id out of range");
+            }
+        }
+        return runs;
+    }
+
+    private static long countBlocks(int[] runs) {
+        long total = 0;
+        for (int run : runs) {
+            total += run & MAX_RUN;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the compressed size of both layers.
+     *
+     * @return The number of runs
+     */
+    public int getRunCount() {
+        return fillRuns.length + carveRuns.length;
+    }
+
+    /**
+     * Builds a run list one palette id at a time.
+     */
+    private static final class RunWriter {
+        private int[] runs = new int[64];
+        private int count;
+        private short current = -1;
+        private int length;
+
+        private void add(short id) {
+            if (id == current && length < MAX_RUN) {
+                length++;
+                return;
+            }
+            flush();
+            current = id;
+            length = 1;
+        }
+
+        private void flush() {
+            if (length == 0) return;
+            if (count == runs.length) {
+                int[] grown = new int[runs.length * 2];
+                System.arraycopy(runs, 0, grown, 0, count);
+                runs = grown;
+            }
+            runs[count++] = (current << 16) | length;
+        }
+
+        private int[] finish() {
+            flush();
+            length = 0;
+            int[] result = new int[count];
+            System.arraycopy(runs, 0, result, 0, count);
+            return result;
+        }
+    }
+}
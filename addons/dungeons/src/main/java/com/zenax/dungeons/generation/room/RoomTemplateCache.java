@@ -0,0 +1,210 @@
+package com.zenax.dungeons.generation.room;
+
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Keeps compiled {@link RoomTemplate}s per room type, wall theme, room size and seed bucket,
+ * in memory and optionally on disk, so each combination is generated once per server
+ * (or once ever, with the disk cache) instead of once per room.
+ *
+ * A room's seed is folded into one of a fixed number of buckets; together with the eight
+ * stamp transforms that gives {@code buckets * 8} distinct shapes per room type and theme.
+ *
+ * Safe to use from generation worker threads.
+ */
+public class RoomTemplateCache {
+    /** Bump whenever room generation changes, so stale disk templates are rebuilt */
+    public static final int GENERATOR_VERSION = 1;
+
+    private static final String FILE_EXTENSION = ".rtmp";
+
+    private final File directory;
+    private final Logger logger;
+    private final Map<Key, RoomTemplate> templates = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskLoads = new AtomicLong();
+    private final AtomicLong compiles = new AtomicLong();
+
+    // Configuration
+    private volatile boolean enabled = true;
+    private volatile boolean diskCache = true;
+    private volatile int seedBuckets = 16;
+
+    /**
+     * Creates a template cache.
+     *
+     * @param directory Where templates are stored on disk
+     * @param logger Logger for disk cache problems
+     */
+    public RoomTemplateCache(File directory, Logger logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    /**
+     * Reads cache settings. Changing the bucket count drops the in-memory templates.
+     *
+     * @param config The addon configuration
+     */
+    public void loadConfig(FileConfiguration config) {
+        ConfigurationSection section = config.getConfigurationSection("performance.room-templates");
+        enabled = section == null || section.getBoolean("enabled", true);
+        diskCache = section == null || section.getBoolean("disk-cache", true);
+        int buckets = Math.max(1, section != null ? section.getInt("seed-buckets", 16) : 16);
+        if (buckets != seedBuckets) {
+            seedBuckets = buckets;
+            templates.clear();
+        }
+    }
+
+    /**
+     * Checks if rooms should be stamped from templates.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Folds a room seed into its bucket.
+     *
+     * @param roomSeed The room's own seed
+     * @return The bucket, 0 to seed-buckets - 1
+     */
+    public int getBucket(long roomSeed) {
+        return (int) Math.floorMod(mix(roomSeed), (long) seedBuckets);
+    }
+
+    /**
+     * Picks the stamp transform for a room seed, independent of its bucket.
+     *
+     * @param roomSeed The room's own seed
+     * @return A transform for {@link RoomTemplate#stamp}
+     */
+    public static int getTransform(long roomSeed) {
+        return (int) ((mix(roomSeed) >>> 32) % RoomTemplate.TRANSFORM_COUNT);
+    }
+
+    private static long mix(long seed) {
+        // SplitMix64 finaliser: spreads consecutive seeds over all buckets
+        long z = seed + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets a template, loading or compiling it on first use.
+     *
+     * @param type The room type
+     * @param wall The theme's wall material
+     * @param radius Horizontal room extent
+     * @param height Room height
+     * @param bucket Seed bucket from {@link #getBucket}
+     * @param compiler Builds the template on a miss
+     * @return The template
+     */
+    public RoomTemplate get(RoomType type, Material wall, int radius, int height, int bucket,
+                            Supplier<RoomTemplate> compiler) {
+        Key key = new Key(type, wall, radius, height, bucket);
+        RoomTemplate cached = templates.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        return templates.computeIfAbsent(key, k -> {
+            RoomTemplate loaded = diskCache ? load(k) : null;
+            if (loaded != null) {
+                diskLoads.incrementAndGet();
+                return loaded;
+            }
+            RoomTemplate compiled = compiler.get();
+            compiles.incrementAndGet();
+            if (diskCache) {
+                save(k, compiled);
+            }
+            return compiled;
+        });
+    }
+
+    private RoomTemplate load(Key key) {
+        File file = key.file(directory);
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            return RoomTemplate.read(in, GENERATOR_VERSION);
+        } catch (IOException e) {
+            logger.warning("Discarding unreadable room template " + file.getName() + ": " + e.getMessage());
+            file.delete();
+            return null;
+        }
+    }
+
+    private void save(Key key, RoomTemplate template) {
+        File file = key.file(directory);
+        File temp = new File(directory, file.getName() + ".tmp");
+        try {
+            Files.createDirectories(directory.toPath());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                template.write(out, GENERATOR_VERSION);
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warning("Failed to save room template " + file.getName() + ": " + e.getMessage());
+            temp.delete();
+        }
+    }
+
+    /**
+     * Forgets every template in memory and on disk.
+     */
+    public void clear() {
+        templates.clear();
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Gets a one-line summary for the status command.
+     *
+     * @return Formatted status line
+     */
+    public String getStatusLine() {
+        return ChatColor.GRAY + "Room Templates: " + ChatColor.WHITE + (enabled ? templates.size() + " cached" : "Disabled") +
+               ChatColor.GRAY + " (" + hits.get() + " hits, " + diskLoads.get() + " from disk, " +
+               compiles.get() + " compiled)";
+    }
+
+    private record Key(RoomType type, Material wall, int radius, int height, int bucket) {
+        private File file(File directory) {
+            return new File(directory, type.name().toLowerCase(Locale.ROOT) + "_" + wall.name().toLowerCase(Locale.ROOT) +
+                                       "_" + radius + "x" + height + "_" + bucket + FILE_EXTENSION);
+        }
+    }
+}
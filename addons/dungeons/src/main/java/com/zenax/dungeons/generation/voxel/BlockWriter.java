@@ -0,0 +1,114 @@
+package com.zenax.dungeons.generation.voxel;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+/**
+ * Accumulates block writes for a builder and applies them to the world in one pass.
+ *
+ * Writes land in a {@link VoxelBuffer}, so a position that is filled, carved and then
+ * decorated only keeps its final state. Reads see pending writes first and fall back to
+ * the world, letting multi-phase builders inspect their own work before it is placed.
+ * {@link #flush()} then writes each position once, per chunk section, with physics off.
+ *
+ * Main thread only (reads go to the world).
+ */
+public class BlockWriter {
+    private final World world;
+    private VoxelBuffer buffer = new VoxelBuffer();
+
+    /**
+     * Creates a writer for a world.
+     *
+     * @param world The world the blocks will be written to
+     */
+    public BlockWriter(World world) {
+        this.world = world;
+    }
+
+    /**
+     * Sets a block to a plain material.
+     *
+     * @param x World X
+     * @param y World Y
+     * @param z World Z
+     * @param material The material
+     */
+    public void setType(int x, int y, int z, Material material) {
+        buffer.set(x, y, z, material);
+    }
+
+    /**
+     * Sets a block to a full block state.
+     *
+     * @param x World X
+     * @param y World Y
+     * @param z World Z
+     * @param data The block data
+     */
+    public void setBlockData(int x, int y, int z, BlockData data) {
+        buffer.set(x, y, z, buffer.paletteId(data.getAsString()));
+    }
+
+    /**
+     * Gets the material a position will have once flushed.
+     *
+     * @param x World X
+     * @param y World Y
+     * @param z World Z
+     * @return The pending material, or the world's current one if untouched
+     */
+    public Material getType(int x, int y, int z) {
+        short id = buffer.get(x, y, z);
+        if (id == VoxelBuffer.UNSET) {
+            return world.getBlockAt(x, y, z).getType();
+        }
+        return buffer.getMaterial(id);
+    }
+
+    /**
+     * Checks whether a position will be solid once flushed.
+     *
+     * @param x World X
+     * @param y World Y
+     * @param z World Z
+     * @return true if the pending (or current) material is solid
+     */
+    public boolean isSolid(int x, int y, int z) {
+        return getType(x, y, z).isSolid();
+    }
+
+    /**
+     * Checks whether a position will be air once flushed.
+     *
+     * @param x World X
+     * @param y World Y
+     * @param z World Z
+     * @return true if the pending (or current) material is air
+     */
+    public boolean isAir(int x, int y, int z) {
+        return getType(x, y, z) == Material.AIR;
+    }
+
+    /**
+     * Gets the world this writer targets.
+     *
+     * @return The world
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Writes every pending block to the world and starts a fresh buffer.
+     *
+     * @return The number of blocks that actually changed
+     */
+    public long flush() {
+        VoxelBuffer pending = buffer;
+        buffer = new VoxelBuffer();
+        VoxelPlacer placer = VoxelPlacer.placeNow(world, pending);
+        return placer.getPlacedBlocks() - placer.getSkippedBlocks();
+    }
+}
@@ -0,0 +1,294 @@
+package com.zenax.dungeons.generation.voxel;
+
+import org.bukkit.Material;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact, palette-indexed block buffer used to build a dungeon away from the world.
+ * Blocks are stored per 16x16x16 section as palette indices; index 0 means "untouched"
+ * and leaves whatever the world already has (air in the void dungeon world).
+ *
+ * Block states are kept as strings (e.g. "minecraft:stone" or a full state with
+ * properties) so the buffer can be filled on any thread - BlockData is only created
+ * on the main thread when the buffer is placed.
+ *
+ * Not thread-safe: fill it from a single thread, then hand it over.
+ */
+public class VoxelBuffer {
+    public static final int SECTION_SIZE = 16;
+    public static final int SECTION_VOLUME = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
+
+    /** Palette index for positions that were never written. */
+    public static final short UNSET = 0;
+
+    private final List<String> palette = new ArrayList<>();
+    private final List<Material> materials = new ArrayList<>();
+    private final Map<String, Short> paletteIndex = new HashMap<>();
+    private final Map<Long, Section> sections = new LinkedHashMap<>();
+    private final short airId;
+
+    /**
+     * Creates an empty buffer.
+     */
+    public VoxelBuffer() {
+        palette.add(null); // UNSET
+        materials.add(null);
+        this.airId = paletteId(Material.AIR);
+    }
+
+    // ============ Palette ============
+
+    /**
+     * Gets (or adds) the palette index for a plain material.
+     *
+     * @param material The block material
+     * @return The palette index
+     */
+    public short paletteId(Material material) {
+        return paletteId(material.getKey().toString());
+    }
+
+    /**
+     * Gets (or adds) the palette index for a block state string.
+     *
+     * @param blockState A state string accepted by {@code Bukkit.createBlockData(String)}
+     * @return The palette index
+     */
+    public short paletteId(String blockState) {
+        Short existing = paletteIndex.get(blockState);
+        if (existing != null) {
+            return existing;
+        }
+        if (palette.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException("Voxel palette overflow");
+        }
+        short id = (short) palette.size();
+        palette.add(blockState);
+        materials.add(materialOf(blockState));
+        paletteIndex.put(blockState, id);
+        return id;
+    }
+
+    /**
+     * Gets the material of a palette entry.
+     *
+     * @param id The palette index
+     * @return The material, or null for {@link #UNSET}
+     */
+    public Material getMaterial(short id) {
+        return materials.get(id);
+    }
+
+    private static Material materialOf(String blockState) {
+        int properties = blockState.indexOf('[');
+        Material material = Material.matchMaterial(properties < 0 ? blockState : blockState.substring(0, properties));
+        return material != null ? material : Material.AIR;
+    }
+
+    /**
+     * Gets the palette as a read-only list; index 0 is null (unset).
+     *
+     * @return The palette entries
+     */
+    public List<String> getPalette() {
+        return Collections.unmodifiableList(palette);
+    }
+
+    /**
+     * Gets the palette index used for air.
+     *
+     * @return The air palette index
+     */
+    public short getAirId() {
+        return airId;
+    }
+
+    // ============ Access ============
+
+    /**
+     * Sets a block, overwriting any earlier write to the same position.
+     *
+     * @param x World X
+     * @param y World Y
+     * @param z World Z
+     * @param id Palette index
+     */
+    public void set(int x, int y, int z, short id) {
+        long key = sectionKey(x >> 4, y >> 4, z >> 4);
+        Section section = sections.get(key);
+        if (section == null) {
+            section = new Section(x >> 4, y >> 4, z >> 4);
+            sections.put(key, section);
+        }
+        section.set(x & 15, y & 15, z & 15, id);
+    }
+
+    /**
+     * Sets a block to a plain material.
+     *
+     * @param x World X
+     * @param y World Y
+     * @param z World Z
+     * @param material The material
+     */
+    public void set(int x, int y, int z, Material material) {
+        set(x, y, z, paletteId(material));
+    }
+
+    /**
+     * Gets the palette index at a position.
+     *
+     * @param x World X
+     * @param y World Y
+     * @param z World Z
+     * @return The palette index, or {@link #UNSET}
+     */
+    public short get(int x, int y, int z) {
+        Section section = sections.get(sectionKey(x >> 4, y >> 4, z >> 4));
+        return section == null ? UNSET : section.get(x & 15, y & 15, z & 15);
+    }
+
+    /**
+     * Checks whether a position is air once placed (unset counts as air in the void world).
+     *
+     * @param x World X
+     * @param y World Y
+     * @param z World Z
+     * @return true if the position is air
+     */
+    public boolean isAir(int x, int y, int z) {
+        short id = get(x, y, z);
+        return id == UNSET || id == airId;
+    }
+
+    // ============ Sections ============
+
+    /**
+     * Gets every section that has at least one write.
+     *
+     * @return The sections, in first-write order
+     */
+    public Collection<Section> getSections() {
+        return Collections.unmodifiableCollection(sections.values());
+    }
+
+    /**
+     * Groups sections by chunk so they can be placed one chunk at a time.
+     *
+     * @return Chunk key ({@link #chunkKey}) to that chunk's sections, bottom section first
+     */
+    public Map<Long, List<Section>> getSectionsByChunk() {
+        Map<Long, List<Section>> byChunk = new LinkedHashMap<>();
+        for (Section section : sections.values()) {
+            byChunk.computeIfAbsent(chunkKey(section.getChunkX(), section.getChunkZ()), k -> new ArrayList<>())
+                   .add(section);
+        }
+        for (List<Section> chunkSections : byChunk.values()) {
+            chunkSections.sort(Comparator.comparingInt(Section::getSectionY));
+        }
+        return byChunk;
+    }
+
+    /**
+     * Counts written (non-unset) positions.
+     *
+     * @return The number of blocks that will be placed
+     */
+    public long getBlockCount() {
+        long count = 0;
+        for (Section section : sections.values()) {
+            count += section.getWrittenCount();
+        }
+        return count;
+    }
+
+    /**
+     * Packs chunk coordinates into a single key.
+     *
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     * @return The packed key
+     */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static long sectionKey(int sectionX, int sectionY, int sectionZ) {
+        // 26 bits X/Z (+-33M blocks), 12 bits Y
+        return ((long) (sectionX & 0x3FFFFFF) << 38) | ((long) (sectionZ & 0x3FFFFFF) << 12) | (sectionY & 0xFFF);
+    }
+
+    /**
+     * One 16x16x16 section of palette indices, indexed y-major then z then x.
+     */
+    public static final class Section {
+        private final int chunkX;
+        private final int sectionY;
+        private final int chunkZ;
+        private final short[] blocks = new short[SECTION_VOLUME];
+        private int written;
+
+        private Section(int chunkX, int sectionY, int chunkZ) {
+            this.chunkX = chunkX;
+            this.sectionY = sectionY;
+            this.chunkZ = chunkZ;
+        }
+
+        private void set(int x, int y, int z, short id) {
+            int index = index(x, y, z);
+            if (blocks[index] == UNSET && id != UNSET) written++;
+            else if (blocks[index] != UNSET && id == UNSET) written--;
+            blocks[index] = id;
+        }
+
+        /**
+         * Gets a palette index by local coordinates (0-15).
+         *
+         * @param x Local X
+         * @param y Local Y
+         * @param z Local Z
+         * @return The palette index
+         */
+        public short get(int x, int y, int z) {
+            return blocks[index(x, y, z)];
+        }
+
+        /**
+         * Gets a palette index by flat index ({@code (y << 8) | (z << 4) | x}).
+         *
+         * @param index Flat index 0-4095
+         * @return The palette index
+         */
+        public short getAt(int index) {
+            return blocks[index];
+        }
+
+        public int getChunkX() {
+            return chunkX;
+        }
+
+        public int getSectionY() {
+            return sectionY;
+        }
+
+        public int getChunkZ() {
+            return chunkZ;
+        }
+
+        public int getWrittenCount() {
+            return written;
+        }
+
+        private static int index(int x, int y, int z) {
+            return (y << 8) | (z << 4) | x;
+        }
+    }
+}
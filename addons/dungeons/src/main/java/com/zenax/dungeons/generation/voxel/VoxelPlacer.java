@@ -0,0 +1,190 @@
+package com.zenax.dungeons.generation.voxel;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Writes a {@link VoxelBuffer} into a world on the main thread, chunk by chunk,
+ * spending at most a fixed time budget per tick so large dungeons never stall the server.
+ *
+ * Each chunk is written section by section, bottom up, with physics disabled. Positions
+ * that already hold their target state are skipped, so every block changes at most once
+ * and the light engine only sees real changes.
+ */
+public class VoxelPlacer extends BukkitRunnable {
+    // Check the clock every N blocks rather than every block
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+
+    private final World world;
+    private final long budgetNanos;
+    private final Consumer<Double> progressCallback;
+    private final Runnable completionCallback;
+
+    private final BlockData[] resolved;
+    private final Iterator<Map.Entry<Long, List<VoxelBuffer.Section>>> chunks;
+    private final long totalBlocks;
+
+    private List<VoxelBuffer.Section> currentSections;
+    private int sectionIndex;
+    private int blockIndex;
+    private long placedBlocks;
+    private long skippedBlocks;
+    private int lastReportedPercent = -1;
+
+    private VoxelPlacer(World world, VoxelBuffer buffer, long budgetMillis,
+                        Consumer<Double> progressCallback, Runnable completionCallback) {
+        this.world = world;
+        this.budgetNanos = Math.max(1, budgetMillis) * 1_000_000L;
+        this.progressCallback = progressCallback;
+        this.completionCallback = completionCallback;
+        this.resolved = resolvePalette(buffer);
+        this.chunks = buffer.getSectionsByChunk().entrySet().iterator();
+        this.totalBlocks = Math.max(1, buffer.getBlockCount());
+    }
+
+    /**
+     * Starts placing a buffer over several ticks. Must be called on the main thread.
+     *
+     * @param plugin The plugin owning the task
+     * @param world The world to place into
+     * @param buffer The filled buffer
+     * @param budgetMillis Maximum milliseconds spent placing per tick
+     * @param progressCallback Receives placement progress 0.0-1.0 (may be null)
+     * @param completionCallback Runs once every block is placed
+     * @return The running placer (cancel it to abort)
+     */
+    public static VoxelPlacer place(Plugin plugin, World world, VoxelBuffer buffer, long budgetMillis,
+                                    Consumer<Double> progressCallback, Runnable completionCallback) {
+        VoxelPlacer placer = new VoxelPlacer(world, buffer, budgetMillis, progressCallback, completionCallback);
+        placer.runTaskTimer(plugin, 1L, 1L);
+        return placer;
+    }
+
+    /**
+     * Places a whole buffer immediately on the calling (main) thread.
+     *
+     * @param world The world to place into
+     * @param buffer The filled buffer
+     * @return The finished placer (for its counters)
+     */
+    public static VoxelPlacer placeNow(World world, VoxelBuffer buffer) {
+        VoxelPlacer placer = new VoxelPlacer(world, buffer, Long.MAX_VALUE / 1_000_000L, null, null);
+        while (placer.step(Long.MAX_VALUE)) {
+            // Keep going until every chunk is written
+        }
+        return placer;
+    }
+
+    @Override
+    public void run() {
+        boolean more = step(System.nanoTime() + budgetNanos);
+        reportProgress();
+        if (!more) {
+            cancel();
+            if (completionCallback != null) {
+                completionCallback.run();
+            }
+        }
+    }
+
+    /**
+     * Places blocks until the deadline passes or the buffer is exhausted.
+     *
+     * @param deadline System.nanoTime() deadline
+     * @return true if blocks remain
+     */
+    private boolean step(long deadline) {
+        int sinceCheck = 0;
+        while (true) {
+            if (currentSections == null || sectionIndex >= currentSections.size()) {
+                if (!chunks.hasNext()) {
+                    return false;
+                }
+                currentSections = chunks.next().getValue();
+                sectionIndex = 0;
+                blockIndex = 0;
+            }
+
+            VoxelBuffer.Section section = currentSections.get(sectionIndex);
+            Chunk chunk = world.getChunkAt(section.getChunkX(), section.getChunkZ());
+            int baseY = section.getSectionY() << 4;
+
+            while (blockIndex < VoxelBuffer.SECTION_VOLUME) {
+                short id = section.getAt(blockIndex);
+                if (id != VoxelBuffer.UNSET) {
+                    int x = blockIndex & 15;
+                    int z = (blockIndex >> 4) & 15;
+                    int y = baseY + (blockIndex >> 8);
+                    Block block = chunk.getBlock(x, y, z);
+                    BlockData data = resolved[id];
+                    if (block.getType() == data.getMaterial() && block.getBlockData().equals(data)) {
+                        skippedBlocks++;
+                    } else {
+                        block.setBlockData(data, false);
+                    }
+                    placedBlocks++;
+                }
+                blockIndex++;
+
+                if (++sinceCheck >= CLOCK_CHECK_INTERVAL) {
+                    sinceCheck = 0;
+                    if (System.nanoTime() >= deadline) {
+                        return true;
+                    }
+                }
+            }
+
+            sectionIndex++;
+            blockIndex = 0;
+        }
+    }
+
+    private void reportProgress() {
+        if (progressCallback == null) return;
+        int percent = (int) (placedBlocks * 100 / totalBlocks);
+        if (percent != lastReportedPercent) {
+            lastReportedPercent = percent;
+            progressCallback.accept(percent / 100.0);
+        }
+    }
+
+    /**
+     * Creates BlockData once per palette entry (main thread).
+     */
+    private static BlockData[] resolvePalette(VoxelBuffer buffer) {
+        List<String> palette = buffer.getPalette();
+        BlockData[] resolved = new BlockData[palette.size()];
+        for (int i = 1; i < palette.size(); i++) {
+            resolved[i] = Bukkit.createBlockData(palette.get(i));
+        }
+        return resolved;
+    }
+
+    /**
+     * Gets the number of buffered positions processed so far.
+     *
+     * @return The placed block count
+     */
+    public long getPlacedBlocks() {
+        return placedBlocks;
+    }
+
+    /**
+     * Gets how many processed positions already held their target state.
+     *
+     * @return The skipped block count
+     */
+    public long getSkippedBlocks() {
+        return skippedBlocks;
+    }
+}
@@ -1,16 +1,20 @@
 package com.zenax.dungeons.lobby;
 
 import com.zenax.dungeons.dungeon.Dungeon;
+import com.zenax.dungeons.generation.algorithm.NoiseField;
 import com.zenax.dungeons.generation.algorithm.NoiseGenerator;
+import com.zenax.dungeons.generation.voxel.BlockWriter;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.Orientable;
 import org.bukkit.block.data.type.PointedDripstone;
 import org.bukkit.entity.Display;
 import org.bukkit.entity.Interaction;
 import org.bukkit.entity.TextDisplay;
+import org.bukkit.Axis;
 import org.bukkit.Color;
 
 import java.util.Map;
@@ -19,6 +23,9 @@ import java.util.Random;
 /**
  * Generates procedural cave lobbies with full terraforming.
  * Each lobby is unique due to noise-based generation.
+ *
+ * All phases write through a {@link BlockWriter}, so the fill/carve/decorate passes only
+ * settle each position's final state; the world is touched once, at the end.
  */
 public class LobbyCaveGenerator {
     private final NoiseGenerator noiseGenerator;
@@ -76,33 +83,38 @@ public class LobbyCaveGenerator {
         Material floorMat = theme.getOrDefault("floor", Material.STONE);
         Material accentMat = theme.getOrDefault("accent", Material.DRIPSTONE_BLOCK);
 
+        BlockWriter blocks = new BlockWriter(world);
+
         // Phase 1: Fill the entire area with stone (create the rock mass)
-        fillArea(world, baseX, baseY, baseZ);
+        fillArea(blocks, baseX, baseY, baseZ);
 
         // Phase 2: Carve out the cave using 3D noise (handles floor/ceiling organically)
-        carveCave(world, baseX, baseY, baseZ, wallMat, floorMat);
+        carveCave(blocks, baseX, baseY, baseZ, wallMat, floorMat);
 
         // Phase 3: Build floor height map for formations (without modifying blocks)
-        int[][] floorHeights = buildFloorHeightMap(world, baseX, baseY, baseZ);
+        int[][] floorHeights = buildFloorHeightMap(blocks, baseX, baseY, baseZ);
 
         // Phase 4: Add stalactites and stalagmites
-        addFormations(world, baseX, baseY, baseZ, floorHeights, accentMat);
+        addFormations(blocks, baseX, baseY, baseZ, floorHeights, accentMat);
 
         // Phase 5: Add wall irregularities
-        carveWallAlcoves(world, baseX, baseY, baseZ);
+        carveWallAlcoves(blocks, baseX, baseY, baseZ);
 
         // Phase 6: Add decorations (moss, glow lichen, etc.)
-        addDecorations(world, baseX, baseY, baseZ, theme);
+        addDecorations(blocks, baseX, baseY, baseZ, theme);
 
         // Phase 7: Create the back wall portal (full nether portal)
-        Location portalLocation = generateBackWallPortal(world, baseX, baseY, baseZ);
+        Location portalLocation = generateBackWallPortal(blocks, baseX, baseY, baseZ);
 
         // Phase 8: Create the gate at the dungeon entrance
         Location gateLocation = new Location(world, baseX, baseY + 1, baseZ + GATE_Z);
-        generateGate(gateLocation, theme);
+        generateGate(blocks, gateLocation, theme);
 
         // Phase 9: Add lighting
-        addLighting(world, baseX, baseY, baseZ);
+        addLighting(blocks, baseX, baseY, baseZ);
+
+        // Write the final states in one pass
+        blocks.flush();
 
         // Calculate key locations
         Location spawnPoint = new Location(world, baseX + 0.5, baseY + 2, baseZ + SPAWN_Z + 0.5);
@@ -121,12 +133,12 @@ public class LobbyCaveGenerator {
     /**
      * Fills the entire lobby area with stone to create the rock mass.
      */
-    private void fillArea(World world, int baseX, int baseY, int baseZ) {
+    private void fillArea(BlockWriter blocks, int baseX, int baseY, int baseZ) {
         int halfWidth = WIDTH / 2;
         for (int x = -halfWidth - 5; x <= halfWidth + 5; x++) {
             for (int z = -5; z <= DEPTH + 5; z++) {
                 for (int y = -3; y <= HEIGHT + 5; y++) {
-                    world.getBlockAt(baseX + x, baseY + y, baseZ + z).setType(Material.STONE);
+                    blocks.setType(baseX + x, baseY + y, baseZ + z, Material.STONE);
                 }
             }
         }
@@ -136,29 +148,25 @@ public class LobbyCaveGenerator {
      * Carves the main cave shape using organic 3D noise-based distance functions.
      * Creates an actual cave tunnel, not a box.
      */
-    private void carveCave(World world, int baseX, int baseY, int baseZ, Material wallMat, Material floorMat) {
+    private void carveCave(BlockWriter blocks, int baseX, int baseY, int baseZ, Material wallMat, Material floorMat) {
         int halfWidth = WIDTH / 2;
 
+        // Noise-based ceiling, floor and width for the organic shape, sampled per column in one go
+        int minX = baseX - halfWidth - 2;
+        int maxX = baseX + halfWidth + 2;
+        int minZ = baseZ - 2;
+        int maxZ = baseZ + DEPTH + 1;
+        NoiseField ceilingField = NoiseField.octave2D(noiseGenerator, minX, minZ, maxX, maxZ, 0.12, 0.12, 0, 3, 0.5, 1.0);
+        NoiseField floorField = NoiseField.octave2D(noiseGenerator, minX, minZ, maxX, maxZ, 0.15, 0.15, 100, 2, 0.5, 1.0);
+        // Width noise - makes cave wider/narrower organically
+        NoiseField widthField = NoiseField.octave2D(noiseGenerator, minX, minZ, maxX, maxZ, 0.08, 0.1, 0, 2, 0.5, 1.0);
+        NoiseField wallField = NoiseField.octave3D(noiseGenerator, minX, minZ, maxX, maxZ, baseY, 0.2, 0.15, 0.2, 2, 0.5, 1.0);
+
         for (int x = -halfWidth - 2; x <= halfWidth + 2; x++) {
             for (int z = -2; z < DEPTH + 2; z++) {
-                // Calculate noise-based ceiling and floor heights for organic shape
-                double ceilingNoise = noiseGenerator.octaveNoise2D(
-                    (baseX + x) * 0.12,
-                    (baseZ + z) * 0.12,
-                    3, 0.5, 1.0
-                );
-                double floorNoise = noiseGenerator.octaveNoise2D(
-                    (baseX + x) * 0.15 + 100,
-                    (baseZ + z) * 0.15 + 100,
-                    2, 0.5, 1.0
-                );
-
-                // Width noise - makes cave wider/narrower organically
-                double widthNoise = noiseGenerator.octaveNoise2D(
-                    (baseX + x) * 0.08,
-                    (baseZ + z) * 0.1,
-                    2, 0.5, 1.0
-                );
+                double ceilingNoise = ceilingField.get(baseX + x, baseZ + z);
+                double floorNoise = floorField.get(baseX + x, baseZ + z);
+                double widthNoise = widthField.get(baseX + x, baseZ + z);
 
                 // Base cave dimensions that vary with noise
                 double baseCaveWidth = halfWidth + widthNoise * 3; // halfWidth +/- 3 blocks
@@ -193,12 +201,7 @@ public class LobbyCaveGenerator {
                 wallBlend = Math.max(0, Math.min(1, wallBlend)) * zFactor;
 
                 // Add 3D noise for wall irregularity
-                double wallNoise3D = noiseGenerator.octaveNoise3D(
-                    (baseX + x) * 0.2,
-                    baseY * 0.15,
-                    (baseZ + z) * 0.2,
-                    2, 0.5, 1.0
-                );
+                double wallNoise3D = wallField.get(baseX + x, baseZ + z);
 
                 // Adjust blend with 3D noise for organic edges
                 wallBlend += wallNoise3D * 0.3;
@@ -211,23 +214,22 @@ public class LobbyCaveGenerator {
                 // Carve the column
                 for (int y = -2; y <= HEIGHT + 3; y++) {
                     int worldY = baseY + y;
-                    Block block = world.getBlockAt(baseX + x, worldY, baseZ + z);
 
                     if (wallBlend < 0.2) {
                         // Solid rock
-                        setWallBlock(block, wallMat, baseX + x, baseZ + z);
+                        setWallBlock(blocks, baseX + x, worldY, baseZ + z, wallMat);
                     } else if (worldY <= floorY) {
                         // Below floor - solid with variation
-                        setWallBlock(block, floorMat, baseX + x, baseZ + z);
+                        setWallBlock(blocks, baseX + x, worldY, baseZ + z, floorMat);
                     } else if (worldY >= ceilingY) {
                         // Above ceiling - solid
-                        setWallBlock(block, wallMat, baseX + x, baseZ + z);
+                        setWallBlock(blocks, baseX + x, worldY, baseZ + z, wallMat);
                     } else if (wallBlend < 0.5 && random.nextFloat() < (0.5 - wallBlend)) {
                         // Transitional zone - some blocks, some air
-                        setWallBlock(block, wallMat, baseX + x, baseZ + z);
+                        setWallBlock(blocks, baseX + x, worldY, baseZ + z, wallMat);
                     } else {
                         // Inside cave - air
-                        block.setType(Material.AIR);
+                        blocks.setType(baseX + x, worldY, baseZ + z, Material.AIR);
                     }
                 }
             }
@@ -239,16 +241,15 @@ public class LobbyCaveGenerator {
                 // Find the floor level at this position
                 int floorY = baseY;
                 for (int y = baseY + 3; y >= baseY - 1; y--) {
-                    if (world.getBlockAt(baseX + x, y, baseZ + z).getType().isSolid()) {
+                    if (blocks.isSolid(baseX + x, y, baseZ + z)) {
                         floorY = y;
                         break;
                     }
                 }
                 // Ensure 3 blocks of air above floor for walking
                 for (int y = 1; y <= 3; y++) {
-                    Block block = world.getBlockAt(baseX + x, floorY + y, baseZ + z);
-                    if (block.getType().isSolid()) {
-                        block.setType(Material.AIR);
+                    if (blocks.isSolid(baseX + x, floorY + y, baseZ + z)) {
+                        blocks.setType(baseX + x, floorY + y, baseZ + z, Material.AIR);
                     }
                 }
             }
@@ -258,16 +259,16 @@ public class LobbyCaveGenerator {
     /**
      * Sets a wall block with material variation.
      */
-    private void setWallBlock(Block block, Material baseMat, int x, int z) {
+    private void setWallBlock(BlockWriter blocks, int x, int y, int z, Material baseMat) {
         double variation = noiseGenerator.noise2D(x * 0.25, z * 0.25);
         if (variation > 0.4) {
-            block.setType(Material.COBBLESTONE);
+            blocks.setType(x, y, z, Material.COBBLESTONE);
         } else if (variation > 0.1) {
-            block.setType(baseMat);
+            blocks.setType(x, y, z, baseMat);
         } else if (variation > -0.2) {
-            block.setType(Material.ANDESITE);
+            blocks.setType(x, y, z, Material.ANDESITE);
         } else {
-            block.setType(Material.DIORITE);
+            blocks.setType(x, y, z, Material.DIORITE);
         }
     }
 
@@ -275,7 +276,7 @@ public class LobbyCaveGenerator {
      * Builds a floor height map by scanning existing blocks.
      * Does NOT modify any blocks - just reads the carved cave state.
      */
-    private int[][] buildFloorHeightMap(World world, int baseX, int baseY, int baseZ) {
+    private int[][] buildFloorHeightMap(BlockWriter blocks, int baseX, int baseY, int baseZ) {
         int halfWidth = WIDTH / 2;
         int[][] floorHeights = new int[WIDTH + 1][DEPTH];
 
@@ -284,9 +285,7 @@ public class LobbyCaveGenerator {
                 // Scan downward from expected height to find the floor
                 int floorY = baseY;
                 for (int y = baseY + 5; y >= baseY - 2; y--) {
-                    Block block = world.getBlockAt(baseX + x, y, baseZ + z);
-                    Block above = world.getBlockAt(baseX + x, y + 1, baseZ + z);
-                    if (block.getType().isSolid() && !above.getType().isSolid()) {
+                    if (blocks.isSolid(baseX + x, y, baseZ + z) && !blocks.isSolid(baseX + x, y + 1, baseZ + z)) {
                         floorY = y;
                         break;
                     }
@@ -301,7 +300,7 @@ public class LobbyCaveGenerator {
     /**
      * Adds stalactites and stalagmites.
      */
-    private void addFormations(World world, int baseX, int baseY, int baseZ, int[][] floorHeights, Material accentMat) {
+    private void addFormations(BlockWriter blocks, int baseX, int baseY, int baseZ, int[][] floorHeights, Material accentMat) {
         int halfWidth = WIDTH / 2;
 
         for (int x = -halfWidth + 2; x <= halfWidth - 2; x++) {
@@ -316,10 +315,10 @@ public class LobbyCaveGenerator {
 
                 // Stalactites (hanging from ceiling)
                 if (formationNoise > 0.4 && random.nextFloat() < 0.25) {
-                    int ceilingY = findCeiling(world, baseX + x, baseY, baseZ + z);
+                    int ceilingY = findCeiling(blocks, baseX + x, baseY, baseZ + z);
                     if (ceilingY > 0) {
                         int length = 1 + random.nextInt(3);
-                        placeStalactite(world, baseX + x, ceilingY, baseZ + z, length);
+                        placeDripstone(blocks, baseX + x, ceilingY - 1, baseZ + z, length, BlockFace.DOWN);
                     }
                 }
 
@@ -327,13 +326,13 @@ public class LobbyCaveGenerator {
                 if (formationNoise < -0.3 && random.nextFloat() < 0.2) {
                     int floorY = floorHeights[x + halfWidth][z];
                     int length = 1 + random.nextInt(2);
-                    placeStalagmite(world, baseX + x, floorY + 1, baseZ + z, length);
+                    placeDripstone(blocks, baseX + x, floorY + 1, baseZ + z, length, BlockFace.UP);
                 }
 
                 // Rock clusters
                 if (Math.abs(formationNoise) < 0.1 && random.nextFloat() < 0.1) {
                     int floorY = floorHeights[x + halfWidth][z];
-                    placeRockCluster(world, baseX + x, floorY + 1, baseZ + z, accentMat);
+                    placeRockCluster(blocks, baseX + x, floorY + 1, baseZ + z, accentMat);
                 }
             }
         }
@@ -342,10 +341,9 @@ public class LobbyCaveGenerator {
     /**
      * Finds the ceiling Y coordinate at a position.
      */
-    private int findCeiling(World world, int x, int baseY, int z) {
+    private int findCeiling(BlockWriter blocks, int x, int baseY, int z) {
         for (int y = baseY + HEIGHT - 1; y > baseY; y--) {
-            if (world.getBlockAt(x, y, z).getType() != Material.AIR &&
-                world.getBlockAt(x, y - 1, z).getType() == Material.AIR) {
+            if (!blocks.isAir(x, y, z) && blocks.isAir(x, y - 1, z)) {
                 return y;
             }
         }
@@ -353,76 +351,44 @@ public class LobbyCaveGenerator {
     }
 
     /**
-     * Places a stalactite at the given location.
+     * Places a stalactite (direction DOWN, growing from startY downwards) or a
+     * stalagmite (direction UP, growing from startY upwards).
      */
-    private void placeStalactite(World world, int x, int ceilingY, int z, int length) {
+    private void placeDripstone(BlockWriter blocks, int x, int startY, int z, int length, BlockFace direction) {
+        int step = direction == BlockFace.UP ? 1 : -1;
         for (int i = 0; i < length; i++) {
-            Block block = world.getBlockAt(x, ceilingY - i - 1, z);
-            if (block.getType() != Material.AIR) break;
+            int y = startY + i * step;
+            if (!blocks.isAir(x, y, z)) break;
 
+            PointedDripstone pd = (PointedDripstone) Material.POINTED_DRIPSTONE.createBlockData();
+            pd.setVerticalDirection(direction);
             if (i == length - 1) {
                 // Tip
-                block.setType(Material.POINTED_DRIPSTONE);
-                if (block.getBlockData() instanceof PointedDripstone pd) {
-                    pd.setVerticalDirection(BlockFace.DOWN);
-                    pd.setThickness(PointedDripstone.Thickness.TIP);
-                    block.setBlockData(pd);
-                }
+                pd.setThickness(PointedDripstone.Thickness.TIP);
             } else {
-                block.setType(Material.POINTED_DRIPSTONE);
-                if (block.getBlockData() instanceof PointedDripstone pd) {
-                    pd.setVerticalDirection(BlockFace.DOWN);
-                    pd.setThickness(i == 0 ? PointedDripstone.Thickness.BASE : PointedDripstone.Thickness.MIDDLE);
-                    block.setBlockData(pd);
-                }
-            }
-        }
-    }
-
-    /**
-     * Places a stalagmite at the given location.
-     */
-    private void placeStalagmite(World world, int x, int floorY, int z, int length) {
-        for (int i = 0; i < length; i++) {
-            Block block = world.getBlockAt(x, floorY + i, z);
-            if (block.getType() != Material.AIR) break;
-
-            if (i == length - 1) {
-                // Tip
-                block.setType(Material.POINTED_DRIPSTONE);
-                if (block.getBlockData() instanceof PointedDripstone pd) {
-                    pd.setVerticalDirection(BlockFace.UP);
-                    pd.setThickness(PointedDripstone.Thickness.TIP);
-                    block.setBlockData(pd);
-                }
-            } else {
-                block.setType(Material.POINTED_DRIPSTONE);
-                if (block.getBlockData() instanceof PointedDripstone pd) {
-                    pd.setVerticalDirection(BlockFace.UP);
-                    pd.setThickness(i == 0 ? PointedDripstone.Thickness.BASE : PointedDripstone.Thickness.MIDDLE);
-                    block.setBlockData(pd);
-                }
+                pd.setThickness(i == 0 ? PointedDripstone.Thickness.BASE : PointedDripstone.Thickness.MIDDLE);
             }
+            blocks.setBlockData(x, y, z, pd);
         }
     }
 
     /**
      * Places a small rock cluster.
      */
-    private void placeRockCluster(World world, int x, int y, int z, Material accentMat) {
-        world.getBlockAt(x, y, z).setType(accentMat);
+    private void placeRockCluster(BlockWriter blocks, int x, int y, int z, Material accentMat) {
+        blocks.setType(x, y, z, accentMat);
         if (random.nextBoolean()) {
-            world.getBlockAt(x + 1, y, z).setType(Material.COBBLESTONE);
+            blocks.setType(x + 1, y, z, Material.COBBLESTONE);
         }
         if (random.nextBoolean()) {
-            world.getBlockAt(x, y, z + 1).setType(Material.COBBLESTONE);
+            blocks.setType(x, y, z + 1, Material.COBBLESTONE);
         }
     }
 
     /**
      * Carves alcoves and bumps in the walls.
      */
-    private void carveWallAlcoves(World world, int baseX, int baseY, int baseZ) {
+    private void carveWallAlcoves(BlockWriter blocks, int baseX, int baseY, int baseZ) {
         int halfWidth = WIDTH / 2;
 
         // Process wall edges
@@ -438,7 +404,7 @@ public class LobbyCaveGenerator {
                 if (noise > 0.35) {
                     int depth = noise > 0.5 ? 2 : 1;
                     for (int d = 0; d < depth; d++) {
-                        world.getBlockAt(baseX - halfWidth + 1 + d, baseY + y, baseZ + z).setType(Material.AIR);
+                        blocks.setType(baseX - halfWidth + 1 + d, baseY + y, baseZ + z, Material.AIR);
                     }
                 }
 
@@ -451,7 +417,7 @@ public class LobbyCaveGenerator {
                 if (noise > 0.35) {
                     int depth = noise > 0.5 ? 2 : 1;
                     for (int d = 0; d < depth; d++) {
-                        world.getBlockAt(baseX + halfWidth - 1 - d, baseY + y, baseZ + z).setType(Material.AIR);
+                        blocks.setType(baseX + halfWidth - 1 - d, baseY + y, baseZ + z, Material.AIR);
                     }
                 }
             }
@@ -461,44 +427,39 @@ public class LobbyCaveGenerator {
     /**
      * Adds decorative elements like moss, glow lichen, etc.
      */
-    private void addDecorations(World world, int baseX, int baseY, int baseZ, Map<String, Material> theme) {
+    private void addDecorations(BlockWriter blocks, int baseX, int baseY, int baseZ, Map<String, Material> theme) {
         int halfWidth = WIDTH / 2;
 
         for (int x = -halfWidth; x <= halfWidth; x++) {
             for (int z = 0; z < DEPTH; z++) {
                 for (int y = 1; y < HEIGHT; y++) {
-                    Block block = world.getBlockAt(baseX + x, baseY + y, baseZ + z);
-                    if (block.getType() != Material.AIR) continue;
+                    int bx = baseX + x;
+                    int by = baseY + y;
+                    int bz = baseZ + z;
+                    if (!blocks.isAir(bx, by, bz)) continue;
 
                     // Check adjacent solid blocks for decoration placement
                     double decorNoise = random.nextDouble();
 
                     // Moss on floor edges
-                    Block below = world.getBlockAt(baseX + x, baseY + y - 1, baseZ + z);
-                    if (below.getType().isSolid() && decorNoise < 0.05) {
-                        block.setType(Material.MOSS_CARPET);
+                    if (blocks.isSolid(bx, by - 1, bz) && decorNoise < 0.05) {
+                        blocks.setType(bx, by, bz, Material.MOSS_CARPET);
                         continue;
                     }
 
                     // Glow lichen on walls (sparse)
                     if (decorNoise < 0.02) {
-                        Block north = world.getBlockAt(baseX + x, baseY + y, baseZ + z - 1);
-                        Block south = world.getBlockAt(baseX + x, baseY + y, baseZ + z + 1);
-                        Block east = world.getBlockAt(baseX + x + 1, baseY + y, baseZ + z);
-                        Block west = world.getBlockAt(baseX + x - 1, baseY + y, baseZ + z);
-
-                        if (north.getType().isSolid() || south.getType().isSolid() ||
-                            east.getType().isSolid() || west.getType().isSolid()) {
+                        if (blocks.isSolid(bx, by, bz - 1) || blocks.isSolid(bx, by, bz + 1) ||
+                            blocks.isSolid(bx + 1, by, bz) || blocks.isSolid(bx - 1, by, bz)) {
                             // Can place glow lichen
-                            block.setType(Material.GLOW_LICHEN);
+                            blocks.setType(bx, by, bz, Material.GLOW_LICHEN);
                         }
                     }
 
                     // Cobwebs in corners (very sparse)
                     if (decorNoise > 0.98 && y > 5) {
-                        Block above = world.getBlockAt(baseX + x, baseY + y + 1, baseZ + z);
-                        if (above.getType().isSolid()) {
-                            block.setType(Material.COBWEB);
+                        if (blocks.isSolid(bx, by + 1, bz)) {
+                            blocks.setType(bx, by, bz, Material.COBWEB);
                         }
                     }
                 }
@@ -510,7 +471,7 @@ public class LobbyCaveGenerator {
      * Generates the full back wall portal by finding the actual back wall of the carved cave.
      * Starts at z=2 and iterates backwards to find where air begins.
      */
-    private Location generateBackWallPortal(World world, int baseX, int baseY, int baseZ) {
+    private Location generateBackWallPortal(BlockWriter blocks, int baseX, int baseY, int baseZ) {
         int halfWidth = WIDTH / 2;
 
         // Start at z=2 and go backwards to find where air is
@@ -519,8 +480,7 @@ public class LobbyCaveGenerator {
             boolean foundAir = false;
             for (int x = -halfWidth; x <= halfWidth; x++) {
                 for (int y = 1; y <= HEIGHT; y++) {
-                    Block block = world.getBlockAt(baseX + x, baseY + y, baseZ + z);
-                    if (block.getType() == Material.AIR) {
+                    if (blocks.isAir(baseX + x, baseY + y, baseZ + z)) {
                         foundAir = true;
                         break;
                     }
@@ -541,8 +501,7 @@ public class LobbyCaveGenerator {
 
         for (int x = -halfWidth - 2; x <= halfWidth + 2; x++) {
             for (int y = 1; y <= HEIGHT + 2; y++) {
-                Block block = world.getBlockAt(baseX + x, baseY + y, portalZ);
-                if (block.getType() == Material.AIR) {
+                if (blocks.isAir(baseX + x, baseY + y, portalZ)) {
                     minX = Math.min(minX, x);
                     maxX = Math.max(maxX, x);
                     minY = Math.min(minY, y);
@@ -572,33 +531,28 @@ public class LobbyCaveGenerator {
         // Create obsidian backing behind the portal
         for (int x = minX - 1; x <= maxX + 1; x++) {
             for (int y = minY - 1; y <= maxY + 1; y++) {
-                world.getBlockAt(baseX + x, baseY + y, portalZ - 1).setType(Material.OBSIDIAN);
+                blocks.setType(baseX + x, baseY + y, portalZ - 1, Material.OBSIDIAN);
             }
         }
 
-        // Fill the portal area with nether portal blocks
+        // Fill the portal area with nether portal blocks (placed without physics, so no frame is needed)
+        BlockData data = Material.NETHER_PORTAL.createBlockData();
+        if (data instanceof Orientable orientable) {
+            orientable.setAxis(Axis.X);
+        }
         for (int x = minX; x <= maxX; x++) {
             for (int y = minY; y <= maxY; y++) {
-                Block block = world.getBlockAt(baseX + x, baseY + y, portalZ);
-                block.setType(Material.AIR); // Clear first
-                org.bukkit.block.data.BlockData data = Material.NETHER_PORTAL.createBlockData();
-                if (data instanceof org.bukkit.block.data.Orientable orientable) {
-                    orientable.setAxis(org.bukkit.Axis.X);
-                }
-                block.setBlockData(data, false);
+                blocks.setBlockData(baseX + x, baseY + y, portalZ, data);
             }
         }
 
-        return new Location(world, baseX + minX, baseY + minY, portalZ);
+        return new Location(blocks.getWorld(), baseX + minX, baseY + minY, portalZ);
     }
 
     /**
      * Generates the gate blocking the dungeon entrance.
      */
-    private void generateGate(Location gateLocation, Map<String, Material> theme) {
-        World world = gateLocation.getWorld();
-        if (world == null) return;
-
+    private void generateGate(BlockWriter blocks, Location gateLocation, Map<String, Material> theme) {
         int x = gateLocation.getBlockX();
         int y = gateLocation.getBlockY();
         int z = gateLocation.getBlockZ();
@@ -614,7 +568,7 @@ public class LobbyCaveGenerator {
                     // Inner bars
                     gateMat = Material.IRON_BARS;
                 }
-                world.getBlockAt(x + dx, y + dy, z).setType(gateMat);
+                blocks.setType(x + dx, y + dy, z, gateMat);
             }
         }
     }
@@ -622,7 +576,7 @@ public class LobbyCaveGenerator {
     /**
      * Adds lighting throughout the cave by finding the highest air block with solid above.
      */
-    private void addLighting(World world, int baseX, int baseY, int baseZ) {
+    private void addLighting(BlockWriter blocks, int baseX, int baseY, int baseZ) {
         int halfWidth = WIDTH / 2;
 
         // Place lanterns scattered throughout the cave
@@ -631,9 +585,7 @@ public class LobbyCaveGenerator {
                 // Find highest air block with solid block above it
                 int lanternY = -1;
                 for (int y = baseY + HEIGHT; y > baseY + 2; y--) {
-                    Block current = world.getBlockAt(baseX + x, y, baseZ + z);
-                    Block above = world.getBlockAt(baseX + x, y + 1, baseZ + z);
-                    if (current.getType() == Material.AIR && above.getType().isSolid()) {
+                    if (blocks.isAir(baseX + x, y, baseZ + z) && blocks.isSolid(baseX + x, y + 1, baseZ + z)) {
                         lanternY = y;
                         break;
                     }
@@ -641,9 +593,8 @@ public class LobbyCaveGenerator {
 
                 // Place lantern if valid position found
                 if (lanternY > baseY + 2 && random.nextFloat() < 0.6) {
-                    Block lanternBlock = world.getBlockAt(baseX + x, lanternY, baseZ + z);
-                    if (lanternBlock.getType() == Material.AIR) {
-                        lanternBlock.setType(Material.LANTERN);
+                    if (blocks.isAir(baseX + x, lanternY, baseZ + z)) {
+                        blocks.setType(baseX + x, lanternY, baseZ + z, Material.LANTERN);
                     }
                 }
             }
@@ -3,7 +3,9 @@ package com.zenax.dungeons.lobby;
 import com.zenax.dungeons.DungeonsAddon;
 import com.zenax.dungeons.dungeon.*;
 import com.zenax.dungeons.generation.DungeonGenerator;
+import com.zenax.dungeons.generation.DungeonPool;
 import com.zenax.dungeons.world.DungeonWorldManager;
+import com.zenax.dungeons.world.RegionAllocator;
 import com.zenax.dungeons.sound.AmbientSoundManager;
 import com.zenax.dungeons.sound.DungeonSoundEffects;
 import org.bukkit.Location;
@@ -18,7 +20,9 @@ import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.Map;
 
 /**
@@ -36,8 +40,11 @@ public class LobbyManager {
     private final Map<UUID, UUID> playerToLobby;
     private final Map<UUID, BukkitTask> lobbyCountdowns;
 
-    // Counter for lobby instance placement
+    // Counter for lobby instance placement; slots of destroyed lobbies are reused
+    // (the cave generator overwrites its whole footprint, so no clearing is needed)
     private final AtomicInteger instanceCounter = new AtomicInteger(0);
+    private final Map<UUID, Integer> lobbySlots = new ConcurrentHashMap<>();
+    private final NavigableSet<Integer> freeLobbySlots = new ConcurrentSkipListSet<>();
 
     private static final int COUNTDOWN_DURATION = 10; // seconds
     private static final int GATE_HEIGHT = 3; // blocks high
@@ -128,7 +135,8 @@ public class LobbyManager {
         }
 
         // Get base location for this lobby instance (grid-based placement)
-        int instanceIndex = instanceCounter.getAndIncrement();
+        Integer freeSlot = freeLobbySlots.pollFirst();
+        int instanceIndex = freeSlot != null ? freeSlot : instanceCounter.getAndIncrement();
         int gridX = instanceIndex % 10;
         int gridZ = instanceIndex / 10;
         Location baseLocation = new Location(lobbyWorld, gridX * 100, -20, gridZ * 100);
@@ -138,6 +146,7 @@ public class LobbyManager {
         LobbyCaveGenerator.CaveLobbyResult result = generator.generate(baseLocation, dungeon);
 
         if (result == null) {
+            freeLobbySlots.add(instanceIndex);
             plugin.getLogger().warning("Failed to generate cave lobby");
             return null;
         }
@@ -148,6 +157,7 @@ public class LobbyManager {
 
         lobby.setBackPortalCorner(result.getPortalLocation());
         activeLobbies.put(lobby.getInstanceId(), lobby);
+        lobbySlots.put(lobby.getInstanceId(), instanceIndex);
 
         // Pre-add all party members to the lobby
         for (UUID playerUuid : partyMembers) {
@@ -393,6 +403,11 @@ public class LobbyManager {
             return false;
         }
 
+        Integer slot = lobbySlots.remove(instanceId);
+        if (slot != null) {
+            freeLobbySlots.add(slot);
+        }
+
         // Cancel any active countdown
         BukkitTask countdown = lobbyCountdowns.remove(instanceId);
         if (countdown != null) {
@@ -699,67 +714,62 @@ public class LobbyManager {
         // Open gate
         openGate(lobby);
 
-        // Broadcast generating message
-        broadcastToLobby(lobby, "§6§lGENERATING DUNGEON...");
-        broadcastToLobby(lobby, "§7Please wait while the dungeon is being created.");
-
-        // Get the dungeon generator and generate asynchronously
-        DungeonGenerator generator = DungeonsAddon.getInstance().getDungeonGenerator();
-        World world = lobby.getSpawnPoint().getWorld();
-        Location dungeonOrigin = lobby.getDungeonEntranceLocation().clone().add(0, 0, 10);
-
         // Capture lobby data before async operation
         Set<UUID> playerUuids = new HashSet<>(lobby.getPlayersInLobby());
         DungeonDifficulty difficulty = lobby.getSelectedDifficulty();
         ObjectiveMode objectiveMode = lobby.getSelectedObjectiveMode();
         UUID lobbyInstanceId = lobby.getInstanceId();
+        DungeonGenerator generator = DungeonsAddon.getInstance().getDungeonGenerator();
 
-        generator.generateDungeonAsync(template, world, dungeonOrigin,
-            // Progress callback
-            progress -> {
-                int percent = (int) (progress * 100);
-                if (percent % 25 == 0) {
-                    for (UUID uuid : playerUuids) {
-                        Player p = plugin.getServer().getPlayer(uuid);
-                        if (p != null && p.isOnline()) {
-                            p.sendMessage("§7Generation progress: §e" + percent + "%");
-                        }
-                    }
-                }
-            },
-            // Completion callback
-            instance -> {
-                if (instance == null) {
-                    for (UUID uuid : playerUuids) {
-                        Player p = plugin.getServer().getPlayer(uuid);
-                        if (p != null && p.isOnline()) {
-                            p.sendMessage("§cFailed to generate dungeon!");
-                        }
-                    }
-                    plugin.getLogger().severe("Failed to generate dungeon for lobby: " + lobbyInstanceId);
-                    return;
-                }
+        // Hand out a pre-generated dungeon if one is ready
+        DungeonPool pool = DungeonsAddon.getInstance().getDungeonPool();
+        DungeonGenerator.PreparedDungeon pooled = pool != null ? pool.take(template, difficulty) : null;
+        if (pooled != null) {
+            DungeonInstance instance = generator.createInstance(pooled, difficulty, objectiveMode);
+            enterDungeon(instance, playerUuids, difficulty, objectiveMode, lobbyInstanceId);
+            destroyLobby(lobby);
+            return instance;
+        }
 
-                // Update instance with selected settings
-                instance.setState(DungeonState.ACTIVE);
+        // Broadcast generating message
+        broadcastToLobby(lobby, "§6§lGENERATING DUNGEON...");
+        broadcastToLobby(lobby, "§7Please wait while the dungeon is being created.");
 
-                // Teleport all players to dungeon spawn
-                Location spawnPoint = instance.getSpawnPoint();
+        // Generate asynchronously in a region of its own (or next to the lobby outside the dungeon world)
+        Consumer<Double> progressCallback = progress -> {
+            int percent = (int) (progress * 100);
+            if (percent % 25 == 0) {
                 for (UUID uuid : playerUuids) {
-                    Player player = plugin.getServer().getPlayer(uuid);
-                    if (player != null && player.isOnline()) {
-                        dungeonManager.addPlayerToInstance(player, instance);
-                        player.teleport(spawnPoint);
-                        player.sendMessage("§aThe dungeon has begun! Good luck!");
-                        player.sendMessage("§eObjective: §f" + objectiveMode.getDisplayName());
-                        player.sendMessage("§eDifficulty: " + difficulty.getColoredDisplayName());
+                    Player p = plugin.getServer().getPlayer(uuid);
+                    if (p != null && p.isOnline()) {
+                        p.sendMessage("§7Generation progress: §e" + percent + "%");
                     }
                 }
-
-                plugin.getLogger().info("Started dungeon for lobby " + lobbyInstanceId +
-                                       " (Instance: " + instance.getInstanceId() + ")");
             }
-        );
+        };
+        Consumer<DungeonInstance> completionCallback = instance -> {
+            if (instance == null) {
+                for (UUID uuid : playerUuids) {
+                    Player p = plugin.getServer().getPlayer(uuid);
+                    if (p != null && p.isOnline()) {
+                        p.sendMessage("§cFailed to generate dungeon!");
+                    }
+                }
+                plugin.getLogger().severe("Failed to generate dungeon for lobby: " + lobbyInstanceId);
+                return;
+            }
+
+            enterDungeon(instance, playerUuids, difficulty, objectiveMode, lobbyInstanceId);
+        };
+
+        RegionAllocator allocator = worldManager != null ? worldManager.getRegionAllocator() : null;
+        if (allocator != null) {
+            generator.generateDungeonAsync(template, allocator, progressCallback, completionCallback);
+        } else {
+            World world = lobby.getSpawnPoint().getWorld();
+            Location dungeonOrigin = lobby.getDungeonEntranceLocation().clone().add(0, 0, 10);
+            generator.generateDungeonAsync(template, world, dungeonOrigin, progressCallback, completionCallback);
+        }
 
         // Destroy the lobby (players will be teleported when generation completes)
         destroyLobby(lobby);
@@ -767,6 +777,37 @@ public class LobbyManager {
         return null; // Instance is created asynchronously
     }
 
+    /**
+     * Activates a ready dungeon instance and teleports the lobby's players into it.
+     *
+     * @param instance The instance to enter
+     * @param playerUuids The players from the lobby
+     * @param difficulty The selected difficulty
+     * @param objectiveMode The selected objective mode
+     * @param lobbyInstanceId The lobby the players came from
+     */
+    private void enterDungeon(DungeonInstance instance, Set<UUID> playerUuids, DungeonDifficulty difficulty,
+                              ObjectiveMode objectiveMode, UUID lobbyInstanceId) {
+        // Start the run (tracks the instance and arms its time limit)
+        dungeonManager.activateInstance(instance);
+
+        // Teleport all players to dungeon spawn
+        Location spawnPoint = instance.getSpawnPoint();
+        for (UUID uuid : playerUuids) {
+            Player player = plugin.getServer().getPlayer(uuid);
+            if (player != null && player.isOnline()) {
+                dungeonManager.addPlayerToInstance(player, instance);
+                player.teleport(spawnPoint);
+                player.sendMessage("§aThe dungeon has begun! Good luck!");
+                player.sendMessage("§eObjective: §f" + objectiveMode.getDisplayName());
+                player.sendMessage("§eDifficulty: " + difficulty.getColoredDisplayName());
+            }
+        }
+
+        plugin.getLogger().info("Started dungeon for lobby " + lobbyInstanceId +
+                               " (Instance: " + instance.getInstanceId() + ")");
+    }
+
     /**
      * Gets a lobby by its instance ID.
      *
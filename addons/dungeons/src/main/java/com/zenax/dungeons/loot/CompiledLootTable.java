@@ -0,0 +1,116 @@
+package com.zenax.dungeons.loot;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A loot table's valid entries for one difficulty and luck level, compiled into an
+ * alias table (Vose's method) so each roll costs one random index and one coin flip
+ * regardless of how many entries the table has.
+ *
+ * Immutable once built; safe to share between threads.
+ */
+final class CompiledLootTable {
+    private final LootEntry[] entries;
+    // Chance of keeping column i; otherwise the roll goes to alias[i]
+    private final double[] probability;
+    private final int[] alias;
+
+    private CompiledLootTable(LootEntry[] entries, double[] probability, int[] alias) {
+        this.entries = entries;
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * Builds the alias table for a set of entries.
+     *
+     * @param valid Entries whose conditions are met
+     * @param luckModifier Luck used for the effective weights
+     * @return The compiled table
+     */
+    static CompiledLootTable compile(List<LootEntry> valid, double luckModifier) {
+        int n = valid.size();
+        LootEntry[] entries = valid.toArray(new LootEntry[0]);
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+
+        double totalWeight = 0;
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = Math.max(0, entries[i].getEffectiveWeight(luckModifier));
+            totalWeight += weights[i];
+        }
+
+        if (totalWeight <= 0) {
+            // No usable weights: every entry is equally likely
+            Arrays.fill(probability, 1.0);
+            for (int i = 0; i < n; i++) {
+                alias[i] = i;
+            }
+            return new CompiledLootTable(entries, probability, alias);
+        }
+
+        // Scale so the average column holds exactly 1, then pair short columns with tall ones
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / totalWeight;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Leftovers are 1 up to floating point error
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+
+        return new CompiledLootTable(entries, probability, alias);
+    }
+
+    /**
+     * Checks if no entry can be rolled.
+     *
+     * @return true if the table is empty
+     */
+    boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    /**
+     * Rolls one entry.
+     *
+     * @param random Random instance
+     * @return The selected entry
+     */
+    LootEntry sample(Random random) {
+        int column = random.nextInt(entries.length);
+        return random.nextDouble() < probability[column] ? entries[column] : entries[alias[column]];
+    }
+}
@@ -21,6 +21,8 @@ public class LootEntry {
     private final List<String> conditions;
     private final String displayName;
     private final List<String> lore;
+    // Built once on first use; generated items are clones with their own amount
+    private volatile ItemStack template;
 
     /**
      * Creates a new loot entry.
@@ -184,8 +186,28 @@ public class LootEntry {
             amount = (int) Math.ceil(amount * luckModifier);
         }
 
-        amount = Math.min(material.getMaxStackSize(), amount);
-        ItemStack item = new ItemStack(material, amount);
+        ItemStack item = getTemplate().clone();
+        item.setAmount(Math.min(material.getMaxStackSize(), amount));
+        return item;
+    }
+
+    /**
+     * Gets the pre-built item for this entry, with its name and lore applied.
+     * Callers must clone it before handing it out.
+     *
+     * @return The shared template item
+     */
+    ItemStack getTemplate() {
+        ItemStack built = template;
+        if (built == null) {
+            built = buildTemplate();
+            template = built;
+        }
+        return built;
+    }
+
+    private ItemStack buildTemplate() {
+        ItemStack item = new ItemStack(material);
 
         // Apply custom name and lore if present
         if (displayName != null || !lore.isEmpty()) {
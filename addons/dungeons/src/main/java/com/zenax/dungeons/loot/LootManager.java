@@ -61,6 +61,7 @@ public class LootManager {
                     LootTable table = LootTable.fromConfig(tableId, tableSection);
 
                     if (table != null) {
+                        table.precompile();
                         lootTables.put(tableId, table);
                         addon.info("Loaded loot table: " + tableId + " (" + table.getEntryCount() + " entries)");
                     } else {
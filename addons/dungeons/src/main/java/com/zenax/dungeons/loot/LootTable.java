@@ -5,17 +5,25 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a collection of loot entries with roll mechanics.
  * Loot tables determine what items are dropped from dungeon sources.
+ *
+ * Rolls are drawn from alias tables compiled per difficulty and luck bucket
+ * (see {@link CompiledLootTable}), so generating loot never re-filters or re-weighs entries.
  */
 public class LootTable {
+    /** Luck values within this step share one compiled table */
+    private static final double LUCK_STEP = 0.05;
+
     private final String id;
     private final List<LootEntry> entries;
     private final int minRolls;
     private final int maxRolls;
     private final boolean guaranteedDrop;
+    private final Map<CompileKey, CompiledLootTable> compiled;
 
     /**
      * Creates a new loot table.
@@ -32,6 +40,7 @@ public class LootTable {
         this.minRolls = Math.max(0, minRolls);
         this.maxRolls = Math.max(this.minRolls, maxRolls);
         this.guaranteedDrop = guaranteedDrop;
+        this.compiled = new ConcurrentHashMap<>();
     }
 
     /**
@@ -90,19 +99,8 @@ public class LootTable {
     public List<ItemStack> generateLoot(Random random, double luckModifier, DungeonDifficulty difficulty) {
         List<ItemStack> loot = new ArrayList<>();
 
-        if (entries.isEmpty()) {
-            return loot;
-        }
-
-        // Filter entries by conditions
-        List<LootEntry> validEntries = new ArrayList<>();
-        for (LootEntry entry : entries) {
-            if (entry.meetsConditions(difficulty)) {
-                validEntries.add(entry);
-            }
-        }
-
-        if (validEntries.isEmpty()) {
+        CompiledLootTable table = getCompiled(difficulty, luckModifier);
+        if (table.isEmpty()) {
             return loot;
         }
 
@@ -119,23 +117,17 @@ public class LootTable {
 
         // Perform rolls
         for (int i = 0; i < rolls; i++) {
-            LootEntry selectedEntry = selectEntry(validEntries, random, luckModifier);
-            if (selectedEntry != null) {
-                ItemStack item = selectedEntry.generateItem(random, luckModifier);
-                if (item != null && item.getType() != org.bukkit.Material.AIR) {
-                    loot.add(item);
-                }
+            ItemStack item = table.sample(random).generateItem(random, luckModifier);
+            if (item != null && item.getType() != org.bukkit.Material.AIR) {
+                loot.add(item);
             }
         }
 
         // Guarantee at least one item if enabled
-        if (guaranteedDrop && loot.isEmpty() && !validEntries.isEmpty()) {
-            LootEntry fallbackEntry = selectEntry(validEntries, random, luckModifier);
-            if (fallbackEntry != null) {
-                ItemStack item = fallbackEntry.generateItem(random, luckModifier);
-                if (item != null && item.getType() != org.bukkit.Material.AIR) {
-                    loot.add(item);
-                }
+        if (guaranteedDrop && loot.isEmpty()) {
+            ItemStack item = table.sample(random).generateItem(random, luckModifier);
+            if (item != null && item.getType() != org.bukkit.Material.AIR) {
+                loot.add(item);
             }
         }
 
@@ -143,41 +135,36 @@ public class LootTable {
     }
 
     /**
-     * Selects a random entry based on weights and luck.
-     *
-     * @param entries List of valid entries
-     * @param random Random instance
-     * @param luckModifier Luck modifier
-     * @return The selected entry, or null if none
+     * Compiles the alias tables and item templates for every difficulty at its own
+     * loot multiplier, so the first chest of a run doesn't pay for it.
      */
-    private LootEntry selectEntry(List<LootEntry> entries, Random random, double luckModifier) {
-        if (entries.isEmpty()) {
-            return null;
+    public void precompile() {
+        for (DungeonDifficulty difficulty : DungeonDifficulty.values()) {
+            getCompiled(difficulty, difficulty.getLootMultiplier());
         }
-
-        // Calculate total weight
-        double totalWeight = 0;
         for (LootEntry entry : entries) {
-            totalWeight += entry.getEffectiveWeight(luckModifier);
+            entry.getTemplate();
         }
+    }
 
-        if (totalWeight <= 0) {
-            return entries.get(random.nextInt(entries.size()));
-        }
-
-        // Weighted random selection
-        double roll = random.nextDouble() * totalWeight;
-        double currentWeight = 0;
-
-        for (LootEntry entry : entries) {
-            currentWeight += entry.getEffectiveWeight(luckModifier);
-            if (roll <= currentWeight) {
-                return entry;
+    /**
+     * Gets the compiled table for a difficulty and luck, building it on first use.
+     *
+     * @param difficulty Dungeon difficulty for condition checking
+     * @param luckModifier Luck modifier, rounded to its bucket
+     * @return The compiled table
+     */
+    private CompiledLootTable getCompiled(DungeonDifficulty difficulty, double luckModifier) {
+        int bucket = (int) Math.round(luckModifier / LUCK_STEP);
+        return compiled.computeIfAbsent(new CompileKey(difficulty, bucket), key -> {
+            List<LootEntry> validEntries = new ArrayList<>();
+            for (LootEntry entry : entries) {
+                if (entry.meetsConditions(difficulty)) {
+                    validEntries.add(entry);
+                }
             }
-        }
-
-        // Fallback (should rarely happen due to floating point)
-        return entries.get(entries.size() - 1);
+            return CompiledLootTable.compile(validEntries, bucket * LUCK_STEP);
+        });
     }
 
     /**
@@ -264,4 +251,7 @@ public class LootTable {
                ", guaranteed=" + guaranteedDrop +
                '}';
     }
+
+    private record CompileKey(DungeonDifficulty difficulty, int luckBucket) {
+    }
 }
@@ -5,7 +5,7 @@ import net.kyori.adventure.text.Component;
 
 /**
  * Interface representing a dungeon objective that players must complete.
- * Objectives track progress and can be updated based on game events.
+ * Objectives track progress and are updated by typed {@link ObjectiveEvent}s.
  */
 public interface DungeonObjective {
 
@@ -46,13 +46,14 @@ public interface DungeonObjective {
     double getProgress();
 
     /**
-     * Updates the objective based on game events.
-     * This method is called when relevant events occur in the dungeon.
+     * Updates the objective from a dungeon event.
+     * Only called for incomplete objectives, with events of this objective's type.
      *
      * @param instance The dungeon instance
-     * @param context Additional context data specific to the objective type
+     * @param event The event that happened
+     * @return true if the objective's progress changed
      */
-    void update(DungeonInstance instance, Object... context);
+    boolean handle(DungeonInstance instance, ObjectiveEvent event);
 
     /**
      * Gets a formatted component for displaying this objective in the UI.
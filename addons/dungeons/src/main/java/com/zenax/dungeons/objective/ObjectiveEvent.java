@@ -0,0 +1,83 @@
+package com.zenax.dungeons.objective;
+
+import java.util.UUID;
+
+/**
+ * Something that happened inside a dungeon instance that objectives may react to.
+ * Events are pushed through {@link ObjectiveManager#post} as they happen, so objectives
+ * never have to re-derive their progress by polling.
+ */
+public sealed interface ObjectiveEvent {
+
+    /**
+     * Gets the objective type this event is relevant to.
+     *
+     * @return The objective type
+     */
+    ObjectiveType getType();
+
+    /**
+     * A dungeon mob (or the boss) died.
+     *
+     * @param mobUuid The entity UUID
+     * @param roomId The room the mob belonged to (may be null)
+     * @param boss true if it was the instance's boss
+     */
+    record MobKilled(UUID mobUuid, String roomId, boolean boss) implements ObjectiveEvent {
+        @Override
+        public ObjectiveType getType() {
+            return boss ? ObjectiveType.KILL_BOSS : ObjectiveType.CLEAR_ROOMS;
+        }
+    }
+
+    /**
+     * The instance's boss entered a new phase.
+     *
+     * @param bossUuid The boss entity UUID
+     * @param phase The phase number entered
+     */
+    record BossPhaseChanged(UUID bossUuid, int phase) implements ObjectiveEvent {
+        @Override
+        public ObjectiveType getType() {
+            return ObjectiveType.KILL_BOSS;
+        }
+    }
+
+    /**
+     * The last mob of a room died.
+     *
+     * @param roomId The cleared room
+     */
+    record RoomCleared(String roomId) implements ObjectiveEvent {
+        @Override
+        public ObjectiveType getType() {
+            return ObjectiveType.CLEAR_ROOMS;
+        }
+    }
+
+    /**
+     * A player picked up an objective item.
+     *
+     * @param playerUuid The player
+     * @param itemId The collected item's identifier
+     */
+    record ItemCollected(UUID playerUuid, String itemId) implements ObjectiveEvent {
+        @Override
+        public ObjectiveType getType() {
+            return ObjectiveType.COLLECT_ITEMS;
+        }
+    }
+
+    /**
+     * A player activated an altar.
+     *
+     * @param playerUuid The player
+     * @param altarId The altar's identifier
+     */
+    record AltarActivated(UUID playerUuid, String altarId) implements ObjectiveEvent {
+        @Override
+        public ObjectiveType getType() {
+            return ObjectiveType.ACTIVATE_ALTARS;
+        }
+    }
+}
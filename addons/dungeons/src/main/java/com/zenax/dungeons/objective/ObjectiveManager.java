@@ -34,6 +34,7 @@ public class ObjectiveManager {
     public void registerObjective(DungeonInstance instance, DungeonObjective objective) {
         UUID instanceId = instance.getInstanceId();
         instanceObjectives.computeIfAbsent(instanceId, k -> new ArrayList<>()).add(objective);
+        instance.addObjective(objective.getId(), objective.isComplete());
     }
 
     /**
@@ -43,44 +44,37 @@ public class ObjectiveManager {
      * @param objectives The objectives to register
      */
     public void registerObjectives(DungeonInstance instance, List<DungeonObjective> objectives) {
-        UUID instanceId = instance.getInstanceId();
-        instanceObjectives.computeIfAbsent(instanceId, k -> new ArrayList<>()).addAll(objectives);
-    }
-
-    /**
-     * Updates objectives of a specific type for a dungeon instance.
-     *
-     * @param instance The dungeon instance
-     * @param type The type of objectives to update
-     * @param context Additional context for the update
-     */
-    public void updateObjectives(DungeonInstance instance, ObjectiveType type, Object... context) {
-        List<DungeonObjective> objectives = getObjectives(instance);
-        if (objectives.isEmpty()) {
-            return;
+        for (DungeonObjective objective : objectives) {
+            registerObjective(instance, objective);
         }
-
-        // Filter and update objectives of the specified type
-        objectives.stream()
-            .filter(obj -> obj.getType() == type && !obj.isComplete())
-            .forEach(obj -> obj.update(instance, context));
     }
 
     /**
-     * Updates all objectives for a dungeon instance, regardless of type.
+     * Delivers an event to the instance's incomplete objectives of the event's type.
+     * Objectives completed by it are marked on the instance and announced.
      *
      * @param instance The dungeon instance
-     * @param context Additional context for the update
+     * @param event The event that happened
+     * @return true if at least one objective was completed
      */
-    public void updateAllObjectives(DungeonInstance instance, Object... context) {
-        List<DungeonObjective> objectives = getObjectives(instance);
-        if (objectives.isEmpty()) {
-            return;
+    public boolean post(DungeonInstance instance, ObjectiveEvent event) {
+        List<DungeonObjective> objectives = instanceObjectives.get(instance.getInstanceId());
+        if (objectives == null) {
+            return false;
         }
 
-        objectives.stream()
-            .filter(obj -> !obj.isComplete())
-            .forEach(obj -> obj.update(instance, context));
+        boolean completed = false;
+        for (DungeonObjective objective : objectives) {
+            if (objective.getType() != event.getType() || objective.isComplete()) {
+                continue;
+            }
+            if (objective.handle(instance, event) && objective.isComplete()) {
+                instance.completeObjective(objective.getId());
+                broadcastObjectiveComplete(instance, objective);
+                completed = true;
+            }
+        }
+        return completed;
     }
 
     /**
@@ -2,8 +2,8 @@ package com.zenax.dungeons.objective.impl;
 
 import com.zenax.dungeons.dungeon.DungeonInstance;
 import com.zenax.dungeons.objective.AbstractObjective;
+import com.zenax.dungeons.objective.ObjectiveEvent;
 import com.zenax.dungeons.objective.ObjectiveType;
-import org.bukkit.Location;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -35,44 +35,20 @@ public class ActivateAltarsObjective extends AbstractObjective {
     }
 
     @Override
-    public void update(DungeonInstance instance, Object... context) {
-        // Context[0] should be the altar ID or location identifier
-        if (context.length == 0) {
-            return;
+    public boolean handle(DungeonInstance instance, ObjectiveEvent event) {
+        if (!(event instanceof ObjectiveEvent.AltarActivated activated)) {
+            return false;
         }
 
-        String altarId = null;
-
-        // Accept either String ID or Location
-        if (context[0] instanceof String) {
-            altarId = (String) context[0];
-        } else if (context[0] instanceof Location) {
-            Location location = (Location) context[0];
-            altarId = locationToId(location);
+        if (activated.altarId() == null || !activatedAltars.add(activated.altarId())) {
+            return false;
         }
 
-        if (altarId != null && !activatedAltars.contains(altarId)) {
-            activatedAltars.add(altarId);
-
-            // Check if objective is complete
-            if (activatedAltars.size() >= requiredAltars) {
-                setComplete(true);
-            }
+        // Check if objective is complete
+        if (activatedAltars.size() >= requiredAltars) {
+            setComplete(true);
         }
-    }
-
-    /**
-     * Converts a location to a unique identifier string.
-     *
-     * @param location The location
-     * @return A unique identifier for the location
-     */
-    private String locationToId(Location location) {
-        return String.format("%d,%d,%d",
-            location.getBlockX(),
-            location.getBlockY(),
-            location.getBlockZ()
-        );
+        return true;
     }
 
     /**
@@ -2,6 +2,7 @@ package com.zenax.dungeons.objective.impl;
 
 import com.zenax.dungeons.dungeon.DungeonInstance;
 import com.zenax.dungeons.objective.AbstractObjective;
+import com.zenax.dungeons.objective.ObjectiveEvent;
 import com.zenax.dungeons.objective.ObjectiveType;
 
 import java.util.HashSet;
@@ -40,25 +41,22 @@ public class ClearRoomsObjective extends AbstractObjective {
     }
 
     @Override
-    public void update(DungeonInstance instance, Object... context) {
-        // Context[0] should be the room ID that was cleared
-        if (context.length == 0) {
-            return;
+    public boolean handle(DungeonInstance instance, ObjectiveEvent event) {
+        if (!(event instanceof ObjectiveEvent.RoomCleared cleared)) {
+            return false;
         }
+        String roomId = cleared.roomId();
 
-        if (context[0] instanceof String) {
-            String roomId = (String) context[0];
-
-            // Check if this is a required room and hasn't been cleared yet
-            if (requiredRooms.contains(roomId) && !clearedRooms.contains(roomId)) {
-                clearedRooms.add(roomId);
+        // Check if this is a required room and hasn't been cleared yet
+        if (!requiredRooms.contains(roomId) || !clearedRooms.add(roomId)) {
+            return false;
+        }
 
-                // Check if objective is complete
-                if (clearedRooms.size() >= requiredRooms.size()) {
-                    setComplete(true);
-                }
-            }
+        // Check if objective is complete
+        if (clearedRooms.size() >= requiredRooms.size()) {
+            setComplete(true);
         }
+        return true;
     }
 
     /**
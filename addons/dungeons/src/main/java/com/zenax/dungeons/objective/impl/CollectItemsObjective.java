@@ -2,6 +2,7 @@ package com.zenax.dungeons.objective.impl;
 
 import com.zenax.dungeons.dungeon.DungeonInstance;
 import com.zenax.dungeons.objective.AbstractObjective;
+import com.zenax.dungeons.objective.ObjectiveEvent;
 import com.zenax.dungeons.objective.ObjectiveType;
 
 /**
@@ -34,31 +35,19 @@ public class CollectItemsObjective extends AbstractObjective {
     }
 
     @Override
-    public void update(DungeonInstance instance, Object... context) {
-        // Context[0] should be the item ID that was picked up
-        // Context[1] should be the amount (optional, defaults to 1)
-        if (context.length == 0) {
-            return;
+    public boolean handle(DungeonInstance instance, ObjectiveEvent event) {
+        // Each pickup event counts as one item
+        if (!(event instanceof ObjectiveEvent.ItemCollected collected) || !itemId.equals(collected.itemId())) {
+            return false;
         }
 
-        if (context[0] instanceof String) {
-            String pickedUpItemId = (String) context[0];
+        collectedAmount = Math.min(collectedAmount + 1, requiredAmount);
 
-            // Check if this is the item we're looking for
-            if (itemId.equals(pickedUpItemId)) {
-                int amount = 1;
-                if (context.length > 1 && context[1] instanceof Integer) {
-                    amount = (Integer) context[1];
-                }
-
-                collectedAmount = Math.min(collectedAmount + amount, requiredAmount);
-
-                // Check if objective is complete
-                if (collectedAmount >= requiredAmount) {
-                    setComplete(true);
-                }
-            }
+        // Check if objective is complete
+        if (collectedAmount >= requiredAmount) {
+            setComplete(true);
         }
+        return true;
     }
 
     /**
@@ -2,10 +2,8 @@ package com.zenax.dungeons.objective.impl;
 
 import com.zenax.dungeons.dungeon.DungeonInstance;
 import com.zenax.dungeons.objective.AbstractObjective;
+import com.zenax.dungeons.objective.ObjectiveEvent;
 import com.zenax.dungeons.objective.ObjectiveType;
-import org.bukkit.entity.Entity;
-
-import java.util.UUID;
 
 /**
  * Objective that requires killing a specific boss.
@@ -34,33 +32,17 @@ public class KillBossObjective extends AbstractObjective {
     }
 
     @Override
-    public void update(DungeonInstance instance, Object... context) {
-        // Check if boss is defeated via instance method
-        if (instance.isBossDefeated()) {
-            killed = true;
-            setComplete(true);
-            return;
+    public boolean handle(DungeonInstance instance, ObjectiveEvent event) {
+        // A boss that despawned or was removed counts as defeated too
+        boolean defeated = (event instanceof ObjectiveEvent.MobKilled mobKilled && mobKilled.boss())
+            || instance.isBossDefeated();
+        if (!defeated) {
+            return false;
         }
 
-        // Alternatively, check via context if a boss UUID is provided
-        if (context.length > 0 && context[0] instanceof UUID) {
-            UUID killedBossUuid = (UUID) context[0];
-
-            // Check if the killed boss matches the instance boss
-            if (killedBossUuid.equals(instance.getBossUuid())) {
-                killed = true;
-                setComplete(true);
-            }
-        }
-
-        // Additional check: if context contains boss ID string
-        if (context.length > 0 && context[0] instanceof String) {
-            String killedBossId = (String) context[0];
-            if (targetBossId.equals(killedBossId)) {
-                killed = true;
-                setComplete(true);
-            }
-        }
+        killed = true;
+        setComplete(true);
+        return true;
     }
 
     /**
@@ -1,28 +1,42 @@
 package com.zenax.dungeons.stats;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * Holds stat values and modifiers for a player or entity.
  * Manages both base stats and dynamic modifiers.
+ *
+ * Effective values are cached per stat and only recomputed when a base value or one of the
+ * stat's modifiers changes, so combat lookups don't walk the modifier list. Expired modifiers
+ * are dropped once the earliest expiry deadline passes.
  */
 public class StatProfile {
     private final Map<Stat, Double> baseStats;
     private final List<StatModifier> modifiers;
 
+    // Cached aggregates, recomputed per stat only when its base value or modifiers change
+    private final Map<Stat, double[]> modifierSums; // {flat, percent}
+    private final Map<Stat, Double> effectiveStats;
+    // Earliest expiry among timed modifiers (Long.MAX_VALUE if none)
+    private long nextExpiry;
+
     /**
      * Creates a new StatProfile with default values for all stats.
      */
     public StatProfile() {
-        this.baseStats = new ConcurrentHashMap<>();
-        this.modifiers = new CopyOnWriteArrayList<>();
+        this.baseStats = new EnumMap<>(Stat.class);
+        this.modifiers = new ArrayList<>();
+        this.modifierSums = new EnumMap<>(Stat.class);
+        this.effectiveStats = new EnumMap<>(Stat.class);
+        this.nextExpiry = Long.MAX_VALUE;
 
         // Initialize all stats with their default values
         for (Stat stat : Stat.values()) {
             baseStats.put(stat, stat.getDefaultValue());
+            modifierSums.put(stat, new double[2]);
+            refreshEffective(stat);
         }
     }
 
@@ -32,7 +46,7 @@ public class StatProfile {
      * @param stat The stat to query
      * @return The base value
      */
-    public double getBaseStat(Stat stat) {
+    public synchronized double getBaseStat(Stat stat) {
         return baseStats.getOrDefault(stat, stat.getDefaultValue());
     }
 
@@ -42,41 +56,22 @@ public class StatProfile {
      * @param stat The stat to set
      * @param value The new base value
      */
-    public void setBaseStat(Stat stat, double value) {
+    public synchronized void setBaseStat(Stat stat, double value) {
         baseStats.put(stat, value);
+        refreshEffective(stat);
     }
 
     /**
      * Gets the effective value of a stat (base + all modifiers).
      * Applies flat modifiers first, then percentage modifiers.
+     * The value is cached; only modifier changes and expiries recompute it.
      *
      * @param stat The stat to calculate
      * @return The effective value after all modifiers
      */
-    public double getEffectiveStat(Stat stat) {
-        double base = getBaseStat(stat);
-        double flatBonus = 0.0;
-        double percentBonus = 0.0;
-
-        // Clear expired modifiers before calculation
+    public synchronized double getEffectiveStat(Stat stat) {
         clearExpiredModifiers();
-
-        // Sum up all modifiers for this stat
-        for (StatModifier modifier : modifiers) {
-            if (modifier.getStat() == stat) {
-                if (modifier.getType() == ModifierType.FLAT) {
-                    flatBonus += modifier.getValue();
-                } else if (modifier.getType() == ModifierType.PERCENT) {
-                    percentBonus += modifier.getValue();
-                }
-            }
-        }
-
-        // Apply flat modifiers first, then percentage
-        double result = base + flatBonus;
-        result = result * (1.0 + percentBonus);
-
-        return Math.max(0, result); // Ensure non-negative result
+        return effectiveStats.get(stat);
     }
 
     /**
@@ -84,12 +79,9 @@ public class StatProfile {
      *
      * @return A map of all stats to their effective values
      */
-    public Map<Stat, Double> getAllEffectiveStats() {
-        Map<Stat, Double> result = new EnumMap<>(Stat.class);
-        for (Stat stat : Stat.values()) {
-            result.put(stat, getEffectiveStat(stat));
-        }
-        return result;
+    public synchronized Map<Stat, Double> getAllEffectiveStats() {
+        clearExpiredModifiers();
+        return new EnumMap<>(effectiveStats);
     }
 
     /**
@@ -97,9 +89,13 @@ public class StatProfile {
      *
      * @param modifier The modifier to add
      */
-    public void addModifier(StatModifier modifier) {
+    public synchronized void addModifier(StatModifier modifier) {
         if (modifier != null) {
             modifiers.add(modifier);
+            recompute(modifier.getStat());
+            if (!modifier.isPermanent()) {
+                nextExpiry = Math.min(nextExpiry, modifier.getExpiresAt());
+            }
         }
     }
 
@@ -109,8 +105,8 @@ public class StatProfile {
      * @param modifierId The ID of the modifier to remove
      * @return true if a modifier was removed, false otherwise
      */
-    public boolean removeModifier(String modifierId) {
-        return modifiers.removeIf(m -> m.getId().equals(modifierId));
+    public synchronized boolean removeModifier(String modifierId) {
+        return removeMatching(m -> m.getId().equals(modifierId)) > 0;
     }
 
     /**
@@ -119,17 +115,8 @@ public class StatProfile {
      * @param source The source to match
      * @return The number of modifiers removed
      */
-    public int removeModifiersBySource(String source) {
-        int removed = 0;
-        Iterator<StatModifier> iterator = modifiers.iterator();
-        while (iterator.hasNext()) {
-            StatModifier modifier = iterator.next();
-            if (modifier.getSource().equals(source)) {
-                iterator.remove();
-                removed++;
-            }
-        }
-        return removed;
+    public synchronized int removeModifiersBySource(String source) {
+        return removeMatching(m -> m.getSource().equals(source));
     }
 
     /**
@@ -138,42 +125,59 @@ public class StatProfile {
      * @param stat The stat to match
      * @return The number of modifiers removed
      */
-    public int removeModifiersByStat(Stat stat) {
-        int removed = 0;
-        Iterator<StatModifier> iterator = modifiers.iterator();
-        while (iterator.hasNext()) {
-            StatModifier modifier = iterator.next();
-            if (modifier.getStat() == stat) {
-                iterator.remove();
-                removed++;
-            }
-        }
-        return removed;
+    public synchronized int removeModifiersByStat(Stat stat) {
+        return removeMatching(m -> m.getStat() == stat);
     }
 
     /**
      * Clears all expired modifiers from this profile.
+     * Free until the earliest timed modifier is due.
      *
      * @return The number of modifiers removed
      */
-    public int clearExpiredModifiers() {
+    public synchronized int clearExpiredModifiers() {
+        if (System.currentTimeMillis() <= nextExpiry) {
+            return 0;
+        }
+        return removeMatching(StatModifier::isExpired);
+    }
+
+    /**
+     * Clears all modifiers from this profile.
+     */
+    public synchronized void clearAllModifiers() {
+        removeMatching(m -> true);
+    }
+
+    /**
+     * Removes matching modifiers and refreshes the aggregates of the stats they touched.
+     */
+    private int removeMatching(Predicate<StatModifier> filter) {
+        Set<Stat> touched = EnumSet.noneOf(Stat.class);
         int removed = 0;
         Iterator<StatModifier> iterator = modifiers.iterator();
         while (iterator.hasNext()) {
             StatModifier modifier = iterator.next();
-            if (modifier.isExpired()) {
+            if (filter.test(modifier)) {
                 iterator.remove();
+                touched.add(modifier.getStat());
                 removed++;
             }
         }
-        return removed;
-    }
+        if (removed == 0) {
+            return 0;
+        }
 
-    /**
-     * Clears all modifiers from this profile.
-     */
-    public void clearAllModifiers() {
-        modifiers.clear();
+        for (Stat stat : touched) {
+            recompute(stat);
+        }
+        nextExpiry = Long.MAX_VALUE;
+        for (StatModifier modifier : modifiers) {
+            if (!modifier.isPermanent()) {
+                nextExpiry = Math.min(nextExpiry, modifier.getExpiresAt());
+            }
+        }
+        return removed;
     }
 
     /**
@@ -182,7 +186,7 @@ public class StatProfile {
      * @param stat The stat to query
      * @return A list of active modifiers for the stat
      */
-    public List<StatModifier> getModifiers(Stat stat) {
+    public synchronized List<StatModifier> getModifiers(Stat stat) {
         clearExpiredModifiers();
         return modifiers.stream()
                 .filter(m -> m.getStat() == stat)
@@ -194,7 +198,7 @@ public class StatProfile {
      *
      * @return A list of all active modifiers
      */
-    public List<StatModifier> getAllModifiers() {
+    public synchronized List<StatModifier> getAllModifiers() {
         clearExpiredModifiers();
         return new ArrayList<>(modifiers);
     }
@@ -204,7 +208,7 @@ public class StatProfile {
      *
      * @return The modifier count
      */
-    public int getModifierCount() {
+    public synchronized int getModifierCount() {
         clearExpiredModifiers();
         return modifiers.size();
     }
@@ -215,7 +219,7 @@ public class StatProfile {
      * @param stat The stat to check
      * @return true if there are modifiers for the stat, false otherwise
      */
-    public boolean hasModifiers(Stat stat) {
+    public synchronized boolean hasModifiers(Stat stat) {
         clearExpiredModifiers();
         return modifiers.stream().anyMatch(m -> m.getStat() == stat);
     }
@@ -223,11 +227,38 @@ public class StatProfile {
     /**
      * Resets all stats to their default values and clears all modifiers.
      */
-    public void reset() {
+    public synchronized void reset() {
+        modifiers.clear();
+        nextExpiry = Long.MAX_VALUE;
         for (Stat stat : Stat.values()) {
             baseStats.put(stat, stat.getDefaultValue());
+            recompute(stat);
         }
-        modifiers.clear();
+    }
+
+    /**
+     * Rebuilds the flat/percent sums of one stat from its modifiers.
+     */
+    private void recompute(Stat stat) {
+        double[] sums = modifierSums.get(stat);
+        sums[0] = 0;
+        sums[1] = 0;
+        for (StatModifier modifier : modifiers) {
+            if (modifier.getStat() != stat) continue;
+            if (modifier.getType() == ModifierType.FLAT) {
+                sums[0] += modifier.getValue();
+            } else if (modifier.getType() == ModifierType.PERCENT) {
+                sums[1] += modifier.getValue();
+            }
+        }
+        refreshEffective(stat);
+    }
+
+    private void refreshEffective(Stat stat) {
+        double[] sums = modifierSums.get(stat);
+        double result = (baseStats.get(stat) + sums[0]) * (1.0 + sums[1]);
+        // Ensure stats don't go negative
+        effectiveStats.put(stat, Math.max(0, result));
     }
 
     /**
@@ -235,7 +266,7 @@ public class StatProfile {
      *
      * @return A new StatProfile with the same values
      */
-    public StatProfile copy() {
+    public synchronized StatProfile copy() {
         StatProfile copy = new StatProfile();
         for (Map.Entry<Stat, Double> entry : baseStats.entrySet()) {
             copy.setBaseStat(entry.getKey(), entry.getValue());
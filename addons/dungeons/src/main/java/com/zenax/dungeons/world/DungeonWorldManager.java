@@ -1,5 +1,6 @@
 package com.zenax.dungeons.world;
 
+import com.zenax.dungeons.DungeonsAddon;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
 import org.bukkit.generator.ChunkGenerator;
@@ -16,8 +17,10 @@ import java.util.Random;
 public class DungeonWorldManager {
     private final Plugin plugin;
     private World dungeonWorld;
+    private RegionAllocator regionAllocator;
 
     private static final String DUNGEON_WORLD_NAME = "dungeon_world";
+    private static final long DEFAULT_RESET_BUDGET_MS = 3;
 
     /**
      * Creates a new dungeon world manager.
@@ -72,6 +75,9 @@ public class DungeonWorldManager {
             dungeonWorld.setGameRule(GameRule.SHOW_DEATH_MESSAGES, false);
             dungeonWorld.setGameRule(GameRule.KEEP_INVENTORY, false);
 
+            // Dungeon instances get their own regions, cleared and reused when released
+            regionAllocator = new RegionAllocator(plugin, dungeonWorld, getResetBudgetMillis());
+
             plugin.getLogger().info("Fresh dungeon world created successfully!");
             return true;
         } else {
@@ -158,28 +164,20 @@ public class DungeonWorldManager {
     }
 
     /**
-     * Gets the next available location for a new lobby/dungeon.
+     * Gets the allocator for dungeon instance regions.
      *
-     * @param instanceIndex The index of the instance (used for positioning)
-     * @return A location for the new instance
+     * @return The region allocator, or null if the world is not initialized
      */
-    public Location getNextInstanceLocation(int instanceIndex) {
-        if (dungeonWorld == null) {
-            return null;
-        }
-
-        // Spiral pattern for instance placement
-        int gridX = 0;
-        int gridZ = 0;
+    public RegionAllocator getRegionAllocator() {
+        return regionAllocator;
+    }
 
-        if (instanceIndex > 0) {
-            // Simple grid pattern: instances are placed in a grid
-            int gridSize = 10; // 10x10 grid before wrapping
-            gridX = instanceIndex % gridSize;
-            gridZ = instanceIndex / gridSize;
+    private long getResetBudgetMillis() {
+        DungeonsAddon addon = DungeonsAddon.getInstance();
+        if (addon == null || addon.getConfiguration() == null) {
+            return DEFAULT_RESET_BUDGET_MS;
         }
-
-        return getGridLocation(gridX, gridZ);
+        return addon.getConfiguration().getLong("performance.region-reset-tick-budget-ms", DEFAULT_RESET_BUDGET_MS);
     }
 
     /**
@@ -196,6 +194,10 @@ public class DungeonWorldManager {
      * Called on plugin disable to ensure clean state for next startup.
      */
     public void shutdown() {
+        if (regionAllocator != null) {
+            regionAllocator.shutdown();
+            regionAllocator = null;
+        }
         if (dungeonWorld != null) {
             plugin.getLogger().info("Cleaning up dungeon world...");
             deleteWorld(dungeonWorld);
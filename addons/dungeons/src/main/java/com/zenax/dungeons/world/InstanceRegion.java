@@ -0,0 +1,140 @@
+package com.zenax.dungeons.world;
+
+import com.zenax.dungeons.generation.voxel.VoxelBuffer;
+
+/**
+ * A chunk-aligned rectangle of the dungeon world reserved for one dungeon.
+ * Remembers which 16x16x16 sections were written so the region can be cleared
+ * precisely when it is released.
+ */
+public class InstanceRegion {
+
+    /**
+     * Lifecycle of a region.
+     */
+    public enum State {
+        /** Holds a dungeon (ready in the pool or being played) */
+        USED,
+        /** Released, blocks are being cleared in the background */
+        RESETTING,
+        /** Clear and available for reuse */
+        FREE
+    }
+
+    private final int id;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int widthChunks;
+    private final int depthChunks;
+
+    private State state = State.USED;
+    // Flattened (chunkX, sectionY, chunkZ) triples of every written section
+    private int[] writtenSections = new int[0];
+
+    InstanceRegion(int id, int minChunkX, int minChunkZ, int widthChunks, int depthChunks) {
+        this.id = id;
+        this.minChunkX = minChunkX;
+        this.minChunkZ = minChunkZ;
+        this.widthChunks = widthChunks;
+        this.depthChunks = depthChunks;
+    }
+
+    /**
+     * Records the sections a placed buffer wrote into this region.
+     *
+     * @param voxels The placed buffer
+     */
+    public synchronized void recordWritten(VoxelBuffer voxels) {
+        int[] merged = new int[writtenSections.length + voxels.getSections().size() * 3];
+        System.arraycopy(writtenSections, 0, merged, 0, writtenSections.length);
+        int i = writtenSections.length;
+        for (VoxelBuffer.Section section : voxels.getSections()) {
+            merged[i++] = section.getChunkX();
+            merged[i++] = section.getSectionY();
+            merged[i++] = section.getChunkZ();
+        }
+        writtenSections = merged;
+    }
+
+    synchronized int[] takeWrittenSections() {
+        int[] sections = writtenSections;
+        writtenSections = new int[0];
+        return sections;
+    }
+
+    /**
+     * Checks whether a chunk lies inside this region.
+     *
+     * @param chunkX Chunk X
+     * @param chunkZ Chunk Z
+     * @return true if inside
+     */
+    public boolean containsChunk(int chunkX, int chunkZ) {
+        return chunkX >= minChunkX && chunkX < minChunkX + widthChunks
+            && chunkZ >= minChunkZ && chunkZ < minChunkZ + depthChunks;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the lowest block X of the region.
+     *
+     * @return The minimum block X
+     */
+    public int getMinX() {
+        return minChunkX << 4;
+    }
+
+    /**
+     * Gets the lowest block Z of the region.
+     *
+     * @return The minimum block Z
+     */
+    public int getMinZ() {
+        return minChunkZ << 4;
+    }
+
+    public int getMinChunkX() {
+        return minChunkX;
+    }
+
+    public int getMinChunkZ() {
+        return minChunkZ;
+    }
+
+    public int getWidthChunks() {
+        return widthChunks;
+    }
+
+    public int getDepthChunks() {
+        return depthChunks;
+    }
+
+    /**
+     * Gets the region width in blocks.
+     *
+     * @return The width
+     */
+    public int getWidth() {
+        return widthChunks << 4;
+    }
+
+    /**
+     * Gets the region depth in blocks.
+     *
+     * @return The depth
+     */
+    public int getDepth() {
+        return depthChunks << 4;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    void setState(State state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,252 @@
+package com.zenax.dungeons.world;
+
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Hands out chunk-aligned regions of the dungeon world sized to each dungeon's layout,
+ * and takes them back when the dungeon is gone.
+ *
+ * New regions are packed in rows (shelf packing) in a band well away from the lobby grid,
+ * with a gap of empty chunks between neighbours. Released regions are cleared in the
+ * background - only the sections the dungeon actually wrote, under a per-tick budget -
+ * and then reused by best fit, so a long-running server stops claiming new world space
+ * once its peak number of concurrent dungeons is reached.
+ *
+ * {@link #allocate} may be called from generation worker threads; everything else is
+ * main thread only.
+ */
+public class RegionAllocator {
+    // Band origin: block Z 10000, clear of the lobby grid
+    private static final int ORIGIN_CHUNK_X = 0;
+    private static final int ORIGIN_CHUNK_Z = 625;
+    private static final int ROW_WIDTH_CHUNKS = 512;
+    private static final int GAP_CHUNKS = 2;
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+
+    private final Plugin plugin;
+    private final World world;
+    private final long budgetNanos;
+
+    private final List<InstanceRegion> used = new ArrayList<>();
+    private final List<InstanceRegion> free = new ArrayList<>();
+    private final Deque<InstanceRegion> resetQueue = new ArrayDeque<>();
+    private ResetTask resetTask;
+
+    // Shelf packing cursor
+    private int nextId;
+    private int cursorChunkX;
+    private int rowChunkZ;
+    private int rowDepthChunks;
+
+    /**
+     * Creates an allocator for a world.
+     *
+     * @param plugin The plugin (for scheduling resets)
+     * @param world The dungeon world
+     * @param resetBudgetMillis Milliseconds per tick spent clearing released regions
+     */
+    public RegionAllocator(Plugin plugin, World world, long resetBudgetMillis) {
+        this.plugin = plugin;
+        this.world = world;
+        this.budgetNanos = Math.max(1, resetBudgetMillis) * 1_000_000L;
+    }
+
+    /**
+     * Reserves a region of at least the given size.
+     *
+     * @param widthBlocks Required width (X) in blocks
+     * @param depthBlocks Required depth (Z) in blocks
+     * @return The reserved region
+     */
+    public synchronized InstanceRegion allocate(int widthBlocks, int depthBlocks) {
+        int width = Math.max(1, (widthBlocks + 15) >> 4);
+        int depth = Math.max(1, (depthBlocks + 15) >> 4);
+
+        // Reuse the smallest cleared region that fits
+        InstanceRegion best = null;
+        for (InstanceRegion region : free) {
+            if (region.getWidthChunks() >= width && region.getDepthChunks() >= depth
+                && (best == null || area(region) < area(best))) {
+                best = region;
+            }
+        }
+        if (best != null) {
+            free.remove(best);
+            best.setState(InstanceRegion.State.USED);
+            used.add(best);
+            return best;
+        }
+
+        // Otherwise claim new space at the end of the current row
+        if (cursorChunkX > 0 && cursorChunkX + width > ROW_WIDTH_CHUNKS) {
+            rowChunkZ += rowDepthChunks + GAP_CHUNKS;
+            cursorChunkX = 0;
+            rowDepthChunks = 0;
+        }
+        InstanceRegion region = new InstanceRegion(nextId++, ORIGIN_CHUNK_X + cursorChunkX,
+                                                   ORIGIN_CHUNK_Z + rowChunkZ, width, depth);
+        cursorChunkX += width + GAP_CHUNKS;
+        rowDepthChunks = Math.max(rowDepthChunks, depth);
+        used.add(region);
+        return region;
+    }
+
+    /**
+     * Releases a region: its blocks and entities are cleared in the background, then it
+     * becomes available again. Releasing twice is a no-op.
+     *
+     * @param region The region to release
+     */
+    public void release(InstanceRegion region) {
+        synchronized (this) {
+            if (region == null || region.getState() != InstanceRegion.State.USED || !used.remove(region)) {
+                return;
+            }
+            region.setState(InstanceRegion.State.RESETTING);
+        }
+        resetQueue.add(region);
+        if (resetTask == null) {
+            resetTask = new ResetTask();
+            resetTask.runTaskTimer(plugin, 1L, 1L);
+        }
+    }
+
+    /**
+     * Forgets every region (the world is being deleted or recreated).
+     */
+    public void shutdown() {
+        if (resetTask != null) {
+            resetTask.cancel();
+            resetTask = null;
+        }
+        resetQueue.clear();
+        synchronized (this) {
+            used.clear();
+            free.clear();
+        }
+    }
+
+    /**
+     * Gets the world regions are allocated in.
+     *
+     * @return The dungeon world
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Gets a one-line summary for the status command.
+     *
+     * @return Region counts
+     */
+    public synchronized String getSummary() {
+        return used.size() + " used, " + resetQueue.size() + " resetting, " + free.size() + " free";
+    }
+
+    private static int area(InstanceRegion region) {
+        return region.getWidthChunks() * region.getDepthChunks();
+    }
+
+    private synchronized void markFree(InstanceRegion region) {
+        region.setState(InstanceRegion.State.FREE);
+        free.add(region);
+    }
+
+    /**
+     * Clears released regions one at a time under the tick budget.
+     */
+    private class ResetTask extends BukkitRunnable {
+        private InstanceRegion current;
+        private int[][] sections;
+        private int sectionIndex;
+        private int blockIndex;
+
+        @Override
+        public void run() {
+            long deadline = System.nanoTime() + budgetNanos;
+            int sinceCheck = 0;
+
+            while (true) {
+                if (current == null) {
+                    current = resetQueue.poll();
+                    if (current == null) {
+                        cancel();
+                        resetTask = null;
+                        return;
+                    }
+                    start(current);
+                }
+
+                if (sectionIndex >= sections.length) {
+                    markFree(current);
+                    current = null;
+                    continue;
+                }
+
+                int[] section = sections[sectionIndex];
+                Chunk chunk = world.getChunkAt(section[0], section[2]);
+                int baseY = section[1] << 4;
+                while (blockIndex < 4096) {
+                    Block block = chunk.getBlock(blockIndex & 15, baseY + (blockIndex >> 8), (blockIndex >> 4) & 15);
+                    if (block.getType() != Material.AIR) {
+                        block.setType(Material.AIR, false);
+                    }
+                    blockIndex++;
+
+                    if (++sinceCheck >= CLOCK_CHECK_INTERVAL) {
+                        sinceCheck = 0;
+                        if (System.nanoTime() >= deadline) {
+                            return;
+                        }
+                    }
+                }
+
+                sectionIndex++;
+                blockIndex = 0;
+                // Last section of this chunk - let it unload
+                if (sectionIndex >= sections.length || sections[sectionIndex][0] != section[0]
+                    || sections[sectionIndex][2] != section[2]) {
+                    world.unloadChunkRequest(section[0], section[2]);
+                }
+            }
+        }
+
+        /**
+         * Removes leftover entities and orders the written sections chunk by chunk.
+         */
+        private void start(InstanceRegion region) {
+            for (Entity entity : world.getEntities()) {
+                if (entity instanceof Player) continue;
+                if (region.containsChunk(entity.getLocation().getBlockX() >> 4, entity.getLocation().getBlockZ() >> 4)) {
+                    entity.remove();
+                }
+            }
+
+            int[] flat = region.takeWrittenSections();
+            sections = new int[flat.length / 3][];
+            for (int i = 0; i < sections.length; i++) {
+                sections[i] = new int[]{flat[i * 3], flat[i * 3 + 1], flat[i * 3 + 2]};
+            }
+            Arrays.sort(sections, Comparator.<int[]>comparingInt(s -> s[0])
+                                            .thenComparingInt(s -> s[2])
+                                            .thenComparingInt(s -> s[1]));
+            sectionIndex = 0;
+            blockIndex = 0;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.zenax.dungeons.loot;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Checks that the alias table rolls each entry with probability weight / total weight,
+ * the same distribution as the weighted scan it replaced.
+ */
+@DisplayName("CompiledLootTable")
+class CompiledLootTableTest {
+
+    private static final int SAMPLES = 200_000;
+    // Several standard deviations at this sample size; a broken table is off by far more
+    private static final double TOLERANCE = 0.005;
+
+    @Test
+    @DisplayName("Skewed weights are rolled in proportion to their weight")
+    void skewedWeights() {
+        List<LootEntry> entries = List.of(
+                entry(Material.DIRT, 1000, LootRarity.COMMON),
+                entry(Material.IRON_INGOT, 100, LootRarity.UNCOMMON),
+                entry(Material.GOLD_INGOT, 10, LootRarity.RARE),
+                entry(Material.DIAMOND, 1, LootRarity.EPIC),
+                entry(Material.NETHER_STAR, 0.5, LootRarity.LEGENDARY));
+
+        assertMatchesWeights(entries, 1.0);
+    }
+
+    @Test
+    @DisplayName("Luck-adjusted weights are rolled in proportion to the effective weight")
+    void luckAdjustedWeights() {
+        List<LootEntry> entries = List.of(
+                entry(Material.DIRT, 50, LootRarity.COMMON),
+                entry(Material.EMERALD, 20, LootRarity.RARE),
+                entry(Material.NETHER_STAR, 5, LootRarity.LEGENDARY));
+
+        assertMatchesWeights(entries, 1.75);
+    }
+
+    @Test
+    @DisplayName("A single entry is always rolled")
+    void singleEntry() {
+        LootEntry only = entry(Material.DIAMOND, 3, LootRarity.RARE);
+        CompiledLootTable table = CompiledLootTable.compile(List.of(only), 1.0);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(table.sample(random)).isSameAs(only);
+        }
+    }
+
+    @Test
+    @DisplayName("All-zero effective weights fall back to a uniform roll")
+    void allZeroWeightsAreUniform() {
+        // Luck 0 scales every common entry's effective weight to 0
+        List<LootEntry> entries = List.of(
+                entry(Material.DIRT, 10, LootRarity.COMMON),
+                entry(Material.STONE, 1, LootRarity.COMMON),
+                entry(Material.SAND, 100, LootRarity.COMMON),
+                entry(Material.GRAVEL, 0.1, LootRarity.COMMON));
+        for (LootEntry entry : entries) {
+            assertThat(entry.getEffectiveWeight(0.0)).isZero();
+        }
+
+        Map<LootEntry, Integer> counts = roll(CompiledLootTable.compile(entries, 0.0), 11);
+
+        for (LootEntry entry : entries) {
+            assertThat(frequency(counts, entry))
+                    .as("frequency of %s", entry.getMaterial())
+                    .isCloseTo(1.0 / entries.size(), within(TOLERANCE));
+        }
+    }
+
+    @Test
+    @DisplayName("A table with no entries is empty")
+    void noEntries() {
+        assertThat(CompiledLootTable.compile(List.of(), 1.0).isEmpty()).isTrue();
+    }
+
+    private static void assertMatchesWeights(List<LootEntry> entries, double luck) {
+        double total = 0;
+        for (LootEntry entry : entries) {
+            total += entry.getEffectiveWeight(luck);
+        }
+
+        Map<LootEntry, Integer> counts = roll(CompiledLootTable.compile(entries, luck), 42);
+
+        for (LootEntry entry : entries) {
+            assertThat(frequency(counts, entry))
+                    .as("frequency of %s", entry.getMaterial())
+                    .isCloseTo(entry.getEffectiveWeight(luck) / total, within(TOLERANCE));
+        }
+    }
+
+    private static Map<LootEntry, Integer> roll(CompiledLootTable table, long seed) {
+        Random random = new Random(seed);
+        Map<LootEntry, Integer> counts = new IdentityHashMap<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            counts.merge(table.sample(random), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static double frequency(Map<LootEntry, Integer> counts, LootEntry entry) {
+        return counts.getOrDefault(entry, 0) / (double) SAMPLES;
+    }
+
+    private static LootEntry entry(Material material, double weight, LootRarity rarity) {
+        return new LootEntry(material, 1, 1, weight, rarity, null, null, null);
+    }
+}
@@ -27,6 +27,9 @@ import com.miracle.arcanesigils.effects.EffectManager;
 import com.miracle.arcanesigils.effects.ProjectileManager;
 import com.miracle.arcanesigils.effects.SkinChangeManager;
 import com.miracle.arcanesigils.effects.StunManager;
+import com.miracle.arcanesigils.effects.AnimationRuntime;
+import com.miracle.arcanesigils.effects.ParticleBudget;
+import com.miracle.arcanesigils.effects.VirtualDisplayManager;
 import com.miracle.arcanesigils.events.CooldownManager;
 import com.miracle.arcanesigils.events.SignalHandler;
 import com.miracle.arcanesigils.gui.GUIManager;
@@ -58,10 +61,13 @@ public class ArmorSetsPlugin extends JavaPlugin {
     private com.miracle.arcanesigils.combat.CombatUtil combatUtil;
     private CooldownManager cooldownManager;
     private CooldownNotifier cooldownNotifier;
+    private com.miracle.arcanesigils.storage.PlayerStore playerStore;
     private com.miracle.arcanesigils.variables.PlayerVariableManager playerVariableManager;
     private com.miracle.arcanesigils.variables.SigilVariableManager sigilVariableManager;
     private SigilManager sigilManager;
     private SocketManager socketManager;
+    private com.miracle.arcanesigils.core.LoreRefreshQueue loreRefreshQueue;
+    private com.miracle.arcanesigils.core.ClientLoreRenderer clientLoreRenderer;
     private com.miracle.arcanesigils.sets.SetBonusManager setBonusManager;
     private com.miracle.arcanesigils.notifications.NotificationManager notificationManager;
     private SignalHandler signalHandler;
@@ -75,6 +81,9 @@ public class ArmorSetsPlugin extends JavaPlugin {
     private LastVictimManager lastVictimManager;
     private ShapeEngine shapeEngine;
     private ProjectileManager projectileManager;
+    private VirtualDisplayManager virtualDisplayManager;
+    private AnimationRuntime animationRuntime;
+    private ParticleBudget particleBudget;
 
     private PluginDebugger pluginDebugger;
     private com.miracle.arcanesigils.listeners.CollisionDisabler collisionDisabler;
@@ -130,6 +139,24 @@ public class ArmorSetsPlugin extends JavaPlugin {
             bindsManager.saveAll();
         }
 
+        // Write pending sigil XP to items
+        if (tierProgressionManager != null) {
+            tierProgressionManager.shutdown();
+        }
+
+        // Write pending sigil/behavior editor changes
+        if (sigilManager != null) {
+            sigilManager.shutdown();
+        }
+
+        if (loreRefreshQueue != null) {
+            loreRefreshQueue.shutdown();
+        }
+
+        if (clientLoreRenderer != null) {
+            clientLoreRenderer.shutdown();
+        }
+
         // Clean up
         if (bindsBossBarManager != null) {
             bindsBossBarManager.cleanupAll();
@@ -151,7 +178,7 @@ public class ArmorSetsPlugin extends JavaPlugin {
         }
 
         if (shapeEngine != null) {
-            shapeEngine.stopAllAnimations();
+            shapeEngine.shutdown();
         }
         if (behaviorManager != null) {
             behaviorManager.shutdown();
@@ -159,6 +186,12 @@ public class ArmorSetsPlugin extends JavaPlugin {
         if (projectileManager != null) {
             projectileManager.shutdown();
         }
+        if (animationRuntime != null) {
+            animationRuntime.shutdown();
+        }
+        if (virtualDisplayManager != null) {
+            virtualDisplayManager.shutdown();
+        }
         if (cooldownManager != null) {
             cooldownManager.clearAll();
         }
@@ -182,6 +215,11 @@ public class ArmorSetsPlugin extends JavaPlugin {
             sigilVariableManager.shutdown();
         }
 
+        // Write everything queued above (binds, variables) before the plugin goes away
+        if (playerStore != null) {
+            playerStore.shutdown();
+        }
+
         // Clean up interceptors for all online players
         if (interceptionManager != null) {
             for (Player player : getServer().getOnlinePlayers()) {
@@ -206,12 +244,24 @@ public class ArmorSetsPlugin extends JavaPlugin {
             // Now that config is loaded, refresh LogHelper debug setting
             com.miracle.arcanesigils.utils.LogHelper.refreshDebugSetting(this);
 
+            // Player data storage (binds, persistent variables)
+            playerStore = com.miracle.arcanesigils.storage.PlayerStore.open(this);
+
             // Effect manager (needed by others)
             effectManager = new EffectManager(this);
             
             // Potion effect tracker (for Ancient Crown counter-modifiers)
             potionEffectTracker = new com.miracle.arcanesigils.effects.PotionEffectTracker(this);
 
+            // Virtual display manager (packet-only display entities for cosmetic visuals)
+            virtualDisplayManager = new VirtualDisplayManager(this);
+
+            // Animation runtime (single tick loop for all visual animations)
+            animationRuntime = new AnimationRuntime(this);
+
+            // Per-tick particle/display budget shared fairly between emitters
+            particleBudget = new ParticleBudget(this);
+
             // Shape engine (particle/visual effects system)
             shapeEngine = new ShapeEngine(this);
             shapeEngine.loadAll();
@@ -257,6 +307,13 @@ public class ArmorSetsPlugin extends JavaPlugin {
             // Socket manager
             socketManager = new SocketManager(this);
 
+            // Lore refresh queue (rewrites stale socketed item lore a few slots per tick)
+            loreRefreshQueue = new com.miracle.arcanesigils.core.LoreRefreshQueue(this);
+
+            // Client-side lore (ProtocolLib; only rewrites packets when settings.client-side-lore is on)
+            clientLoreRenderer = new com.miracle.arcanesigils.core.ClientLoreRenderer(this);
+            clientLoreRenderer.register();
+
             // Set bonus manager (load set bonuses from sets/ folder)
             setBonusManager = new com.miracle.arcanesigils.sets.SetBonusManager(this);
 
@@ -356,7 +413,11 @@ public class ArmorSetsPlugin extends JavaPlugin {
         pm.registerEvents(signalHandler, this);
         pm.registerEvents(guiManager, this);
         pm.registerEvents(socketManager, this);
+        pm.registerEvents(loreRefreshQueue, this);
+        pm.registerEvents(clientLoreRenderer, this);
         pm.registerEvents(bindsListener, this);
+        pm.registerEvents(bindsManager, this);
+        pm.registerEvents(tierProgressionManager, this);
         pm.registerEvents(behaviorManager, this);
         pm.registerEvents(pluginDebugger, this);
         pm.registerEvents(skinChangeManager, this);
@@ -391,6 +452,9 @@ public class ArmorSetsPlugin extends JavaPlugin {
         // Clear caches
         cooldownManager.clearAll();
 
+        // Write pending GUI edits so the reload reads them back
+        sigilManager.flushPendingSaves();
+
         // Reload configs from disk
         getLogger().info("Reloading config files from disk...");
         configManager.loadAll();
@@ -402,6 +466,10 @@ public class ArmorSetsPlugin extends JavaPlugin {
 
         // Reload shape engine
         shapeEngine.loadAll();
+        animationRuntime.loadConfig();
+        particleBudget.loadConfig();
+        loreRefreshQueue.loadConfig();
+        socketManager.loadConfig();
 
         // Reload set bonuses
         if (setBonusManager != null) {
@@ -472,6 +540,10 @@ public class ArmorSetsPlugin extends JavaPlugin {
         return cooldownNotifier;
     }
 
+    public com.miracle.arcanesigils.storage.PlayerStore getPlayerStore() {
+        return playerStore;
+    }
+
     public com.miracle.arcanesigils.variables.PlayerVariableManager getPlayerVariableManager() {
         return playerVariableManager;
     }
@@ -488,6 +560,10 @@ public class ArmorSetsPlugin extends JavaPlugin {
         return socketManager;
     }
 
+    public com.miracle.arcanesigils.core.LoreRefreshQueue getLoreRefreshQueue() {
+        return loreRefreshQueue;
+    }
+
     public com.miracle.arcanesigils.sets.SetBonusManager getSetBonusManager() {
         return setBonusManager;
     }
@@ -540,6 +616,18 @@ public class ArmorSetsPlugin extends JavaPlugin {
         return projectileManager;
     }
 
+    public VirtualDisplayManager getVirtualDisplayManager() {
+        return virtualDisplayManager;
+    }
+
+    public AnimationRuntime getAnimationRuntime() {
+        return animationRuntime;
+    }
+
+    public ParticleBudget getParticleBudget() {
+        return particleBudget;
+    }
+
 
     public PluginDebugger getPluginDebugger() {
         return pluginDebugger;
@@ -10,6 +10,7 @@ import java.util.*;
  */
 public class BindPreset {
     private final Map<Integer, List<String>> binds; // bind slot -> list of sigil IDs
+    private Runnable changeListener; // Notified on every edit, so the owner can mark itself dirty
 
     public BindPreset() {
         this.binds = new LinkedHashMap<>();
@@ -23,12 +24,23 @@ public class BindPreset {
         return Collections.unmodifiableMap(binds);
     }
 
+    void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private void changed() {
+        if (changeListener != null) {
+            changeListener.run();
+        }
+    }
+
     public void setBind(int slot, List<String> sigilIds) {
         if (sigilIds == null) {
             binds.remove(slot);
         } else {
             binds.put(slot, new ArrayList<>(sigilIds));
         }
+        changed();
     }
 
     public List<String> getBind(int slot) {
@@ -37,10 +49,12 @@ public class BindPreset {
 
     public void clearBind(int slot) {
         binds.remove(slot);
+        changed();
     }
 
     public void clearAll() {
         binds.clear();
+        changed();
     }
 
     public int getTotalAbilitiesBound() {
@@ -63,7 +77,8 @@ public class BindPreset {
 
     public void saveToConfig(ConfigurationSection section) {
         for (Map.Entry<Integer, List<String>> entry : binds.entrySet()) {
-            section.set("bind-" + entry.getKey(), entry.getValue());
+            // Copy, since the section may be written out on another thread
+            section.set("bind-" + entry.getKey(), new ArrayList<>(entry.getValue()));
         }
     }
 
@@ -464,7 +464,8 @@ public class BindsListener implements Listener {
                 continue; // Skip immediately, no delay
             }
 
-            ItemStack equippedItem = findEquippedSigil(player, sigilId);
+            int equippedSlot = findEquippedSlot(player, sigilId);
+            ItemStack equippedItem = equippedSlot >= 0 ? player.getInventory().getItem(equippedSlot) : null;
             if (equippedItem == null) {
                 LogHelper.debug("[Binds] Skipping unequipped sigil (no delay): " + sigilId);
                 player.sendMessage(Component.text(TextUtil.colorize(
@@ -479,7 +480,7 @@ public class BindsListener implements Listener {
             final ItemStack finalEquippedItem = equippedItem;
             final org.bukkit.entity.LivingEntity finalTarget = capturedTarget; // Pass captured target to delayed execution
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                activateSigilWithItem(player, sigilId, finalEquippedItem, finalTarget, slotOrId);
+                activateSigilWithItem(player, sigilId, finalEquippedItem, equippedSlot, finalTarget, slotOrId);
             }, delay);
         }
 
@@ -511,7 +512,8 @@ public class BindsListener implements Listener {
         }
 
         // Find the equipped instance of this sigil (required for activation)
-        ItemStack equippedItem = findEquippedSigil(player, sigilId);
+        int equippedSlot = findEquippedSlot(player, sigilId);
+        ItemStack equippedItem = equippedSlot >= 0 ? player.getInventory().getItem(equippedSlot) : null;
         if (equippedItem == null) {
             LogHelper.debug("[Binds] Sigil not equipped: " + sigilId);
             player.sendMessage(Component.text(TextUtil.colorize(
@@ -520,7 +522,7 @@ public class BindsListener implements Listener {
         }
 
         // Delegate to the version with pre-found item and no pre-captured target
-        activateSigilWithItem(player, sigilId, equippedItem, null, -1);
+        activateSigilWithItem(player, sigilId, equippedItem, equippedSlot, null, -1);
     }
 
     /**
@@ -530,10 +532,12 @@ public class BindsListener implements Listener {
      * @param player The player activating
      * @param sigilId The sigil ID
      * @param equippedItem The item containing the sigil (pre-found)
+     * @param equippedSlot The raw inventory slot of the equipped item
      * @param capturedTarget Optional target captured at schedule time (for delayed abilities)
      * @param slotOrId The bind slot or ID
      */
-    private void activateSigilWithItem(Player player, String sigilId, ItemStack equippedItem, org.bukkit.entity.LivingEntity capturedTarget, int slotOrId) {
+    private void activateSigilWithItem(Player player, String sigilId, ItemStack equippedItem, int equippedSlot,
+                                       org.bukkit.entity.LivingEntity capturedTarget, int slotOrId) {
         // Get the sigil template
         Sigil sigil = plugin.getSigilManager().getSigil(sigilId);
         if (sigil == null) {
@@ -666,7 +670,7 @@ public class BindsListener implements Listener {
                     break;
                 }
             }
-            plugin.getTierProgressionManager().awardXP(player, equippedItem, sigilId, tier);
+            plugin.getTierProgressionManager().awardXP(player, equippedItem, equippedSlot, sigilId, tier);
 
             return; // IMPORTANT: Stop after first successful activation
         }
@@ -729,19 +733,18 @@ public class BindsListener implements Listener {
     }
 
     /**
-     * Find an equipped instance of a sigil (armor or hotbar).
-     * Returns the ItemStack containing the sigil, or null if not found.
+     * Find the raw inventory slot of an equipped sigil: armor (36-39), hotbar (0-8), then off-hand (40).
+     * Returns -1 if not found.
      */
-    private ItemStack findEquippedSigil(Player player, String sigilId) {
+    private int findEquippedSlot(Player player, String sigilId) {
         // Check armor slots
-        for (ItemStack armor : player.getInventory().getArmorContents()) {
+        ItemStack[] armorContents = player.getInventory().getArmorContents();
+        for (int i = 0; i < armorContents.length; i++) {
+            ItemStack armor = armorContents[i];
             if (armor == null || armor.getType().isAir()) continue;
 
-            List<Sigil> sigils = plugin.getSocketManager().getSocketedSigils(armor);
-            for (Sigil sigil : sigils) {
-                if (sigil.getId().equalsIgnoreCase(sigilId)) {
-                    return armor;
-                }
+            if (hasSigil(armor, sigilId)) {
+                return 36 + i;
             }
         }
 
@@ -752,26 +755,28 @@ public class BindsListener implements Listener {
 
             if (!plugin.getSocketManager().isSocketable(item)) continue;
 
-            List<Sigil> sigils = plugin.getSocketManager().getSocketedSigils(item);
-            for (Sigil sigil : sigils) {
-                if (sigil.getId().equalsIgnoreCase(sigilId)) {
-                    return item;
-                }
+            if (hasSigil(item, sigilId)) {
+                return i;
             }
         }
 
         // Also check off-hand
         ItemStack offHand = player.getInventory().getItemInOffHand();
-        if (offHand != null && !offHand.getType().isAir() && plugin.getSocketManager().isSocketable(offHand)) {
-            List<Sigil> sigils = plugin.getSocketManager().getSocketedSigils(offHand);
-            for (Sigil sigil : sigils) {
-                if (sigil.getId().equalsIgnoreCase(sigilId)) {
-                    return offHand;
-                }
-            }
+        if (offHand != null && !offHand.getType().isAir() && plugin.getSocketManager().isSocketable(offHand)
+                && hasSigil(offHand, sigilId)) {
+            return 40;
         }
 
-        return null;
+        return -1;
+    }
+
+    private boolean hasSigil(ItemStack item, String sigilId) {
+        for (Sigil sigil : plugin.getSocketManager().getSocketedSigils(item)) {
+            if (sigil.getId().equalsIgnoreCase(sigilId)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // ==================== CLEANUP ====================
@@ -1,13 +1,19 @@
 package com.miracle.arcanesigils.binds;
 
 import com.miracle.arcanesigils.ArmorSetsPlugin;
+import com.miracle.arcanesigils.storage.PlayerStore;
 import com.miracle.arcanesigils.utils.LogHelper;
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -15,34 +21,42 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Central manager for the binds system.
  * Handles player data storage, persistence, and lifecycle management.
+ *
+ * Data is read from disk during pre-login (off the main thread) and edits only mark it
+ * dirty. Dirty data is snapshotted on the main thread once it has been quiet for
+ * {@link #SAVE_DELAY_MS}, or right away on quit, and written by the {@link PlayerStore}
+ * in the background.
  */
-public class BindsManager {
+public class BindsManager implements Listener {
+    private static final long SAVE_DELAY_MS = 5000;
+    private static final long SAVE_CHECK_TICKS = 20L;
+    private static final String STORE_NAMESPACE = "binds";
+
     private final ArmorSetsPlugin plugin;
-    private final File playerDataFolder;
+    private final PlayerStore store;
     private final Map<UUID, PlayerBindData> playerData;
+    private final BukkitTask saveTask;
 
     public BindsManager(ArmorSetsPlugin plugin) {
         this.plugin = plugin;
-        this.playerDataFolder = new File(plugin.getDataFolder(), "playerdata");
+        this.store = plugin.getPlayerStore();
         this.playerData = new ConcurrentHashMap<>();
 
-        // Ensure playerdata folder exists
-        if (!playerDataFolder.exists()) {
-            playerDataFolder.mkdirs();
-        }
-
         // Load data for online players
         for (Player player : Bukkit.getOnlinePlayers()) {
             loadPlayerData(player.getUniqueId());
         }
+
+        this.saveTask = Bukkit.getScheduler().runTaskTimer(plugin, this::saveIdle, SAVE_CHECK_TICKS, SAVE_CHECK_TICKS);
     }
 
     /**
      * Get or create bind data for a player.
+     * Normally already loaded at pre-login; otherwise read from disk on the calling thread.
      */
     public PlayerBindData getPlayerData(UUID playerId) {
         return playerData.computeIfAbsent(playerId, id -> {
-            PlayerBindData data = loadPlayerDataFromFile(id);
+            PlayerBindData data = loadFromStore(id);
             return data != null ? data : new PlayerBindData(id);
         });
     }
@@ -55,50 +69,57 @@ public class BindsManager {
     }
 
     /**
-     * Load player data when they join.
+     * Load player data ahead of their join. Data still in memory (e.g. a quick relog
+     * while the quit save is queued) is kept, since it is at least as new as the file.
      */
     public void loadPlayerData(UUID playerId) {
-        PlayerBindData data = loadPlayerDataFromFile(playerId);
-        if (data != null) {
-            playerData.put(playerId, data);
+        getPlayerData(playerId);
+    }
+
+    private PlayerBindData loadFromStore(UUID playerId) {
+        String stored = store.load(playerId, STORE_NAMESPACE);
+        if (stored == null) {
+            return null;
+        }
+
+        try {
+            YamlConfiguration config = new YamlConfiguration();
+            config.loadFromString(stored);
+            PlayerBindData data = PlayerBindData.loadFromConfig(playerId, config);
+            LogHelper.debug("Loaded player data for " + playerId);
+            return data;
+        } catch (InvalidConfigurationException e) {
+            LogHelper.severe("Failed to load player data for " + playerId + ": " + e.getMessage());
+            return null;
         }
     }
 
     /**
      * Save and unload player data when they quit.
+     * The data stays cached until its write completes.
      */
     public void unloadPlayerData(UUID playerId) {
-        PlayerBindData data = playerData.remove(playerId);
-        if (data != null) {
-            savePlayerData(data);
+        PlayerBindData data = playerData.get(playerId);
+        if (data == null) return;
+
+        if (!data.isDirty()) {
+            playerData.remove(playerId, data);
+            return;
         }
+        queueSave(data, () -> Bukkit.getScheduler().runTask(plugin, () -> {
+            // Evict unless the player came back or edited again meanwhile
+            if (Bukkit.getPlayer(playerId) == null && !data.isDirty()) {
+                playerData.remove(playerId, data);
+            }
+        }));
     }
 
     /**
-     * Save player data to file.
+     * Save player data to file (written in the background).
      */
     public void savePlayerData(PlayerBindData data) {
         if (data == null) return;
-
-        File file = getPlayerFile(data.getPlayerId());
-
-        if (!data.hasAnyData()) {
-            // Delete file if no data worth saving
-            if (file.exists()) {
-                file.delete();
-                LogHelper.debug("Deleted empty player data file for " + data.getPlayerId());
-            }
-            return;
-        }
-
-        try {
-            YamlConfiguration config = new YamlConfiguration();
-            data.saveToConfig(config);
-            config.save(file);
-            LogHelper.debug("Saved player data for " + data.getPlayerId());
-        } catch (IOException e) {
-            LogHelper.severe("Failed to save player data for " + data.getPlayerId() + ": " + e.getMessage());
-        }
+        queueSave(data, null);
     }
 
     /**
@@ -112,38 +133,53 @@ public class BindsManager {
     }
 
     /**
-     * Load player data from file.
+     * Snapshot data on the main thread and hand it to the writer.
+     * Players with nothing worth saving get their file removed instead.
      */
-    private PlayerBindData loadPlayerDataFromFile(UUID playerId) {
-        File file = getPlayerFile(playerId);
-        if (!file.exists()) {
-            return null;
-        }
-
-        try {
-            YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
-            PlayerBindData data = PlayerBindData.loadFromConfig(playerId, config);
-            LogHelper.debug("Loaded player data for " + playerId);
-            return data;
-        } catch (Exception e) {
-            LogHelper.severe("Failed to load player data for " + playerId + ": " + e.getMessage());
-            return null;
+    private void queueSave(PlayerBindData data, Runnable afterWrite) {
+        String snapshot = null;
+        if (data.hasAnyData()) {
+            YamlConfiguration config = new YamlConfiguration();
+            data.saveToConfig(config);
+            snapshot = config.saveToString();
         }
+        data.clearDirty();
+        store.save(data.getPlayerId(), STORE_NAMESPACE, snapshot, afterWrite);
     }
 
     /**
-     * Get the file for a player's data.
+     * Save data that hasn't been edited for a while.
      */
-    private File getPlayerFile(UUID playerId) {
-        return new File(playerDataFolder, playerId.toString() + ".yml");
+    private void saveIdle() {
+        long cutoff = System.currentTimeMillis() - SAVE_DELAY_MS;
+        for (PlayerBindData data : playerData.values()) {
+            if (data.isDirty() && data.getLastModified() <= cutoff) {
+                queueSave(data, null);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            loadPlayerData(event.getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        unloadPlayerData(event.getPlayer().getUniqueId());
     }
 
     /**
-     * Save all player data (called on plugin disable).
+     * Queue all unsaved player data (called on plugin disable, before the store shuts down).
      */
     public void saveAll() {
+        saveTask.cancel();
         for (PlayerBindData data : playerData.values()) {
-            savePlayerData(data);
+            if (data.isDirty()) {
+                queueSave(data, null);
+            }
         }
         LogHelper.info("Saved all player bind data");
     }
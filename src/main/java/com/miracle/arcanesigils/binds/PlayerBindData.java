@@ -29,6 +29,10 @@ public class PlayerBindData {
     private boolean toggled;
     private int highestCommandBindId;
 
+    // Unsaved edits (see BindsManager for when they are written)
+    private volatile boolean dirty;
+    private volatile long lastModified;
+
     public PlayerBindData(UUID playerId) {
         this.playerId = playerId;
         this.hotbarBinds = new BindPreset();
@@ -40,6 +44,33 @@ public class PlayerBindData {
         this.heldSlotHotkey = HeldSlotHotkey.SWAP_HAND;
         this.toggled = false;
         this.highestCommandBindId = 0;
+        this.hotbarBinds.setChangeListener(this::markDirty);
+        this.commandBinds.setChangeListener(this::markDirty);
+    }
+
+    // Dirty tracking
+    public void markDirty() {
+        dirty = true;
+        lastModified = System.currentTimeMillis();
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    private BindPreset attach(BindPreset preset) {
+        if (preset != null) {
+            preset.setChangeListener(this::markDirty);
+        }
+        return preset;
     }
 
     // Getters and setters
@@ -77,6 +108,7 @@ public class PlayerBindData {
 
     public void setActiveSystem(BindSystem activeSystem) {
         this.activeSystem = activeSystem;
+        markDirty();
     }
 
     public ToggleHotkey getToggleHotkey() {
@@ -85,6 +117,7 @@ public class PlayerBindData {
 
     public void setToggleHotkey(ToggleHotkey toggleHotkey) {
         this.toggleHotkey = toggleHotkey;
+        markDirty();
     }
 
     public HeldSlotHotkey getHeldSlotHotkey() {
@@ -93,6 +126,7 @@ public class PlayerBindData {
 
     public void setHeldSlotHotkey(HeldSlotHotkey heldSlotHotkey) {
         this.heldSlotHotkey = heldSlotHotkey;
+        markDirty();
     }
 
     public boolean isToggled() {
@@ -113,13 +147,15 @@ public class PlayerBindData {
 
     public void setHighestCommandBindId(int id) {
         this.highestCommandBindId = id;
+        markDirty();
     }
 
     // Preset management
     public void saveToPreset(int index) {
         if (index < 0 || index >= 4) return;
         BindPreset[] presets = getCurrentPresets();
-        presets[index] = getCurrentBinds().copy();
+        presets[index] = attach(getCurrentBinds().copy());
+        markDirty();
     }
 
     public void loadFromPreset(int index) {
@@ -139,6 +175,7 @@ public class PlayerBindData {
         if (index < 0 || index >= 4) return;
         BindPreset[] presets = getCurrentPresets();
         presets[index] = null;
+        markDirty();
     }
 
     public boolean hasPreset(int index) {
@@ -150,6 +187,7 @@ public class PlayerBindData {
     // Command bind ID management
     public int addCommandBind() {
         highestCommandBindId++;
+        markDirty();
         return highestCommandBindId;
     }
 
@@ -268,7 +306,7 @@ public class PlayerBindData {
             for (int i = 0; i < 4; i++) {
                 ConfigurationSection presetSection = hotbarPresetsSection.getConfigurationSection("preset-" + i);
                 if (presetSection != null) {
-                    data.hotbarPresets[i] = BindPreset.loadFromConfig(presetSection);
+                    data.hotbarPresets[i] = data.attach(BindPreset.loadFromConfig(presetSection));
                 }
             }
         }
@@ -279,7 +317,7 @@ public class PlayerBindData {
             for (int i = 0; i < 4; i++) {
                 ConfigurationSection presetSection = commandPresetsSection.getConfigurationSection("preset-" + i);
                 if (presetSection != null) {
-                    data.commandPresets[i] = BindPreset.loadFromConfig(presetSection);
+                    data.commandPresets[i] = data.attach(BindPreset.loadFromConfig(presetSection));
                 }
             }
         }
@@ -287,6 +325,8 @@ public class PlayerBindData {
         // Recalculate highest command bind ID in case of inconsistency
         data.recalculateHighestCommandBindId();
 
+        // Freshly loaded data matches the file
+        data.clearDirty();
         return data;
     }
 }
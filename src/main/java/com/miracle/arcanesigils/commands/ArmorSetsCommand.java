@@ -98,11 +98,11 @@ public class ArmorSetsCommand implements CommandExecutor, TabCompleter {
         }
         plugin.reload();
 
-        // Refresh all socketed items for online players based on new YAML config
-        int updatedItems = plugin.getSocketManager().refreshAllPlayerItems();
+        // Refresh stale socketed item lore for online players over the next few ticks
+        int queuedPlayers = plugin.getSocketManager().refreshAllPlayerItems();
 
         sender.sendMessage(TextUtil.colorize("§aArcane Sigils reloaded!"));
-        sender.sendMessage(TextUtil.colorize("§7Updated §f" + updatedItems + "§7 socketed items."));
+        sender.sendMessage(TextUtil.colorize("§7Refreshing socketed items for §f" + queuedPlayers + "§7 online players."));
     }
 
     private void handleGive(CommandSender sender, String[] args) {
@@ -343,6 +343,7 @@ public class ArmorSetsCommand implements CommandExecutor, TabCompleter {
 
         boolean foundAny = false;
         String[] slotNames = {"Boots", "Leggings", "Chestplate", "Helmet"};
+        plugin.getTierProgressionManager().flush(p);
         ItemStack[] armor = p.getInventory().getArmorContents();
 
         for (int i = 0; i < armor.length; i++) {
@@ -444,6 +445,7 @@ public class ArmorSetsCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage(TextUtil.colorize("§a/as debug saturation §8- §7Toggle saturation debugging"));
             sender.sendMessage(TextUtil.colorize("§a/as debug list §8- §7List all event listeners"));
             sender.sendMessage(TextUtil.colorize("§a/as debug status §8- §7Show current debug status"));
+            sender.sendMessage(TextUtil.colorize("§a/as debug perf [reset] §8- §7Show visual runtime cost"));
             return;
         }
 
@@ -481,10 +483,31 @@ public class ArmorSetsCommand implements CommandExecutor, TabCompleter {
                 sender.sendMessage(TextUtil.colorize("§7Damage debugging: " + (debugger.isDebugDamage() ? "§aON" : "§cOFF")));
                 sender.sendMessage(TextUtil.colorize("§7Saturation debugging: " + (debugger.isDebugSaturation() ? "§aON" : "§cOFF")));
             }
+            case "perf" -> handleDebugPerf(sender, args);
             default -> sender.sendMessage(TextUtil.colorize("§cUnknown debug option. Use §e/as debug"));
         }
     }
 
+    private void handleDebugPerf(CommandSender sender, String[] args) {
+        var runtime = plugin.getAnimationRuntime();
+        if (args.length >= 3 && args[2].equalsIgnoreCase("reset")) {
+            runtime.resetStats();
+            plugin.getParticleBudget().resetStats();
+            sender.sendMessage(TextUtil.colorize("§aPerformance counters reset."));
+            return;
+        }
+
+        sender.sendMessage(TextUtil.colorize("§e=== Visual Runtime ==="));
+        for (String line : runtime.getStatsLines()) {
+            sender.sendMessage(TextUtil.colorize(line));
+        }
+        sender.sendMessage(TextUtil.colorize(plugin.getShapeEngine().getGeometryStats()));
+        for (String line : plugin.getParticleBudget().getStatsLines()) {
+            sender.sendMessage(TextUtil.colorize(line));
+        }
+        sender.sendMessage(TextUtil.colorize("§7Virtual displays: §f" + plugin.getVirtualDisplayManager().getActiveCount()));
+    }
+
     private void handleNotify(CommandSender sender) {
         if (!(sender instanceof Player p)) {
             sender.sendMessage("This command can only be used by players.");
@@ -536,7 +559,7 @@ public class ArmorSetsCommand implements CommandExecutor, TabCompleter {
                     plugin.getSigilManager().getAllSigils().forEach(s -> completions.add(s.getId()));
                 }
                 case "modifiers" -> Bukkit.getOnlinePlayers().forEach(p -> completions.add(p.getName()));
-                case "debug" -> completions.addAll(Arrays.asList("damage", "saturation", "list", "status"));
+                case "debug" -> completions.addAll(Arrays.asList("damage", "saturation", "list", "status", "perf"));
             }
         } else if (args.length == 3) {
             switch (args[0].toLowerCase()) {
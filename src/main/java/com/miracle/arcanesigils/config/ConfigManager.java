@@ -1,6 +1,7 @@
 package com.miracle.arcanesigils.config;
 
 import com.miracle.arcanesigils.ArmorSetsPlugin;
+import com.miracle.arcanesigils.utils.ParallelLoader;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
@@ -9,7 +10,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 
@@ -17,7 +21,8 @@ public class ConfigManager {
 
     private final ArmorSetsPlugin plugin;
     private FileConfiguration mainConfig;
-    private final Map<String, FileConfiguration> sigilConfigs = new HashMap<>();
+    // Replaced as a whole once a reload has parsed every file
+    private volatile Map<String, FileConfiguration> sigilConfigs = Map.of();
     private FileConfiguration messagesConfig;
     private FileConfiguration marksConfig;
     private final Map<String, MarkConfig> markConfigs = new HashMap<>();
@@ -105,31 +110,41 @@ public class ConfigManager {
     }
 
     public void loadSigilConfigs() {
-        sigilConfigs.clear();
-        loadConfigsFromDirectory(sigilsDir, sigilConfigs);
+        sigilConfigs = loadConfigsFromDirectory(sigilsDir, sigilConfigs);
         plugin.getLogger().info("Loaded " + sigilConfigs.size() + " sigil config files");
     }
 
-
-
-    private void loadConfigsFromDirectory(File directory, Map<String, FileConfiguration> configMap) {
+    /**
+     * Parse every file in a directory in parallel. A file that fails to parse keeps its
+     * previously loaded config, so a bad edit never drops half a folder on reload.
+     */
+    private Map<String, FileConfiguration> loadConfigsFromDirectory(File directory, Map<String, FileConfiguration> previous) {
         File[] files = directory.listFiles((dir, name) -> name.endsWith(".yml") || name.endsWith(".yaml"));
-        if (files == null) return;
-
-        for (File file : files) {
-            try {
-                // Force fresh read from disk using InputStreamReader to bypass any caching
-                YamlConfiguration config = new YamlConfiguration();
-                try (java.io.InputStreamReader reader = new java.io.InputStreamReader(
-                        new java.io.FileInputStream(file), java.nio.charset.StandardCharsets.UTF_8)) {
-                    config.load(reader);
-                }
-                String name = file.getName().replace(".yml", "").replace(".yaml", "");
-                configMap.put(name, config);
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.WARNING, "Failed to load config: " + file.getName(), e);
+        if (files == null) return previous;
+
+        List<File> fileList = Arrays.asList(files);
+        List<YamlConfiguration> parsed = ParallelLoader.map(fileList, file -> {
+            // Force fresh read from disk using InputStreamReader to bypass any caching
+            YamlConfiguration config = new YamlConfiguration();
+            try (java.io.InputStreamReader reader = new java.io.InputStreamReader(
+                    new java.io.FileInputStream(file), java.nio.charset.StandardCharsets.UTF_8)) {
+                config.load(reader);
+            }
+            return config;
+        }, (file, error) -> plugin.getLogger().log(Level.WARNING, "Failed to load config: " + file.getName(), error));
+
+        Map<String, FileConfiguration> configMap = new HashMap<>();
+        for (int i = 0; i < fileList.size(); i++) {
+            String name = fileList.get(i).getName().replace(".yml", "").replace(".yaml", "");
+            FileConfiguration config = parsed.get(i);
+            if (config == null) {
+                config = previous.get(name);
+                if (config == null) continue;
+                plugin.getLogger().warning("Keeping previously loaded " + fileList.get(i).getName());
             }
+            configMap.put(name, config);
         }
+        return Collections.unmodifiableMap(configMap);
     }
 
     private void saveDefaultSigils() {
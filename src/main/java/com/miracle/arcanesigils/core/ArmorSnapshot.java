@@ -0,0 +1,122 @@
+package com.miracle.arcanesigils.core;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * What a player is wearing, reduced to what sigil logic cares about: each armor slot's
+ * material and socket list, plus a fingerprint of the two.
+ *
+ * Socket lists come from {@link SocketManager#getSockets(ItemStack)}, which reads the
+ * item's data without copying its meta, so taking a snapshot is cheap. XP and durability
+ * are not part of the fingerprint; only a different piece, socket or tier counts as a change.
+ *
+ * Immutable.
+ */
+public final class ArmorSnapshot {
+
+    public static final int SLOTS = 4;
+    private static final ArmorSnapshot EMPTY = new ArmorSnapshot(new Material[SLOTS], new List[SLOTS], new int[SLOTS]);
+
+    private final Material[] types;
+    private final List<SocketedSigil>[] sockets;
+    private final int[] fingerprints;
+
+    private ArmorSnapshot(Material[] types, List<SocketedSigil>[] sockets, int[] fingerprints) {
+        this.types = types;
+        this.sockets = sockets;
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Snapshot armor contents (boots, leggings, chestplate, helmet as returned by
+     * {@code PlayerInventory#getArmorContents}).
+     */
+    @SuppressWarnings("unchecked")
+    public static ArmorSnapshot of(SocketManager socketManager, ItemStack[] armor) {
+        Material[] types = new Material[SLOTS];
+        List<SocketedSigil>[] sockets = new List[SLOTS];
+        int[] fingerprints = new int[SLOTS];
+
+        for (int i = 0; i < SLOTS && i < armor.length; i++) {
+            ItemStack piece = armor[i];
+            if (piece == null || piece.getType().isAir()) {
+                sockets[i] = List.of();
+                continue;
+            }
+            types[i] = piece.getType();
+            sockets[i] = piece.hasItemMeta() ? socketManager.getSockets(piece) : List.of();
+
+            int hash = types[i].hashCode();
+            for (SocketedSigil socket : sockets[i]) {
+                hash = 31 * hash + socket.id().hashCode();
+                hash = 31 * hash + socket.tier();
+            }
+            fingerprints[i] = hash;
+        }
+        return new ArmorSnapshot(types, sockets, fingerprints);
+    }
+
+    /**
+     * A snapshot with nothing equipped.
+     */
+    public static ArmorSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Material in a slot, or null if the slot is empty.
+     */
+    public Material getType(int slot) {
+        return types[slot];
+    }
+
+    public List<SocketedSigil> getSockets(int slot) {
+        List<SocketedSigil> slotSockets = sockets[slot];
+        return slotSockets != null ? slotSockets : List.of();
+    }
+
+    /**
+     * Whether a slot holds a different piece, socket set or tier than the same slot in another snapshot.
+     */
+    public boolean slotChanged(ArmorSnapshot other, int slot) {
+        // Fingerprints settle almost every check; the list compare only guards against collisions
+        return types[slot] != other.types[slot]
+            || fingerprints[slot] != other.fingerprints[slot]
+            || !sameIdsAndTiers(getSockets(slot), other.getSockets(slot));
+    }
+
+    public boolean matches(ArmorSnapshot other) {
+        for (int i = 0; i < SLOTS; i++) {
+            if (slotChanged(other, i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Ids of every sigil socketed into any worn piece.
+     */
+    public Set<String> getSigilIds() {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < SLOTS; i++) {
+            for (SocketedSigil socket : getSockets(i)) {
+                ids.add(socket.id());
+            }
+        }
+        return ids;
+    }
+
+    private static boolean sameIdsAndTiers(List<SocketedSigil> a, List<SocketedSigil> b) {
+        if (a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            if (!a.get(i).id().equals(b.get(i).id()) || a.get(i).tier() != b.get(i).tier()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,101 @@
+package com.miracle.arcanesigils.core;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.events.ListenerPriority;
+import com.comphenix.protocol.events.PacketAdapter;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.events.PacketEvent;
+import com.miracle.arcanesigils.ArmorSetsPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryCreativeEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders socketed item lore on the client when {@code settings.client-side-lore} is on.
+ *
+ * Server items then carry only their socket data; sigil lines, enchantment lines and XP
+ * bars are added to copies of the items in outgoing window and slot packets. A sigil text
+ * change shows up on the next packet without rewriting any item.
+ *
+ * Creative clients send their displayed items back to the server, so rendered lines are
+ * stripped from creative inventory actions before they land on a real item.
+ */
+public class ClientLoreRenderer extends PacketAdapter implements Listener {
+
+    private final ArmorSetsPlugin plugin;
+
+    public ClientLoreRenderer(ArmorSetsPlugin plugin) {
+        super(plugin, ListenerPriority.HIGH, PacketType.Play.Server.WINDOW_ITEMS, PacketType.Play.Server.SET_SLOT);
+        this.plugin = plugin;
+    }
+
+    /**
+     * Start rewriting packets.
+     */
+    public void register() {
+        ProtocolLibrary.getProtocolManager().addPacketListener(this);
+    }
+
+    public void shutdown() {
+        ProtocolLibrary.getProtocolManager().removePacketListener(this);
+    }
+
+    @Override
+    public void onPacketSending(PacketEvent event) {
+        SocketManager socketManager = plugin.getSocketManager();
+        if (socketManager == null || !socketManager.isClientSideLore()) {
+            return;
+        }
+
+        PacketContainer packet = event.getPacket();
+        try {
+            if (event.getPacketType() == PacketType.Play.Server.SET_SLOT) {
+                ItemStack rendered = socketManager.renderClientLore(packet.getItemModifier().read(0));
+                if (rendered != null) {
+                    packet.getItemModifier().write(0, rendered);
+                }
+                return;
+            }
+
+            // WINDOW_ITEMS: the window contents plus the carried item
+            List<ItemStack> items = packet.getItemListModifier().read(0);
+            List<ItemStack> renderedItems = null;
+            for (int i = 0; i < items.size(); i++) {
+                ItemStack rendered = socketManager.renderClientLore(items.get(i));
+                if (rendered != null) {
+                    if (renderedItems == null) {
+                        renderedItems = new ArrayList<>(items);
+                    }
+                    renderedItems.set(i, rendered);
+                }
+            }
+            if (renderedItems != null) {
+                packet.getItemListModifier().write(0, renderedItems);
+            }
+
+            ItemStack carried = socketManager.renderClientLore(packet.getItemModifier().read(0));
+            if (carried != null) {
+                packet.getItemModifier().write(0, carried);
+            }
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to render client-side lore: " + e.getMessage());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onCreative(InventoryCreativeEvent event) {
+        if (!plugin.getSocketManager().isClientSideLore()) {
+            return;
+        }
+        ItemStack cursor = event.getCursor();
+        if (plugin.getSocketManager().stripClientLore(cursor)) {
+            event.setCursor(cursor);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.miracle.arcanesigils.core;
+
+import com.miracle.arcanesigils.ArmorSetsPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Brings socketed item lore up to date after sigil definitions change.
+ *
+ * Each item carries a stamp of what its lore was built from (see
+ * {@link SocketManager#refreshItemIfStale}), so checking an item is cheap and only stale
+ * ones are rewritten, one slot at a time. Queued players are worked through a few slots
+ * per tick within a time budget instead of all at once. Players are queued on join and
+ * after a reload or GUI edit; containers are checked lazily when opened.
+ *
+ * Main thread only.
+ */
+public class LoreRefreshQueue implements Listener {
+
+    private final ArmorSetsPlugin plugin;
+    private final Set<UUID> queued = new LinkedHashSet<>();
+    private BukkitTask task;
+    private long budgetNanos;
+
+    // Player currently being worked through, and the next slot to check
+    private UUID current;
+    private int nextSlot;
+
+    public LoreRefreshQueue(ArmorSetsPlugin plugin) {
+        this.plugin = plugin;
+        loadConfig();
+    }
+
+    public void loadConfig() {
+        long micros = plugin.getConfigManager().getMainConfig().getLong("settings.lore-refresh.budget-micros", 500);
+        this.budgetNanos = Math.max(50, micros) * 1000L;
+    }
+
+    /**
+     * Queue every online player.
+     * @return number of players queued
+     */
+    public int queueOnlinePlayers() {
+        int count = 0;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            queue(player);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Queue one player's inventory for checking.
+     */
+    public void queue(Player player) {
+        UUID playerId = player.getUniqueId();
+        if (playerId.equals(current)) {
+            // Already being worked through; start over so earlier slots see the change too
+            nextSlot = 0;
+            return;
+        }
+        queued.add(playerId);
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    private void tick() {
+        SocketManager socketManager = plugin.getSocketManager();
+        long start = System.nanoTime();
+
+        while (System.nanoTime() - start < budgetNanos) {
+            if (current == null) {
+                if (queued.isEmpty()) {
+                    task.cancel();
+                    task = null;
+                    return;
+                }
+                var iterator = queued.iterator();
+                current = iterator.next();
+                iterator.remove();
+                nextSlot = 0;
+            }
+
+            Player player = Bukkit.getPlayer(current);
+            if (player == null) {
+                current = null;
+                continue;
+            }
+
+            PlayerInventory inventory = player.getInventory();
+            while (nextSlot < inventory.getSize() && System.nanoTime() - start < budgetNanos) {
+                int slot = nextSlot++;
+                ItemStack item = inventory.getItem(slot);
+                if (socketManager.refreshItemIfStale(item)) {
+                    inventory.setItem(slot, item);
+                }
+            }
+            if (nextSlot >= inventory.getSize()) {
+                current = null;
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        queue(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        queued.remove(playerId);
+        if (playerId.equals(current)) {
+            current = null;
+        }
+    }
+
+    /**
+     * Containers aren't tracked, so their items are brought up to date the first time
+     * they're looked at. Plugin menus have no location and are left alone.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        Inventory top = event.getView().getTopInventory();
+        if (top.getLocation() == null || top.getType() == InventoryType.PLAYER || top.getType() == InventoryType.CRAFTING) {
+            return;
+        }
+        SocketManager socketManager = plugin.getSocketManager();
+        for (int slot = 0; slot < top.getSize(); slot++) {
+            ItemStack item = top.getItem(slot);
+            if (socketManager.refreshItemIfStale(item)) {
+                top.setItem(slot, item);
+            }
+        }
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        queued.clear();
+        current = null;
+    }
+}
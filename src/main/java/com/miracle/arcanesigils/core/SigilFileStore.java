@@ -0,0 +1,178 @@
+package com.miracle.arcanesigils.core;
+
+import com.miracle.arcanesigils.ArmorSetsPlugin;
+import com.miracle.arcanesigils.utils.FileUtil;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * In-memory copies of the YAML files in one folder (sigils/ or behaviors/), written back
+ * in the background.
+ *
+ * An edit only marks the entry dirty in its file's document. Shortly after the last
+ * edit, each dirty entry is serialized once into its document and every changed file is
+ * written off the main thread, replacing the old file atomically. The GUI never waits on
+ * disk, and a burst of edits to one sigil costs one serialization and one write.
+ *
+ * Documents are only touched on the main thread.
+ */
+class SigilFileStore {
+    private static final long FLUSH_DELAY_TICKS = 20L;
+    private static final long WAIT_TIMEOUT_SECONDS = 10;
+
+    private final ArmorSetsPlugin plugin;
+    private final File folder;
+    private final BiConsumer<ConfigurationSection, Sigil> serializer;
+    private final Map<String, Document> documents = new HashMap<>();
+    private final ExecutorService writer;
+    private BukkitTask flushTask;
+
+    /**
+     * @param folder The folder holding the files
+     * @param serializer Writes one sigil's fields into the file's root section
+     */
+    SigilFileStore(ArmorSetsPlugin plugin, File folder, BiConsumer<ConfigurationSection, Sigil> serializer) {
+        this.plugin = plugin;
+        this.folder = folder;
+        this.serializer = serializer;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ArcaneSigils-SigilFiles");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Use an already loaded file as the document, so the first edit doesn't read it again.
+     */
+    void seed(String fileName, FileConfiguration config) {
+        documents.putIfAbsent(fileName, new Document(config));
+    }
+
+    /**
+     * Forget all documents (after a flush, before files are reloaded from disk).
+     */
+    void clear() {
+        documents.clear();
+    }
+
+    /**
+     * Record that a sigil's entry in a file needs rewriting.
+     */
+    void markDirty(String fileName, Sigil sigil) {
+        Document document = document(fileName);
+        document.removed.remove(sigil.getId());
+        document.dirty.put(sigil.getId(), sigil);
+        scheduleFlush();
+    }
+
+    /**
+     * Record that an entry should be dropped from a file.
+     */
+    void markRemoved(String fileName, String id) {
+        if (!documents.containsKey(fileName) && !new File(folder, fileName).exists()) {
+            return; // File doesn't exist, nothing to remove
+        }
+        Document document = document(fileName);
+        if (!document.config.contains(id) && !document.dirty.containsKey(id)) {
+            return;
+        }
+        document.dirty.remove(id);
+        document.removed.add(id);
+        scheduleFlush();
+    }
+
+    /**
+     * Apply pending edits to their documents and queue the changed files for writing.
+     */
+    void flush() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+
+        for (Map.Entry<String, Document> entry : documents.entrySet()) {
+            Document document = entry.getValue();
+            if (document.dirty.isEmpty() && document.removed.isEmpty()) continue;
+
+            for (String id : document.removed) {
+                document.config.set(id, null);
+            }
+            for (Sigil sigil : document.dirty.values()) {
+                serializer.accept(document.config, sigil);
+            }
+            plugin.getLogger().info("Saving " + (document.dirty.size() + document.removed.size())
+                    + " changed entries to " + entry.getKey());
+            document.dirty.clear();
+            document.removed.clear();
+
+            // Snapshot on the main thread; the document keeps changing after this
+            String text = document.config.saveToString();
+            File file = new File(folder, entry.getKey());
+            writer.execute(() -> {
+                try {
+                    FileUtil.writeAtomically(file.toPath(), text);
+                } catch (IOException e) {
+                    plugin.getLogger().severe("Failed to save " + file.getName() + ": " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Flush and block until every queued write has reached disk (reload, disable).
+     */
+    void flushAndWait() {
+        flush();
+        try {
+            writer.submit(() -> { }).get(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            plugin.getLogger().warning("Timed out waiting for sigil files to save: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Flush, wait for the writes and stop the writer thread.
+     */
+    void shutdown() {
+        flushAndWait();
+        writer.shutdown();
+    }
+
+    private void scheduleFlush() {
+        // Restart the delay on every edit so bursts coalesce
+        if (flushTask != null) {
+            flushTask.cancel();
+        }
+        flushTask = plugin.getServer().getScheduler().runTaskLater(plugin, this::flush, FLUSH_DELAY_TICKS);
+    }
+
+    private Document document(String fileName) {
+        return documents.computeIfAbsent(fileName,
+                name -> new Document(YamlConfiguration.loadConfiguration(new File(folder, name))));
+    }
+
+    private static final class Document {
+        private final FileConfiguration config;
+        private final Map<String, Sigil> dirty = new LinkedHashMap<>();
+        private final Set<String> removed = new HashSet<>();
+
+        private Document(FileConfiguration config) {
+            this.config = config;
+        }
+    }
+}
@@ -19,8 +19,8 @@ import com.miracle.arcanesigils.core.RarityUtil;
 import com.miracle.arcanesigils.utils.RomanNumerals;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -33,51 +33,64 @@ import java.util.Set;
 public class SigilManager {
 
     private final ArmorSetsPlugin plugin;
-    private final Map<String, Sigil> sigils = new HashMap<>();
-    private final Map<String, Sigil> behaviors = new HashMap<>();
+    // Swapped for freshly built maps on (re)load; GUI edits go into the current map
+    private volatile Map<String, Sigil> sigils = new HashMap<>();
+    private volatile Map<String, Sigil> behaviors = new HashMap<>();
 
     // PDC keys for sigil data on sigil shard items
     private final NamespacedKey SIGIL_ID_KEY;
     private final NamespacedKey SIGIL_TIER_KEY;
 
+    // GUI edits are written back through these, off the main thread
+    private final SigilFileStore sigilFiles;
+    private final SigilFileStore behaviorFiles;
+
+    // Per-sigil definition version (content hash, bumped on GUI edits); stamped into item lore
+    private Map<String, Integer> definitionVersions = new HashMap<>();
+    private int editCounter;
+
+    // Remember compiled entries between reloads so unchanged ones are reused
+    private final SigilRegistryBuilder sigilRegistry;
+    private final SigilRegistryBuilder behaviorRegistry;
+
     public SigilManager(ArmorSetsPlugin plugin) {
         this.plugin = plugin;
         this.SIGIL_ID_KEY = new NamespacedKey(plugin, "sigil_id");
         this.SIGIL_TIER_KEY = new NamespacedKey(plugin, "sigil_tier");
+        this.sigilFiles = new SigilFileStore(plugin, new File(plugin.getDataFolder(), "sigils"), this::writeSigil);
+        this.behaviorFiles = new SigilFileStore(plugin, new File(plugin.getDataFolder(), "behaviors"), this::writeBehavior);
+        this.sigilRegistry = new SigilRegistryBuilder(plugin, "sigil", false);
+        this.behaviorRegistry = new SigilRegistryBuilder(plugin, "behavior", true);
     }
 
     /**
      * Load all sigils from configuration.
      * Each config entry is ONE sigil. Tier is a property that can be set when giving/socketing.
+     * Files are compiled in parallel and the new registry replaces the old one in one step.
      */
     public void loadSigils() {
-        sigils.clear();
-
+        Map<String, FileConfiguration> configs = new HashMap<>();
         for (Map.Entry<String, FileConfiguration> entry : plugin.getConfigManager().getSigilConfigs().entrySet()) {
-            String fileNameWithoutExt = entry.getKey();
-            String fileName = fileNameWithoutExt + ".yml"; // Add extension back
-            FileConfiguration config = entry.getValue();
-
-            for (String key : config.getKeys(false)) {
-                ConfigurationSection section = config.getConfigurationSection(key);
-                if (section == null) continue;
-
-                Sigil sigil = Sigil.fromConfig(key, section);
-                if (sigil != null) {
-                    sigil.setSourceFile(fileName);
-                    sigils.put(key.toLowerCase(), sigil);
-
-                    // Debug: log flow details for ancient_crown
-                    if (key.equalsIgnoreCase("ancient_crown")) {
-                        int flowCount = sigil.hasFlows() ? sigil.getFlows().size() : 0;
-                        plugin.getLogger().info("[ANCIENT_CROWN] Loaded with " + flowCount + " flows");
-                        if (sigil.hasFlows()) {
-                            for (com.miracle.arcanesigils.flow.FlowConfig flow : sigil.getFlows()) {
-                                String flowId = flow.getGraph() != null ? flow.getGraph().getId() : "unknown";
-                                plugin.getLogger().info("[ANCIENT_CROWN] - Flow ID: " + flowId);
-                            }
-                        }
-                    }
+            configs.put(entry.getKey() + ".yml", entry.getValue()); // Add extension back
+        }
+
+        SigilRegistryBuilder.Result result = sigilRegistry.build(new ArrayList<>(configs.keySet()), configs::get, sigils);
+        sigilFiles.clear();
+        result.configs().forEach(sigilFiles::seed);
+        sigils = result.registry();
+        Map<String, Integer> versions = new HashMap<>();
+        result.hashes().forEach((id, hash) -> versions.put(id, hash.hashCode()));
+        definitionVersions = versions;
+
+        // Debug: log flow details for ancient_crown
+        Sigil crown = sigils.get("ancient_crown");
+        if (crown != null) {
+            int flowCount = crown.hasFlows() ? crown.getFlows().size() : 0;
+            plugin.getLogger().info("[ANCIENT_CROWN] Loaded with " + flowCount + " flows");
+            if (crown.hasFlows()) {
+                for (com.miracle.arcanesigils.flow.FlowConfig flow : crown.getFlows()) {
+                    String flowId = flow.getGraph() != null ? flow.getGraph().getId() : "unknown";
+                    plugin.getLogger().info("[ANCIENT_CROWN] - Flow ID: " + flowId);
                 }
             }
         }
@@ -85,48 +98,63 @@ public class SigilManager {
         plugin.getLogger().info("Loaded " + sigils.size() + " base sigils");
     }
 
+    /**
+     * Get the version of a sigil's definition. It changes whenever the sigil's YAML or GUI
+     * definition changes, so lore built from an older version can be detected as stale.
+     */
+    public int getDefinitionVersion(String id) {
+        return definitionVersions.getOrDefault(id.toLowerCase(), 0);
+    }
+
+    /**
+     * Record an in-memory edit to a sigil and let online players' items catch up.
+     */
+    private void definitionChanged(String id) {
+        String key = id.toLowerCase();
+        definitionVersions.put(key, 31 * definitionVersions.getOrDefault(key, 0) + ++editCounter);
+        if (plugin.getSocketManager() != null && plugin.getSocketManager().isClientSideLore()) {
+            // Nothing stored on the items changes; resending inventories re-renders their lore
+            org.bukkit.Bukkit.getOnlinePlayers().forEach(org.bukkit.entity.Player::updateInventory);
+        } else if (plugin.getLoreRefreshQueue() != null) {
+            plugin.getLoreRefreshQueue().queueOnlinePlayers();
+        }
+    }
+
     /**
      * Load all behaviors from the behaviors folder.
      * Behaviors are sigils with type=BEHAVIOR, used for entity/display/block behaviors.
      */
     public void loadBehaviors() {
-        behaviors.clear();
-
         File behaviorsDir = new File(plugin.getDataFolder(), "behaviors");
         if (!behaviorsDir.exists()) {
             behaviorsDir.mkdirs();
             plugin.getLogger().info("Created behaviors folder");
+            behaviors = new HashMap<>();
+            behaviorFiles.clear();
             return;
         }
 
-        File[] files = behaviorsDir.listFiles((dir, name) -> name.endsWith(".yml"));
+        String[] files = behaviorsDir.list((dir, name) -> name.endsWith(".yml"));
         if (files == null || files.length == 0) {
             plugin.getLogger().info("No behavior files found");
+            behaviors = new HashMap<>();
+            behaviorFiles.clear();
             return;
         }
 
-        for (File file : files) {
-            try {
-                FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-                for (String key : config.getKeys(false)) {
-                    ConfigurationSection section = config.getConfigurationSection(key);
-                    if (section == null) continue;
-
-                    Sigil behavior = Sigil.fromConfig(key, section);
-                    if (behavior != null) {
-                        // Force type to BEHAVIOR
-                        behavior.setSigilType(Sigil.SigilType.BEHAVIOR);
-                        behavior.setSourceFile(file.getName());
-                        behaviors.put(key.toLowerCase(), behavior);
-
-                        // Debug: log flow count for behaviors
-                        int flowCount = behavior.hasFlows() ? behavior.getFlows().size() : 0;
-                        plugin.getLogger().info("  - " + key + ": " + flowCount + " flows");
-                    }
-                }
-            } catch (Exception e) {
-                plugin.getLogger().warning("Failed to load behavior file " + file.getName() + ": " + e.getMessage());
-            }
+        SigilRegistryBuilder.Result result = behaviorRegistry.build(Arrays.asList(files), fileName -> {
+            YamlConfiguration config = new YamlConfiguration();
+            config.load(new File(behaviorsDir, fileName));
+            return config;
+        }, behaviors);
+        behaviorFiles.clear();
+        result.configs().forEach(behaviorFiles::seed);
+        behaviors = result.registry();
+
+        // Debug: log flow count for behaviors
+        for (Sigil behavior : behaviors.values()) {
+            int flowCount = behavior.hasFlows() ? behavior.getFlows().size() : 0;
+            plugin.getLogger().info("  - " + behavior.getId() + ": " + flowCount + " flows");
         }
 
         plugin.getLogger().info("Loaded " + behaviors.size() + " behaviors");
@@ -442,130 +470,110 @@ public class SigilManager {
         // Update in-memory map
         sigils.put(sigil.getId().toLowerCase(), sigil);
 
-        // Save to file
         String sourceFile = sigil.getSourceFile();
         if (sourceFile == null) {
             sourceFile = "sigils.yml"; // Default filename
             sigil.setSourceFile(sourceFile);
         }
 
-        // Get the file path
-        File sigilsDir = new File(plugin.getDataFolder(), "sigils");
-
-        // Ensure directory exists
-        if (!sigilsDir.exists()) {
-            sigilsDir.mkdirs();
-        }
-
-        File file = new File(sigilsDir, sourceFile);
-
         // If filename changed, remove from old file first
         if (oldSourceFile != null && !oldSourceFile.equals(sourceFile)) {
             removeFromFile(sigil.getId(), oldSourceFile);
         }
 
-        try {
-            // Ensure file exists
-            if (!file.exists()) {
-                file.createNewFile();
-            }
-
-            // Load the config file
-            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-
-            // Update the sigil's section
-            String sigilId = sigil.getId();
-
-            // Create or update the sigil section
-            config.set(sigilId + ".name", sigil.getName());
-            config.set(sigilId + ".description", sigil.getDescription());
-            config.set(sigilId + ".slot", sigil.getSlot());
-            config.set(sigilId + ".max_tier", sigil.getMaxTier());
-            config.set(sigilId + ".rarity", sigil.getRarity());
-            config.set(sigilId + ".exclusive", sigil.isExclusive());
+        // Written to disk in the background shortly after the last edit
+        sigilFiles.markDirty(sourceFile, sigil);
+        definitionChanged(sigil.getId());
+    }
 
-            if (sigil.getCrate() != null) {
-                config.set(sigilId + ".crate", sigil.getCrate());
-            }
+    /**
+     * Write a sigil's fields into its file's root section.
+     */
+    private void writeSigil(ConfigurationSection config, Sigil sigil) {
+        String sigilId = sigil.getId();
+
+        // Create or update the sigil section
+        config.set(sigilId + ".name", sigil.getName());
+        config.set(sigilId + ".description", sigil.getDescription());
+        config.set(sigilId + ".slot", sigil.getSlot());
+        config.set(sigilId + ".max_tier", sigil.getMaxTier());
+        config.set(sigilId + ".rarity", sigil.getRarity());
+        config.set(sigilId + ".exclusive", sigil.isExclusive());
+
+        if (sigil.getCrate() != null) {
+            config.set(sigilId + ".crate", sigil.getCrate());
+        }
 
-            if (sigil.getLorePrefix() != null) {
-                config.set(sigilId + ".lore_prefix", sigil.getLorePrefix());
-            }
+        if (sigil.getLorePrefix() != null) {
+            config.set(sigilId + ".lore_prefix", sigil.getLorePrefix());
+        }
 
-            // Save socketables (new key name)
-            if (sigil.getSocketables() != null && !sigil.getSocketables().isEmpty()) {
-                config.set(sigilId + ".socketables", new java.util.ArrayList<>(sigil.getSocketables()));
-            }
+        // Save socketables (new key name)
+        if (sigil.getSocketables() != null && !sigil.getSocketables().isEmpty()) {
+            config.set(sigilId + ".socketables", new java.util.ArrayList<>(sigil.getSocketables()));
+        }
 
-            // Save item form if present (use "item" key, custom_model_data for consistency)
-            if (sigil.getItemForm() != null) {
-                Sigil.ItemForm itemForm = sigil.getItemForm();
-                config.set(sigilId + ".item.material", itemForm.getMaterial().name());
-                config.set(sigilId + ".item.custom_model_data", itemForm.getModelData());
-                config.set(sigilId + ".item.name", itemForm.getName());
-                config.set(sigilId + ".item.lore", itemForm.getLore());
-                config.set(sigilId + ".item.glow", itemForm.isGlow());
-            }
+        // Save item form if present (use "item" key, custom_model_data for consistency)
+        if (sigil.getItemForm() != null) {
+            Sigil.ItemForm itemForm = sigil.getItemForm();
+            config.set(sigilId + ".item.material", itemForm.getMaterial().name());
+            config.set(sigilId + ".item.custom_model_data", itemForm.getModelData());
+            config.set(sigilId + ".item.name", itemForm.getName());
+            config.set(sigilId + ".item.lore", itemForm.getLore());
+            config.set(sigilId + ".item.glow", itemForm.isGlow());
+        }
 
-            // Save tier scaling config if present
-            if (sigil.getTierScalingConfig() != null) {
-                TierScalingConfig tierConfig = sigil.getTierScalingConfig();
-                config.set(sigilId + ".tier.mode", tierConfig.getMode().name());
-
-                // Save parameter arrays
-                if (tierConfig.hasParams()) {
-                    java.util.Map<String, Object> paramsMap = tierConfig.getParams().toMap();
-                    for (java.util.Map.Entry<String, Object> param : paramsMap.entrySet()) {
-                        config.set(sigilId + ".tier.params." + param.getKey(), param.getValue());
-                        LogHelper.debug("[TierSave] %s.tier.params.%s = %s", sigilId, param.getKey(), param.getValue());
-                    }
+        // Save tier scaling config if present
+        if (sigil.getTierScalingConfig() != null) {
+            TierScalingConfig tierConfig = sigil.getTierScalingConfig();
+            config.set(sigilId + ".tier.mode", tierConfig.getMode().name());
+
+            // Save parameter arrays
+            if (tierConfig.hasParams()) {
+                java.util.Map<String, Object> paramsMap = tierConfig.getParams().toMap();
+                for (java.util.Map.Entry<String, Object> param : paramsMap.entrySet()) {
+                    config.set(sigilId + ".tier.params." + param.getKey(), param.getValue());
+                    LogHelper.debug("[TierSave] %s.tier.params.%s = %s", sigilId, param.getKey(), param.getValue());
                 }
             }
+        }
 
-            // Save tier XP config if present
-            if (sigil.getTierXPConfig() != null) {
-                var xpConfig = sigil.getTierXPConfig();
-                config.set(sigilId + ".tier.xp_enabled", xpConfig.isEnabled());
-                if (xpConfig.isEnabled()) {
-                    config.set(sigilId + ".tier.xp.gain_per_activation", xpConfig.getGainPerActivation());
-                    config.set(sigilId + ".tier.xp.curve_type", xpConfig.getCurveType().name());
-                    config.set(sigilId + ".tier.xp.base_xp", xpConfig.getBaseXP());
-                    config.set(sigilId + ".tier.xp.growth_rate", xpConfig.getGrowthRate());
-                }
+        // Save tier XP config if present
+        if (sigil.getTierXPConfig() != null) {
+            var xpConfig = sigil.getTierXPConfig();
+            config.set(sigilId + ".tier.xp_enabled", xpConfig.isEnabled());
+            if (xpConfig.isEnabled()) {
+                config.set(sigilId + ".tier.xp.gain_per_activation", xpConfig.getGainPerActivation());
+                config.set(sigilId + ".tier.xp.curve_type", xpConfig.getCurveType().name());
+                config.set(sigilId + ".tier.xp.base_xp", xpConfig.getBaseXP());
+                config.set(sigilId + ".tier.xp.growth_rate", xpConfig.getGrowthRate());
             }
+        }
 
-            // Save unified flows (replaces old signals and activation)
-            // Uses the new list format: flows: [{type, trigger, nodes...}, ...]
-            LogHelper.debug("[SigilSave] %s hasFlows=%s, flowCount=%d",
-                sigilId, sigil.hasFlows(), sigil.getFlows().size());
-
-            if (sigil.hasFlows()) {
-                // Save as flows list
-                java.util.List<java.util.Map<String, Object>> flowsList =
-                    FlowSerializer.flowConfigsToMapList(sigil.getFlows());
-                LogHelper.debug("[SigilSave] Serialized %d flows for %s", flowsList.size(), sigilId);
-                
-                // AGGRESSIVE DEBUG - log serialized conditions
-                for (java.util.Map<String, Object> flowMap : flowsList) {
-                    Object conditions = flowMap.get("conditions");
-                    plugin.getLogger().severe(String.format(
-                        "[SigilSave] POST-SERIALIZE: flowId=%s, conditions=%s",
-                        flowMap.get("id"), conditions
-                    ));
-                }
-                
-                config.set(sigilId + ".flows", flowsList);
-            } else {
-                LogHelper.warning("[SigilSave] Sigil %s has NO flows to save! Flows list: %s",
-                    sigilId, sigil.getFlows());
+        // Save unified flows (replaces old signals and activation)
+        // Uses the new list format: flows: [{type, trigger, nodes...}, ...]
+        LogHelper.debug("[SigilSave] %s hasFlows=%s, flowCount=%d",
+            sigilId, sigil.hasFlows(), sigil.getFlows().size());
+
+        if (sigil.hasFlows()) {
+            // Save as flows list
+            java.util.List<java.util.Map<String, Object>> flowsList =
+                FlowSerializer.flowConfigsToMapList(sigil.getFlows());
+            LogHelper.debug("[SigilSave] Serialized %d flows for %s", flowsList.size(), sigilId);
+            
+            // AGGRESSIVE DEBUG - log serialized conditions
+            for (java.util.Map<String, Object> flowMap : flowsList) {
+                Object conditions = flowMap.get("conditions");
+                plugin.getLogger().severe(String.format(
+                    "[SigilSave] POST-SERIALIZE: flowId=%s, conditions=%s",
+                    flowMap.get("id"), conditions
+                ));
             }
-
-            // Save to file
-            config.save(file);
-
-            plugin.getLogger().info("Saved sigil: " + sigil.getId() + " to " + sourceFile);
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save sigil " + sigil.getId() + ": " + e.getMessage());
+            
+            config.set(sigilId + ".flows", flowsList);
+        } else {
+            LogHelper.warning("[SigilSave] Sigil %s has NO flows to save! Flows list: %s",
+                sigilId, sigil.getFlows());
         }
     }
 
@@ -574,25 +582,7 @@ public class SigilManager {
      * Used when the sigil's filename changes to clean up the old file.
      */
     private void removeFromFile(String sigilId, String fileName) {
-        File sigilsDir = new File(plugin.getDataFolder(), "sigils");
-        File file = new File(sigilsDir, fileName);
-
-        if (!file.exists()) {
-            return; // File doesn't exist, nothing to remove
-        }
-
-        try {
-            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-
-            // Remove the sigil section
-            if (config.contains(sigilId)) {
-                config.set(sigilId, null);
-                config.save(file);
-                plugin.getLogger().info("Removed sigil " + sigilId + " from old file: " + fileName);
-            }
-        } catch (IOException e) {
-            plugin.getLogger().warning("Failed to remove sigil " + sigilId + " from " + fileName + ": " + e.getMessage());
-        }
+        sigilFiles.markRemoved(fileName, sigilId);
     }
 
     /**
@@ -600,6 +590,7 @@ public class SigilManager {
      */
     public void registerSigil(Sigil sigil) {
         sigils.put(sigil.getId().toLowerCase(), sigil);
+        definitionChanged(sigil.getId());
     }
 
     /**
@@ -610,6 +601,9 @@ public class SigilManager {
         if (sigil != null && sigil.getSourceFile() != null) {
             removeFromFile(sigilId, sigil.getSourceFile());
         }
+        if (sigil != null) {
+            definitionChanged(sigilId);
+        }
     }
 
     /**
@@ -632,58 +626,36 @@ public class SigilManager {
         // Update in-memory map
         behaviors.put(behavior.getId().toLowerCase(), behavior);
 
-        // Save to file
         String sourceFile = behavior.getSourceFile();
         if (sourceFile == null) {
             sourceFile = behavior.getId().toLowerCase() + ".yml";
             behavior.setSourceFile(sourceFile);
         }
 
-        // Get the file path - behaviors go in behaviors/ folder
-        File behaviorsDir = new File(plugin.getDataFolder(), "behaviors");
-
-        // Ensure directory exists
-        if (!behaviorsDir.exists()) {
-            behaviorsDir.mkdirs();
-        }
-
-        File file = new File(behaviorsDir, sourceFile);
-
         // If filename changed, remove from old file first
         if (oldSourceFile != null && !oldSourceFile.equals(sourceFile)) {
             removeFromBehaviorFile(behavior.getId(), oldSourceFile);
         }
 
-        try {
-            // Ensure file exists
-            if (!file.exists()) {
-                file.createNewFile();
-            }
-
-            // Load the config file
-            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-
-            // Update the behavior's section
-            String behaviorId = behavior.getId();
-
-            // Create or update the behavior section
-            config.set(behaviorId + ".name", behavior.getName());
-            config.set(behaviorId + ".type", "BEHAVIOR");
-            config.set(behaviorId + ".description", behavior.getDescription());
-
-            // Save unified flows
-            if (behavior.hasFlows()) {
-                java.util.List<java.util.Map<String, Object>> flowsList =
-                    FlowSerializer.flowConfigsToMapList(behavior.getFlows());
-                config.set(behaviorId + ".flows", flowsList);
-            }
-
-            // Save to file
-            config.save(file);
+        // Written to behaviors/ in the background shortly after the last edit
+        behaviorFiles.markDirty(sourceFile, behavior);
+    }
 
-            plugin.getLogger().info("Saved behavior: " + behavior.getId() + " to behaviors/" + sourceFile);
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save behavior " + behavior.getId() + ": " + e.getMessage());
+    /**
+     * Write a behavior's fields into its file's root section.
+     */
+    private void writeBehavior(ConfigurationSection config, Sigil behavior) {
+        String behaviorId = behavior.getId();
+
+        config.set(behaviorId + ".name", behavior.getName());
+        config.set(behaviorId + ".type", "BEHAVIOR");
+        config.set(behaviorId + ".description", behavior.getDescription());
+
+        // Save unified flows
+        if (behavior.hasFlows()) {
+            java.util.List<java.util.Map<String, Object>> flowsList =
+                FlowSerializer.flowConfigsToMapList(behavior.getFlows());
+            config.set(behaviorId + ".flows", flowsList);
         }
     }
 
@@ -691,24 +663,7 @@ public class SigilManager {
      * Remove a behavior from a specific YAML file in behaviors folder.
      */
     private void removeFromBehaviorFile(String behaviorId, String fileName) {
-        File behaviorsDir = new File(plugin.getDataFolder(), "behaviors");
-        File file = new File(behaviorsDir, fileName);
-
-        if (!file.exists()) {
-            return;
-        }
-
-        try {
-            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-
-            if (config.contains(behaviorId)) {
-                config.set(behaviorId, null);
-                config.save(file);
-                plugin.getLogger().info("Removed behavior " + behaviorId + " from old file: " + fileName);
-            }
-        } catch (IOException e) {
-            plugin.getLogger().warning("Failed to remove behavior " + behaviorId + " from " + fileName + ": " + e.getMessage());
-        }
+        behaviorFiles.markRemoved(fileName, behaviorId);
     }
 
     /**
@@ -728,4 +683,21 @@ public class SigilManager {
             removeFromBehaviorFile(behaviorId, behavior.getSourceFile());
         }
     }
+
+    /**
+     * Write all pending sigil and behavior edits and wait for them to reach disk.
+     * Call before re-reading the files (reload).
+     */
+    public void flushPendingSaves() {
+        sigilFiles.flushAndWait();
+        behaviorFiles.flushAndWait();
+    }
+
+    /**
+     * Write pending edits and stop the background writers (plugin disable).
+     */
+    public void shutdown() {
+        sigilFiles.shutdown();
+        behaviorFiles.shutdown();
+    }
 }
@@ -0,0 +1,197 @@
+package com.miracle.arcanesigils.core;
+
+import com.miracle.arcanesigils.ArmorSetsPlugin;
+import com.miracle.arcanesigils.utils.LogHelper;
+import com.miracle.arcanesigils.utils.ParallelLoader;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the sigil (or behavior) registry from its YAML files.
+ *
+ * Files are indexed and compiled in parallel, then merged on the calling thread in file
+ * name order, so the result never depends on map or directory listing order. When two
+ * files define the same id, the entry with the higher {@code priority} wins; on a tie the
+ * file whose name sorts first wins. Every such conflict is logged.
+ *
+ * Each entry is remembered with a hash of its config section. On the next build an entry
+ * whose file and hash are unchanged reuses the sigil compiled last time instead of going
+ * through {@link Sigil#fromConfig} again. A file that fails to load keeps its entries from
+ * the previous build.
+ */
+final class SigilRegistryBuilder {
+
+    private final ArmorSetsPlugin plugin;
+    private final String label;
+    private final boolean behavior;
+
+    // file name -> (id -> compiled entry) from the last build
+    private Map<String, Map<String, Entry>> lastBuild = Map.of();
+
+    /**
+     * @param label "sigil" or "behavior", for log messages
+     * @param behavior Force every compiled entry to type BEHAVIOR
+     */
+    SigilRegistryBuilder(ArmorSetsPlugin plugin, String label, boolean behavior) {
+        this.plugin = plugin;
+        this.label = label;
+        this.behavior = behavior;
+    }
+
+    /**
+     * Load, compile and merge the given files.
+     *
+     * @param fileNames The files making up the registry
+     * @param reader Loads one file's config; called on loader threads
+     * @param current The live registry, used to check a cached sigil hasn't been replaced
+     */
+    Result build(List<String> fileNames, ParallelLoader.Task<String, FileConfiguration> reader, Map<String, Sigil> current) {
+        List<String> ordered = new ArrayList<>(fileNames);
+        ordered.sort(String.CASE_INSENSITIVE_ORDER.thenComparing(String::compareTo));
+
+        Map<String, Map<String, Entry>> previous = lastBuild;
+        List<FileIndex> indexed = ParallelLoader.map(ordered,
+                fileName -> index(fileName, reader.apply(fileName), previous.getOrDefault(fileName, Map.of()), current),
+                (fileName, error) -> plugin.getLogger().warning(
+                        "Failed to load " + label + " file " + fileName + ": " + error.getMessage()));
+
+        Map<String, Map<String, Entry>> nextBuild = new HashMap<>();
+        Map<String, FileConfiguration> configs = new LinkedHashMap<>();
+        Map<String, Entry> winners = new HashMap<>();
+        Map<String, List<Entry>> conflicts = new LinkedHashMap<>();
+        int compiled = 0;
+        int reused = 0;
+
+        for (int i = 0; i < ordered.size(); i++) {
+            String fileName = ordered.get(i);
+            FileIndex file = indexed.get(i);
+            Map<String, Entry> entries;
+            if (file != null) {
+                configs.put(fileName, file.config());
+                entries = file.entries();
+                compiled += file.compiled();
+                reused += entries.size() - file.compiled();
+            } else {
+                entries = previous.getOrDefault(fileName, Map.of());
+                if (!entries.isEmpty()) {
+                    plugin.getLogger().warning("Keeping " + entries.size() + " previously loaded "
+                            + label + "s from " + fileName);
+                }
+            }
+            nextBuild.put(fileName, entries);
+
+            for (Entry entry : entries.values()) {
+                String id = entry.sigil().getId().toLowerCase();
+                Entry existing = winners.get(id);
+                if (existing == null) {
+                    winners.put(id, entry);
+                    continue;
+                }
+                conflicts.computeIfAbsent(id, k -> new ArrayList<>(List.of(existing))).add(entry);
+                // Files are visited in precedence order, so a later file only wins on a higher priority
+                if (entry.priority() > existing.priority()) {
+                    winners.put(id, entry);
+                }
+            }
+        }
+        lastBuild = nextBuild;
+
+        Map<String, Sigil> registry = new HashMap<>();
+        Map<String, String> hashes = new HashMap<>();
+        for (Map.Entry<String, Entry> winner : winners.entrySet()) {
+            registry.put(winner.getKey(), winner.getValue().sigil());
+            hashes.put(winner.getKey(), winner.getValue().hash());
+        }
+
+        for (Map.Entry<String, List<Entry>> conflict : conflicts.entrySet()) {
+            List<String> sources = new ArrayList<>();
+            for (Entry entry : conflict.getValue()) {
+                sources.add(entry.sigil().getSourceFile() + " (priority " + entry.priority() + ")");
+            }
+            plugin.getLogger().warning("Duplicate " + label + " id '" + conflict.getKey() + "' in "
+                    + String.join(", ", sources) + "; using "
+                    + winners.get(conflict.getKey()).sigil().getSourceFile());
+        }
+        LogHelper.debug("[%s] Load order: %s", label, String.join(", ", ordered));
+        plugin.getLogger().info(String.format("Indexed %d %s files: %d compiled, %d unchanged, %d duplicate ids",
+                ordered.size(), label, compiled, reused, conflicts.size()));
+
+        return new Result(registry, configs, hashes);
+    }
+
+    /**
+     * Compile one file's entries, reusing the previous build's sigil for unchanged sections.
+     * Runs on a loader thread; the main thread is blocked, so reading the live registry is safe.
+     */
+    private FileIndex index(String fileName, FileConfiguration config, Map<String, Entry> previous,
+                            Map<String, Sigil> current) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        int compiled = 0;
+        for (String key : config.getKeys(false)) {
+            ConfigurationSection section = config.getConfigurationSection(key);
+            if (section == null) continue;
+
+            String hash = hash(section);
+            int priority = section.getInt("priority", 0);
+            Entry cached = previous.get(key);
+            if (cached != null && cached.hash().equals(hash)
+                    && current.get(key.toLowerCase()) == cached.sigil()) {
+                entries.put(key, cached);
+                continue;
+            }
+
+            Sigil sigil = Sigil.fromConfig(key, section);
+            if (sigil == null) continue;
+            if (behavior) {
+                // Force type to BEHAVIOR
+                sigil.setSigilType(Sigil.SigilType.BEHAVIOR);
+            }
+            sigil.setSourceFile(fileName);
+            entries.put(key, new Entry(sigil, hash, priority));
+            compiled++;
+        }
+        return new FileIndex(config, entries, compiled);
+    }
+
+    /**
+     * Hash every leaf value under a section, in file order.
+     */
+    private static String hash(ConfigurationSection section) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<String, Object> value : section.getValues(true).entrySet()) {
+                if (value.getValue() instanceof ConfigurationSection) {
+                    digest.update((value.getKey() + "{\n").getBytes(StandardCharsets.UTF_8));
+                } else {
+                    digest.update((value.getKey() + "=" + value.getValue() + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    /**
+     * The merged registry (lowercase id -> sigil), the configs of the files that loaded and
+     * the content hash of each registered entry.
+     */
+    record Result(Map<String, Sigil> registry, Map<String, FileConfiguration> configs, Map<String, String> hashes) {
+    }
+
+    private record Entry(Sigil sigil, String hash, int priority) {
+    }
+
+    private record FileIndex(FileConfiguration config, Map<String, Entry> entries, int compiled) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.miracle.arcanesigils.core;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binary encoding of an item's socketed sigils.
+ *
+ * Layout: a version byte, the entry count, then per entry the UTF-8 sigil ID (length
+ * prefixed), tier and XP. Counts, lengths and numbers are unsigned varints, so a typical
+ * item with a few sigils fits in a couple of dozen bytes.
+ *
+ * Decoded lists are immutable and cached by payload content: the same stored bytes (or
+ * legacy string) always decode to the same list, so re-reading an unchanged item costs a
+ * hash lookup instead of a parse. Sigil IDs are interned, so all cached lists share one
+ * String per ID.
+ */
+final class SocketCodec {
+
+    static final byte VERSION = 1;
+    private static final int CACHE_SIZE = 1024;
+
+    private static final Map<String, String> ID_POOL = new ConcurrentHashMap<>();
+    // Keyed by ByteBuffer (content equality) for binary payloads, String for legacy data
+    private static final Map<Object, List<SocketedSigil>> CACHE =
+            new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, List<SocketedSigil>> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            };
+
+    private SocketCodec() {}
+
+    /**
+     * Encode socket entries. Entries must have non-negative tier and XP.
+     */
+    static byte[] encode(List<SocketedSigil> sockets) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + sockets.size() * 16);
+        out.write(VERSION);
+        writeVarInt(out, sockets.size());
+        for (SocketedSigil socket : sockets) {
+            byte[] id = socket.id().getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, id.length);
+            out.write(id, 0, id.length);
+            writeVarInt(out, Math.max(0, socket.tier()));
+            writeVarInt(out, Math.max(0, socket.xp()));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode a binary payload. Unknown versions and truncated data decode to an empty list.
+     */
+    static List<SocketedSigil> decode(byte[] data) {
+        ByteBuffer key = ByteBuffer.wrap(data);
+        synchronized (CACHE) {
+            List<SocketedSigil> cached = CACHE.get(key);
+            if (cached != null) return cached;
+        }
+        List<SocketedSigil> sockets = read(data);
+        synchronized (CACHE) {
+            CACHE.put(key, sockets);
+        }
+        return sockets;
+    }
+
+    /**
+     * Parse the legacy "sigilId:tier,sigilId:tier" string. XP was stored separately then.
+     */
+    static List<SocketedSigil> parseLegacy(String data) {
+        synchronized (CACHE) {
+            List<SocketedSigil> cached = CACHE.get(data);
+            if (cached != null) return cached;
+        }
+        List<SocketedSigil> sockets = new ArrayList<>();
+        for (String entry : data.split(",")) {
+            if (entry.isEmpty()) continue;
+            int colon = entry.indexOf(':');
+            String id = colon >= 0 ? entry.substring(0, colon) : entry;
+            int tier = 1;
+            if (colon >= 0) {
+                try {
+                    tier = Integer.parseInt(entry.substring(colon + 1));
+                } catch (NumberFormatException ignored) {
+                    // Keep tier 1, as for entries without a tier
+                }
+            }
+            sockets.add(new SocketedSigil(intern(id), tier, 0));
+        }
+        List<SocketedSigil> result = Collections.unmodifiableList(sockets);
+        synchronized (CACHE) {
+            CACHE.put(data, result);
+        }
+        return result;
+    }
+
+    private static List<SocketedSigil> read(byte[] data) {
+        if (data.length == 0 || data[0] != VERSION) {
+            return Collections.emptyList();
+        }
+        int[] pos = {1};
+        try {
+            // Corrupt data can decode to any int; every entry takes at least one byte
+            int count = readVarInt(data, pos);
+            if (count < 0 || count > data.length - pos[0]) {
+                return Collections.emptyList();
+            }
+            List<SocketedSigil> sockets = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = readVarInt(data, pos);
+                if (length < 0 || length > data.length - pos[0]) {
+                    return Collections.emptyList();
+                }
+                String id = intern(new String(data, pos[0], length, StandardCharsets.UTF_8));
+                pos[0] += length;
+                int tier = readVarInt(data, pos);
+                int xp = readVarInt(data, pos);
+                sockets.add(new SocketedSigil(id, tier, xp));
+            }
+            return Collections.unmodifiableList(sockets);
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private static String intern(String id) {
+        String pooled = ID_POOL.putIfAbsent(id, id);
+        return pooled != null ? pooled : id;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] data, int[] pos) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = data[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new ArrayIndexOutOfBoundsException("VarInt too long");
+    }
+}
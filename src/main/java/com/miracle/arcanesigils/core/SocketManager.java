@@ -1,10 +1,10 @@
 package com.miracle.arcanesigils.core;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
@@ -20,6 +20,7 @@ import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
 import com.miracle.arcanesigils.ArmorSetsPlugin;
@@ -27,12 +28,26 @@ import com.miracle.arcanesigils.core.RarityUtil;
 import com.miracle.arcanesigils.utils.RomanNumerals;
 import com.miracle.arcanesigils.utils.TextUtil;
 
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import net.kyori.adventure.text.Component;
 
 public class SocketManager implements Listener {
 
     private final ArmorSetsPlugin plugin;
+    // Binary socket list (see SocketCodec); replaces the legacy "id:tier,id:tier" string
+    private final NamespacedKey SOCKETS_KEY;
     private final NamespacedKey SOCKETED_SIGILS_KEY;
+    // Hash of what the current lore was built from (sockets, sigil definition versions, enchants)
+    private final NamespacedKey LORE_STAMP_KEY;
+
+    // Client-side lore: generated lines are injected into outgoing packets (ClientLoreRenderer)
+    private volatile boolean clientSideLore;
+    private static final String XP_LINE_PREFIX = "  XP ";
+    private static final int XP_BAR_LENGTH = 20;
+    private static final int SIGIL_LINE_CACHE_SIZE = 4096;
+    // "sigilId:tier:definitionVersion" -> rendered line; read from packet threads
+    private final Map<String, Component> sigilLineCache = new ConcurrentHashMap<>();
+    private final Map<String, NamespacedKey> legacyXPKeys = new ConcurrentHashMap<>();
 
     // Enchantment display order per item type
     private static final Map<Enchantment, Integer> SWORD_ENCHANT_ORDER = Map.of(
@@ -52,7 +67,10 @@ public class SocketManager implements Listener {
 
     public SocketManager(ArmorSetsPlugin plugin) {
         this.plugin = plugin;
+        this.SOCKETS_KEY = new NamespacedKey(plugin, "sockets");
         this.SOCKETED_SIGILS_KEY = new NamespacedKey(plugin, "socketed_sigils");
+        this.LORE_STAMP_KEY = new NamespacedKey(plugin, "lore_stamp");
+        loadConfig();
     }
 
     @EventHandler
@@ -189,11 +207,10 @@ public class SocketManager implements Listener {
         if (!player.hasPermission("arcanesigils.socket")) return SocketResult.NO_PERMISSION;
 
         // Check if this sigil type is already socketed (ignore tier)
-        List<String> currentSigils = getSocketedSigilData(item);
+        List<SocketedSigil> currentSigils = getSockets(item);
         String baseId = sigil.getId().toLowerCase();
-        for (String entry : currentSigils) {
-            String existingBase = entry.split(":")[0];
-            if (existingBase.equals(baseId)) {
+        for (SocketedSigil socket : currentSigils) {
+            if (socket.id().equals(baseId)) {
                 return SocketResult.ALREADY_HAS_SIGIL;
             }
         }
@@ -201,12 +218,11 @@ public class SocketManager implements Listener {
         ItemMeta meta = item.getItemMeta();
         if (meta == null) return SocketResult.INVALID_ITEM;
 
-        // Add sigil to list with format "sigilId:tier"
-        currentSigils.add(baseId + ":" + sigil.getTier());
-        String sigilData = String.join(",", currentSigils);
-        meta.getPersistentDataContainer().set(SOCKETED_SIGILS_KEY, PersistentDataType.STRING, sigilData);
+        List<SocketedSigil> updated = new ArrayList<>(currentSigils);
+        updated.add(new SocketedSigil(baseId, sigil.getTier(), 0));
+        setSockets(meta, updated);
 
-        updateItemLore(meta, currentSigils, item.getType());
+        updateItemLore(meta, toData(updated), item.getType());
         meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
         meta.setEnchantmentGlintOverride(false);
         item.setItemMeta(meta);
@@ -220,35 +236,29 @@ public class SocketManager implements Listener {
     public Sigil unsocketSigil(Player player, ItemStack armor) {
         if (armor == null || armor.getType().isAir() || !armor.hasItemMeta()) return null;
 
-        List<String> sigilData = getSocketedSigilData(armor);
+        List<SocketedSigil> sigilData = new ArrayList<>(getSockets(armor));
         if (sigilData.isEmpty()) return null;
 
         // Find the last non-exclusive sigil to remove
-        String entryToRemove = null;
+        int indexToRemove = -1;
         Sigil sigilToRemove = null;
         for (int i = sigilData.size() - 1; i >= 0; i--) {
-            String[] parts = sigilData.get(i).split(":");
-            String sigilId = parts[0];
-            int tier = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
-            Sigil sigil = plugin.getSigilManager().getSigilWithTier(sigilId, tier);
+            SocketedSigil socket = sigilData.get(i);
+            Sigil sigil = plugin.getSigilManager().getSigilWithTier(socket.id(), socket.tier());
             if (sigil != null && !sigil.isExclusive()) {
-                entryToRemove = sigilData.get(i);
+                indexToRemove = i;
                 sigilToRemove = sigil;
                 break;
             }
         }
 
-        if (entryToRemove == null) return null; // All sigils are exclusive
+        if (indexToRemove < 0) return null; // All sigils are exclusive
 
-        sigilData.remove(entryToRemove);
+        sigilData.remove(indexToRemove);
 
         ItemMeta meta = armor.getItemMeta();
-        if (sigilData.isEmpty()) {
-            meta.getPersistentDataContainer().remove(SOCKETED_SIGILS_KEY);
-        } else {
-            meta.getPersistentDataContainer().set(SOCKETED_SIGILS_KEY, PersistentDataType.STRING, String.join(",", sigilData));
-        }
-        updateItemLore(meta, sigilData, armor.getType());
+        setSockets(meta, sigilData);
+        updateItemLore(meta, toData(sigilData), armor.getType());
         meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
         meta.setEnchantmentGlintOverride(false);
         armor.setItemMeta(meta);
@@ -265,30 +275,25 @@ public class SocketManager implements Listener {
         Sigil baseSigil = plugin.getSigilManager().getSigil(sigilId);
         if (baseSigil == null || baseSigil.isExclusive()) return null; // Cannot remove exclusive sigils
 
-        List<String> sigilData = getSocketedSigilData(armor);
-        String entryToRemove = null;
+        List<SocketedSigil> sigilData = new ArrayList<>(getSockets(armor));
+        int indexToRemove = -1;
         Sigil sigilToRemove = null;
 
-        for (String entry : sigilData) {
-            String[] parts = entry.split(":");
-            if (parts[0].equalsIgnoreCase(sigilId)) {
-                entryToRemove = entry;
-                int tier = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
-                sigilToRemove = plugin.getSigilManager().getSigilWithTier(sigilId, tier);
+        for (int i = 0; i < sigilData.size(); i++) {
+            SocketedSigil socket = sigilData.get(i);
+            if (socket.id().equalsIgnoreCase(sigilId)) {
+                indexToRemove = i;
+                sigilToRemove = plugin.getSigilManager().getSigilWithTier(sigilId, socket.tier());
                 break;
             }
         }
 
-        if (entryToRemove == null) return null;
-        sigilData.remove(entryToRemove);
+        if (indexToRemove < 0) return null;
+        sigilData.remove(indexToRemove);
 
         ItemMeta meta = armor.getItemMeta();
-        if (sigilData.isEmpty()) {
-            meta.getPersistentDataContainer().remove(SOCKETED_SIGILS_KEY);
-        } else {
-            meta.getPersistentDataContainer().set(SOCKETED_SIGILS_KEY, PersistentDataType.STRING, String.join(",", sigilData));
-        }
-        updateItemLore(meta, sigilData, armor.getType());
+        setSockets(meta, sigilData);
+        updateItemLore(meta, toData(sigilData), armor.getType());
         meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
         meta.setEnchantmentGlintOverride(false);
         armor.setItemMeta(meta);
@@ -296,15 +301,92 @@ public class SocketManager implements Listener {
     }
 
     /**
-     * Get raw sigil data from armor (format: "sigilId:tier,sigilId:tier").
+     * Get the sigils socketed into an item.
+     * Reads the item's data view without building an ItemMeta, and the parsed list is cached
+     * per stored payload, so repeated reads of an unchanged item are a hash lookup.
+     * Items still in the legacy string format are read as-is and converted on their next write.
+     * @return immutable list, empty if nothing is socketed
      */
-    public List<String> getSocketedSigilData(ItemStack armor) {
-        if (armor == null || !armor.hasItemMeta()) return new ArrayList<>();
+    public List<SocketedSigil> getSockets(ItemStack item) {
+        if (item == null || item.getType().isAir() || !item.hasItemMeta()) return List.of();
+        return readSockets(item.getPersistentDataContainer());
+    }
+
+    /**
+     * Get the sigils socketed into an item from meta that is about to be modified.
+     * @return immutable list, empty if nothing is socketed
+     */
+    public List<SocketedSigil> getSockets(ItemMeta meta) {
+        if (meta == null) return List.of();
+        return readSockets(meta.getPersistentDataContainer());
+    }
+
+    /**
+     * Get the socket entry for one sigil, or null if the item doesn't have it.
+     */
+    public SocketedSigil getSocket(ItemStack item, String sigilId) {
+        for (SocketedSigil socket : getSockets(item)) {
+            if (socket.id().equalsIgnoreCase(sigilId)) return socket;
+        }
+        return null;
+    }
 
-        String data = armor.getItemMeta().getPersistentDataContainer().get(SOCKETED_SIGILS_KEY, PersistentDataType.STRING);
-        if (data == null || data.isEmpty()) return new ArrayList<>();
+    private List<SocketedSigil> readSockets(PersistentDataContainerView pdc) {
+        byte[] data = pdc.get(SOCKETS_KEY, PersistentDataType.BYTE_ARRAY);
+        if (data != null) return SocketCodec.decode(data);
 
-        return new ArrayList<>(Arrays.asList(data.split(",")));
+        String legacy = pdc.get(SOCKETED_SIGILS_KEY, PersistentDataType.STRING);
+        if (legacy == null || legacy.isEmpty()) return List.of();
+        return SocketCodec.parseLegacy(legacy);
+    }
+
+    /**
+     * Store an item's socket list in the current format. Does not touch lore.
+     * Migrates legacy data on the way: the old string is dropped and any old
+     * per-sigil XP keys are folded into their entries.
+     */
+    public void setSockets(ItemMeta meta, List<SocketedSigil> sockets) {
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        pdc.remove(SOCKETED_SIGILS_KEY);
+        if (sockets.isEmpty()) {
+            pdc.remove(SOCKETS_KEY);
+            return;
+        }
+
+        List<SocketedSigil> merged = new ArrayList<>(sockets.size());
+        for (SocketedSigil socket : sockets) {
+            NamespacedKey xpKey = getLegacyXPKey(socket.id());
+            Integer legacyXP = pdc.get(xpKey, PersistentDataType.INTEGER);
+            if (legacyXP != null) {
+                pdc.remove(xpKey);
+                socket = socket.withXP(socket.xp() + legacyXP);
+            }
+            merged.add(socket);
+        }
+        pdc.set(SOCKETS_KEY, PersistentDataType.BYTE_ARRAY, SocketCodec.encode(merged));
+    }
+
+    /**
+     * Key of the per-sigil XP integer used before XP moved into the socket entry.
+     * Only read until the item's sockets are next written.
+     */
+    public NamespacedKey getLegacyXPKey(String sigilId) {
+        return legacyXPKeys.computeIfAbsent(sigilId, id -> new NamespacedKey(plugin, id + "_xp"));
+    }
+
+    private List<String> toData(List<SocketedSigil> sockets) {
+        List<String> data = new ArrayList<>(sockets.size());
+        for (SocketedSigil socket : sockets) {
+            data.add(socket.toData());
+        }
+        return data;
+    }
+
+    /**
+     * Get raw sigil data from armor (format: "sigilId:tier" per entry).
+     */
+    public List<String> getSocketedSigilData(ItemStack armor) {
+        return toData(getSockets(armor));
     }
 
     /**
@@ -312,12 +394,8 @@ public class SocketManager implements Listener {
      */
     public List<Sigil> getSocketedSigils(ItemStack armor) {
         List<Sigil> sigils = new ArrayList<>();
-        for (String entry : getSocketedSigilData(armor)) {
-            String[] parts = entry.split(":");
-            String sigilId = parts[0];
-            int tier = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
-
-            Sigil sigil = plugin.getSigilManager().getSigilWithTier(sigilId, tier);
+        for (SocketedSigil socket : getSockets(armor)) {
+            Sigil sigil = plugin.getSigilManager().getSigilWithTier(socket.id(), socket.tier());
             if (sigil != null) sigils.add(sigil);
         }
         return sigils;
@@ -332,108 +410,137 @@ public class SocketManager implements Listener {
     }
 
     public boolean hasSocketedSigil(ItemStack armor) {
-        return !getSocketedSigilData(armor).isEmpty();
+        return !getSockets(armor).isEmpty();
     }
 
     private void updateItemLore(ItemMeta meta, List<String> sigilIds, Material material) {
-        List<Component> sigilLore = new ArrayList<>();
-        List<Component> enchantLore = new ArrayList<>();
-        List<Component> otherLore = new ArrayList<>();
-        Map<String, String> crateInfo = new java.util.LinkedHashMap<>(); // crateName -> lorePrefix
+        List<Component> otherLore = stripGeneratedLore(meta.lore());
 
-        // Get existing lore and filter out old sigil/enchant entries
-        if (meta.hasLore()) {
-            List<Component> existingLore = meta.lore();
-            if (existingLore != null) {
-                for (Component line : existingLore) {
-                    String plain = net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer.plainText().serialize(line);
-
-                    // Skip old sigil lines (will be rebuilt)
-                    if (plain.contains("➤") || plain.startsWith("▶") || plain.contains("☆") || plain.contains("⚖") || plain.contains("☽") || plain.contains("🌙") ||
-                        plain.contains("Sigils:") || plain.contains("[Sigil]") ||
-                        plain.contains("Socketed:") || plain.contains("Exclusive") ||
-                        plain.contains("Right-click with sigil shard")) {
-                        continue;
-                    }
+        if (clientSideLore) {
+            // Only the socket data stays on the item; the lines are added to outgoing packets
+            meta.lore(otherLore);
+        } else {
+            List<Component> generated = buildGeneratedLore(sigilIds, meta.getEnchants(), material, null);
+            if (meta.hasEnchants()) {
+                // Hide vanilla enchantment display
+                meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+            }
+            meta.lore(composeLore(generated, otherLore));
+        }
 
-                    // Skip old enchantment lines (will be rebuilt from meta)
-                    if (plain.contains("⚔") || plain.contains("🛡") || plain.contains("✦")) {
-                        continue;
-                    }
+        meta.getPersistentDataContainer().set(LORE_STAMP_KEY, PersistentDataType.INTEGER,
+            loreStamp(sigilIds, meta.getEnchants()));
+    }
 
-                    otherLore.add(line);
-                }
+    /**
+     * Drop previously generated sigil/enchant lines, keeping everything else.
+     */
+    private List<Component> stripGeneratedLore(List<Component> existingLore) {
+        List<Component> otherLore = new ArrayList<>();
+        if (existingLore == null) {
+            return otherLore;
+        }
+        for (Component line : existingLore) {
+            String plain = net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer.plainText().serialize(line);
+
+            // Skip old sigil lines (will be rebuilt)
+            if (plain.contains("➤") || plain.startsWith("▶") || plain.contains("☆") || plain.contains("⚖") || plain.contains("☽") || plain.contains("🌙") ||
+                plain.contains("Sigils:") || plain.contains("[Sigil]") ||
+                plain.contains("Socketed:") || plain.contains("Exclusive") ||
+                plain.contains("Right-click with sigil shard")) {
+                continue;
             }
+
+            // Skip old enchantment lines (will be rebuilt from meta)
+            if (plain.contains("⚔") || plain.contains("🛡") || plain.contains("✦")) {
+                continue;
+            }
+
+            // Skip XP bars added by client-side rendering (creative clients send them back)
+            if (plain.startsWith(XP_LINE_PREFIX)) {
+                continue;
+            }
+
+            otherLore.add(line);
         }
+        return otherLore;
+    }
+
+    /**
+     * Build final lore order:
+     * 1. Exclusive sigils (⚖)
+     * 2. Regular sigils (➤)
+     * 3. Enchantments (✦)
+     * 4. Crate exclusive badge
+     * 5. Other lore
+     */
+    private List<Component> composeLore(List<Component> generated, List<Component> otherLore) {
+        List<Component> finalLore = new ArrayList<>(generated);
+
+        // Add separator and other lore if content exists
+        if (!generated.isEmpty() && !otherLore.isEmpty()) {
+            finalLore.add(Component.empty());
+        }
+
+        // Add other lore (set info, descriptions, etc.)
+        finalLore.addAll(otherLore);
+        return finalLore;
+    }
+
+    /**
+     * Build the sigil, enchantment and crate badge lines for an item.
+     * @param xpItem when non-null, an XP bar is added under each sigil that is still levelling
+     */
+    private List<Component> buildGeneratedLore(List<String> sigilIds, Map<Enchantment, Integer> enchants,
+                                               Material material, ItemStack xpItem) {
+        List<Component> sigilLore = new ArrayList<>();
+        List<Component> enchantLore = new ArrayList<>();
+        Map<String, String> crateInfo = new java.util.LinkedHashMap<>(); // crateName -> lorePrefix
 
         // Collect sigils and separate exclusive from regular
-        List<Sigil> exclusiveSigils = new ArrayList<>();
-        List<Sigil> regularSigils = new ArrayList<>();
+        // Base definitions plus the item's tier; the line only needs these, not a tiered clone
+        List<SocketLine> exclusiveSigils = new ArrayList<>();
+        List<SocketLine> regularSigils = new ArrayList<>();
 
         for (String entry : sigilIds) {
             // Parse format "sigilId:tier"
             String[] parts = entry.split(":");
             String sigilId = parts[0];
             int tier = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
-            Sigil sigil = plugin.getSigilManager().getSigilWithTier(sigilId, tier);
+            Sigil sigil = plugin.getSigilManager().getSigil(sigilId);
             if (sigil != null) {
+                SocketLine line = new SocketLine(sigil, Math.max(1, Math.min(tier, sigil.getMaxTier())));
                 if (sigil.isExclusive()) {
-                    exclusiveSigils.add(sigil);
+                    exclusiveSigils.add(line);
                     if (sigil.getCrate() != null) {
                         String prefix = sigil.getLorePrefix() != null ? sigil.getLorePrefix() : "<gradient:#FFD700:#CD853F>⚖</gradient>";
                         crateInfo.put(sigil.getCrate(), prefix);
                     }
                 } else {
-                    regularSigils.add(sigil);
+                    regularSigils.add(line);
                 }
             }
         }
 
         // Sort both lists by rarity (highest first)
-        exclusiveSigils.sort((a, b) -> RarityUtil.getOrder(b.getRarity()) - RarityUtil.getOrder(a.getRarity()));
-        regularSigils.sort((a, b) -> RarityUtil.getOrder(b.getRarity()) - RarityUtil.getOrder(a.getRarity()));
+        exclusiveSigils.sort((a, b) -> RarityUtil.getOrder(b.sigil().getRarity()) - RarityUtil.getOrder(a.sigil().getRarity()));
+        regularSigils.sort((a, b) -> RarityUtil.getOrder(b.sigil().getRarity()) - RarityUtil.getOrder(a.sigil().getRarity()));
 
         // Build sigil lore - exclusive sigils first with custom prefix (from YAML lore_prefix)
-        for (Sigil sigil : exclusiveSigils) {
-            String baseName = sigil.getName().replaceAll("\\s*&8\\[T\\d+\\]", "").trim();
-            String roman = RomanNumerals.toRoman(sigil.getTier());
-            // Use prefix from YAML with its own formatting (no rarity color override)
-            String prefix = sigil.getLorePrefix() != null ? sigil.getLorePrefix() : "<gradient:#FFD700:#CD853F>⚖</gradient>";
-
-            // Extract gradient end color for tier display
-            String tierColor = "<color:#CD853F>"; // Default
-            if (prefix.contains("<gradient:#")) {
-                java.util.regex.Matcher matcher = java.util.regex.Pattern
-                    .compile("<gradient:#[A-Fa-f0-9]{6}:(#[A-Fa-f0-9]{6})>")
-                    .matcher(prefix);
-                if (matcher.find()) {
-                    tierColor = "<color:" + matcher.group(1) + ">";
-                }
-            }
-
-            // Make tier bold if at max tier
-            boolean isMaxTier = sigil.getTier() >= sigil.getMaxTier();
-            String tierFormat = isMaxTier ? tierColor + "<bold>" + roman + "</bold>" : tierColor + roman;
-
-            sigilLore.add(TextUtil.parseComponent(prefix + " " + baseName + " " + tierFormat));
+        for (SocketLine line : exclusiveSigils) {
+            sigilLore.add(sigilLine(line.sigil(), line.tier()));
+            addXPLine(sigilLore, line, xpItem);
         }
 
         // Regular sigils with ➤ prefix (rarity color)
-        for (Sigil sigil : regularSigils) {
-            String baseName = sigil.getName().replaceAll("\\s*&8\\[T\\d+\\]", "").trim();
-            String roman = RomanNumerals.toRoman(sigil.getTier());
-            String rarityColor = RarityUtil.getColor(sigil.getRarity());
-
-            // Make tier white and bold if at max tier, otherwise aqua
-            boolean isMaxTier = sigil.getTier() >= sigil.getMaxTier();
-            String tierFormat = isMaxTier ? "§f§l" + roman : "§b" + roman;
-
-            sigilLore.add(TextUtil.parseComponent(rarityColor + "➤ " + baseName + " " + tierFormat));
+        for (SocketLine line : regularSigils) {
+            sigilLore.add(sigilLine(line.sigil(), line.tier()));
+            addXPLine(sigilLore, line, xpItem);
         }
 
         // Build enchantment lore from item's actual enchantments (custom order)
-        if (meta.hasEnchants()) {
-            List<Map.Entry<Enchantment, Integer>> sortedEnchants = new ArrayList<>(meta.getEnchants().entrySet());
+        if (!enchants.isEmpty()) {
+            List<Map.Entry<Enchantment, Integer>> sortedEnchants = new ArrayList<>(enchants.entrySet());
             Map<Enchantment, Integer> orderMap = isSword(material) ? SWORD_ENCHANT_ORDER : ARMOR_ENCHANT_ORDER;
 
             sortedEnchants.sort((a, b) -> {
@@ -450,16 +557,8 @@ public class SocketManager implements Listener {
                 String roman = RomanNumerals.toRoman(level);
                 enchantLore.add(TextUtil.parseComponent("§8➤ §7" + enchantName + " §b" + roman));
             }
-            // Hide vanilla enchantment display
-            meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
         }
 
-        // Build final lore order:
-        // 1. Exclusive sigils (⚖)
-        // 2. Regular sigils (➤)
-        // 3. Enchantments (✦)
-        // 4. Crate exclusive badge
-        // 5. Other lore
         List<Component> finalLore = new ArrayList<>();
 
         // Add sigils at the top
@@ -513,15 +612,143 @@ public class SocketManager implements Listener {
             }
         }
 
-        // Add separator and other lore if content exists
-        if ((!sigilLore.isEmpty() || !enchantLore.isEmpty() || !crateInfo.isEmpty()) && !otherLore.isEmpty()) {
-            finalLore.add(Component.empty());
+        return finalLore;
+    }
+
+    /**
+     * The lore line for one sigil at its tier. Lines are cached per sigil, tier and
+     * definition version, since the MiniMessage parsing is the expensive part.
+     */
+    private Component sigilLine(Sigil sigil, int tier) {
+        String cacheKey = sigil.getId().toLowerCase() + ':' + tier + ':'
+            + plugin.getSigilManager().getDefinitionVersion(sigil.getId());
+        if (sigilLineCache.size() > SIGIL_LINE_CACHE_SIZE) {
+            // Old definition versions are never asked for again
+            sigilLineCache.clear();
         }
+        return sigilLineCache.computeIfAbsent(cacheKey, key -> {
+            String baseName = sigil.getName().replaceAll("\\s*&8\\[T\\d+\\]", "").trim();
+            String roman = RomanNumerals.toRoman(tier);
+            boolean isMaxTier = tier >= sigil.getMaxTier();
+
+            if (sigil.isExclusive()) {
+                // Use prefix from YAML with its own formatting (no rarity color override)
+                String prefix = sigil.getLorePrefix() != null ? sigil.getLorePrefix() : "<gradient:#FFD700:#CD853F>⚖</gradient>";
+
+                // Extract gradient end color for tier display
+                String tierColor = "<color:#CD853F>"; // Default
+                if (prefix.contains("<gradient:#")) {
+                    java.util.regex.Matcher matcher = java.util.regex.Pattern
+                        .compile("<gradient:#[A-Fa-f0-9]{6}:(#[A-Fa-f0-9]{6})>")
+                        .matcher(prefix);
+                    if (matcher.find()) {
+                        tierColor = "<color:" + matcher.group(1) + ">";
+                    }
+                }
 
-        // Add other lore (set info, descriptions, etc.)
-        finalLore.addAll(otherLore);
+                // Make tier bold if at max tier
+                String tierFormat = isMaxTier ? tierColor + "<bold>" + roman + "</bold>" : tierColor + roman;
+                return TextUtil.parseComponent(prefix + " " + baseName + " " + tierFormat);
+            }
 
-        meta.lore(finalLore);
+            String rarityColor = RarityUtil.getColor(sigil.getRarity());
+            // Make tier white and bold if at max tier, otherwise aqua
+            String tierFormat = isMaxTier ? "§f§l" + roman : "§b" + roman;
+            return TextUtil.parseComponent(rarityColor + "➤ " + baseName + " " + tierFormat);
+        });
+    }
+
+    /**
+     * Add an XP progress bar under a sigil line (client-side lore only).
+     */
+    private void addXPLine(List<Component> lore, SocketLine line, ItemStack xpItem) {
+        if (xpItem == null || plugin.getTierProgressionManager() == null) return;
+
+        com.miracle.arcanesigils.tier.TierProgressionManager.XPProgressInfo info =
+            plugin.getTierProgressionManager().getProgressInfo(xpItem, line.sigil().getId(), line.tier());
+        if (info == null || !info.xpEnabled || info.maxTierReached || info.requiredXP <= 0) return;
+
+        lore.add(TextUtil.parseComponent("§8" + XP_LINE_PREFIX + info.getProgressBar(XP_BAR_LENGTH)
+            + " §7" + info.currentXP + "/" + info.requiredXP + " XP"));
+    }
+
+    /**
+     * Copy of an item with its generated lore added, for sending to a client when
+     * client-side lore is enabled. The server item is never modified.
+     * @return the display copy, or null if the item has no sockets
+     */
+    public ItemStack renderClientLore(ItemStack item) {
+        if (item == null || item.getType().isAir() || !item.hasItemMeta()) {
+            return null;
+        }
+
+        List<SocketedSigil> sockets = getSockets(item);
+        if (sockets.isEmpty()) {
+            return null;
+        }
+
+        ItemStack display = item.clone();
+        ItemMeta meta = display.getItemMeta();
+        List<Component> generated = buildGeneratedLore(toData(sockets), meta.getEnchants(), display.getType(), item);
+        meta.lore(composeLore(generated, stripGeneratedLore(meta.lore())));
+        if (meta.hasEnchants()) {
+            meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+        }
+        display.setItemMeta(meta);
+        return display;
+    }
+
+    /**
+     * Remove client-rendered lines from an item a creative client sent back.
+     * @return true if the item was changed
+     */
+    public boolean stripClientLore(ItemStack item) {
+        if (item == null || item.getType().isAir() || !item.hasItemMeta() || getSockets(item).isEmpty()) {
+            return false;
+        }
+        ItemMeta meta = item.getItemMeta();
+        List<Component> lore = meta.lore();
+        List<Component> stripped = stripGeneratedLore(lore);
+        if (lore == null || stripped.size() == lore.size()) {
+            return false;
+        }
+        meta.lore(stripped);
+        item.setItemMeta(meta);
+        return true;
+    }
+
+    private record SocketLine(Sigil sigil, int tier) {}
+
+    /**
+     * Whether generated lore is kept off the server item and rendered into packets instead.
+     */
+    public boolean isClientSideLore() {
+        return clientSideLore;
+    }
+
+    public void loadConfig() {
+        this.clientSideLore = plugin.getConfigManager().getMainConfig().getBoolean("settings.client-side-lore", false);
+        sigilLineCache.clear();
+    }
+
+    /**
+     * Hash of everything the generated lore lines depend on. Items whose stored stamp
+     * matches don't need their lore rebuilt.
+     */
+    private int loreStamp(List<String> sigilIds, Map<Enchantment, Integer> enchants) {
+        int hash = 1;
+        for (String entry : sigilIds) {
+            int colon = entry.indexOf(':');
+            String sigilId = colon >= 0 ? entry.substring(0, colon) : entry;
+            hash = 31 * hash + entry.hashCode();
+            if (!clientSideLore) {
+                // Client-side lore isn't stored on the item, so definition edits don't stale it
+                hash = 31 * hash + plugin.getSigilManager().getDefinitionVersion(sigilId);
+            }
+        }
+        hash = 31 * hash + enchants.hashCode();
+        // Switching lore mode makes every item stale, so items migrate as they're seen
+        return 31 * hash + (clientSideLore ? 1 : 0);
     }
 
     private String formatEnchantmentName(Enchantment enchant) {
@@ -806,7 +1033,6 @@ public class SocketManager implements Listener {
     }
 
     public enum SocketResult { SUCCESS, WRONG_SLOT, ALREADY_HAS_SIGIL, TIER_TOO_LOW, NO_PERMISSION, INVALID_ITEM }
-    public NamespacedKey getSocketedSigilKey() { return SOCKETED_SIGILS_KEY; }
 
     /**
      * Public wrapper to update item lore with sigil entries.
@@ -823,14 +1049,12 @@ public class SocketManager implements Listener {
     public void updateSocketedSigilTier(ItemStack armor, String sigilId, int newTier) {
         if (armor == null || !armor.hasItemMeta()) return;
 
-        List<String> sigilData = getSocketedSigilData(armor);
+        List<SocketedSigil> sigilData = new ArrayList<>(getSockets(armor));
         boolean updated = false;
 
         for (int i = 0; i < sigilData.size(); i++) {
-            String entry = sigilData.get(i);
-            String[] parts = entry.split(":");
-            if (parts[0].equalsIgnoreCase(sigilId)) {
-                sigilData.set(i, sigilId + ":" + newTier);
+            if (sigilData.get(i).id().equalsIgnoreCase(sigilId)) {
+                sigilData.set(i, sigilData.get(i).withTier(newTier));
                 updated = true;
                 break;
             }
@@ -838,11 +1062,7 @@ public class SocketManager implements Listener {
 
         if (updated) {
             ItemMeta meta = armor.getItemMeta();
-            meta.getPersistentDataContainer().set(
-                    SOCKETED_SIGILS_KEY,
-                    PersistentDataType.STRING,
-                    String.join(",", sigilData)
-            );
+            setSockets(meta, sigilData);
             armor.setItemMeta(meta);
         }
     }
@@ -863,77 +1083,55 @@ public class SocketManager implements Listener {
     }
 
     /**
-     * Refresh all socketed items for all online players.
-     * Updates lore based on current YAML configuration.
-     * @return number of items updated
+     * Queue a lore refresh for every online player's socketed items.
+     * Items are checked a few at a time over the next ticks; only stale ones are rewritten.
+     * @return number of players queued
      */
     public int refreshAllPlayerItems() {
-        int updatedCount = 0;
-
-        for (Player player : org.bukkit.Bukkit.getOnlinePlayers()) {
-            updatedCount += refreshPlayerItems(player);
-        }
-
-        return updatedCount;
+        return plugin.getLoreRefreshQueue().queueOnlinePlayers();
     }
 
     /**
-     * Refresh all socketed items for a specific player.
-     * Updates lore based on current YAML configuration.
+     * Refresh all socketed items for a specific player right away.
+     * Only items whose lore is stale are rewritten, slot by slot.
      * @param player the player to update
      * @return number of items updated
      */
     public int refreshPlayerItems(Player player) {
         int updatedCount = 0;
+        org.bukkit.inventory.PlayerInventory inventory = player.getInventory();
 
-        // Check armor slots
-        ItemStack[] armor = player.getInventory().getArmorContents();
-        for (int i = 0; i < armor.length; i++) {
-            if (refreshItemIfSocketed(armor[i])) {
-                updatedCount++;
-            }
-        }
-        // Apply armor changes back
-        player.getInventory().setArmorContents(armor);
-
-        // Check main hand
-        ItemStack mainHand = player.getInventory().getItemInMainHand();
-        if (refreshItemIfSocketed(mainHand)) {
-            player.getInventory().setItemInMainHand(mainHand);
-            updatedCount++;
-        }
-
-        // Check off hand
-        ItemStack offHand = player.getInventory().getItemInOffHand();
-        if (refreshItemIfSocketed(offHand)) {
-            player.getInventory().setItemInOffHand(offHand);
-            updatedCount++;
-        }
-
-        // Check entire inventory for socketable items
-        ItemStack[] contents = player.getInventory().getContents();
-        for (int i = 0; i < contents.length; i++) {
-            if (refreshItemIfSocketed(contents[i])) {
+        // Covers storage, armor and offhand slots
+        for (int slot = 0; slot < inventory.getSize(); slot++) {
+            ItemStack item = inventory.getItem(slot);
+            if (refreshItemIfStale(item)) {
+                inventory.setItem(slot, item);
                 updatedCount++;
             }
         }
-        player.getInventory().setContents(contents);
 
         return updatedCount;
     }
 
     /**
-     * Refresh a single item's lore if it has socketed sigils.
+     * Rebuild an item's lore if it has socketed sigils and its lore stamp is out of date.
+     * The check reads the item's data without copying its meta.
      * @param item the item to check and refresh
      * @return true if the item was updated
      */
-    private boolean refreshItemIfSocketed(ItemStack item) {
+    public boolean refreshItemIfStale(ItemStack item) {
         if (item == null || item.getType().isAir() || !item.hasItemMeta()) {
             return false;
         }
 
-        List<String> sigilData = getSocketedSigilData(item);
-        if (sigilData.isEmpty()) {
+        List<SocketedSigil> sockets = getSockets(item);
+        if (sockets.isEmpty()) {
+            return false;
+        }
+
+        List<String> sigilData = toData(sockets);
+        Integer stamp = item.getPersistentDataContainer().get(LORE_STAMP_KEY, PersistentDataType.INTEGER);
+        if (stamp != null && stamp == loreStamp(sigilData, item.getEnchantments())) {
             return false;
         }
 
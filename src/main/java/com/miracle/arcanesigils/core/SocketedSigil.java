@@ -0,0 +1,28 @@
+package com.miracle.arcanesigils.core;
+
+/**
+ * One sigil socketed into an item: its ID, tier and the tier XP it has earned there.
+ */
+public record SocketedSigil(String id, int tier, int xp) {
+
+    /**
+     * Copy of this entry with a different tier.
+     */
+    public SocketedSigil withTier(int newTier) {
+        return new SocketedSigil(id, newTier, xp);
+    }
+
+    /**
+     * Copy of this entry with a different XP total.
+     */
+    public SocketedSigil withXP(int newXP) {
+        return new SocketedSigil(id, tier, newXP);
+    }
+
+    /**
+     * Legacy "sigilId:tier" form, as used by the lore builder and older callers.
+     */
+    public String toData() {
+        return id + ":" + tier;
+    }
+}
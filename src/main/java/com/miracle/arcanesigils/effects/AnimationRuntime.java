@@ -0,0 +1,620 @@
+package com.miracle.arcanesigils.effects;
+
+import com.miracle.arcanesigils.ArmorSetsPlugin;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Single tick loop for every visual animation (particle shapes, display orbits, presets).
+ *
+ * Each animation is a row in a component store - position source, shape, modifiers,
+ * renderer and lifetime are kept in parallel arrays and stepped system-by-system in one
+ * task instead of one BukkitRunnable per effect. New animations are rejected once the
+ * owner or world reaches its cap (settings.animations.*); the end callback still runs so
+ * callers can release displays they already spawned.
+ *
+ * Main thread only.
+ */
+public class AnimationRuntime {
+
+    /**
+     * Resolves the animation center each step. Returning null ends the animation (LOST_SOURCE).
+     */
+    @FunctionalInterface
+    public interface PositionSource {
+        Location resolve();
+    }
+
+    /**
+     * Generates the points for a step around the resolved center.
+     */
+    @FunctionalInterface
+    public interface ShapeSource {
+        List<Location> generate(Location center, double progress, int tick);
+    }
+
+    /**
+     * Mutates the generated points in place (rotation, ground snapping, preset modifiers).
+     */
+    @FunctionalInterface
+    public interface PointModifier {
+        void apply(List<Location> points, Location center, double progress);
+    }
+
+    /**
+     * Draws a step - spawns particles, moves displays, plays sounds.
+     */
+    @FunctionalInterface
+    public interface Renderer {
+        void render(Location center, List<Location> points, double progress, int tick);
+    }
+
+    public enum EndReason {
+        /** Lifetime elapsed or the animation completed itself */
+        EXPIRED,
+        /** Cancelled through its handle */
+        CANCELLED,
+        /** Position source returned null (owner offline, target gone) */
+        LOST_SOURCE,
+        /** Owner or world cap reached - never started */
+        REJECTED,
+        /** A component threw */
+        ERROR,
+        /** Runtime shut down */
+        SHUTDOWN
+    }
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ArmorSetsPlugin plugin;
+    private BukkitTask task;
+
+    // ============ Component store (one row per animation) ============
+
+    private int size = 0;
+    private Handle[] handles = new Handle[INITIAL_CAPACITY];
+    private String[] kinds = new String[INITIAL_CAPACITY];
+    private UUID[] owners = new UUID[INITIAL_CAPACITY];
+    private World[] worlds = new World[INITIAL_CAPACITY];
+    private PositionSource[] positions = new PositionSource[INITIAL_CAPACITY];
+    private ShapeSource[] shapes = new ShapeSource[INITIAL_CAPACITY];
+    private PointModifier[][] modifiers = new PointModifier[INITIAL_CAPACITY][];
+    private Renderer[] renderers = new Renderer[INITIAL_CAPACITY];
+    @SuppressWarnings("unchecked")
+    private Consumer<EndReason>[] endCallbacks = new Consumer[INITIAL_CAPACITY];
+    private int[] ages = new int[INITIAL_CAPACITY];
+    private int[] lifetimes = new int[INITIAL_CAPACITY];
+    private int[] intervals = new int[INITIAL_CAPACITY];
+    private int[] delays = new int[INITIAL_CAPACITY];
+
+    // Per-step scratch columns
+    private Location[] centers = new Location[INITIAL_CAPACITY];
+    @SuppressWarnings("unchecked")
+    private List<Location>[] points = new List[INITIAL_CAPACITY];
+    private boolean[] due = new boolean[INITIAL_CAPACITY];
+
+    // Cap bookkeeping
+    private final Map<UUID, Integer> perOwner = new HashMap<>();
+    private final Map<World, Integer> perWorld = new HashMap<>();
+    private int maxPerPlayer;
+    private int maxPerWorld;
+
+    // ============ Profiling ============
+
+    private static final double EMA_ALPHA = 0.05;
+    private static final String[] SYSTEM_NAMES = {"lifetime", "position", "shape", "modifier", "render"};
+    private final double[] systemAvgNanos = new double[SYSTEM_NAMES.length];
+    private double tickAvgNanos = 0;
+    private long tickPeakNanos = 0;
+    private long totalStarted = 0;
+    private long totalRejected = 0;
+    private long totalErrors = 0;
+
+    public AnimationRuntime(ArmorSetsPlugin plugin) {
+        this.plugin = plugin;
+        loadConfig();
+        startTask();
+    }
+
+    /**
+     * Re-read caps from config.
+     */
+    public void loadConfig() {
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        this.maxPerPlayer = config.getInt("settings.animations.max-per-player", 32);
+        this.maxPerWorld = config.getInt("settings.animations.max-per-world", 512);
+    }
+
+    private void startTask() {
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * Begin describing a new animation.
+     *
+     * @param kind  Short label used for profiling (e.g. "particle:pulse", "preset")
+     * @param world World the animation renders in (counts towards the world cap)
+     */
+    public Builder create(String kind, World world) {
+        return new Builder(kind, world);
+    }
+
+    // ============ Tick ============
+
+    private void tick() {
+        if (size == 0) {
+            tickAvgNanos += (0 - tickAvgNanos) * EMA_ALPHA;
+            return;
+        }
+
+        long tickStart = System.nanoTime();
+        int count = size; // Animations started during this tick are stepped from the next one
+        long mark = tickStart;
+
+        // Lifetime system - expire and decide which rows step this tick
+        for (int i = 0; i < count; i++) {
+            Handle handle = handles[i];
+            if (handle.ended != null) {
+                due[i] = false;
+                continue;
+            }
+            int age = ages[i];
+            if (age >= lifetimes[i]) {
+                handle.ended = EndReason.EXPIRED;
+                due[i] = false;
+                continue;
+            }
+            int active = age - delays[i];
+            due[i] = active >= 0 && active % intervals[i] == 0;
+        }
+        mark = record(0, mark);
+
+        // Position system
+        for (int i = 0; i < count; i++) {
+            if (!due[i]) continue;
+            try {
+                Location center = positions[i].resolve();
+                if (center == null) {
+                    handles[i].ended = EndReason.LOST_SOURCE;
+                    due[i] = false;
+                } else {
+                    centers[i] = center;
+                }
+            } catch (Exception e) {
+                fail(i, "position", e);
+            }
+        }
+        mark = record(1, mark);
+
+        // Shape system
+        for (int i = 0; i < count; i++) {
+            if (!stepping(i)) continue;
+            if (shapes[i] == null) {
+                points[i] = Collections.emptyList();
+                continue;
+            }
+            try {
+                List<Location> generated = shapes[i].generate(centers[i], progress(i), ages[i]);
+                points[i] = generated != null ? generated : Collections.emptyList();
+            } catch (Exception e) {
+                fail(i, "shape", e);
+            }
+        }
+        mark = record(2, mark);
+
+        // Modifier system
+        for (int i = 0; i < count; i++) {
+            if (!stepping(i) || modifiers[i] == null || points[i].isEmpty()) continue;
+            try {
+                double progress = progress(i);
+                for (PointModifier modifier : modifiers[i]) {
+                    modifier.apply(points[i], centers[i], progress);
+                }
+            } catch (Exception e) {
+                fail(i, "modifier", e);
+            }
+        }
+        mark = record(3, mark);
+
+        // Render system
+        for (int i = 0; i < count; i++) {
+            if (!stepping(i)) continue;
+            try {
+                renderers[i].render(centers[i], points[i], progress(i), ages[i]);
+            } catch (Exception e) {
+                fail(i, "renderer", e);
+            }
+        }
+        record(4, mark);
+
+        for (int i = 0; i < count; i++) {
+            ages[i]++;
+            centers[i] = null;
+            points[i] = null;
+        }
+
+        compact();
+
+        long elapsed = System.nanoTime() - tickStart;
+        tickAvgNanos += (elapsed - tickAvgNanos) * EMA_ALPHA;
+        tickPeakNanos = Math.max(tickPeakNanos, elapsed);
+    }
+
+    /**
+     * Due this tick and not ended by an earlier system (components may complete/cancel their own row).
+     */
+    private boolean stepping(int row) {
+        return due[row] && handles[row].ended == null;
+    }
+
+    private double progress(int row) {
+        return (double) ages[row] / lifetimes[row];
+    }
+
+    private long record(int system, long since) {
+        long now = System.nanoTime();
+        systemAvgNanos[system] += ((now - since) - systemAvgNanos[system]) * EMA_ALPHA;
+        return now;
+    }
+
+    private void fail(int row, String system, Exception e) {
+        handles[row].ended = EndReason.ERROR;
+        due[row] = false;
+        totalErrors++;
+        plugin.getLogger().log(Level.WARNING,
+                "[AnimationRuntime] " + system + " failed for '" + kinds[row] + "', stopping animation", e);
+    }
+
+    /**
+     * Remove ended rows (swap with last) and fire their end callbacks.
+     */
+    private void compact() {
+        List<Consumer<EndReason>> callbacks = null;
+        List<EndReason> reasons = null;
+
+        for (int i = size - 1; i >= 0; i--) {
+            EndReason reason = handles[i].ended;
+            if (reason == null) continue;
+
+            if (endCallbacks[i] != null) {
+                if (callbacks == null) {
+                    callbacks = new ArrayList<>();
+                    reasons = new ArrayList<>();
+                }
+                callbacks.add(endCallbacks[i]);
+                reasons.add(reason);
+            }
+            release(owners[i], worlds[i]);
+            handles[i].row = -1;
+            removeRow(i);
+        }
+
+        // Callbacks last - they may start new animations
+        if (callbacks != null) {
+            for (int i = 0; i < callbacks.size(); i++) {
+                runEndCallback(callbacks.get(i), reasons.get(i));
+            }
+        }
+    }
+
+    private void removeRow(int row) {
+        int last = size - 1;
+        if (row != last) {
+            handles[row] = handles[last];
+            handles[row].row = row;
+            kinds[row] = kinds[last];
+            owners[row] = owners[last];
+            worlds[row] = worlds[last];
+            positions[row] = positions[last];
+            shapes[row] = shapes[last];
+            modifiers[row] = modifiers[last];
+            renderers[row] = renderers[last];
+            endCallbacks[row] = endCallbacks[last];
+            ages[row] = ages[last];
+            lifetimes[row] = lifetimes[last];
+            intervals[row] = intervals[last];
+            delays[row] = delays[last];
+        }
+        handles[last] = null;
+        kinds[last] = null;
+        owners[last] = null;
+        worlds[last] = null;
+        positions[last] = null;
+        shapes[last] = null;
+        modifiers[last] = null;
+        renderers[last] = null;
+        endCallbacks[last] = null;
+        size--;
+    }
+
+    private void runEndCallback(Consumer<EndReason> callback, EndReason reason) {
+        try {
+            callback.accept(reason);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "[AnimationRuntime] End callback failed", e);
+        }
+    }
+
+    // ============ Admission ============
+
+    private boolean admit(UUID owner, World world) {
+        if (owner != null && perOwner.getOrDefault(owner, 0) >= maxPerPlayer) return false;
+        if (world != null && perWorld.getOrDefault(world, 0) >= maxPerWorld) return false;
+        if (owner != null) perOwner.merge(owner, 1, Integer::sum);
+        if (world != null) perWorld.merge(world, 1, Integer::sum);
+        return true;
+    }
+
+    private void release(UUID owner, World world) {
+        if (owner != null) perOwner.computeIfPresent(owner, (k, v) -> v <= 1 ? null : v - 1);
+        if (world != null) perWorld.computeIfPresent(world, (k, v) -> v <= 1 ? null : v - 1);
+    }
+
+    private Handle insert(Builder b) {
+        if (!admit(b.owner, b.world)) {
+            totalRejected++;
+            if (b.onEnd != null) runEndCallback(b.onEnd, EndReason.REJECTED);
+            return null;
+        }
+
+        ensureCapacity(size + 1);
+        int row = size++;
+        Handle handle = new Handle(row);
+        handles[row] = handle;
+        kinds[row] = b.kind;
+        owners[row] = b.owner;
+        worlds[row] = b.world;
+        positions[row] = b.position;
+        shapes[row] = b.shape;
+        modifiers[row] = b.modifiers.isEmpty() ? null : b.modifiers.toArray(new PointModifier[0]);
+        renderers[row] = b.renderer;
+        endCallbacks[row] = b.onEnd;
+        ages[row] = 0;
+        lifetimes[row] = Math.max(1, b.lifetime);
+        intervals[row] = Math.max(1, b.interval);
+        delays[row] = Math.max(0, b.delay);
+        totalStarted++;
+        return handle;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= handles.length) return;
+        int capacity = Math.max(needed, handles.length * 2);
+        handles = Arrays.copyOf(handles, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+        worlds = Arrays.copyOf(worlds, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        shapes = Arrays.copyOf(shapes, capacity);
+        modifiers = Arrays.copyOf(modifiers, capacity);
+        renderers = Arrays.copyOf(renderers, capacity);
+        endCallbacks = Arrays.copyOf(endCallbacks, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        lifetimes = Arrays.copyOf(lifetimes, capacity);
+        intervals = Arrays.copyOf(intervals, capacity);
+        delays = Arrays.copyOf(delays, capacity);
+        centers = Arrays.copyOf(centers, capacity);
+        points = Arrays.copyOf(points, capacity);
+        due = Arrays.copyOf(due, capacity);
+    }
+
+    // ============ Stats ============
+
+    public int getActiveCount() {
+        return size;
+    }
+
+    public int getActiveCount(UUID owner) {
+        return perOwner.getOrDefault(owner, 0);
+    }
+
+    /**
+     * Active animations grouped by kind (insertion order of first occurrence).
+     */
+    public Map<String, Integer> getActiveByKind() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            result.merge(kinds[i], 1, Integer::sum);
+        }
+        return result;
+    }
+
+    /**
+     * Human-readable profiling lines for /as debug perf.
+     */
+    public List<String> getStatsLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("§7Animations: §f%d active §8(§7cap %d/player, %d/world§8)",
+                size, maxPerPlayer, maxPerWorld));
+        lines.add(String.format("§7Tick cost: §f%.3fms avg§7, §f%.3fms peak",
+                tickAvgNanos / 1_000_000.0, tickPeakNanos / 1_000_000.0));
+
+        StringBuilder systems = new StringBuilder("§7Systems:");
+        for (int i = 0; i < SYSTEM_NAMES.length; i++) {
+            systems.append(String.format(" §f%s §7%.3fms", SYSTEM_NAMES[i], systemAvgNanos[i] / 1_000_000.0));
+        }
+        lines.add(systems.toString());
+
+        lines.add(String.format("§7Started: §f%d§7, rejected: §f%d§7, errors: §f%d",
+                totalStarted, totalRejected, totalErrors));
+
+        for (Map.Entry<String, Integer> entry : getActiveByKind().entrySet()) {
+            lines.add("§8  - §7" + entry.getKey() + ": §f" + entry.getValue());
+        }
+        return lines;
+    }
+
+    /**
+     * Reset peak/total counters.
+     */
+    public void resetStats() {
+        tickPeakNanos = 0;
+        totalStarted = 0;
+        totalRejected = 0;
+        totalErrors = 0;
+    }
+
+    // ============ Lifecycle ============
+
+    /**
+     * End every animation (firing end callbacks) and stop the tick task.
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (int i = 0; i < size; i++) {
+            if (handles[i].ended == null) {
+                handles[i].ended = EndReason.SHUTDOWN;
+            }
+        }
+        compact();
+        perOwner.clear();
+        perWorld.clear();
+    }
+
+    // ============ Handle ============
+
+    /**
+     * Reference to a running animation. Rows move when others end, so the handle tracks its row.
+     */
+    public static class Handle {
+        private int row;
+        private EndReason ended;
+
+        private Handle(int row) {
+            this.row = row;
+        }
+
+        /**
+         * Stop the animation; it is removed (and its end callback fired) on the next tick.
+         */
+        public void cancel() {
+            if (ended == null) ended = EndReason.CANCELLED;
+        }
+
+        /**
+         * Finish the animation early as if its lifetime elapsed.
+         */
+        public void complete() {
+            if (ended == null) ended = EndReason.EXPIRED;
+        }
+
+        public boolean isActive() {
+            return row >= 0 && ended == null;
+        }
+    }
+
+    // ============ Builder ============
+
+    public class Builder {
+        private final String kind;
+        private final World world;
+        private UUID owner;
+        private PositionSource position;
+        private ShapeSource shape;
+        private final List<PointModifier> modifiers = new ArrayList<>();
+        private Renderer renderer;
+        private Consumer<EndReason> onEnd;
+        private int lifetime = 20;
+        private int interval = 1;
+        private int delay = 0;
+
+        private Builder(String kind, World world) {
+            this.kind = kind;
+            this.world = world;
+        }
+
+        /**
+         * Player the animation counts against for the per-player cap (null = uncapped per player).
+         */
+        public Builder owner(UUID owner) {
+            this.owner = owner;
+            return this;
+        }
+
+        public Builder position(PositionSource position) {
+            this.position = position;
+            return this;
+        }
+
+        public Builder shape(ShapeSource shape) {
+            this.shape = shape;
+            return this;
+        }
+
+        public Builder modifier(PointModifier modifier) {
+            this.modifiers.add(modifier);
+            return this;
+        }
+
+        public Builder renderer(Renderer renderer) {
+            this.renderer = renderer;
+            return this;
+        }
+
+        /**
+         * Called exactly once when the animation leaves the runtime (including rejection).
+         */
+        public Builder onEnd(Consumer<EndReason> onEnd) {
+            this.onEnd = onEnd;
+            return this;
+        }
+
+        /**
+         * Total lifetime in ticks.
+         */
+        public Builder lifetime(int ticks) {
+            this.lifetime = ticks;
+            return this;
+        }
+
+        /**
+         * Step every N ticks (tick_rate).
+         */
+        public Builder interval(int ticks) {
+            this.interval = ticks;
+            return this;
+        }
+
+        /**
+         * Ticks to wait before the first step.
+         */
+        public Builder delay(int ticks) {
+            this.delay = ticks;
+            return this;
+        }
+
+        /**
+         * Register the animation.
+         *
+         * @return Handle, or null if a cap rejected it (onEnd has already run with REJECTED)
+         */
+        public Handle start() {
+            if (position == null || renderer == null) {
+                throw new IllegalStateException("Animation '" + kind + "' needs a position source and renderer");
+            }
+            return insert(this);
+        }
+    }
+}
@@ -122,7 +122,7 @@ public class AuraManager {
 
         // Optional: Show particle ring around aura
         if (aura.showParticles) {
-            spawnAuraParticles(center, radius);
+            spawnAuraParticles(center, radius, aura.ownerId);
         }
     }
 
@@ -170,10 +170,12 @@ public class AuraManager {
     }
 
     /**
-     * Spawn particles around the aura boundary.
+     * Spawn particles around the aura boundary. The ring is cosmetic, so over the
+     * visual budget it is drawn with fewer, evenly spaced points.
      */
-    private void spawnAuraParticles(Location center, double radius) {
-        int points = (int) (radius * 8);
+    private void spawnAuraParticles(Location center, double radius, UUID ownerId) {
+        int points = plugin.getParticleBudget().grant(ParticleBudget.Channel.PARTICLES, ownerId,
+            ParticleBudget.Priority.COSMETIC, (int) (radius * 8));
         for (int i = 0; i < points; i++) {
             double angle = (2 * Math.PI * i) / points;
             double x = center.getX() + radius * Math.cos(angle);
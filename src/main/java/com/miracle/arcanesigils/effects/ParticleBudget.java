@@ -0,0 +1,259 @@
+package com.miracle.arcanesigils.effects;
+
+import com.miracle.arcanesigils.ArmorSetsPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Global per-tick budget for particles and virtual display spawns.
+ *
+ * Every emitter (the player an effect belongs to, or a shared ambient bucket) asks for
+ * what it wants to draw this tick. Cosmetic requests are capped at a max-min fair share
+ * computed from last tick's demand, so one player spamming heavy shapes cannot starve
+ * everyone else. A partial grant thins the points evenly (lower density); a zero grant
+ * skips the frame. Critical visuals (stun, mark indicators) are always granted but still
+ * count towards the budget, leaving less for cosmetics.
+ *
+ * Budgets reset lazily on the first request of each server tick. Main thread only.
+ */
+public class ParticleBudget {
+
+    public enum Priority {
+        /** Gameplay-relevant - never degraded */
+        CRITICAL,
+        /** Decoration - thinned or skipped when over budget */
+        COSMETIC;
+
+        /**
+         * Parse a "priority" effect param; anything unrecognised is cosmetic.
+         */
+        public static Priority parse(String value) {
+            return value != null && value.equalsIgnoreCase("critical") ? CRITICAL : COSMETIC;
+        }
+    }
+
+    public enum Channel { PARTICLES, DISPLAYS }
+
+    // Bucket for visuals without an owning player (auras, mobs, world effects)
+    private static final UUID AMBIENT = new UUID(0L, 0L);
+    private static final int CHANNELS = Channel.values().length;
+
+    private final ArmorSetsPlugin plugin;
+
+    private boolean enabled;
+    private final int[] limits = new int[CHANNELS];
+
+    // ============ Current tick ============
+
+    private int currentTick = Integer.MIN_VALUE;
+    private final int[] spent = new int[CHANNELS];
+    private final int[] fairShare = new int[CHANNELS];
+    // Per emitter: granted then requested, per channel
+    private final Map<UUID, int[]> usage = new HashMap<>();
+    private boolean degradedThisTick;
+
+    // ============ Stats ============
+
+    private final int[] lastSpent = new int[CHANNELS];
+    private int lastEmitters;
+    private final long[] frames = new long[CHANNELS];
+    private final long[] degradedFrames = new long[CHANNELS];
+    private final long[] skippedFrames = new long[CHANNELS];
+    private final long[] criticalFrames = new long[CHANNELS];
+    private final long[] requestedTotal = new long[CHANNELS];
+    private final long[] grantedTotal = new long[CHANNELS];
+    private long activeTicks;
+    private long degradedTicks;
+
+    public ParticleBudget(ArmorSetsPlugin plugin) {
+        this.plugin = plugin;
+        Arrays.fill(fairShare, Integer.MAX_VALUE);
+        loadConfig();
+    }
+
+    /**
+     * Re-read limits from config.
+     */
+    public void loadConfig() {
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        this.enabled = config.getBoolean("settings.visual-budget.enabled", true);
+        this.limits[Channel.PARTICLES.ordinal()] = Math.max(1, config.getInt("settings.visual-budget.particles-per-tick", 6000));
+        this.limits[Channel.DISPLAYS.ordinal()] = Math.max(1, config.getInt("settings.visual-budget.displays-per-tick", 150));
+    }
+
+    // ============ Requests ============
+
+    /**
+     * Admit a frame of points, each costing {@code costPerPoint} units.
+     *
+     * @return The points unchanged, an evenly thinned subset, or an empty list (frame skipped)
+     */
+    public List<Location> admit(Channel channel, UUID owner, Priority priority, List<Location> points, int costPerPoint) {
+        if (points.isEmpty()) return points;
+        int cost = Math.max(1, costPerPoint);
+        int requested = points.size() * cost;
+        int keep = allowance(channel, owner, priority, requested) / cost;
+        charge(channel, owner, priority, requested, keep * cost);
+
+        if (keep >= points.size()) return points;
+        if (keep <= 0) return Collections.emptyList();
+        return thin(points, keep);
+    }
+
+    /**
+     * Admit a scalar amount (e.g. particle count of a burst); may grant less than asked.
+     *
+     * @return Units granted, 0 if the frame should be skipped
+     */
+    public int grant(Channel channel, UUID owner, Priority priority, int amount) {
+        if (amount <= 0) return 0;
+        int granted = allowance(channel, owner, priority, amount);
+        charge(channel, owner, priority, amount, granted);
+        return granted;
+    }
+
+    /**
+     * All-or-nothing admission, for visuals that cannot be partially drawn.
+     */
+    public boolean tryAcquire(Channel channel, UUID owner, Priority priority, int amount) {
+        if (amount <= 0) return true;
+        boolean admitted = allowance(channel, owner, priority, amount) >= amount;
+        charge(channel, owner, priority, amount, admitted ? amount : 0);
+        return admitted;
+    }
+
+    private int allowance(Channel channel, UUID owner, Priority priority, int requested) {
+        roll();
+        if (!enabled || priority == Priority.CRITICAL) return requested;
+
+        int c = channel.ordinal();
+        int[] used = usage.get(owner != null ? owner : AMBIENT);
+        int usedByOwner = used != null ? used[c] : 0;
+        int remaining = limits[c] - spent[c];
+        int share = fairShare[c] == Integer.MAX_VALUE ? Integer.MAX_VALUE : fairShare[c] - usedByOwner;
+        return Math.max(0, Math.min(requested, Math.min(remaining, share)));
+    }
+
+    private void charge(Channel channel, UUID owner, Priority priority, int requested, int granted) {
+        int c = channel.ordinal();
+        int[] used = usage.computeIfAbsent(owner != null ? owner : AMBIENT, k -> new int[CHANNELS * 2]);
+        used[c] += granted;
+        used[CHANNELS + c] += requested;
+        spent[c] += granted;
+
+        frames[c]++;
+        requestedTotal[c] += requested;
+        grantedTotal[c] += granted;
+        if (priority == Priority.CRITICAL) {
+            criticalFrames[c]++;
+        } else if (granted == 0) {
+            skippedFrames[c]++;
+            degradedThisTick = true;
+        } else if (granted < requested) {
+            degradedFrames[c]++;
+            degradedThisTick = true;
+        }
+    }
+
+    /**
+     * Start a new accounting window when the server tick advances.
+     */
+    private void roll() {
+        int tick = Bukkit.getCurrentTick();
+        if (tick == currentTick) return;
+        currentTick = tick;
+
+        if (!usage.isEmpty()) {
+            activeTicks++;
+            if (degradedThisTick) degradedTicks++;
+        }
+        for (int c = 0; c < CHANNELS; c++) {
+            fairShare[c] = computeFairShare(c);
+            lastSpent[c] = spent[c];
+            spent[c] = 0;
+        }
+        lastEmitters = usage.size();
+        usage.clear();
+        degradedThisTick = false;
+    }
+
+    /**
+     * Max-min fair share from last tick's demand: emitters asking for less than an equal
+     * split keep their full request and the leftover is divided among the heavier ones.
+     */
+    private int computeFairShare(int c) {
+        if (usage.isEmpty()) return Integer.MAX_VALUE;
+
+        int[] demand = new int[usage.size()];
+        int n = 0;
+        for (int[] used : usage.values()) {
+            demand[n++] = used[CHANNELS + c];
+        }
+        Arrays.sort(demand);
+
+        int remaining = limits[c];
+        for (int i = 0; i < n; i++) {
+            int equalSplit = remaining / (n - i);
+            if (demand[i] > equalSplit) {
+                return Math.max(1, equalSplit);
+            }
+            remaining -= demand[i];
+        }
+        return Integer.MAX_VALUE; // Everyone fits - no throttling
+    }
+
+    /**
+     * Evenly spaced subset of {@code keep} points, preserving order.
+     */
+    public static List<Location> thin(List<Location> points, int keep) {
+        int size = points.size();
+        List<Location> result = new ArrayList<>(keep);
+        for (int i = 0; i < keep; i++) {
+            result.add(points.get((int) ((long) i * size / keep)));
+        }
+        return result;
+    }
+
+    // ============ Stats ============
+
+    /**
+     * Human-readable budget lines for /as debug perf.
+     */
+    public List<String> getStatsLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("§7Visual budget: §f%s §8(§7%d emitters last tick, degraded §f%d§7/§f%d §7active ticks§8)",
+                enabled ? "on" : "off", lastEmitters, degradedTicks, activeTicks));
+        for (Channel channel : Channel.values()) {
+            int c = channel.ordinal();
+            double degradedPct = frames[c] == 0 ? 0 : 100.0 * (degradedFrames[c] + skippedFrames[c]) / frames[c];
+            double deliveredPct = requestedTotal[c] == 0 ? 100 : 100.0 * grantedTotal[c] / requestedTotal[c];
+            lines.add(String.format("§8  - §7%s: §f%d§7/§f%d §7last tick, frames §f%d§7, thinned §f%d§7, skipped §f%d §8(§f%.1f%%§8)§7, critical §f%d§7, delivered §f%.1f%%",
+                    channel.name().toLowerCase(), lastSpent[c], limits[c], frames[c],
+                    degradedFrames[c], skippedFrames[c], degradedPct, criticalFrames[c], deliveredPct));
+        }
+        return lines;
+    }
+
+    /**
+     * Reset frame/tick counters.
+     */
+    public void resetStats() {
+        Arrays.fill(frames, 0);
+        Arrays.fill(degradedFrames, 0);
+        Arrays.fill(skippedFrames, 0);
+        Arrays.fill(criticalFrames, 0);
+        Arrays.fill(requestedTotal, 0);
+        Arrays.fill(grantedTotal, 0);
+        activeTicks = 0;
+        degradedTicks = 0;
+    }
+}
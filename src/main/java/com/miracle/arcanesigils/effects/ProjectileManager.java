@@ -5,9 +5,7 @@ import com.miracle.arcanesigils.core.Sigil;
 import com.miracle.arcanesigils.events.SignalType;
 import com.miracle.arcanesigils.flow.FlowConfig;
 import com.miracle.arcanesigils.flow.FlowExecutor;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.entity.Display;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -19,15 +17,16 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Manages projectile display entities - handles movement, collision detection,
+ * Manages projectile displays - handles movement, collision detection,
  * and triggering on-hit behaviors.
+ * Projectiles are packet-only {@link VirtualDisplay}s; position lives in plugin memory.
  */
 public class ProjectileManager {
 
     private final ArmorSetsPlugin plugin;
     private BukkitTask tickTask;
 
-    // Track active projectiles by display entity UUID
+    // Track active projectiles by display UUID
     private final Map<UUID, ProjectileContext> activeProjectiles = new ConcurrentHashMap<>();
 
     // Tick interval (2 ticks = 0.1 seconds for smooth movement)
@@ -50,7 +49,7 @@ public class ProjectileManager {
      * Context for tracking a projectile.
      */
     public static class ProjectileContext {
-        final UUID displayUUID;
+        final VirtualDisplay display;
         final UUID ownerUUID;
         final Location spawnLocation;
         final LivingEntity homingTarget;  // null for DIRECTIONAL
@@ -64,11 +63,11 @@ public class ProjectileManager {
         final MovementType movementType;
         final Set<UUID> alreadyHit;       // For pierce mode
 
-        public ProjectileContext(UUID displayUUID, UUID ownerUUID, Location spawnLocation,
+        public ProjectileContext(VirtualDisplay display, UUID ownerUUID, Location spawnLocation,
                                  LivingEntity homingTarget, Vector direction, double speed,
                                  double hitRadius, boolean pierce, String onHitBehaviorId,
                                  double maxDistance, int maxTimeSeconds, MovementType movementType) {
-            this.displayUUID = displayUUID;
+            this.display = display;
             this.ownerUUID = ownerUUID;
             this.spawnLocation = spawnLocation.clone();
             this.homingTarget = homingTarget;
@@ -87,7 +86,7 @@ public class ProjectileManager {
     /**
      * Register a projectile for tracking.
      *
-     * @param display         The display entity
+     * @param display         The virtual display
      * @param owner           The player who fired the projectile
      * @param homingTarget    Target entity for HOMING mode (null for DIRECTIONAL)
      * @param direction       Direction vector for DIRECTIONAL mode
@@ -99,14 +98,14 @@ public class ProjectileManager {
      * @param maxTimeSeconds  Max time before despawn
      * @param movementType    HOMING or DIRECTIONAL
      */
-    public void registerProjectile(Display display, Player owner, LivingEntity homingTarget,
+    public void registerProjectile(VirtualDisplay display, Player owner, LivingEntity homingTarget,
                                    Vector direction, double speed, double hitRadius, boolean pierce,
                                    String onHitBehaviorId, double maxDistance, int maxTimeSeconds,
                                    MovementType movementType) {
         if (display == null || owner == null) return;
 
         ProjectileContext context = new ProjectileContext(
-                display.getUniqueId(),
+                display,
                 owner.getUniqueId(),
                 display.getLocation(),
                 homingTarget,
@@ -138,10 +137,10 @@ public class ProjectileManager {
 
         activeProjectiles.entrySet().removeIf(entry -> {
             ProjectileContext ctx = entry.getValue();
-            Entity entity = Bukkit.getEntity(ctx.displayUUID);
+            VirtualDisplay display = ctx.display;
 
             // Remove if display no longer exists
-            if (entity == null || !entity.isValid() || !(entity instanceof Display display)) {
+            if (!display.isValid()) {
                 return true;
             }
 
@@ -170,7 +169,7 @@ public class ProjectileManager {
             double distance = ctx.speed * tickDelta;
             moveVector.multiply(distance);
 
-            // Move the display entity
+            // Move the display
             Location newLoc = currentLoc.add(moveVector);
             display.teleport(newLoc);
 
@@ -274,10 +273,7 @@ public class ProjectileManager {
     public void removePlayerProjectiles(UUID ownerUUID) {
         activeProjectiles.entrySet().removeIf(entry -> {
             if (entry.getValue().ownerUUID.equals(ownerUUID)) {
-                Entity entity = Bukkit.getEntity(entry.getValue().displayUUID);
-                if (entity != null) {
-                    entity.remove();
-                }
+                entry.getValue().display.remove();
                 return true;
             }
             return false;
@@ -299,12 +295,9 @@ public class ProjectileManager {
             tickTask.cancel();
         }
 
-        // Remove all projectile display entities
+        // Remove all projectile displays
         for (ProjectileContext ctx : activeProjectiles.values()) {
-            Entity entity = Bukkit.getEntity(ctx.displayUUID);
-            if (entity != null && entity.isValid()) {
-                entity.remove();
-            }
+            ctx.display.remove();
         }
         activeProjectiles.clear();
     }
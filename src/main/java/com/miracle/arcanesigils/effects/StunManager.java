@@ -4,8 +4,6 @@ import com.miracle.arcanesigils.ArmorSetsPlugin;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.entity.BlockDisplay;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -53,10 +51,9 @@ public class StunManager implements Listener {
         if (stunnedPlayers.containsKey(uuid)) {
             StunData existing = stunnedPlayers.get(uuid);
             existing.cancel();
-            // Remove old display entity
-            if (existing.getDisplayEntityUUID() != null) {
-                Entity oldDisplay = Bukkit.getEntity(existing.getDisplayEntityUUID());
-                if (oldDisplay != null) oldDisplay.remove();
+            // Remove old display
+            if (existing.getDisplay() != null) {
+                existing.getDisplay().remove();
             }
             // Restore speeds before re-applying (in case they changed)
             player.setWalkSpeed(existing.getPreviousWalkSpeed());
@@ -81,13 +78,13 @@ public class StunManager implements Listener {
         player.setWalkSpeed(0f);
         player.setFlySpeed(0f);
 
-        // Spawn sand block display at player's feet
+        // Show sand block display at player's feet (packet-only, no server entity)
+        // Stun indicators are gameplay-relevant: always admitted, but counted against the budget
+        plugin.getParticleBudget().tryAcquire(ParticleBudget.Channel.DISPLAYS, uuid, ParticleBudget.Priority.CRITICAL, 1);
         Location displayLoc = frozenLocation.clone();
-        BlockDisplay display = displayLoc.getWorld().spawn(displayLoc, BlockDisplay.class, bd -> {
-            bd.setBlock(Material.SAND.createBlockData());
-            bd.setPersistent(false);
-        });
-        stunData.setDisplayEntityUUID(display.getUniqueId());
+        VirtualDisplay display = plugin.getVirtualDisplayManager().spawn(displayLoc, VirtualDisplay.Type.BLOCK,
+                bd -> bd.setBlock(Material.SAND.createBlockData()));
+        stunData.setDisplay(display);
 
         // Schedule unstun
         BukkitTask unstunTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
@@ -114,10 +111,9 @@ public class StunManager implements Listener {
         StunData data = stunnedPlayers.remove(uuid);
         if (data != null) {
             data.cancel();
-            // Remove display entity
-            if (data.getDisplayEntityUUID() != null) {
-                Entity displayEntity = Bukkit.getEntity(data.getDisplayEntityUUID());
-                if (displayEntity != null) displayEntity.remove();
+            // Remove display
+            if (data.getDisplay() != null) {
+                data.getDisplay().remove();
             }
             // Restore original speeds
             player.setWalkSpeed(data.getPreviousWalkSpeed());
@@ -203,7 +199,7 @@ public class StunManager implements Listener {
         private final float previousWalkSpeed;
         private final float previousFlySpeed;
         private BukkitTask unstunTask;
-        private UUID displayEntityUUID;
+        private VirtualDisplay display;
 
         public StunData(Location frozenLocation, int previousMaxNoDamageTicks,
                         float previousWalkSpeed, float previousFlySpeed) {
@@ -233,12 +229,12 @@ public class StunManager implements Listener {
             this.unstunTask = unstunTask;
         }
 
-        public UUID getDisplayEntityUUID() {
-            return displayEntityUUID;
+        public VirtualDisplay getDisplay() {
+            return display;
         }
 
-        public void setDisplayEntityUUID(UUID displayEntityUUID) {
-            this.displayEntityUUID = displayEntityUUID;
+        public void setDisplay(VirtualDisplay display) {
+            this.display = display;
         }
 
         public void cancel() {
@@ -0,0 +1,283 @@
+package com.miracle.arcanesigils.effects;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Transformation;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A packet-only display entity.
+ *
+ * Position and appearance live in plugin memory; the server never creates, ticks or
+ * saves a real entity. Setters only mark state dirty - {@link VirtualDisplayManager}
+ * flushes spawn/metadata/move/destroy packets to tracked viewers once per tick.
+ *
+ * Mirrors the subset of the Bukkit {@link Display} API used by the visual effects
+ * (teleport, transformation, billboard, glow, brightness) so existing animation
+ * code can drive it unchanged.
+ */
+public class VirtualDisplay {
+
+    public enum Type {
+        BLOCK(EntityType.BLOCK_DISPLAY),
+        ITEM(EntityType.ITEM_DISPLAY),
+        TEXT(EntityType.TEXT_DISPLAY);
+
+        private final EntityType entityType;
+
+        Type(EntityType entityType) {
+            this.entityType = entityType;
+        }
+
+        public EntityType getEntityType() {
+            return entityType;
+        }
+    }
+
+    private final VirtualDisplayManager manager;
+    private final int entityId;
+    private final UUID uniqueId;
+    private final Type type;
+    private final World world;
+
+    // Server-side position (plugin memory only)
+    private double x, y, z;
+    private float yaw, pitch;
+
+    // Position the clients currently believe, in 1/4096 block units (for relative moves)
+    long sentX, sentY, sentZ;
+    float sentYaw, sentPitch;
+
+    // Appearance
+    private BlockData blockData = Material.STONE.createBlockData();
+    private ItemStack itemStack = new ItemStack(Material.DIAMOND);
+    private ItemDisplay.ItemDisplayTransform itemTransform = ItemDisplay.ItemDisplayTransform.FIXED;
+    private Component text = Component.empty();
+    private Color backgroundColor = null;
+    private boolean seeThrough = false;
+    private boolean shadowed = true;
+
+    private Transformation transformation = new Transformation(
+            new Vector3f(), new Quaternionf(), new Vector3f(1, 1, 1), new Quaternionf());
+    private Display.Billboard billboard = Display.Billboard.FIXED;
+    private boolean glowing = false;
+    private Display.Brightness brightness = null;
+    private int interpolationDuration = 0;
+    private int teleportDuration = 0;
+
+    // Optional server-side anchor (e.g. a Marker used by BehaviorManager), moved along with us
+    private Entity anchor;
+
+    // Players that currently have this display spawned client-side
+    final Set<UUID> viewers = ConcurrentHashMap.newKeySet();
+
+    boolean positionDirty = false;
+    boolean metadataDirty = false;
+    private boolean valid = true;
+
+    VirtualDisplay(VirtualDisplayManager manager, int entityId, Type type, Location location) {
+        this.manager = manager;
+        this.entityId = entityId;
+        this.uniqueId = UUID.randomUUID();
+        this.type = type;
+        this.world = location.getWorld();
+        this.x = location.getX();
+        this.y = location.getY();
+        this.z = location.getZ();
+        this.yaw = location.getYaw();
+        this.pitch = location.getPitch();
+        markSent();
+    }
+
+    // ============ Position ============
+
+    public Location getLocation() {
+        return new Location(world, x, y, z, yaw, pitch);
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Move this display. Cross-world teleports are ignored (virtual displays are world-bound).
+     */
+    public void teleport(Location location) {
+        if (!valid || location.getWorld() != world) return;
+        this.x = location.getX();
+        this.y = location.getY();
+        this.z = location.getZ();
+        this.yaw = location.getYaw();
+        this.pitch = location.getPitch();
+        this.positionDirty = true;
+
+        if (anchor != null && anchor.isValid()) {
+            anchor.teleport(location);
+        }
+    }
+
+    double getX() { return x; }
+    double getY() { return y; }
+    double getZ() { return z; }
+    float getYaw() { return yaw; }
+    float getPitch() { return pitch; }
+
+    /**
+     * Record the current position as the one clients have.
+     */
+    void markSent() {
+        this.sentX = encode(x);
+        this.sentY = encode(y);
+        this.sentZ = encode(z);
+        this.sentYaw = yaw;
+        this.sentPitch = pitch;
+    }
+
+    static long encode(double coordinate) {
+        return Math.round(coordinate * 4096.0);
+    }
+
+    // ============ Appearance ============
+
+    public void setBlock(BlockData blockData) {
+        this.blockData = blockData;
+        this.metadataDirty = true;
+    }
+
+    public void setItemStack(ItemStack itemStack) {
+        this.itemStack = itemStack != null ? itemStack.clone() : new ItemStack(Material.AIR);
+        this.metadataDirty = true;
+    }
+
+    public void setItemDisplayTransform(ItemDisplay.ItemDisplayTransform itemTransform) {
+        this.itemTransform = itemTransform;
+        this.metadataDirty = true;
+    }
+
+    public void text(Component text) {
+        this.text = text != null ? text : Component.empty();
+        this.metadataDirty = true;
+    }
+
+    public void setBackgroundColor(Color backgroundColor) {
+        this.backgroundColor = backgroundColor;
+        this.metadataDirty = true;
+    }
+
+    public void setSeeThrough(boolean seeThrough) {
+        this.seeThrough = seeThrough;
+        this.metadataDirty = true;
+    }
+
+    public void setShadowed(boolean shadowed) {
+        this.shadowed = shadowed;
+        this.metadataDirty = true;
+    }
+
+    public Transformation getTransformation() {
+        return transformation;
+    }
+
+    public void setTransformation(Transformation transformation) {
+        this.transformation = transformation;
+        this.metadataDirty = true;
+    }
+
+    public void setBillboard(Display.Billboard billboard) {
+        this.billboard = billboard;
+        this.metadataDirty = true;
+    }
+
+    public void setGlowing(boolean glowing) {
+        this.glowing = glowing;
+        this.metadataDirty = true;
+    }
+
+    public void setBrightness(Display.Brightness brightness) {
+        this.brightness = brightness;
+        this.metadataDirty = true;
+    }
+
+    public void setInterpolationDuration(int ticks) {
+        this.interpolationDuration = ticks;
+        this.metadataDirty = true;
+    }
+
+    public void setTeleportDuration(int ticks) {
+        this.teleportDuration = ticks;
+        this.metadataDirty = true;
+    }
+
+    public BlockData getBlock() { return blockData; }
+    public ItemStack getItemStack() { return itemStack; }
+    public ItemDisplay.ItemDisplayTransform getItemDisplayTransform() { return itemTransform; }
+    public Component text() { return text; }
+    public Color getBackgroundColor() { return backgroundColor; }
+    public boolean isSeeThrough() { return seeThrough; }
+    public boolean isShadowed() { return shadowed; }
+    public Display.Billboard getBillboard() { return billboard; }
+    public boolean isGlowing() { return glowing; }
+    public Display.Brightness getBrightness() { return brightness; }
+    public int getInterpolationDuration() { return interpolationDuration; }
+    public int getTeleportDuration() { return teleportDuration; }
+
+    // ============ Identity / Lifecycle ============
+
+    public int getEntityId() {
+        return entityId;
+    }
+
+    public UUID getUniqueId() {
+        return uniqueId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Attach a server-side anchor entity that follows this display and is removed with it.
+     * Used when gameplay systems (behaviors) need a real entity to track.
+     */
+    public void attachAnchor(Entity anchor) {
+        this.anchor = anchor;
+    }
+
+    public Entity getAnchor() {
+        return anchor;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Destroy this display for all viewers.
+     */
+    public void remove() {
+        if (!valid) return;
+        valid = false;
+        if (anchor != null && anchor.isValid()) {
+            anchor.remove();
+        }
+        manager.remove(this);
+    }
+
+    void invalidate() {
+        valid = false;
+    }
+}
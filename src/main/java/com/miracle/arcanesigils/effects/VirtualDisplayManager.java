@@ -0,0 +1,408 @@
+package com.miracle.arcanesigils.effects;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftReflection;
+import com.comphenix.protocol.wrappers.WrappedBlockData;
+import com.comphenix.protocol.wrappers.WrappedChatComponent;
+import com.comphenix.protocol.wrappers.WrappedDataValue;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+import com.miracle.arcanesigils.ArmorSetsPlugin;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Transformation;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Packet-only display entity layer built on ProtocolLib.
+ *
+ * Cosmetic displays (SPAWN_DISPLAY, stun indicators, projectile visuals, preset layers)
+ * are kept purely in plugin memory and sent to nearby players as spawn, metadata,
+ * relative-move and destroy packets. The server world never sees them, so they are
+ * not ticked, not saved in chunks and do not count towards entity limits.
+ *
+ * Callers mutate {@link VirtualDisplay} state; this manager flushes dirty state to
+ * viewers once per tick and periodically re-evaluates which players are in range.
+ */
+public class VirtualDisplayManager implements Listener {
+
+    private final ArmorSetsPlugin plugin;
+    private final ProtocolManager protocolManager;
+
+    private final Map<Integer, VirtualDisplay> displays = new ConcurrentHashMap<>();
+
+    private BukkitTask tickTask;
+    private int tickCounter = 0;
+
+    // How often viewer sets are recomputed (players walking into / out of range)
+    private static final int VIEWER_REFRESH_TICKS = 10;
+
+    // Display metadata indices (1.20.2+ layout)
+    private static final int INDEX_FLAGS = 0;
+    private static final int INDEX_INTERPOLATION_DELAY = 8;
+    private static final int INDEX_TRANSFORM_DURATION = 9;
+    private static final int INDEX_TELEPORT_DURATION = 10;
+    private static final int INDEX_TRANSLATION = 11;
+    private static final int INDEX_SCALE = 12;
+    private static final int INDEX_LEFT_ROTATION = 13;
+    private static final int INDEX_RIGHT_ROTATION = 14;
+    private static final int INDEX_BILLBOARD = 15;
+    private static final int INDEX_BRIGHTNESS = 16;
+    private static final int INDEX_TYPE_DATA = 23;        // block state / item / text
+    private static final int INDEX_ITEM_TRANSFORM = 24;
+    private static final int INDEX_TEXT_BACKGROUND = 25;
+    private static final int INDEX_TEXT_FLAGS = 27;
+
+    public VirtualDisplayManager(ArmorSetsPlugin plugin) {
+        this.plugin = plugin;
+        this.protocolManager = ProtocolLibrary.getProtocolManager();
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        startTickTask();
+    }
+
+    // ============ Public API ============
+
+    /**
+     * Create a virtual display at a location and show it to players in range.
+     *
+     * @param location   Spawn location (yaw/pitch respected)
+     * @param type       BLOCK, ITEM or TEXT
+     * @param configurer Applied before the first packet is sent (like World#spawn's consumer)
+     * @return The virtual display
+     */
+    public VirtualDisplay spawn(Location location, VirtualDisplay.Type type, Consumer<VirtualDisplay> configurer) {
+        int entityId = Bukkit.getUnsafe().nextEntityId();
+        VirtualDisplay display = new VirtualDisplay(this, entityId, type, location);
+        if (configurer != null) {
+            configurer.accept(display);
+        }
+        display.metadataDirty = false;
+        displays.put(entityId, display);
+        refreshViewers(display);
+        return display;
+    }
+
+    /**
+     * Get count of active virtual displays.
+     */
+    public int getActiveCount() {
+        return displays.size();
+    }
+
+    /**
+     * Destroy every virtual display (plugin disable).
+     */
+    public void shutdown() {
+        if (tickTask != null && !tickTask.isCancelled()) {
+            tickTask.cancel();
+        }
+        for (VirtualDisplay display : new ArrayList<>(displays.values())) {
+            display.remove();
+        }
+        displays.clear();
+    }
+
+    // ============ Tick ============
+
+    private void startTickTask() {
+        tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    private void tick() {
+        boolean refresh = ++tickCounter % VIEWER_REFRESH_TICKS == 0;
+
+        for (VirtualDisplay display : displays.values()) {
+            if (display.positionDirty) {
+                flushPosition(display);
+            }
+            if (display.metadataDirty) {
+                display.metadataDirty = false;
+                PacketContainer metadata = createMetadataPacket(display);
+                for (UUID viewerId : display.viewers) {
+                    send(viewerId, metadata);
+                }
+            }
+            if (refresh) {
+                refreshViewers(display);
+            }
+        }
+    }
+
+    private void flushPosition(VirtualDisplay display) {
+        display.positionDirty = false;
+        if (display.viewers.isEmpty()) {
+            display.markSent();
+            return;
+        }
+
+        long dx = VirtualDisplay.encode(display.getX()) - display.sentX;
+        long dy = VirtualDisplay.encode(display.getY()) - display.sentY;
+        long dz = VirtualDisplay.encode(display.getZ()) - display.sentZ;
+        boolean rotated = display.getYaw() != display.sentYaw || display.getPitch() != display.sentPitch;
+
+        if (dx == 0 && dy == 0 && dz == 0 && !rotated) {
+            return;
+        }
+
+        // Relative moves are limited to +/-8 blocks per packet; respawn for larger jumps
+        if (!fitsShort(dx) || !fitsShort(dy) || !fitsShort(dz)) {
+            respawnForViewers(display);
+            return;
+        }
+
+        PacketContainer move = protocolManager.createPacket(rotated
+                ? PacketType.Play.Server.REL_ENTITY_MOVE_LOOK
+                : PacketType.Play.Server.REL_ENTITY_MOVE);
+        move.getIntegers().write(0, display.getEntityId());
+        move.getShorts()
+                .write(0, (short) dx)
+                .write(1, (short) dy)
+                .write(2, (short) dz);
+        if (rotated) {
+            move.getBytes()
+                    .write(0, toAngle(display.getYaw()))
+                    .write(1, toAngle(display.getPitch()));
+        }
+        move.getBooleans().write(0, false);
+
+        display.sentX += dx;
+        display.sentY += dy;
+        display.sentZ += dz;
+        display.sentYaw = display.getYaw();
+        display.sentPitch = display.getPitch();
+
+        for (UUID viewerId : display.viewers) {
+            send(viewerId, move);
+        }
+    }
+
+    private static boolean fitsShort(long value) {
+        return value >= Short.MIN_VALUE && value <= Short.MAX_VALUE;
+    }
+
+    // ============ Viewers ============
+
+    /**
+     * Spawn the display for players that came into range and destroy it for those that left.
+     */
+    private void refreshViewers(VirtualDisplay display) {
+        if (display.getWorld() == null) return;
+
+        double range = getViewDistance();
+        double rangeSq = range * range;
+        Location loc = display.getLocation();
+
+        PacketContainer spawn = null;
+        PacketContainer metadata = null;
+
+        for (Player player : display.getWorld().getPlayers()) {
+            boolean inRange = player.getLocation().distanceSquared(loc) <= rangeSq;
+            boolean tracked = display.viewers.contains(player.getUniqueId());
+
+            if (inRange && !tracked) {
+                if (spawn == null) {
+                    spawn = createSpawnPacket(display);
+                    metadata = createMetadataPacket(display);
+                }
+                send(player, spawn);
+                send(player, metadata);
+                display.viewers.add(player.getUniqueId());
+            } else if (!inRange && tracked) {
+                send(player, createDestroyPacket(List.of(display.getEntityId())));
+                display.viewers.remove(player.getUniqueId());
+            }
+        }
+
+        if (spawn != null) {
+            display.markSent();
+        }
+    }
+
+    private void respawnForViewers(VirtualDisplay display) {
+        PacketContainer destroy = createDestroyPacket(List.of(display.getEntityId()));
+        PacketContainer spawn = createSpawnPacket(display);
+        PacketContainer metadata = createMetadataPacket(display);
+        for (UUID viewerId : display.viewers) {
+            send(viewerId, destroy);
+            send(viewerId, spawn);
+            send(viewerId, metadata);
+        }
+        display.markSent();
+    }
+
+    /**
+     * Called by {@link VirtualDisplay#remove()}.
+     */
+    void remove(VirtualDisplay display) {
+        displays.remove(display.getEntityId());
+        display.invalidate();
+        if (display.viewers.isEmpty()) return;
+
+        PacketContainer destroy = createDestroyPacket(List.of(display.getEntityId()));
+        for (UUID viewerId : display.viewers) {
+            send(viewerId, destroy);
+        }
+        display.viewers.clear();
+    }
+
+    private double getViewDistance() {
+        return plugin.getConfigManager().getMainConfig()
+                .getDouble("settings.virtual-displays.view-distance", 64.0);
+    }
+
+    /**
+     * Forget everything a player had spawned - the client drops entities on world change/respawn,
+     * so the next refresh re-sends spawn packets.
+     */
+    private void forgetViewer(UUID playerId) {
+        for (VirtualDisplay display : displays.values()) {
+            display.viewers.remove(playerId);
+        }
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        forgetViewer(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        forgetViewer(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler
+    public void onRespawn(PlayerRespawnEvent event) {
+        forgetViewer(event.getPlayer().getUniqueId());
+    }
+
+    // ============ Packets ============
+
+    private PacketContainer createSpawnPacket(VirtualDisplay display) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.SPAWN_ENTITY);
+        packet.getIntegers().write(0, display.getEntityId());
+        packet.getUUIDs().write(0, display.getUniqueId());
+        packet.getEntityTypeModifier().write(0, display.getType().getEntityType());
+        packet.getDoubles()
+                .write(0, display.getX())
+                .write(1, display.getY())
+                .write(2, display.getZ());
+        packet.getBytes()
+                .write(0, toAngle(display.getPitch()))
+                .write(1, toAngle(display.getYaw()));
+        return packet;
+    }
+
+    private PacketContainer createDestroyPacket(List<Integer> entityIds) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_DESTROY);
+        packet.getIntLists().write(0, entityIds);
+        return packet;
+    }
+
+    private PacketContainer createMetadataPacket(VirtualDisplay display) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_METADATA);
+        packet.getIntegers().write(0, display.getEntityId());
+
+        List<WrappedDataValue> values = new ArrayList<>();
+        WrappedDataWatcher.Serializer byteSerializer = WrappedDataWatcher.Registry.get(Byte.class);
+        WrappedDataWatcher.Serializer intSerializer = WrappedDataWatcher.Registry.get(Integer.class);
+        WrappedDataWatcher.Serializer vectorSerializer = WrappedDataWatcher.Registry.get(Vector3f.class);
+        WrappedDataWatcher.Serializer quaternionSerializer = WrappedDataWatcher.Registry.get(Quaternionf.class);
+
+        // Entity flags - 0x40 is glowing
+        values.add(new WrappedDataValue(INDEX_FLAGS, byteSerializer, (byte) (display.isGlowing() ? 0x40 : 0)));
+
+        // Interpolation
+        values.add(new WrappedDataValue(INDEX_INTERPOLATION_DELAY, intSerializer, 0));
+        values.add(new WrappedDataValue(INDEX_TRANSFORM_DURATION, intSerializer, display.getInterpolationDuration()));
+        values.add(new WrappedDataValue(INDEX_TELEPORT_DURATION, intSerializer, display.getTeleportDuration()));
+
+        // Transformation
+        Transformation transform = display.getTransformation();
+        values.add(new WrappedDataValue(INDEX_TRANSLATION, vectorSerializer, new Vector3f(transform.getTranslation())));
+        values.add(new WrappedDataValue(INDEX_SCALE, vectorSerializer, new Vector3f(transform.getScale())));
+        values.add(new WrappedDataValue(INDEX_LEFT_ROTATION, quaternionSerializer, new Quaternionf(transform.getLeftRotation())));
+        values.add(new WrappedDataValue(INDEX_RIGHT_ROTATION, quaternionSerializer, new Quaternionf(transform.getRightRotation())));
+
+        // Billboard (enum order matches protocol ids: FIXED, VERTICAL, HORIZONTAL, CENTER)
+        values.add(new WrappedDataValue(INDEX_BILLBOARD, byteSerializer, (byte) display.getBillboard().ordinal()));
+
+        // Brightness override, -1 = use world light
+        Display.Brightness brightness = display.getBrightness();
+        int packedBrightness = brightness == null ? -1
+                : (brightness.getBlockLight() << 4) | (brightness.getSkyLight() << 20);
+        values.add(new WrappedDataValue(INDEX_BRIGHTNESS, intSerializer, packedBrightness));
+
+        try {
+            switch (display.getType()) {
+                case BLOCK -> values.add(new WrappedDataValue(INDEX_TYPE_DATA,
+                        WrappedDataWatcher.Registry.getBlockDataSerializer(false),
+                        WrappedBlockData.createData(display.getBlock()).getHandle()));
+                case ITEM -> {
+                    values.add(new WrappedDataValue(INDEX_TYPE_DATA,
+                            WrappedDataWatcher.Registry.getItemStackSerializer(false),
+                            MinecraftReflection.getMinecraftItemStack(display.getItemStack())));
+                    values.add(new WrappedDataValue(INDEX_ITEM_TRANSFORM, byteSerializer,
+                            (byte) display.getItemDisplayTransform().ordinal()));
+                }
+                case TEXT -> {
+                    String json = GsonComponentSerializer.gson().serialize(display.text());
+                    values.add(new WrappedDataValue(INDEX_TYPE_DATA,
+                            WrappedDataWatcher.Registry.getChatComponentSerializer(false),
+                            WrappedChatComponent.fromJson(json).getHandle()));
+                    if (display.getBackgroundColor() != null) {
+                        values.add(new WrappedDataValue(INDEX_TEXT_BACKGROUND, intSerializer,
+                                display.getBackgroundColor().asARGB()));
+                    }
+                    byte textFlags = 0;
+                    if (display.isShadowed()) textFlags |= 0x01;
+                    if (display.isSeeThrough()) textFlags |= 0x02;
+                    values.add(new WrappedDataValue(INDEX_TEXT_FLAGS, byteSerializer, textFlags));
+                }
+            }
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.FINE, "[VirtualDisplay] Failed to encode type data", e);
+        }
+
+        packet.getDataValueCollectionModifier().write(0, values);
+        return packet;
+    }
+
+    private static byte toAngle(float degrees) {
+        return (byte) (int) (degrees * 256.0F / 360.0F);
+    }
+
+    private void send(UUID viewerId, PacketContainer packet) {
+        Player player = Bukkit.getPlayer(viewerId);
+        if (player != null && player.isOnline()) {
+            send(player, packet);
+        }
+    }
+
+    private void send(Player player, PacketContainer packet) {
+        try {
+            protocolManager.sendServerPacket(player, packet);
+        } catch (Exception e) {
+            plugin.getLogger().warning("[VirtualDisplay] Failed to send packet: " + e.getMessage());
+        }
+    }
+}
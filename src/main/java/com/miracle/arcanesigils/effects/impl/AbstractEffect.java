@@ -7,6 +7,7 @@ import com.miracle.arcanesigils.effects.Effect;
 import com.miracle.arcanesigils.effects.EffectContext;
 import com.miracle.arcanesigils.effects.EffectParams;
 import com.miracle.arcanesigils.effects.ParamDefinition;
+import com.miracle.arcanesigils.effects.ParticleBudget;
 import com.miracle.arcanesigils.flow.FlowContext;
 import com.miracle.arcanesigils.utils.TargetFinder;
 import com.miracle.arcanesigils.utils.TextUtil;
@@ -412,6 +413,21 @@ public abstract class AbstractEffect implements Effect {
         return defaultRadius;
     }
 
+    /**
+     * Visual budget priority for this execution.
+     * An explicit priority=critical|cosmetic param wins; visuals run from a mark's behavior
+     * are mark indicators and default to critical, everything else is cosmetic.
+     */
+    protected ParticleBudget.Priority getVisualPriority(EffectContext context) {
+        String explicit = context.getParams() != null ? context.getParams().getString("priority", null) : null;
+        if (explicit != null) {
+            return ParticleBudget.Priority.parse(explicit);
+        }
+        return context.getMetadata("markedEntity", null) != null
+                ? ParticleBudget.Priority.CRITICAL
+                : ParticleBudget.Priority.COSMETIC;
+    }
+
     /**
      * Get the plugin instance.
      */
@@ -2,16 +2,14 @@ package com.miracle.arcanesigils.effects.impl;
 
 import com.miracle.arcanesigils.ArmorSetsPlugin;
 import com.miracle.arcanesigils.core.Sigil;
+import com.miracle.arcanesigils.core.SocketManager;
+import com.miracle.arcanesigils.core.SocketedSigil;
 import com.miracle.arcanesigils.effects.EffectContext;
-import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataType;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -41,27 +39,24 @@ public class DecreaseSigilTierEffect extends AbstractEffect {
         }
 
         ArmorSetsPlugin plugin = getPlugin();
-        NamespacedKey socketedKey = plugin.getSocketManager().getSocketedSigilKey();
+        SocketManager socketManager = plugin.getSocketManager();
 
         // Get current sigil data
         ItemMeta meta = sourceItem.getItemMeta();
         if (meta == null) return false;
 
-        String data = meta.getPersistentDataContainer().get(socketedKey, PersistentDataType.STRING);
-        if (data == null || data.isEmpty()) return false;
+        List<SocketedSigil> sigilEntries = new ArrayList<>(socketManager.getSockets(meta));
+        if (sigilEntries.isEmpty()) return false;
 
-        List<String> sigilEntries = new ArrayList<>(Arrays.asList(data.split(",")));
         boolean modified = false;
         String actionTaken = "";
 
         // Find and modify the target sigil
         for (int i = 0; i < sigilEntries.size(); i++) {
-            String entry = sigilEntries.get(i);
-            String[] parts = entry.split(":");
-            String entryId = parts[0];
+            SocketedSigil entry = sigilEntries.get(i);
 
-            if (entryId.equalsIgnoreCase(sigilId)) {
-                int currentTier = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+            if (entry.id().equalsIgnoreCase(sigilId)) {
+                int currentTier = entry.tier();
 
                 if (currentTier <= 1) {
                     // Remove the sigil entirely
@@ -76,7 +71,7 @@ public class DecreaseSigilTierEffect extends AbstractEffect {
                 } else {
                     // Decrease tier by 1
                     int newTier = currentTier - 1;
-                    sigilEntries.set(i, entryId + ":" + newTier);
+                    sigilEntries.set(i, entry.withTier(newTier));
                     actionTaken = "tier " + currentTier + " -> " + newTier;
 
                     // Notify player
@@ -97,15 +92,14 @@ public class DecreaseSigilTierEffect extends AbstractEffect {
         }
 
         // Update the item's PDC
-        if (sigilEntries.isEmpty()) {
-            meta.getPersistentDataContainer().remove(socketedKey);
-        } else {
-            meta.getPersistentDataContainer().set(socketedKey, PersistentDataType.STRING,
-                String.join(",", sigilEntries));
-        }
+        socketManager.setSockets(meta, sigilEntries);
 
         // Update lore
-        plugin.getSocketManager().updateItemLorePublic(meta, sigilEntries, sourceItem.getType());
+        List<String> loreEntries = new ArrayList<>();
+        for (SocketedSigil entry : sigilEntries) {
+            loreEntries.add(entry.toData());
+        }
+        socketManager.updateItemLorePublic(meta, loreEntries, sourceItem.getType());
         sourceItem.setItemMeta(meta);
 
         debug("Decreased sigil tier: " + sigilId + " (" + actionTaken + ")");
@@ -2,6 +2,8 @@ package com.miracle.arcanesigils.effects.impl;
 
 import com.miracle.arcanesigils.effects.EffectContext;
 import com.miracle.arcanesigils.effects.EffectParams;
+import com.miracle.arcanesigils.effects.ParticleBudget;
+import com.miracle.arcanesigils.effects.VirtualDisplay;
 import com.miracle.arcanesigils.particles.ShapeDefinition;
 import com.miracle.arcanesigils.particles.ShapeEngine;
 import org.bukkit.Color;
@@ -29,6 +31,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * - PARTICLE:FLAME:shape=circle:radius=3:points=30     - Circle shape
  * - PARTICLE:FLAME:shape=line:from=$oldPos:to=@Self    - Line from saved position to current
  * - PARTICLE:preset=fire_spiral:duration=3             - Use ShapeEngine preset
+ * - PARTICLE:END_ROD:shape=ring:priority=critical      - Never thinned by the visual budget
  */
 public class ParticleEffect extends AbstractEffect {
 
@@ -189,6 +192,9 @@ public class ParticleEffect extends AbstractEffect {
             case "pulse_end" -> params.set("pulse_end", parseDouble(value, 7.0));
             case "pulse_delay" -> params.set("pulse_delay", parseInt(value, 10));
             case "pulse_fade" -> params.set("pulse_fade", Boolean.parseBoolean(value));
+
+            // Visual budget priority (critical = never thinned)
+            case "priority" -> params.set("priority", value.toLowerCase());
         }
     }
 
@@ -302,7 +308,7 @@ public class ParticleEffect extends AbstractEffect {
         if (center == null) return false;
 
         Player owner = context.getPlayer();
-        engine.playPreset(presetId, center, owner);
+        engine.playPreset(presetId, center, owner, getVisualPriority(context));
         return true;
     }
 
@@ -372,53 +378,64 @@ public class ParticleEffect extends AbstractEffect {
         final Location baseCenter = center.clone();
         final String finalPulseShape = pulseShape;
 
-        // Schedule each wave
+        // Per-wave radius and spacing - fade increases spacing (fewer particles) outward
+        final double[] waveRadius = new double[Math.max(0, waves)];
+        final double[] waveSpacing = new double[Math.max(0, waves)];
         for (int i = 0; i < waves; i++) {
-            final int waveIndex = i;
-            final double currentRadius = startRadius + (radiusStep * i);
-
-            // Calculate spacing for this wave - fade increases spacing (fewer particles) outward
-            final double currentSpacing;
+            waveRadius[i] = startRadius + (radiusStep * i);
             if (fadeIntensity > 0) {
                 // Inner waves: base spacing, outer waves: up to 3x spacing based on fade
                 double fadeMultiplier = 1.0 + (fadeIntensity * 2.0 * ((double) i / Math.max(1, waves - 1)));
-                currentSpacing = spacing * fadeMultiplier;
+                waveSpacing[i] = spacing * fadeMultiplier;
             } else {
-                currentSpacing = spacing;
+                waveSpacing[i] = spacing;
             }
-
-            // Schedule this wave
-            new org.bukkit.scheduler.BukkitRunnable() {
-                @Override
-                public void run() {
-                    // Get current center (follow target if enabled)
-                    Location waveCenter;
-                    if (finalTarget != null && finalTarget.isValid()) {
-                        waveCenter = finalTarget.getLocation().add(0, 1 + yOffset, 0);
-                    } else {
-                        waveCenter = baseCenter.clone().add(0, yOffset, 0);
-                    }
-
-                    // Generate shape points using spacing
+        }
+        if (waves <= 0) return true;
+
+        // One animation steps every wave_delay ticks; wave_delay=0 fires every wave at once
+        final int interval = Math.max(1, waveDelay);
+        final double height = params.getDouble("height", 0.0);
+        final ShapeDefinition shapeDef = new ShapeDefinition(finalPulseShape);
+        final UUID owner = ownerOf(context);
+        final ParticleBudget.Priority priority = getVisualPriority(context);
+        final ParticleBudget budget = getPlugin().getParticleBudget();
+
+        getPlugin().getAnimationRuntime().create("particle:pulse", center.getWorld())
+            .owner(owner)
+            .lifetime(waveDelay > 0 ? (waves - 1) * waveDelay + 1 : 1)
+            .interval(interval)
+            .position(() -> {
+                // Get current center (follow target if enabled)
+                if (finalTarget != null && finalTarget.isValid()) {
+                    return finalTarget.getLocation().add(0, 1 + yOffset, 0);
+                }
+                return baseCenter.clone().add(0, yOffset, 0);
+            })
+            .shape((waveCenter, progress, tick) -> {
+                int first = waveDelay > 0 ? tick / interval : 0;
+                int last = waveDelay > 0 ? first : waves - 1;
+                List<Location> points = new ArrayList<>();
+                for (int wave = first; wave <= last && wave < waves; wave++) {
                     Map<String, Object> shapeParams = new HashMap<>();
-                    shapeParams.put("radius", currentRadius);
-                    shapeParams.put("spacing", currentSpacing);
-                    shapeParams.put("height", params.getDouble("height", 0.0));
-
-                    ShapeDefinition shapeDef = new ShapeDefinition(finalPulseShape);
-                    List<Location> points = shapeDef.generatePoints(waveCenter, shapeParams, 0);
-
-                    // Spawn particles at each point
-                    for (Location point : points) {
-                        if (finalData != null) {
-                            point.getWorld().spawnParticle(finalParticle, point, 1, spread, spread, spread, speed, finalData);
-                        } else {
-                            point.getWorld().spawnParticle(finalParticle, point, 1, spread, spread, spread, speed);
-                        }
+                    shapeParams.put("radius", waveRadius[wave]);
+                    shapeParams.put("spacing", waveSpacing[wave]);
+                    shapeParams.put("height", height);
+                    points.addAll(shapeDef.generatePoints(waveCenter, shapeParams, 0));
+                }
+                return points;
+            })
+            .renderer((waveCenter, points, progress, tick) -> {
+                // Spawn particles at each point (thinned when over the visual budget)
+                for (Location point : budget.admit(ParticleBudget.Channel.PARTICLES, owner, priority, points, 1)) {
+                    if (finalData != null) {
+                        point.getWorld().spawnParticle(finalParticle, point, 1, spread, spread, spread, speed, finalData);
+                    } else {
+                        point.getWorld().spawnParticle(finalParticle, point, 1, spread, spread, spread, speed);
                     }
                 }
-            }.runTaskLater(getPlugin(), (long) i * waveDelay);
-        }
+            })
+            .start();
 
         return true;
     }
@@ -490,16 +507,20 @@ public class ParticleEffect extends AbstractEffect {
 
         if (initialPoints.isEmpty()) return false;
 
+        // Over the display budget, spawn fewer displays along the shape
+        initialPoints = getPlugin().getParticleBudget().admit(ParticleBudget.Channel.DISPLAYS,
+            ownerOf(context), getVisualPriority(context), initialPoints, 1);
+        if (initialPoints.isEmpty()) return true;
+
         // Spawn display entities ONCE
-        List<org.bukkit.entity.Display> displays = new ArrayList<>();
+        List<VirtualDisplay> displays = new ArrayList<>();
         org.bukkit.Material displayMaterial = getDisplayMaterial(particleName);
 
         for (Location point : initialPoints) {
-            org.bukkit.entity.BlockDisplay display = point.getWorld().spawn(point, org.bukkit.entity.BlockDisplay.class, d -> {
+            VirtualDisplay display = getPlugin().getVirtualDisplayManager().spawn(point, VirtualDisplay.Type.BLOCK, d -> {
                 d.setBlock(displayMaterial.createBlockData());
                 d.setGlowing(glow);
                 d.setBillboard(org.bukkit.entity.Display.Billboard.CENTER);
-                d.setPersistent(false);
                 // Set small scale for particle-like appearance
                 org.bukkit.util.Transformation transform = new org.bukkit.util.Transformation(
                     new org.joml.Vector3f(0, 0, 0),
@@ -523,57 +544,46 @@ public class ParticleEffect extends AbstractEffect {
             });
         }
 
-        // Animation task - teleport displays each tick
+        // Animation - teleport displays each tick_rate ticks
         int totalTicks = (int) (duration * 20);
         final org.bukkit.entity.LivingEntity finalTarget = targetEntity;
         final Location baseCenter = center.clone();
 
-        new org.bukkit.scheduler.BukkitRunnable() {
-            int tick = 0;
-
-            @Override
-            public void run() {
-                if (tick >= totalTicks) {
-                    // Remove all displays
-                    for (org.bukkit.entity.Display d : displays) {
-                        if (d.isValid()) d.remove();
-                    }
-                    this.cancel();
-                    return;
+        getPlugin().getAnimationRuntime().create("particle:display", center.getWorld())
+            .owner(ownerOf(context))
+            .lifetime(totalTicks)
+            .interval(tickRate)
+            .position(() -> {
+                if (finalTarget != null && finalTarget.isValid()) {
+                    return finalTarget.getLocation().add(0, 1 + yOffset, 0);
                 }
-
-                // Only update on tick_rate intervals
-                if (tick % tickRate == 0) {
-                    double progress = (double) tick / totalTicks;
-                    double rotation = progress * rotateSpeed * 2 * Math.PI;
-                    double cos = Math.cos(rotation);
-                    double sin = Math.sin(rotation);
-
-                    // Get current center
-                    Location currentCenter;
-                    if (finalTarget != null && finalTarget.isValid()) {
-                        currentCenter = finalTarget.getLocation().add(0, 1 + yOffset, 0);
-                    } else {
-                        currentCenter = baseCenter.clone().add(0, yOffset, 0);
-                    }
-
-                    // Teleport each display to its rotated position
-                    for (int i = 0; i < displays.size(); i++) {
-                        org.bukkit.entity.Display display = displays.get(i);
-                        if (!display.isValid()) continue;
-
-                        double[] offset = baseOffsets.get(i);
-                        double newX = offset[0] * cos - offset[2] * sin;
-                        double newZ = offset[0] * sin + offset[2] * cos;
-
-                        Location newLoc = currentCenter.clone().add(newX, offset[1], newZ);
-                        display.teleport(newLoc);
-                    }
+                return baseCenter.clone().add(0, yOffset, 0);
+            })
+            .renderer((currentCenter, unused, progress, tick) -> {
+                double rotation = progress * rotateSpeed * 2 * Math.PI;
+                double cos = Math.cos(rotation);
+                double sin = Math.sin(rotation);
+
+                // Teleport each display to its rotated position
+                for (int i = 0; i < displays.size(); i++) {
+                    VirtualDisplay display = displays.get(i);
+                    if (!display.isValid()) continue;
+
+                    double[] offset = baseOffsets.get(i);
+                    double newX = offset[0] * cos - offset[2] * sin;
+                    double newZ = offset[0] * sin + offset[2] * cos;
+
+                    Location newLoc = currentCenter.clone().add(newX, offset[1], newZ);
+                    display.teleport(newLoc);
                 }
-
-                tick++;
-            }
-        }.runTaskTimer(getPlugin(), 0L, 1L);
+            })
+            .onEnd(reason -> {
+                // Remove all displays
+                for (VirtualDisplay d : displays) {
+                    d.remove();
+                }
+            })
+            .start();
 
         return true;
     }
@@ -620,73 +630,65 @@ public class ParticleEffect extends AbstractEffect {
         final Object finalData = particleData;
         final org.bukkit.entity.LivingEntity finalTarget = targetEntity;
 
-        new org.bukkit.scheduler.BukkitRunnable() {
-            int tick = 0;
-
-            @Override
-            public void run() {
-                if (tick >= totalTicks) {
-                    this.cancel();
-                    return;
+        Map<String, Object> shapeParams = new HashMap<>();
+        shapeParams.put("radius", radius);
+        shapeParams.put("spacing", spacing);
+        shapeParams.put("height", shapeHeight);
+        shapeParams.put("turns", turns);
+        shapeParams.put("segments", segments);
+        shapeParams.put("jitter", jitter);
+        ShapeDefinition shapeDef = new ShapeDefinition(shapeId);
+        final UUID owner = ownerOf(context);
+        final ParticleBudget.Priority priority = getVisualPriority(context);
+        final ParticleBudget budget = getPlugin().getParticleBudget();
+
+        var animation = getPlugin().getAnimationRuntime().create("particle:shape", center.getWorld())
+            .owner(owner)
+            .lifetime(totalTicks)
+            .interval(tickRate)
+            .position(() -> {
+                if (finalTarget != null && finalTarget.isValid()) {
+                    return finalTarget.getLocation().add(0, yOffset, 0);
                 }
+                return center.clone().add(0, yOffset, 0);
+            })
+            .shape((currentCenter, progress, tick) -> shapeDef.generatePoints(currentCenter, shapeParams, progress))
+            .modifier((shapePoints, currentCenter, progress) -> {
+                // Apply rotation
+                double rotation = progress * rotateSpeed * 2 * Math.PI;
+                if (rotation == 0) return;
+                double cos = Math.cos(rotation);
+                double sin = Math.sin(rotation);
+                for (Location point : shapePoints) {
+                    double dx = point.getX() - currentCenter.getX();
+                    double dz = point.getZ() - currentCenter.getZ();
+                    point.setX(currentCenter.getX() + dx * cos - dz * sin);
+                    point.setZ(currentCenter.getZ() + dx * sin + dz * cos);
+                }
+            });
 
-                // Only spawn on tick_rate intervals
-                if (tick % tickRate == 0) {
-                    double progress = (double) tick / totalTicks;
-                    double rotation = progress * rotateSpeed * 2 * Math.PI;
-
-                    Location currentCenter;
-                    if (finalTarget != null && finalTarget.isValid()) {
-                        currentCenter = finalTarget.getLocation().add(0, yOffset, 0);
-                    } else {
-                        currentCenter = center.clone().add(0, yOffset, 0);
-                    }
-
-                    Map<String, Object> shapeParams = new HashMap<>();
-                    shapeParams.put("radius", radius);
-                    shapeParams.put("spacing", spacing);
-                    shapeParams.put("height", shapeHeight);
-                    shapeParams.put("turns", turns);
-                    shapeParams.put("segments", segments);
-                    shapeParams.put("jitter", jitter);
-
-                    ShapeDefinition shapeDef = new ShapeDefinition(shapeId);
-                    List<Location> shapePoints = shapeDef.generatePoints(currentCenter, shapeParams, progress);
-
-                    // Apply rotation
-                    if (rotation != 0) {
-                        double cos = Math.cos(rotation);
-                        double sin = Math.sin(rotation);
-                        for (Location point : shapePoints) {
-                            double dx = point.getX() - currentCenter.getX();
-                            double dz = point.getZ() - currentCenter.getZ();
-                            point.setX(currentCenter.getX() + dx * cos - dz * sin);
-                            point.setZ(currentCenter.getZ() + dx * sin + dz * cos);
-                        }
-                    }
-
-                    // Apply snap_to_ground if enabled
-                    if (snapToGround && currentCenter.getWorld() != null) {
-                        double baseY = finalTarget != null ? finalTarget.getLocation().getY() : currentCenter.getY();
-                        for (Location point : shapePoints) {
-                            double groundY = findGroundY(point.getWorld(), point.getX(), baseY, point.getZ());
-                            point.setY(groundY + groundOffset);
-                        }
-                    }
-
-                    // Spawn particles
-                    for (Location point : shapePoints) {
-                        if (finalData != null) {
-                            point.getWorld().spawnParticle(finalParticle, point, count, spread, spread, spread, speed, finalData);
-                        } else {
-                            point.getWorld().spawnParticle(finalParticle, point, count, spread, spread, spread, speed);
-                        }
-                    }
+        // Apply snap_to_ground if enabled
+        if (snapToGround) {
+            animation.modifier((shapePoints, currentCenter, progress) -> {
+                if (currentCenter.getWorld() == null) return;
+                double baseY = finalTarget != null ? finalTarget.getLocation().getY() : currentCenter.getY();
+                for (Location point : shapePoints) {
+                    double groundY = findGroundY(point.getWorld(), point.getX(), baseY, point.getZ());
+                    point.setY(groundY + groundOffset);
                 }
+            });
+        }
 
-                tick++;
+        animation.renderer((currentCenter, shapePoints, progress, tick) -> {
+            // Spawn particles (thinned or skipped when over the visual budget)
+            for (Location point : budget.admit(ParticleBudget.Channel.PARTICLES, owner, priority, shapePoints, count)) {
+                if (finalData != null) {
+                    point.getWorld().spawnParticle(finalParticle, point, count, spread, spread, spread, speed, finalData);
+                } else {
+                    point.getWorld().spawnParticle(finalParticle, point, count, spread, spread, spread, speed);
+                }
             }
-        }.runTaskTimer(getPlugin(), 0L, 1L);
+        }).start();
 
         return true;
     }
@@ -709,6 +711,13 @@ public class ParticleEffect extends AbstractEffect {
         return baseY; // Fallback to original Y
     }
 
+    /**
+     * Owner the animation counts against for the per-player cap.
+     */
+    private UUID ownerOf(EffectContext context) {
+        return context.getPlayer() != null ? context.getPlayer().getUniqueId() : null;
+    }
+
     /**
      * Get target entity for follow mode.
      */
@@ -881,14 +890,14 @@ public class ParticleEffect extends AbstractEffect {
         if (targetStr != null && targetStr.toUpperCase().startsWith("@NEARBY")) {
             double radius = parseNearbyRadius(targetStr, 5);
             for (LivingEntity entity : getNearbyEntities(context, radius)) {
-                spawnParticles(entity.getLocation().add(0, 1, 0), particle, count, particleData, params);
+                spawnParticles(context, entity.getLocation().add(0, 1, 0), particle, count, particleData, params);
             }
             return true;
         }
 
         Location loc = getTargetLocation(context);
         if (loc != null) {
-            spawnParticles(loc.add(0, 1, 0), particle, count, particleData, params);
+            spawnParticles(context, loc.add(0, 1, 0), particle, count, particleData, params);
             return true;
         }
 
@@ -916,8 +925,10 @@ public class ParticleEffect extends AbstractEffect {
 
         Object particleData = buildParticleData(particle, particleName, params);
 
-        for (Location point : points) {
-            spawnParticles(point, particle, countPerPoint, particleData, params);
+        List<Location> admitted = getPlugin().getParticleBudget().admit(ParticleBudget.Channel.PARTICLES,
+            ownerOf(context), getVisualPriority(context), points, countPerPoint);
+        for (Location point : admitted) {
+            spawnPoint(point, particle, countPerPoint, particleData, params);
         }
 
         return true;
@@ -990,7 +1001,18 @@ public class ParticleEffect extends AbstractEffect {
         return null;
     }
 
-    private void spawnParticles(Location loc, Particle particle, int count, Object data, EffectParams params) {
+    /**
+     * Spawn a burst, reduced in count when the emitter is over its visual budget.
+     */
+    private void spawnParticles(EffectContext context, Location loc, Particle particle, int count, Object data, EffectParams params) {
+        int granted = getPlugin().getParticleBudget().grant(ParticleBudget.Channel.PARTICLES,
+            ownerOf(context), getVisualPriority(context), count);
+        if (granted > 0) {
+            spawnPoint(loc, particle, granted, data, params);
+        }
+    }
+
+    private void spawnPoint(Location loc, Particle particle, int count, Object data, EffectParams params) {
         double spread = params.getDouble("spread", 0.3);
         double speed = params.getDouble("speed", 0.02);
 
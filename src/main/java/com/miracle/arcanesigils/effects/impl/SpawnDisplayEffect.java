@@ -4,7 +4,9 @@ import com.miracle.arcanesigils.core.Sigil;
 import com.miracle.arcanesigils.effects.BehaviorManager;
 import com.miracle.arcanesigils.effects.EffectContext;
 import com.miracle.arcanesigils.effects.EffectParams;
+import com.miracle.arcanesigils.effects.ParticleBudget;
 import com.miracle.arcanesigils.effects.ProjectileManager;
+import com.miracle.arcanesigils.effects.VirtualDisplay;
 import com.miracle.arcanesigils.particles.ShapeDefinition;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
@@ -15,7 +17,6 @@ import org.bukkit.entity.*;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Transformation;
-import org.joml.AxisAngle4f;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
 
@@ -24,7 +25,8 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Spawns Display Entities (Block, Item, or Text) at a location with optional behavior support.
- * Uses Minecraft 1.19.4+ Display Entities for purely visual effects without world modification.
+ * Displays are packet-only {@link VirtualDisplay}s - purely visual, never added to the world.
+ * Behavior-backed displays get a server-side Marker anchor so BehaviorManager has an entity to track.
  *
  * Format: SPAWN_DISPLAY:TYPE:VALUE:DURATION @Target
  * Extended: SPAWN_DISPLAY:TYPE:VALUE:DURATION:param=value:param=value @Target
@@ -87,8 +89,8 @@ import java.util.concurrent.ConcurrentHashMap;
 public class SpawnDisplayEffect extends AbstractEffect {
 
     // Track spawned displays for cleanup
-    private final Map<UUID, Set<UUID>> ownerToDisplays = new ConcurrentHashMap<>();
-    private final Set<UUID> allDisplays = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Set<VirtualDisplay>> ownerToDisplays = new ConcurrentHashMap<>();
+    private final Set<VirtualDisplay> allDisplays = ConcurrentHashMap.newKeySet();
 
     // Track active animations to prevent TICK spam (same display effect re-triggering)
     // Key: "playerUUID:sigilId:signal:shape:material:radius:points" -> expiration timestamp
@@ -212,6 +214,7 @@ public class SpawnDisplayEffect extends AbstractEffect {
             case "glow" -> params.set("glow", Boolean.parseBoolean(value));
             case "billboard" -> params.set("billboard", value.toUpperCase());
             case "brightness" -> params.set("brightness", parseInt(value, 15));
+            case "priority" -> params.set("priority", value.toLowerCase()); // Visual budget: critical = never thinned
 
             // Text specific
             case "background" -> params.set("background", value);
@@ -366,6 +369,19 @@ public class SpawnDisplayEffect extends AbstractEffect {
             }
         }
 
+        // Displays carrying a behavior are gameplay - only purely cosmetic ones are thinned over budget
+        if (!spawnLocations.isEmpty()) {
+            ParticleBudget.Priority priority = behaviorSigil != null
+                ? ParticleBudget.Priority.CRITICAL
+                : getVisualPriority(context);
+            spawnLocations = getPlugin().getParticleBudget().admit(ParticleBudget.Channel.DISPLAYS,
+                owner.getUniqueId(), priority, spawnLocations, 1);
+            if (spawnLocations.isEmpty()) {
+                debug("Display budget exhausted, skipping SPAWN_DISPLAY frame");
+                return true;
+            }
+        }
+
         // Get per-axis scale (or use uniform scale if not specified)
         float scaleX = params.getFloat("scale_x", -1.0f);
         float scaleY = params.getFloat("scale_y", -1.0f);
@@ -375,7 +391,7 @@ public class SpawnDisplayEffect extends AbstractEffect {
         if (scaleZ < 0) scaleZ = scale;
 
         // Spawn displays at each location
-        List<Display> spawnedDisplays = new ArrayList<>();
+        List<VirtualDisplay> spawnedDisplays = new ArrayList<>();
         for (Location loc : spawnLocations) {
             // Calculate yaw based on billboard mode
             if (outwardFacing) {
@@ -396,18 +412,21 @@ public class SpawnDisplayEffect extends AbstractEffect {
                 loc.setPitch(0);
             }
 
-            Display display = spawnDisplay(loc, displayType, value, scaleX, scaleY, scaleZ, glow, billboard, params, outwardFacing || inwardFacing);
+            VirtualDisplay display = spawnDisplay(loc, displayType, value, scaleX, scaleY, scaleZ, glow, billboard, params, outwardFacing || inwardFacing);
             if (display != null) {
                 spawnedDisplays.add(display);
 
                 // Track display
-                allDisplays.add(display.getUniqueId());
+                allDisplays.add(display);
                 ownerToDisplays.computeIfAbsent(owner.getUniqueId(), k -> ConcurrentHashMap.newKeySet())
-                        .add(display.getUniqueId());
+                        .add(display);
 
-                // Register with BehaviorManager if behavior sigil is specified
+                // Register with BehaviorManager if behavior sigil is specified.
+                // Behaviors need a real entity - a Marker is never ticked or sent to clients.
                 if (behaviorSigil != null && behaviorManager != null) {
-                    behaviorManager.registerEntity(display, behaviorSigil, owner.getUniqueId(), duration);
+                    Marker anchor = loc.getWorld().spawn(loc, Marker.class, m -> m.setPersistent(false));
+                    display.attachAnchor(anchor);
+                    behaviorManager.registerEntity(anchor, behaviorSigil, owner.getUniqueId(), duration);
                 }
             }
         }
@@ -454,7 +473,7 @@ public class SpawnDisplayEffect extends AbstractEffect {
                 }
 
                 // Register each display as a projectile
-                for (Display display : spawnedDisplays) {
+                for (VirtualDisplay display : spawnedDisplays) {
                     projectileManager.registerProjectile(
                             display, owner, homingTarget, direction,
                             speed, hitRadius, pierce, onHitBehavior,
@@ -526,7 +545,7 @@ public class SpawnDisplayEffect extends AbstractEffect {
      * Start animated rotation for display entities.
      * Rotates displays around the center point over the duration.
      */
-    private void startAnimatedRotation(List<Display> displays, Location center, Player owner,
+    private void startAnimatedRotation(List<VirtualDisplay> displays, Location center, Player owner,
                                         double rotateSpeed, int duration, boolean followOwner,
                                         double yOffset, EffectParams params) {
         if (displays.isEmpty()) return;
@@ -540,7 +559,7 @@ public class SpawnDisplayEffect extends AbstractEffect {
         // Use the passed-in center (where displays were spawned around)
         // Store each display's base offset from center (for rotation calculation)
         List<double[]> baseOffsets = new ArrayList<>();
-        for (Display display : displays) {
+        for (VirtualDisplay display : displays) {
             Location displayLoc = display.getLocation();
             double dx = displayLoc.getX() - center.getX();
             double dy = displayLoc.getY() - center.getY();
@@ -550,50 +569,27 @@ public class SpawnDisplayEffect extends AbstractEffect {
 
         int totalTicks = duration * 20;
 
-        BukkitRunnable animationTask = new BukkitRunnable() {
-            int tick = 0;
-
-            @Override
-            public void run() {
-                if (tick >= totalTicks) {
-                    // Remove all displays
-                    for (Display display : displays) {
-                        if (display.isValid()) display.remove();
-                        allDisplays.remove(display.getUniqueId());
-                    }
-                    ownerToDisplays.values().forEach(set -> displays.forEach(d -> set.remove(d.getUniqueId())));
-                    this.cancel();
-                    return;
-                }
-
+        getPlugin().getAnimationRuntime().create("display:rotate", center.getWorld())
+            .owner(ownerUUID)
+            .lifetime(totalTicks)
+            .position(() -> {
                 // Get current center (may follow owner)
-                Location currentCenter;
-                Player player = null;
-                if (followOwner) {
-                    player = Bukkit.getPlayer(ownerUUID);
-                    if (player == null || !player.isOnline()) {
-                        // Owner offline, remove displays
-                        for (Display display : displays) {
-                            if (display.isValid()) display.remove();
-                            allDisplays.remove(display.getUniqueId());
-                        }
-                        this.cancel();
-                        return;
-                    }
-                    currentCenter = player.getLocation().add(0, yOffset, 0);
-                } else {
-                    currentCenter = center.clone();
-                }
+                if (!followOwner) return center.clone();
+                Player player = Bukkit.getPlayer(ownerUUID);
+                if (player == null || !player.isOnline()) return null; // Owner offline, remove displays
+                return player.getLocation().add(0, yOffset, 0);
+            })
+            .renderer((currentCenter, unused, progress, tick) -> {
+                Player player = followOwner ? Bukkit.getPlayer(ownerUUID) : null;
 
                 // Calculate rotation angle
-                double progress = (double) tick / totalTicks;
                 double rotation = progress * rotateSpeed * 2 * Math.PI;
                 double cos = Math.cos(rotation);
                 double sin = Math.sin(rotation);
 
                 // Rotate and teleport each display
                 for (int i = 0; i < displays.size(); i++) {
-                    Display display = displays.get(i);
+                    VirtualDisplay display = displays.get(i);
                     if (!display.isValid()) continue;
                     if (i >= baseOffsets.size()) continue;
 
@@ -620,11 +616,9 @@ public class SpawnDisplayEffect extends AbstractEffect {
                     newLoc.setPitch(0);
                     display.teleport(newLoc);
                 }
-
-                tick++;
-            }
-        };
-        animationTask.runTaskTimer(getPlugin(), 0L, 1L);
+            })
+            .onEnd(reason -> untrackAndRemove(displays))
+            .start();
     }
 
     /**
@@ -639,7 +633,7 @@ public class SpawnDisplayEffect extends AbstractEffect {
      * @param followOwner Whether to follow the owner's position
      * @param yOffset Y offset from center/owner
      */
-    private void startCycleAnimation(List<Display> displays, List<Location> shapePoints,
+    private void startCycleAnimation(List<VirtualDisplay> displays, List<Location> shapePoints,
                                      Location center, Player owner, int duration,
                                      boolean followOwner, double yOffset) {
         if (displays.isEmpty() || shapePoints.isEmpty()) return;
@@ -662,49 +656,24 @@ public class SpawnDisplayEffect extends AbstractEffect {
         // Each display moves to next point every N ticks (smooth cycling through all points)
         int ticksPerMove = Math.max(1, totalTicks / (numPoints * 2)); // Cycle through twice during duration
 
-        BukkitRunnable cycleTask = new BukkitRunnable() {
-            int tick = 0;
-            int currentPointIndex = 0;
-
-            @Override
-            public void run() {
-                if (tick >= totalTicks) {
-                    // Remove all displays
-                    for (Display display : displays) {
-                        if (display.isValid()) display.remove();
-                        allDisplays.remove(display.getUniqueId());
-                    }
-                    ownerToDisplays.values().forEach(set -> displays.forEach(d -> set.remove(d.getUniqueId())));
-                    this.cancel();
-                    return;
-                }
-
+        getPlugin().getAnimationRuntime().create("display:cycle", center.getWorld())
+            .owner(ownerUUID)
+            .lifetime(totalTicks)
+            .position(() -> {
                 // Get current center (may follow owner)
-                Location currentCenter;
-                if (followOwner) {
-                    Player player = Bukkit.getPlayer(ownerUUID);
-                    if (player == null || !player.isOnline()) {
-                        for (Display display : displays) {
-                            if (display.isValid()) display.remove();
-                            allDisplays.remove(display.getUniqueId());
-                        }
-                        this.cancel();
-                        return;
-                    }
-                    currentCenter = player.getLocation().add(0, yOffset, 0);
-                } else {
-                    currentCenter = center.clone();
-                }
-
+                if (!followOwner) return center.clone();
+                Player player = Bukkit.getPlayer(ownerUUID);
+                if (player == null || !player.isOnline()) return null;
+                return player.getLocation().add(0, yOffset, 0);
+            })
+            .renderer((currentCenter, unused, progress, tick) -> {
                 // Move to next point every ticksPerMove ticks
-                if (tick > 0 && tick % ticksPerMove == 0) {
-                    currentPointIndex = (currentPointIndex + 1) % numPoints;
-                }
+                int currentPointIndex = (tick / ticksPerMove) % numPoints;
 
                 // Teleport each display to its current point in the cycle
                 // Displays are spaced evenly across the shape points
                 for (int i = 0; i < numDisplays; i++) {
-                    Display display = displays.get(i);
+                    VirtualDisplay display = displays.get(i);
                     if (!display.isValid()) continue;
 
                     // Each display is offset by (i * numPoints/numDisplays) positions
@@ -714,18 +683,17 @@ public class SpawnDisplayEffect extends AbstractEffect {
                     Location newLoc = currentCenter.clone().add(offset[0], offset[1], offset[2]);
                     display.teleport(newLoc);
                 }
-
-                tick++;
-            }
-        };
-        cycleTask.runTaskTimer(getPlugin(), 0L, 1L);
+            })
+            .onEnd(reason -> untrackAndRemove(displays))
+            .start();
     }
 
-    private Display spawnDisplay(Location loc, DisplayType type, String value, float scaleX, float scaleY, float scaleZ,
+    private VirtualDisplay spawnDisplay(Location loc, DisplayType type, String value, float scaleX, float scaleY, float scaleZ,
                                   boolean glow, Display.Billboard billboard, EffectParams params, boolean needsRotation) {
         if (loc.getWorld() == null) return null;
 
-        Display display;
+        VirtualDisplay display;
+        var displayManager = getPlugin().getVirtualDisplayManager();
 
         // Get rotation from location (used for INWARD/OUTWARD billboard modes)
         float yaw = loc.getYaw();
@@ -752,15 +720,17 @@ public class SpawnDisplayEffect extends AbstractEffect {
                 if (useItemDisplayForBlock) {
                     // Use ItemDisplay for center-based rotation (origin at center, not corner)
                     ItemStack blockItem = new ItemStack(finalBlockMat);
-                    display = loc.getWorld().spawn(loc, ItemDisplay.class, id -> {
+                    display = displayManager.spawn(loc, VirtualDisplay.Type.ITEM, id -> {
                         id.setItemStack(blockItem);
                         // FIXED transform gives block-like appearance (full size, no perspective)
                         id.setItemDisplayTransform(ItemDisplay.ItemDisplayTransform.FIXED);
+                        applyCommonSettings(id, yaw, scaleX, scaleY, scaleZ, glow, billboard, params);
                     });
                 } else {
                     // Standard BlockDisplay for non-rotated blocks
-                    display = loc.getWorld().spawn(loc, BlockDisplay.class, bd -> {
+                    display = displayManager.spawn(loc, VirtualDisplay.Type.BLOCK, bd -> {
                         bd.setBlock(finalBlockMat.createBlockData());
+                        applyCommonSettings(bd, yaw, scaleX, scaleY, scaleZ, glow, billboard, params);
                     });
                 }
                 break;
@@ -774,9 +744,10 @@ public class SpawnDisplayEffect extends AbstractEffect {
                 }
 
                 ItemStack item = new ItemStack(itemMat);
-                display = loc.getWorld().spawn(loc, ItemDisplay.class, id -> {
+                display = displayManager.spawn(loc, VirtualDisplay.Type.ITEM, id -> {
                     id.setItemStack(item);
                     id.setItemDisplayTransform(ItemDisplay.ItemDisplayTransform.GROUND);
+                    applyCommonSettings(id, yaw, scaleX, scaleY, scaleZ, glow, billboard, params);
                 });
                 break;
 
@@ -784,7 +755,7 @@ public class SpawnDisplayEffect extends AbstractEffect {
                 // Parse color codes in the text (replace underscores with spaces)
                 String textValue = value.replace('_', ' ');
                 Component textComponent = LegacyComponentSerializer.legacyAmpersand().deserialize(textValue);
-                display = loc.getWorld().spawn(loc, TextDisplay.class, td -> {
+                display = displayManager.spawn(loc, VirtualDisplay.Type.TEXT, td -> {
                     td.text(textComponent);
 
                     // Background color
@@ -800,9 +771,9 @@ public class SpawnDisplayEffect extends AbstractEffect {
                         td.setBackgroundColor(org.bukkit.Color.fromARGB(100, 0, 0, 0));
                     }
 
-                    td.setAlignment(TextDisplay.TextAlignment.CENTER);
                     td.setSeeThrough(params.getBoolean("see_through", false));
                     td.setShadowed(params.getBoolean("shadow", true));
+                    applyCommonSettings(td, yaw, scaleX, scaleY, scaleZ, glow, billboard, params);
                 });
                 break;
 
@@ -810,93 +781,83 @@ public class SpawnDisplayEffect extends AbstractEffect {
                 return null;
         }
 
-        // Apply common settings
-        if (display != null) {
-            // Calculate rotation for OUTWARD/INWARD mode or scale transform
-            boolean hasRotation = yaw != 0;
-            boolean hasScale = Math.abs(scaleX - 1.0f) > 0.01f ||
-                               Math.abs(scaleY - 1.0f) > 0.01f ||
-                               Math.abs(scaleZ - 1.0f) > 0.01f;
-            boolean needsTransform = hasRotation || hasScale;
-
-            if (needsTransform) {
-                // NOTE: Minecraft yaw is clockwise, JOML rotationY is counter-clockwise, so negate
-                float rotRadians = (float) Math.toRadians(-yaw);
-
-                Quaternionf rightRot = new Quaternionf().rotationY(rotRadians);
-                Quaternionf noRot = new Quaternionf();
-
-                // ItemDisplay has origin at CENTER - rotation works correctly without compensation
-                // BlockDisplay has origin at CORNER - needs translation compensation
-                boolean isItemDisplay = (display instanceof ItemDisplay);
-
-                float tx, ty, tz;
-                if (isItemDisplay) {
-                    // ItemDisplay: origin at center, no compensation needed
-                    // Just offset for scale (scale happens around origin, which is already center)
-                    tx = 0;
-                    ty = 0;
-                    tz = 0;
-                } else {
-                    // BlockDisplay: origin at corner (0,0,0), need to compensate for rotation
-                    float cos = (float) Math.cos(rotRadians);
-                    float sin = (float) Math.sin(rotRadians);
-
-                    // After RightRotation, model center (0.5,0.5,0.5) moves to new position
-                    // Compensate to keep visual center in place
-                    tx = -0.5f * scaleX * (cos - sin);
-                    ty = -0.5f * scaleY;
-                    tz = -0.5f * scaleZ * (sin + cos);
-                }
+        return display;
+    }
 
-                Transformation transform = new Transformation(
-                    new Vector3f(tx, ty, tz),
-                    noRot,
-                    new Vector3f(scaleX, scaleY, scaleZ),
-                    rightRot
-                );
-                display.setTransformation(transform);
+    /**
+     * Apply transform, glow, billboard and brightness before the display is first sent.
+     */
+    private void applyCommonSettings(VirtualDisplay display, float yaw, float scaleX, float scaleY, float scaleZ,
+                                     boolean glow, Display.Billboard billboard, EffectParams params) {
+        // Calculate rotation for OUTWARD/INWARD mode or scale transform
+        boolean hasRotation = yaw != 0;
+        boolean hasScale = Math.abs(scaleX - 1.0f) > 0.01f ||
+                           Math.abs(scaleY - 1.0f) > 0.01f ||
+                           Math.abs(scaleZ - 1.0f) > 0.01f;
+        boolean needsTransform = hasRotation || hasScale;
+
+        if (needsTransform) {
+            // NOTE: Minecraft yaw is clockwise, JOML rotationY is counter-clockwise, so negate
+            float rotRadians = (float) Math.toRadians(-yaw);
+
+            Quaternionf rightRot = new Quaternionf().rotationY(rotRadians);
+            Quaternionf noRot = new Quaternionf();
+
+            // ItemDisplay has origin at CENTER - rotation works correctly without compensation
+            // BlockDisplay has origin at CORNER - needs translation compensation
+            boolean isItemDisplay = display.getType() == VirtualDisplay.Type.ITEM;
+
+            float tx, ty, tz;
+            if (isItemDisplay) {
+                // ItemDisplay: origin at center, no compensation needed
+                // Just offset for scale (scale happens around origin, which is already center)
+                tx = 0;
+                ty = 0;
+                tz = 0;
+            } else {
+                // BlockDisplay: origin at corner (0,0,0), need to compensate for rotation
+                float cos = (float) Math.cos(rotRadians);
+                float sin = (float) Math.sin(rotRadians);
+
+                // After RightRotation, model center (0.5,0.5,0.5) moves to new position
+                // Compensate to keep visual center in place
+                tx = -0.5f * scaleX * (cos - sin);
+                ty = -0.5f * scaleY;
+                tz = -0.5f * scaleZ * (sin + cos);
             }
 
-            // Set glow
-            display.setGlowing(glow);
-
-            // Set billboard mode (FIXED for outward, otherwise as specified)
-            display.setBillboard(billboard);
+            Transformation transform = new Transformation(
+                new Vector3f(tx, ty, tz),
+                noRot,
+                new Vector3f(scaleX, scaleY, scaleZ),
+                rightRot
+            );
+            display.setTransformation(transform);
+        }
 
-            // Brightness
-            int brightness = params.getInt("brightness", -1);
-            if (brightness >= 0 && brightness <= 15) {
-                display.setBrightness(new Display.Brightness(brightness, brightness));
-            }
+        // Set glow
+        display.setGlowing(glow);
 
-            // Make it not persist
-            display.setPersistent(false);
+        // Set billboard mode (FIXED for outward, otherwise as specified)
+        display.setBillboard(billboard);
 
-            // Enable smooth interpolation for butter-smooth movement at client framerate
-            // Duration of 2-3 ticks means client smoothly animates position changes
-            display.setInterpolationDuration(3);
-            display.setInterpolationDelay(0);
+        // Brightness
+        int brightness = params.getInt("brightness", -1);
+        if (brightness >= 0 && brightness <= 15) {
+            display.setBrightness(new Display.Brightness(brightness, brightness));
         }
 
-        return display;
+        // Enable smooth interpolation for butter-smooth movement at client framerate
+        // Duration of 2-3 ticks means client smoothly animates position changes
+        display.setInterpolationDuration(3);
+        display.setTeleportDuration(3);
     }
 
-    private void scheduleRemoval(List<Display> displays, int duration) {
-        Set<UUID> displayIds = new HashSet<>();
-        displays.forEach(d -> displayIds.add(d.getUniqueId()));
-
+    private void scheduleRemoval(List<VirtualDisplay> displays, int duration) {
         new BukkitRunnable() {
             @Override
             public void run() {
-                for (UUID id : displayIds) {
-                    Entity entity = Bukkit.getEntity(id);
-                    if (entity != null && entity.isValid()) {
-                        entity.remove();
-                    }
-                    allDisplays.remove(id);
-                    ownerToDisplays.values().forEach(set -> set.remove(id));
-                }
+                untrackAndRemove(displays);
             }
         }.runTaskLater(getPlugin(), duration * 20L);
     }
@@ -909,7 +870,7 @@ public class SpawnDisplayEffect extends AbstractEffect {
      *                     instead of maintaining a fixed Y offset (useful for ground-based effects)
      * @param groundOffset Y offset to apply after ground snapping (e.g., -0.9 to sink into ground)
      */
-    private void scheduleFollowing(List<Display> displays, Player owner, Location spawnBase, int duration, boolean snapToGround, double groundOffset) {
+    private void scheduleFollowing(List<VirtualDisplay> displays, Player owner, Location spawnBase, int duration, boolean snapToGround, double groundOffset) {
         if (displays.isEmpty()) return;
 
         UUID ownerUUID = owner.getUniqueId();
@@ -917,7 +878,7 @@ public class SpawnDisplayEffect extends AbstractEffect {
 
         // Store each display's offset from owner (X/Z only for ground snapping)
         Map<UUID, org.bukkit.util.Vector> displayOffsets = new HashMap<>();
-        for (Display display : displays) {
+        for (VirtualDisplay display : displays) {
             Location displayLoc = display.getLocation();
             // Calculate offset from owner position
             double offsetX = displayLoc.getX() - ownerLoc.getX();
@@ -928,30 +889,25 @@ public class SpawnDisplayEffect extends AbstractEffect {
 
         // Store base locations for each display (for transformation-based movement)
         final Map<UUID, Location> baseLocations = new HashMap<>();
-        for (Display display : displays) {
+        for (VirtualDisplay display : displays) {
             baseLocations.put(display.getUniqueId(), display.getLocation().clone());
         }
 
-        // Start a repeating task to move displays using transformation interpolation
+        // Move displays using transformation interpolation every 2 ticks
         // This gives butter-smooth movement at client framerate instead of jerky teleports
-        BukkitRunnable followTask = new BukkitRunnable() {
-            @Override
-            public void run() {
+        getPlugin().getAnimationRuntime().create("display:follow", ownerLoc.getWorld())
+            .owner(ownerUUID)
+            .lifetime(duration * 20)
+            .delay(2)
+            .interval(2) // Interpolation smooths the movement between updates
+            .position(() -> {
                 Player player = Bukkit.getPlayer(ownerUUID);
-                if (player == null || !player.isOnline()) {
-                    // Owner offline, remove displays
-                    for (Display display : displays) {
-                        if (display.isValid()) display.remove();
-                        allDisplays.remove(display.getUniqueId());
-                    }
-                    this.cancel();
-                    return;
-                }
-
-                Location playerLoc = player.getLocation();
-
+                if (player == null || !player.isOnline()) return null; // Owner offline, remove displays
+                return player.getLocation();
+            })
+            .renderer((playerLoc, unused, progress, tick) -> {
                 // Move each display using transformation for smooth interpolation
-                for (Display display : displays) {
+                for (VirtualDisplay display : displays) {
                     if (!display.isValid()) continue;
 
                     org.bukkit.util.Vector offset = displayOffsets.get(display.getUniqueId());
@@ -988,36 +944,31 @@ public class SpawnDisplayEffect extends AbstractEffect {
                     );
                     display.setTransformation(newTrans);
                 }
-            }
-        };
-        followTask.runTaskTimer(getPlugin(), 2L, 2L); // Update every 2 ticks, interpolation smooths the movement
+            })
+            .onEnd(reason -> untrackAndRemove(displays))
+            .start();
+    }
 
-        // Schedule removal after duration
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                followTask.cancel();
-                for (Display display : displays) {
-                    if (display.isValid()) display.remove();
-                    allDisplays.remove(display.getUniqueId());
-                }
-                ownerToDisplays.values().forEach(set -> displays.forEach(d -> set.remove(d.getUniqueId())));
-            }
-        }.runTaskLater(getPlugin(), duration * 20L);
+    /**
+     * Remove displays and drop them from owner/global tracking.
+     */
+    private void untrackAndRemove(List<VirtualDisplay> displays) {
+        for (VirtualDisplay display : displays) {
+            display.remove();
+            allDisplays.remove(display);
+        }
+        ownerToDisplays.values().forEach(set -> set.removeAll(displays));
     }
 
     /**
      * Remove all displays spawned by a specific owner.
      */
     public void removeOwnerDisplays(UUID ownerUUID) {
-        Set<UUID> displays = ownerToDisplays.remove(ownerUUID);
+        Set<VirtualDisplay> displays = ownerToDisplays.remove(ownerUUID);
         if (displays != null) {
-            for (UUID id : displays) {
-                Entity entity = Bukkit.getEntity(id);
-                if (entity != null) {
-                    entity.remove();
-                }
-                allDisplays.remove(id);
+            for (VirtualDisplay display : displays) {
+                display.remove();
+                allDisplays.remove(display);
             }
         }
     }
@@ -1026,11 +977,8 @@ public class SpawnDisplayEffect extends AbstractEffect {
      * Remove all spawned displays.
      */
     public void removeAllDisplays() {
-        for (UUID id : new HashSet<>(allDisplays)) {
-            Entity entity = Bukkit.getEntity(id);
-            if (entity != null) {
-                entity.remove();
-            }
+        for (VirtualDisplay display : new HashSet<>(allDisplays)) {
+            display.remove();
         }
         allDisplays.clear();
         ownerToDisplays.clear();
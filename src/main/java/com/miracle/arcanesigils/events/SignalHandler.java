@@ -3,7 +3,9 @@ package com.miracle.arcanesigils.events;
 import com.miracle.arcanesigils.ArmorSetsPlugin;
 import com.miracle.arcanesigils.binds.BindsListener;
 import com.miracle.arcanesigils.binds.LastVictimManager;
+import com.miracle.arcanesigils.core.ArmorSnapshot;
 import com.miracle.arcanesigils.core.Sigil;
+import com.miracle.arcanesigils.core.SocketedSigil;
 import com.miracle.arcanesigils.effects.EffectContext;
 import com.miracle.arcanesigils.flow.FlowConfig;
 import com.miracle.arcanesigils.flow.FlowExecutor;
@@ -47,8 +49,8 @@ public class SignalHandler implements Listener {
     private final LastVictimManager lastVictimManager;
     // Track applied effects per player to remove them when armor is unequipped
     private final Map<UUID, Set<PotionEffectType>> appliedEffects = new HashMap<>();
-    // Track previous armor state to detect changes
-    private final Map<UUID, ItemStack[]> previousArmor = new HashMap<>();
+    // Last armor snapshot per player, updated from armor change events
+    private final Map<UUID, ArmorSnapshot> armorSnapshots = new HashMap<>();
     // Track last equipped set to prevent duplicate unequipped messages
     private final Map<UUID, String> lastEquippedSet = new HashMap<>();
 
@@ -57,7 +59,7 @@ public class SignalHandler implements Listener {
         this.conditionManager = new ConditionManager(plugin);
         this.lastVictimManager = plugin.getLastVictimManager();
         startStaticEffectTask();
-        startArmorCheckTask();
+        snapshotOnlinePlayers();
         startTickSignalTask();
     }
 
@@ -83,53 +85,52 @@ public class SignalHandler implements Listener {
     }
 
     /**
-     * Start task to check for armor changes and remove effects when armor is unequipped.
+     * Take a baseline of what already-online players are wearing (plugin enable/reload).
      */
-    private void startArmorCheckTask() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                for (Player player : plugin.getServer().getOnlinePlayers()) {
-                    checkArmorChange(player);
-                }
+    private void snapshotOnlinePlayers() {
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            for (Player player : plugin.getServer().getOnlinePlayers()) {
+                checkArmorChange(player);
             }
-        }.runTaskTimer(plugin, 10L, 5L);
+        });
     }
 
+    /**
+     * Paper fires this when an armor slot's item changes (equip, unequip, break, meta edit).
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onArmorChange(com.destroystokyo.paper.event.player.PlayerArmorChangeEvent event) {
+        checkArmorChange(event.getPlayer());
+    }
+
+    /**
+     * Compare the player's armor with the last snapshot and react to pieces, sockets or
+     * tiers that changed. Durability and XP changes are not changes.
+     */
     private void checkArmorChange(Player player) {
         UUID uuid = player.getUniqueId();
-        ItemStack[] current = player.getInventory().getArmorContents();
-        ItemStack[] previous = previousArmor.get(uuid);
+        ArmorSnapshot current = ArmorSnapshot.of(plugin.getSocketManager(), player.getInventory().getArmorContents());
+        ArmorSnapshot previous = armorSnapshots.put(uuid, current);
 
-        if (previous == null) {
-            previousArmor.put(uuid, cloneArmor(current));
+        if (previous != null && current.matches(previous)) {
             return;
         }
 
         java.util.List<String> removedSigilIds = new java.util.ArrayList<>();
-        for (int i = 0; i < 4; i++) {
-            ItemStack prev = previous[i];
-            ItemStack curr = current[i];
-
-            boolean prevHasItem = prev != null && !prev.getType().isAir();
-            boolean currHasItem = curr != null && !curr.getType().isAir();
-
-            // Check if armor was removed (had armor before, now empty or different)
-            if (prevHasItem) {
-                boolean armorChanged = !currHasItem || !isSameArmorPiece(prev, curr);
-                if (armorChanged) {
-                    // Armor piece was removed or changed - get all sigils from old piece
-                    java.util.List<com.miracle.arcanesigils.core.Sigil> prevSigils = plugin.getSocketManager().getSocketedSigils(prev);
-                    java.util.List<com.miracle.arcanesigils.core.Sigil> currSigils = currHasItem ?
-                        plugin.getSocketManager().getSocketedSigils(curr) : java.util.Collections.emptyList();
-
-                    // Find sigils that were on old armor but not on new
-                    for (com.miracle.arcanesigils.core.Sigil prevSigil : prevSigils) {
-                        boolean stillEquipped = currSigils.stream()
-                            .anyMatch(s -> s.getId().equals(prevSigil.getId()));
-                        if (!stillEquipped) {
-                            removedSigilIds.add(prevSigil.getId());
-                        }
+        if (previous != null) {
+            for (int i = 0; i < ArmorSnapshot.SLOTS; i++) {
+                // Only pieces that were there before and are now gone or different
+                if (previous.getType(i) == null || !current.slotChanged(previous, i)) continue;
+
+                java.util.Set<String> currIds = new java.util.HashSet<>();
+                for (SocketedSigil socket : current.getSockets(i)) {
+                    currIds.add(socket.id());
+                }
+
+                // Find sigils that were on old armor but not on new
+                for (SocketedSigil socket : previous.getSockets(i)) {
+                    if (!currIds.contains(socket.id()) && plugin.getSigilManager().getSigil(socket.id()) != null) {
+                        removedSigilIds.add(socket.id());
                     }
                 }
             }
@@ -139,14 +140,7 @@ public class SignalHandler implements Listener {
             removeAppliedEffects(player);
 
             // Get all sigils still equipped on remaining armor
-            java.util.Set<String> stillEquippedSigils = new java.util.HashSet<>();
-            for (ItemStack armor : current) {
-                if (armor != null && !armor.getType().isAir()) {
-                    for (com.miracle.arcanesigils.core.Sigil sigil : plugin.getSocketManager().getSocketedSigils(armor)) {
-                        stillEquippedSigils.add(sigil.getId());
-                    }
-                }
-            }
+            java.util.Set<String> stillEquippedSigils = current.getSigilIds();
 
             // Only remove modifiers for sigils that are NO LONGER on ANY armor piece
             for (String sigilId : removedSigilIds) {
@@ -171,32 +165,15 @@ public class SignalHandler implements Listener {
 
         // Update set bonuses when armor changes
         if (plugin.getSetBonusManager() != null) {
-            plugin.getSetBonusManager().updatePlayerSetBonuses(player);
-        }
-
-        previousArmor.put(uuid, cloneArmor(current));
-    }
-
-    private ItemStack[] cloneArmor(ItemStack[] armor) {
-        ItemStack[] cloned = new ItemStack[armor.length];
-        for (int i = 0; i < armor.length; i++) {
-            cloned[i] = armor[i] != null ? armor[i].clone() : null;
+            plugin.getSetBonusManager().updatePlayerSetBonuses(player, current);
         }
-        return cloned;
     }
 
     /**
-     * Compares two armor pieces ignoring durability changes.
-     * Returns true if they're the same armor piece (same type and similar).
+     * The last armor snapshot taken for a player, or null if none yet.
      */
-    private boolean isSameArmorPiece(ItemStack prev, ItemStack curr) {
-        // Different types = different pieces
-        if (prev.getType() != curr.getType()) {
-            return false;
-        }
-
-        // Same type - compare using similar (ignores durability)
-        return prev.isSimilar(curr);
+    public ArmorSnapshot getArmorSnapshot(Player player) {
+        return armorSnapshots.get(player.getUniqueId());
     }
 
     private void removeAppliedEffects(Player player) {
@@ -268,7 +245,15 @@ public class SignalHandler implements Listener {
     public void cleanupPlayer(Player player) {
         UUID uuid = player.getUniqueId();
         removeAppliedEffects(player);
-        previousArmor.remove(uuid);
+        armorSnapshots.remove(uuid);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(org.bukkit.event.player.PlayerQuitEvent event) {
+        armorSnapshots.remove(event.getPlayer().getUniqueId());
+        if (plugin.getSetBonusManager() != null) {
+            plugin.getSetBonusManager().removePlayer(event.getPlayer().getUniqueId());
+        }
     }
 
     // ==================== EVENT HANDLERS ====================
@@ -664,13 +649,15 @@ public class SignalHandler implements Listener {
         // Collect all flows from all equipped sigils with their metadata
         List<FlowEntry> allFlows = new java.util.ArrayList<>();
 
-        // Check each armor slot for socketed sigils
-        for (ItemStack armor : player.getInventory().getArmorContents()) {
+        // Check each armor slot for socketed sigils (raw slots 36-39, boots to helmet)
+        ItemStack[] armorContents = player.getInventory().getArmorContents();
+        for (int i = 0; i < armorContents.length; i++) {
+            ItemStack armor = armorContents[i];
             if (armor == null || armor.getType().isAir()) continue;
             List<Sigil> sigils = plugin.getSocketManager().getSocketedSigils(armor);
             
             for (Sigil sigil : sigils) {
-                collectFlowsForSignal(sigil, signalType, armor, allFlows, player);
+                collectFlowsForSignal(sigil, signalType, armor, 36 + i, allFlows, player);
             }
         }
 
@@ -681,7 +668,7 @@ public class SignalHandler implements Listener {
                 && !plugin.getSocketManager().isArmor(mainHand)) {
             List<Sigil> heldSigils = plugin.getSocketManager().getSocketedSigils(mainHand);
             for (Sigil sigil : heldSigils) {
-                collectFlowsForSignal(sigil, signalType, mainHand, allFlows, player);
+                collectFlowsForSignal(sigil, signalType, mainHand, player.getInventory().getHeldItemSlot(), allFlows, player);
             }
         }
 
@@ -692,7 +679,7 @@ public class SignalHandler implements Listener {
                 && !plugin.getSocketManager().isArmor(offHand)) {
             List<Sigil> offHandSigils = plugin.getSocketManager().getSocketedSigils(offHand);
             for (Sigil sigil : offHandSigils) {
-                collectFlowsForSignal(sigil, signalType, offHand, allFlows, player);
+                collectFlowsForSignal(sigil, signalType, offHand, 40, allFlows, player);
             }
         }
 
@@ -703,7 +690,7 @@ public class SignalHandler implements Listener {
                 Sigil sigil = plugin.getSigilManager().getSigil(sigilId);
                 if (sigil == null) continue;
                 // Collect signal flows (normal proc path)
-                collectFlowsForSignal(sigil, signalType, null, allFlows, player);
+                collectFlowsForSignal(sigil, signalType, null, -1, allFlows, player);
                 // Also fire ABILITY flows on ATTACK (bots auto-activate abilities when attacking)
                 if (signalType == SignalType.ATTACK) {
                     collectAbilityFlowsForBot(sigil, allFlows, player);
@@ -759,7 +746,8 @@ public class SignalHandler implements Listener {
             if (activated) {
                 // Award XP for activation
                 if (entry.sourceItem != null) {
-                    plugin.getTierProgressionManager().awardXP(player, entry.sourceItem, entry.sigil.getId(), entry.sigil.getTier());
+                    plugin.getTierProgressionManager().awardXP(player, entry.sourceItem, entry.sourceSlot,
+                            entry.sigil.getId(), entry.sigil.getTier());
                 }
                 // Track the priority level that activated
                 if (!isPassiveSignal) {
@@ -776,11 +764,13 @@ public class SignalHandler implements Listener {
         final FlowConfig flow;
         final Sigil sigil;
         final ItemStack sourceItem;
+        final int sourceSlot; // raw player inventory slot, -1 if none
 
-        FlowEntry(FlowConfig flow, Sigil sigil, ItemStack sourceItem) {
+        FlowEntry(FlowConfig flow, Sigil sigil, ItemStack sourceItem, int sourceSlot) {
             this.flow = flow;
             this.sigil = sigil;
             this.sourceItem = sourceItem;
+            this.sourceSlot = sourceSlot;
         }
     }
 
@@ -788,7 +778,8 @@ public class SignalHandler implements Listener {
      * Collect flows from a sigil for a signal type.
      * Filters out flows that are on cooldown before adding to the list.
      */
-    private void collectFlowsForSignal(Sigil sigil, SignalType signalType, ItemStack sourceItem, List<FlowEntry> allFlows, Player player) {
+    private void collectFlowsForSignal(Sigil sigil, SignalType signalType, ItemStack sourceItem, int sourceSlot,
+                                       List<FlowEntry> allFlows, Player player) {
         List<FlowConfig> flows = sigil.getFlowsForTrigger(signalType.getConfigKey());
         if (flows.isEmpty()) {
             flows = sigil.getFlowsForTrigger(signalType.name());
@@ -810,7 +801,7 @@ public class SignalHandler implements Listener {
                 continue;
             }
 
-            allFlows.add(new FlowEntry(flow, sigil, sourceItem));
+            allFlows.add(new FlowEntry(flow, sigil, sourceItem, sourceSlot));
         }
     }
 
@@ -833,7 +824,7 @@ public class SignalHandler implements Listener {
             if (cooldown > 0 && plugin.getCooldownManager().isOnCooldown(player, cooldownKey)) {
                 continue;
             }
-            allFlows.add(new FlowEntry(flow, sigil, null));
+            allFlows.add(new FlowEntry(flow, sigil, null, -1));
         }
     }
 
@@ -898,7 +889,7 @@ public class SignalHandler implements Listener {
             if (activated) {
                 // Award XP on successful activation
                 if (sourceItem != null) {
-                    plugin.getTierProgressionManager().awardXP(player, sourceItem, sigil.getId(), sigil.getTier());
+                    plugin.getTierProgressionManager().awardXP(player, sourceItem, -1, sigil.getId(), sigil.getTier());
                 }
                 break; // Only ONE flow activates per signal
             }
@@ -1108,8 +1099,15 @@ public class SignalHandler implements Listener {
         }
 
         // Clear previous armor tracking to ensure clean slate
-        previousArmor.remove(player.getUniqueId());
+        armorSnapshots.remove(player.getUniqueId());
         appliedEffects.remove(player.getUniqueId());
+
+        // Baseline once the player is fully in; later changes arrive as armor change events
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            if (player.isOnline()) {
+                checkArmorChange(player);
+            }
+        });
     }
 
 }
@@ -52,6 +52,9 @@ public class TierProgressViewerHandler extends AbstractHandler {
         ItemBuilder.fillBackground(inv);
 
         // Get player's armor
+        // Write any XP still held in memory so the viewer shows it
+        plugin.getTierProgressionManager().flush(player);
+
         PlayerInventory playerInv = player.getInventory();
         ItemStack[] armorContents = playerInv.getArmorContents();
 
@@ -1,5 +1,11 @@
 package com.miracle.arcanesigils.particles;
 
+import com.miracle.arcanesigils.ArmorSetsPlugin;
+import com.miracle.arcanesigils.effects.ParticleBudget;
+import com.miracle.arcanesigils.effects.VirtualDisplay;
+import com.miracle.arcanesigils.effects.VirtualDisplayManager;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -11,15 +17,18 @@ import org.bukkit.util.Transformation;
 import org.joml.AxisAngle4f;
 import org.joml.Vector3f;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.*;
 
 /**
  * Defines a layer in a preset - what to render at shape points.
  * Layers can be:
  * - particle: Spawn particles
- * - block_display: Spawn BlockDisplay entities
- * - text_display: Spawn TextDisplay entities
- * - item_display: Spawn ItemDisplay entities
+ * - block_display: Spawn packet-only block displays
+ * - text_display: Spawn packet-only text displays
+ * - item_display: Spawn packet-only item displays
  * - sound: Play sounds
  */
 public class LayerDefinition {
@@ -60,8 +69,81 @@ public class LayerDefinition {
     private double volume = 1.0;
     private double pitch = 1.0;
 
+    // Resolved by compile() - render paths never look enums up by name
+    private Particle particleType = Particle.FLAME;
+    private Object staticParticleData;  // BLOCK/ITEM particle data (color-based data is per frame)
+    private Material blockMaterial = Material.STONE;
+    private Material itemMaterial = Material.DIAMOND;
+    private ItemDisplay.ItemDisplayTransform itemTransform = ItemDisplay.ItemDisplayTransform.GROUND;
+    private Display.Billboard billboardMode = Display.Billboard.CENTER;
+    private Component textComponent = Component.empty();
+    private org.bukkit.Sound soundType;
+
     public LayerDefinition() {}
 
+    /**
+     * Resolve every enum/material name once and report names that fell back to defaults.
+     *
+     * @return Validation problems (empty if the layer is clean)
+     */
+    public List<String> compile() {
+        List<String> problems = new ArrayList<>();
+
+        particleType = resolveParticle(particle);
+        if (particleType == null) {
+            problems.add("unknown particle '" + particle + "', using FLAME");
+            particleType = Particle.FLAME;
+        }
+
+        blockMaterial = Material.matchMaterial(block);
+        if (blockMaterial == null || !blockMaterial.isBlock()) {
+            if (type == LayerType.BLOCK_DISPLAY) problems.add("invalid block '" + block + "', using STONE");
+            blockMaterial = Material.STONE;
+        }
+
+        itemMaterial = Material.matchMaterial(item);
+        if (itemMaterial == null) {
+            if (type == LayerType.ITEM_DISPLAY) problems.add("unknown item '" + item + "', using DIAMOND");
+            itemMaterial = Material.DIAMOND;
+        }
+
+        try {
+            itemTransform = ItemDisplay.ItemDisplayTransform.valueOf(transform.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            problems.add("unknown transform '" + transform + "', using GROUND");
+            itemTransform = ItemDisplay.ItemDisplayTransform.GROUND;
+        }
+
+        try {
+            billboardMode = Display.Billboard.valueOf(billboard.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            problems.add("unknown billboard '" + billboard + "', using CENTER");
+            billboardMode = Display.Billboard.CENTER;
+        }
+
+        textComponent = LegacyComponentSerializer.legacySection().deserialize(text);
+
+        soundType = null;
+        if (!sound.isEmpty()) {
+            try {
+                soundType = org.bukkit.Sound.valueOf(sound.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                if (type == LayerType.SOUND) problems.add("unknown sound '" + sound + "'");
+            }
+        }
+
+        String name = particleType.name();
+        if (name.equals("BLOCK") || name.equals("BLOCK_DUST") || name.equals("FALLING_DUST")) {
+            staticParticleData = blockMaterial.createBlockData();
+        } else if (name.equals("ITEM") || name.equals("ITEM_CRACK")) {
+            staticParticleData = new ItemStack(itemMaterial);
+        } else {
+            staticParticleData = null;
+        }
+
+        return problems;
+    }
+
     /**
      * Render this layer at the given points.
      *
@@ -69,10 +151,22 @@ public class LayerDefinition {
      * @param points   Points to render at
      * @param progress Animation progress 0.0 to 1.0
      * @param duration Total duration in seconds
-     * @return List of spawned display entities (for cleanup)
+     * @return List of spawned virtual displays (for cleanup)
+     */
+    public List<VirtualDisplay> render(World world, List<Location> points, double progress, double duration) {
+        return render(world, points, progress, duration, null, ParticleBudget.Priority.COSMETIC);
+    }
+
+    /**
+     * Render this layer, charging particles/displays to an emitter's visual budget.
+     * Over budget, cosmetic layers are drawn at fewer points or skipped for the frame.
+     *
+     * @param owner    Player the visuals are charged to (null = ambient)
+     * @param priority CRITICAL layers are never degraded
      */
-    public List<Entity> render(World world, List<Location> points, double progress, double duration) {
-        List<Entity> spawned = new ArrayList<>();
+    public List<VirtualDisplay> render(World world, List<Location> points, double progress, double duration,
+                                       UUID owner, ParticleBudget.Priority priority) {
+        List<VirtualDisplay> spawned = new ArrayList<>();
 
         // Check delay
         double delayProgress = delay / duration;
@@ -84,11 +178,19 @@ public class LayerDefinition {
         double layerProgress = (progress - delayProgress) / (1.0 - delayProgress);
         layerProgress = Math.max(0, Math.min(1, layerProgress));
 
+        ParticleBudget budget = ArmorSetsPlugin.getInstance().getParticleBudget();
+        ParticleBudget.Channel channel = type == LayerType.PARTICLE
+            ? ParticleBudget.Channel.PARTICLES
+            : ParticleBudget.Channel.DISPLAYS;
+        List<Location> admitted = type == LayerType.SOUND
+            ? points
+            : budget.admit(channel, owner, priority, points, type == LayerType.PARTICLE ? count : 1);
+
         switch (type) {
-            case PARTICLE -> renderParticles(world, points, layerProgress);
-            case BLOCK_DISPLAY -> spawned.addAll(renderBlockDisplays(world, points, layerProgress));
-            case TEXT_DISPLAY -> spawned.addAll(renderTextDisplays(world, points, layerProgress));
-            case ITEM_DISPLAY -> spawned.addAll(renderItemDisplays(world, points, layerProgress));
+            case PARTICLE -> renderParticles(world, admitted, layerProgress);
+            case BLOCK_DISPLAY -> spawned.addAll(renderBlockDisplays(world, admitted, layerProgress));
+            case TEXT_DISPLAY -> spawned.addAll(renderTextDisplays(world, admitted, layerProgress));
+            case ITEM_DISPLAY -> spawned.addAll(renderItemDisplays(world, admitted, layerProgress));
             case SOUND -> renderSound(world, points, layerProgress);
         }
 
@@ -98,15 +200,14 @@ public class LayerDefinition {
     // ============ Particle Rendering ============
 
     private void renderParticles(World world, List<Location> points, double progress) {
-        Particle particleType = getParticleType();
-        if (particleType == null) return;
-
         // Calculate interpolated values
         Color color = getInterpolatedColor(progress);
         double size = getInterpolatedSize(progress);
 
         // Build particle data
-        Object particleData = buildParticleData(particleType, color, (float) size);
+        Object particleData = staticParticleData != null
+            ? staticParticleData
+            : buildParticleData(particleType, color, (float) size);
 
         for (Location loc : points) {
             if (particleData != null) {
@@ -117,18 +218,18 @@ public class LayerDefinition {
         }
     }
 
-    private Particle getParticleType() {
+    private static Particle resolveParticle(String name) {
         try {
-            return Particle.valueOf(particle.toUpperCase());
+            return Particle.valueOf(name.toUpperCase());
         } catch (IllegalArgumentException e) {
             // Try aliases
-            return switch (particle.toUpperCase()) {
+            return switch (name.toUpperCase()) {
                 case "FIRE" -> Particle.FLAME;
                 case "MAGIC" -> Particle.ENCHANT;
                 case "SPARKLE" -> Particle.END_ROD;
                 case "HEART" -> Particle.HEART;
                 case "REDSTONE" -> Particle.DUST;
-                default -> Particle.FLAME;
+                default -> null;
             };
         }
     }
@@ -146,46 +247,21 @@ public class LayerDefinition {
                 size
             );
         }
-        if (name.equals("BLOCK") || name.equals("BLOCK_DUST") || name.equals("FALLING_DUST")) {
-            try {
-                Material mat = Material.valueOf(block.toUpperCase());
-                return mat.createBlockData();
-            } catch (IllegalArgumentException e) {
-                return Material.STONE.createBlockData();
-            }
-        }
-        if (name.equals("ITEM") || name.equals("ITEM_CRACK")) {
-            try {
-                Material mat = Material.valueOf(item.toUpperCase());
-                return new ItemStack(mat);
-            } catch (IllegalArgumentException e) {
-                return new ItemStack(Material.DIAMOND);
-            }
-        }
         return null;
     }
 
     // ============ Display Entity Rendering ============
 
-    private List<Entity> renderBlockDisplays(World world, List<Location> points, double progress) {
-        List<Entity> entities = new ArrayList<>();
+    private List<VirtualDisplay> renderBlockDisplays(World world, List<Location> points, double progress) {
+        List<VirtualDisplay> entities = new ArrayList<>();
+        VirtualDisplayManager displayManager = ArmorSetsPlugin.getInstance().getVirtualDisplayManager();
         double scale = getInterpolatedSize(progress);
 
-        Material blockMaterial;
-        try {
-            blockMaterial = Material.valueOf(block.toUpperCase());
-            if (!blockMaterial.isBlock()) blockMaterial = Material.STONE;
-        } catch (IllegalArgumentException e) {
-            blockMaterial = Material.STONE;
-        }
-
-        Material finalMat = blockMaterial;
         for (Location loc : points) {
-            BlockDisplay display = world.spawn(loc, BlockDisplay.class, bd -> {
-                bd.setBlock(finalMat.createBlockData());
-                bd.setBillboard(getBillboardMode());
+            VirtualDisplay display = displayManager.spawn(loc, VirtualDisplay.Type.BLOCK, bd -> {
+                bd.setBlock(blockMaterial.createBlockData());
+                bd.setBillboard(billboardMode);
                 bd.setGlowing(glow);
-                bd.setPersistent(false);
 
                 if (Math.abs(scale - 1.0) > 0.01) {
                     bd.setTransformation(new Transformation(
@@ -201,17 +277,16 @@ public class LayerDefinition {
         return entities;
     }
 
-    private List<Entity> renderTextDisplays(World world, List<Location> points, double progress) {
-        List<Entity> entities = new ArrayList<>();
+    private List<VirtualDisplay> renderTextDisplays(World world, List<Location> points, double progress) {
+        List<VirtualDisplay> entities = new ArrayList<>();
+        VirtualDisplayManager displayManager = ArmorSetsPlugin.getInstance().getVirtualDisplayManager();
         double scale = getInterpolatedSize(progress);
 
         for (Location loc : points) {
-            TextDisplay display = world.spawn(loc, TextDisplay.class, td -> {
-                td.setText(text);
-                td.setBillboard(getBillboardMode());
+            VirtualDisplay display = displayManager.spawn(loc, VirtualDisplay.Type.TEXT, td -> {
+                td.text(textComponent);
+                td.setBillboard(billboardMode);
                 td.setGlowing(glow);
-                td.setPersistent(false);
-                td.setAlignment(TextDisplay.TextAlignment.CENTER);
                 td.setShadowed(true);
 
                 if (Math.abs(scale - 1.0) > 0.01) {
@@ -228,33 +303,18 @@ public class LayerDefinition {
         return entities;
     }
 
-    private List<Entity> renderItemDisplays(World world, List<Location> points, double progress) {
-        List<Entity> entities = new ArrayList<>();
+    private List<VirtualDisplay> renderItemDisplays(World world, List<Location> points, double progress) {
+        List<VirtualDisplay> entities = new ArrayList<>();
+        VirtualDisplayManager displayManager = ArmorSetsPlugin.getInstance().getVirtualDisplayManager();
         double scale = getInterpolatedSize(progress);
 
-        Material itemMaterial;
-        try {
-            itemMaterial = Material.valueOf(item.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            itemMaterial = Material.DIAMOND;
-        }
-
         ItemStack itemStack = new ItemStack(itemMaterial);
-        ItemDisplay.ItemDisplayTransform displayTransform;
-        try {
-            displayTransform = ItemDisplay.ItemDisplayTransform.valueOf(transform.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            displayTransform = ItemDisplay.ItemDisplayTransform.GROUND;
-        }
-
-        ItemDisplay.ItemDisplayTransform finalTransform = displayTransform;
         for (Location loc : points) {
-            ItemDisplay display = world.spawn(loc, ItemDisplay.class, id -> {
+            VirtualDisplay display = displayManager.spawn(loc, VirtualDisplay.Type.ITEM, id -> {
                 id.setItemStack(itemStack);
-                id.setItemDisplayTransform(finalTransform);
-                id.setBillboard(getBillboardMode());
+                id.setItemDisplayTransform(itemTransform);
+                id.setBillboard(billboardMode);
                 id.setGlowing(glow);
-                id.setPersistent(false);
 
                 if (Math.abs(scale - 1.0) > 0.01) {
                     id.setTransformation(new Transformation(
@@ -273,14 +333,10 @@ public class LayerDefinition {
     // ============ Sound Rendering ============
 
     private void renderSound(World world, List<Location> points, double progress) {
-        if (sound.isEmpty() || points.isEmpty()) return;
+        if (soundType == null || points.isEmpty()) return;
 
         // Play at center point
-        Location center = points.get(0);
-        try {
-            org.bukkit.Sound soundType = org.bukkit.Sound.valueOf(sound.toUpperCase());
-            world.playSound(center, soundType, (float) volume, (float) pitch);
-        } catch (IllegalArgumentException ignored) {}
+        world.playSound(points.get(0), soundType, (float) volume, (float) pitch);
     }
 
     // ============ Interpolation ============
@@ -310,14 +366,6 @@ public class LayerDefinition {
         return sizeStart + (sizeEnd - sizeStart) * progress;
     }
 
-    private Display.Billboard getBillboardMode() {
-        try {
-            return Display.Billboard.valueOf(billboard.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            return Display.Billboard.CENTER;
-        }
-    }
-
     // ============ YAML Parsing ============
 
     @SuppressWarnings("unchecked")
@@ -373,9 +421,77 @@ public class LayerDefinition {
         layer.volume = getDouble(map, "volume", 1.0);
         layer.pitch = getDouble(map, "pitch", 1.0);
 
+        layer.compile();
+        return layer;
+    }
+
+    // ============ Binary Cache ============
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeUTF(type.name());
+        out.writeUTF(particle);
+        out.writeInt(count);
+        out.writeDouble(spread);
+        out.writeDouble(speed);
+        writeColor(out, colorStart);
+        writeColor(out, colorEnd);
+        out.writeDouble(sizeStart);
+        out.writeDouble(sizeEnd);
+        out.writeDouble(opacityStart);
+        out.writeDouble(opacityEnd);
+        out.writeUTF(block);
+        out.writeUTF(item);
+        out.writeUTF(text);
+        out.writeUTF(billboard);
+        out.writeBoolean(glow);
+        out.writeUTF(transform);
+        out.writeDouble(delay);
+        out.writeUTF(sound);
+        out.writeDouble(volume);
+        out.writeDouble(pitch);
+    }
+
+    static LayerDefinition readFrom(DataInputStream in) throws IOException {
+        LayerDefinition layer = new LayerDefinition();
+        layer.type = LayerType.valueOf(in.readUTF());
+        layer.particle = in.readUTF();
+        layer.count = in.readInt();
+        layer.spread = in.readDouble();
+        layer.speed = in.readDouble();
+        layer.colorStart = readColor(in);
+        layer.colorEnd = readColor(in);
+        layer.sizeStart = in.readDouble();
+        layer.sizeEnd = in.readDouble();
+        layer.opacityStart = in.readDouble();
+        layer.opacityEnd = in.readDouble();
+        layer.block = in.readUTF();
+        layer.item = in.readUTF();
+        layer.text = in.readUTF();
+        layer.billboard = in.readUTF();
+        layer.glow = in.readBoolean();
+        layer.transform = in.readUTF();
+        layer.delay = in.readDouble();
+        layer.sound = in.readUTF();
+        layer.volume = in.readDouble();
+        layer.pitch = in.readDouble();
+        layer.compile();
         return layer;
     }
 
+    private static void writeColor(DataOutputStream out, int[] color) throws IOException {
+        out.writeBoolean(color != null);
+        if (color != null) {
+            out.writeInt(color[0]);
+            out.writeInt(color[1]);
+            out.writeInt(color[2]);
+        }
+    }
+
+    private static int[] readColor(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) return null;
+        return new int[]{in.readInt(), in.readInt(), in.readInt()};
+    }
+
     private static int[] parseColor(String colorStr) {
         if (colorStr == null) return new int[]{255, 255, 255};
         String[] parts = colorStr.split(",");
@@ -408,10 +524,16 @@ public class LayerDefinition {
     // ============ Getters & Setters ============
 
     public LayerType getType() { return type; }
-    public void setType(LayerType type) { this.type = type; }
+    public void setType(LayerType type) {
+        this.type = type;
+        compile();
+    }
 
     public String getParticle() { return particle; }
-    public void setParticle(String particle) { this.particle = particle; }
+    public void setParticle(String particle) {
+        this.particle = particle;
+        compile();
+    }
 
     public int getCount() { return count; }
     public void setCount(int count) { this.count = count; }
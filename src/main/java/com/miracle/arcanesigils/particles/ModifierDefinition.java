@@ -3,6 +3,9 @@ package com.miracle.arcanesigils.particles;
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -215,6 +218,43 @@ public class ModifierDefinition {
         return modifier;
     }
 
+    // ============ Binary Cache ============
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeUTF(id);
+        out.writeUTF(name);
+        PresetCache.writeNullableUTF(out, description);
+        out.writeUTF(type.name());
+        out.writeUTF(axis);
+        out.writeInt(params.size());
+        for (ParamDef param : params.values()) {
+            out.writeUTF(param.name);
+            out.writeDouble(param.defaultValue);
+            out.writeDouble(param.min);
+            out.writeDouble(param.max);
+            PresetCache.writeNullableUTF(out, param.description);
+        }
+    }
+
+    static ModifierDefinition readFrom(DataInputStream in) throws IOException {
+        ModifierDefinition modifier = new ModifierDefinition(in.readUTF());
+        modifier.name = in.readUTF();
+        modifier.description = PresetCache.readNullableUTF(in);
+        modifier.type = ModifierType.valueOf(in.readUTF());
+        modifier.axis = in.readUTF();
+        int paramCount = in.readInt();
+        for (int i = 0; i < paramCount; i++) {
+            ParamDef param = new ParamDef();
+            param.name = in.readUTF();
+            param.defaultValue = in.readDouble();
+            param.min = in.readDouble();
+            param.max = in.readDouble();
+            param.description = PresetCache.readNullableUTF(in);
+            modifier.params.put(param.name, param);
+        }
+        return modifier;
+    }
+
     // ============ Getters ============
 
     public String getId() { return id; }
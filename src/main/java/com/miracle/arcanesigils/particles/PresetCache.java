@@ -0,0 +1,304 @@
+package com.miracle.arcanesigils.particles;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Binary cache of compiled shape/modifier/preset definitions, keyed by YAML file hash.
+ *
+ * On load each YAML file is hashed; if the hash matches the cached entry its definitions
+ * are read from the cache and the file is never parsed. Entries are rebuilt from scratch
+ * every load, so deleted files drop out. Any read error or version mismatch discards the
+ * whole cache and falls back to parsing.
+ */
+final class PresetCache {
+
+    // Bump when any writeTo/readFrom layout changes
+    private static final int FORMAT_VERSION = 2;
+    private static final int MAGIC = 0x41535043; // "ASPC"
+
+    enum Section { SHAPES, MODIFIERS, PRESETS }
+
+    private record CachedFile(String hash, byte[] payload) {}
+
+    private final File file;
+    private final String pluginVersion;
+    private final Logger logger;
+
+    private final Map<Section, Map<String, CachedFile>> previous = new HashMap<>();
+    private final Map<Section, Map<String, CachedFile>> next = new HashMap<>();
+    private boolean dirty = false;
+    private int hits = 0;
+    private int misses = 0;
+
+    PresetCache(File file, String pluginVersion, Logger logger) {
+        this.file = file;
+        this.pluginVersion = pluginVersion;
+        this.logger = logger;
+        for (Section section : Section.values()) {
+            previous.put(section, new HashMap<>());
+            next.put(section, new LinkedHashMap<>());
+        }
+        read();
+    }
+
+    // ============ Lookup ============
+
+    /**
+     * Cached definitions for a file, or null if the file changed (or was never cached).
+     */
+    <T> List<T> get(Section section, String path, String hash, Reader<T> reader) {
+        CachedFile cached = previous.get(section).get(path);
+        if (cached == null || !cached.hash.equals(hash)) {
+            misses++;
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(cached.payload))) {
+            int count = in.readInt();
+            List<T> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(reader.read(in));
+            }
+            next.get(section).put(path, cached);
+            hits++;
+            return result;
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.FINE, "[ShapeEngine] Discarding cached entry " + path, e);
+            misses++;
+            return null;
+        }
+    }
+
+    /**
+     * Record freshly compiled definitions for a file.
+     */
+    <T> void put(Section section, String path, String hash, List<T> definitions, Writer<T> writer) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(definitions.size());
+                for (T definition : definitions) {
+                    writer.write(definition, out);
+                }
+            }
+            next.get(section).put(path, new CachedFile(hash, bytes.toByteArray()));
+            dirty = true;
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "[ShapeEngine] Could not cache " + path, e);
+        }
+    }
+
+    int getHits() { return hits; }
+    int getMisses() { return misses; }
+
+    // ============ Persistence ============
+
+    private void read() {
+        if (!file.exists()) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !in.readUTF().equals(pluginVersion)) {
+                return; // Stale format - rebuild
+            }
+            for (Section section : Section.values()) {
+                int files = in.readInt();
+                Map<String, CachedFile> entries = previous.get(section);
+                for (int i = 0; i < files; i++) {
+                    String path = in.readUTF();
+                    String hash = in.readUTF();
+                    byte[] payload = new byte[in.readInt()];
+                    in.readFully(payload);
+                    entries.put(path, new CachedFile(hash, payload));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("[ShapeEngine] Compiled preset cache unreadable, rebuilding: " + e.getMessage());
+            previous.values().forEach(Map::clear);
+        }
+    }
+
+    /**
+     * Write the cache if any file was recompiled or removed since the last save.
+     */
+    void saveIfChanged() {
+        boolean removed = false;
+        for (Section section : Section.values()) {
+            if (!next.get(section).keySet().containsAll(previous.get(section).keySet())) {
+                removed = true;
+                break;
+            }
+        }
+        if (!dirty && !removed) return;
+
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try {
+            file.getParentFile().mkdirs();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(pluginVersion);
+                for (Section section : Section.values()) {
+                    Map<String, CachedFile> entries = next.get(section);
+                    out.writeInt(entries.size());
+                    for (Map.Entry<String, CachedFile> entry : entries.entrySet()) {
+                        out.writeUTF(entry.getKey());
+                        out.writeUTF(entry.getValue().hash);
+                        out.writeInt(entry.getValue().payload.length);
+                        out.write(entry.getValue().payload);
+                    }
+                }
+            }
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "[ShapeEngine] Failed to write compiled preset cache", e);
+            temp.delete();
+        }
+    }
+
+    // ============ Hashing ============
+
+    static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    // ============ Value Codec (YAML scalars, lists, maps) ============
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_BOOLEAN = 1;
+    private static final byte TAG_INT = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_STRING = 5;
+    private static final byte TAG_LIST = 6;
+    private static final byte TAG_MAP = 7;
+
+    static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(TAG_INT);
+            out.writeInt(((Number) value).intValue());
+        } else if (value instanceof Long l) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(l);
+        } else if (value instanceof Number n) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(n.doubleValue());
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            writeMap(out, map);
+        } else if (value instanceof ConfigurationSection section) {
+            writeMap(out, section.getValues(false));
+        } else {
+            out.writeByte(TAG_STRING);
+            out.writeUTF(value.toString());
+        }
+    }
+
+    static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_BOOLEAN -> in.readBoolean();
+            case TAG_INT -> in.readInt();
+            case TAG_LONG -> in.readLong();
+            case TAG_DOUBLE -> in.readDouble();
+            case TAG_STRING -> in.readUTF();
+            case TAG_LIST -> {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                yield list;
+            }
+            case TAG_MAP -> readMapBody(in);
+            default -> throw new IOException("Unknown value tag " + tag);
+        };
+    }
+
+    static void writeMap(DataOutputStream out, Map<?, ?> map) throws IOException {
+        out.writeByte(TAG_MAP);
+        out.writeInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            out.writeUTF(String.valueOf(entry.getKey()));
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> readMap(DataInputStream in) throws IOException {
+        Object value = readValue(in);
+        if (!(value instanceof Map<?, ?>)) throw new IOException("Expected map");
+        return (Map<String, Object>) value;
+    }
+
+    private static Map<String, Object> readMapBody(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            map.put(key, readValue(in));
+        }
+        return map;
+    }
+
+    static void writeNullableUTF(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    static String readNullableUTF(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface Writer<T> {
+        void write(T value, DataOutputStream out) throws IOException;
+    }
+}
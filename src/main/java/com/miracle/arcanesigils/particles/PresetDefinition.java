@@ -3,6 +3,9 @@ package com.miracle.arcanesigils.particles;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -125,7 +128,7 @@ public class PresetDefinition {
         ConfigurationSection shapeParamsSection = section.getConfigurationSection("shape_params");
         if (shapeParamsSection != null) {
             for (String key : shapeParamsSection.getKeys(false)) {
-                preset.shapeParams.put(key, shapeParamsSection.get(key));
+                preset.shapeParams.put(key, toPlainValue(shapeParamsSection.get(key)));
             }
         }
 
@@ -183,6 +186,132 @@ public class PresetDefinition {
         return preset;
     }
 
+    /**
+     * Nested sections become plain maps, matching what the compiled cache reads back.
+     */
+    private static Object toPlainValue(Object value) {
+        if (value instanceof ConfigurationSection nested) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (String key : nested.getKeys(false)) {
+                map.put(key, toPlainValue(nested.get(key)));
+            }
+            return map;
+        }
+        return value;
+    }
+
+    // ============ Compilation ============
+
+    /**
+     * Validate the preset and freeze it. Layer/sound names are resolved up front so
+     * playback never looks enums up by string.
+     *
+     * @return Validation problems (empty if the preset is clean)
+     */
+    public List<String> compile() {
+        List<String> problems = new ArrayList<>();
+
+        for (int i = 0; i < layers.size(); i++) {
+            for (String problem : layers.get(i).compile()) {
+                problems.add("layer " + (i + 1) + ": " + problem);
+            }
+        }
+        for (int stageIndex = 0; stageIndex < stages.size(); stageIndex++) {
+            StageDefinition stage = stages.get(stageIndex);
+            if (stage.duration <= 0) {
+                problems.add("stage " + (stageIndex + 1) + ": duration must be > 0");
+            }
+            for (int i = 0; i < stage.layers.size(); i++) {
+                for (String problem : stage.layers.get(i).compile()) {
+                    problems.add("stage " + (stageIndex + 1) + " layer " + (i + 1) + ": " + problem);
+                }
+            }
+            stage.freeze();
+        }
+        for (SoundConfig sound : sounds) {
+            if (sound.soundType == null) {
+                problems.add("unknown sound '" + sound.sound + "'");
+            }
+        }
+        if (getTotalDuration() <= 0) {
+            problems.add("duration must be > 0");
+        }
+
+        description = Collections.unmodifiableList(description);
+        shapeParams = Collections.unmodifiableMap(shapeParams);
+        modifiers = Collections.unmodifiableList(modifiers);
+        layers = Collections.unmodifiableList(layers);
+        stages = Collections.unmodifiableList(stages);
+        sounds = Collections.unmodifiableList(sounds);
+        return problems;
+    }
+
+    // ============ Binary Cache ============
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeUTF(id);
+        out.writeUTF(name);
+        out.writeInt(description.size());
+        for (String line : description) {
+            out.writeUTF(line);
+        }
+        out.writeUTF(icon.name());
+        out.writeUTF(shape);
+        PresetCache.writeMap(out, shapeParams);
+        out.writeInt(modifiers.size());
+        for (ModifierConfig modifier : modifiers) {
+            modifier.writeTo(out);
+        }
+        out.writeInt(layers.size());
+        for (LayerDefinition layer : layers) {
+            layer.writeTo(out);
+        }
+        out.writeInt(stages.size());
+        for (StageDefinition stage : stages) {
+            stage.writeTo(out);
+        }
+        out.writeDouble(duration);
+        PresetCache.writeNullableUTF(out, attachTo);
+        out.writeDouble(offsetY);
+        out.writeInt(sounds.size());
+        for (SoundConfig sound : sounds) {
+            sound.writeTo(out);
+        }
+    }
+
+    static PresetDefinition readFrom(DataInputStream in) throws IOException {
+        PresetDefinition preset = new PresetDefinition(in.readUTF());
+        preset.name = in.readUTF();
+        int descriptionLines = in.readInt();
+        for (int i = 0; i < descriptionLines; i++) {
+            preset.description.add(in.readUTF());
+        }
+        Material icon = Material.matchMaterial(in.readUTF());
+        preset.icon = icon != null ? icon : Material.NETHER_STAR;
+        preset.shape = in.readUTF();
+        preset.shapeParams.putAll(PresetCache.readMap(in));
+        int modifierCount = in.readInt();
+        for (int i = 0; i < modifierCount; i++) {
+            preset.modifiers.add(ModifierConfig.readFrom(in));
+        }
+        int layerCount = in.readInt();
+        for (int i = 0; i < layerCount; i++) {
+            preset.layers.add(LayerDefinition.readFrom(in));
+        }
+        int stageCount = in.readInt();
+        for (int i = 0; i < stageCount; i++) {
+            preset.stages.add(StageDefinition.readFrom(in));
+        }
+        preset.duration = in.readDouble();
+        preset.attachTo = PresetCache.readNullableUTF(in);
+        preset.offsetY = in.readDouble();
+        int soundCount = in.readInt();
+        for (int i = 0; i < soundCount; i++) {
+            preset.sounds.add(SoundConfig.readFrom(in));
+        }
+        return preset;
+    }
+
     // ============ Getters ============
 
     public String getId() { return id; }
@@ -221,6 +350,18 @@ public class PresetDefinition {
             }
             return config;
         }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeUTF(type);
+            PresetCache.writeMap(out, params);
+        }
+
+        static ModifierConfig readFrom(DataInputStream in) throws IOException {
+            ModifierConfig config = new ModifierConfig();
+            config.type = in.readUTF();
+            config.params.putAll(PresetCache.readMap(in));
+            return config;
+        }
     }
 
     /**
@@ -269,6 +410,42 @@ public class PresetDefinition {
 
             return stage;
         }
+
+        private void freeze() {
+            shapeParams = Collections.unmodifiableMap(shapeParams);
+            modifiers = Collections.unmodifiableList(modifiers);
+            layers = Collections.unmodifiableList(layers);
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeDouble(duration);
+            PresetCache.writeNullableUTF(out, shape);
+            PresetCache.writeMap(out, shapeParams);
+            out.writeInt(modifiers.size());
+            for (ModifierConfig modifier : modifiers) {
+                modifier.writeTo(out);
+            }
+            out.writeInt(layers.size());
+            for (LayerDefinition layer : layers) {
+                layer.writeTo(out);
+            }
+        }
+
+        static StageDefinition readFrom(DataInputStream in) throws IOException {
+            StageDefinition stage = new StageDefinition();
+            stage.duration = in.readDouble();
+            stage.shape = PresetCache.readNullableUTF(in);
+            stage.shapeParams = new HashMap<>(PresetCache.readMap(in));
+            int modifierCount = in.readInt();
+            for (int i = 0; i < modifierCount; i++) {
+                stage.modifiers.add(ModifierConfig.readFrom(in));
+            }
+            int layerCount = in.readInt();
+            for (int i = 0; i < layerCount; i++) {
+                stage.layers.add(LayerDefinition.readFrom(in));
+            }
+            return stage;
+        }
     }
 
     /**
@@ -276,6 +453,7 @@ public class PresetDefinition {
      */
     public static class SoundConfig {
         public String sound;
+        public org.bukkit.Sound soundType;  // Resolved once; null if the name is unknown
         public double volume = 1.0;
         public double pitch = 1.0;
         public SoundTrigger trigger = SoundTrigger.START;
@@ -302,6 +480,34 @@ public class PresetDefinition {
             Object intervalObj = map.get("interval");
             if (intervalObj instanceof Number) config.interval = ((Number) intervalObj).doubleValue();
 
+            config.resolve();
+            return config;
+        }
+
+        private void resolve() {
+            try {
+                soundType = org.bukkit.Sound.valueOf(sound.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                soundType = null;
+            }
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeUTF(sound);
+            out.writeDouble(volume);
+            out.writeDouble(pitch);
+            out.writeUTF(trigger.name());
+            out.writeDouble(interval);
+        }
+
+        static SoundConfig readFrom(DataInputStream in) throws IOException {
+            SoundConfig config = new SoundConfig();
+            config.sound = in.readUTF();
+            config.volume = in.readDouble();
+            config.pitch = in.readDouble();
+            config.trigger = SoundTrigger.valueOf(in.readUTF());
+            config.interval = in.readDouble();
+            config.resolve();
             return config;
         }
 
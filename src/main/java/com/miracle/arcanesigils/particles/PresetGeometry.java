@@ -0,0 +1,142 @@
+package com.miracle.arcanesigils.particles;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Frame geometry for one playing preset, computed in center-relative space.
+ *
+ * Shapes and modifiers only use positions relative to the center, so a frame is
+ * generated around the origin and translated onto the live center when it is rendered.
+ * That lets following presets be precomputed too - the entity position is applied last.
+ *
+ * Shape definitions and modifier instances are resolved once on the main thread in the
+ * constructor; {@link #compute(int)} then only reads immutable state and is safe to run
+ * on a worker thread.
+ */
+public class PresetGeometry {
+
+    private final PresetDefinition preset;
+    private final Location origin;
+
+    private final Stage base;
+    private final Map<PresetDefinition.StageDefinition, Stage> stages = new IdentityHashMap<>();
+
+    public PresetGeometry(ShapeEngine engine, PresetDefinition preset, World world) {
+        this.preset = preset;
+        this.origin = new Location(world, 0, 0, 0);
+
+        this.base = new Stage(
+            engine.resolveShape(preset.getShape()),
+            preset.getShapeParams(),
+            engine.createModifierInstances(preset.getModifiers()),
+            preset.getLayers()
+        );
+
+        for (PresetDefinition.StageDefinition stage : preset.getStages()) {
+            String shapeId = stage.shape != null ? stage.shape : preset.getShape();
+            Map<String, Object> shapeParams = new HashMap<>(preset.getShapeParams());
+            shapeParams.putAll(stage.shapeParams);
+            stages.put(stage, new Stage(
+                engine.resolveShape(shapeId),
+                shapeParams,
+                engine.createModifierInstances(stage.modifiers.isEmpty() ? preset.getModifiers() : stage.modifiers),
+                stage.layers.isEmpty() ? preset.getLayers() : stage.layers
+            ));
+        }
+    }
+
+    /**
+     * Compute a frame. Pure - safe off the main thread.
+     *
+     * @param frame Tick index since the preset started
+     */
+    public Frame compute(int frame) {
+        double elapsed = frame / 20.0;
+
+        Stage stage;
+        double progress;
+        if (preset.hasStages()) {
+            PresetDefinition.StageDefinition stageDef = preset.getStageAt(elapsed);
+            if (stageDef == null) {
+                return Frame.END;
+            }
+            stage = stages.get(stageDef);
+            progress = preset.getStageProgress(elapsed);
+        } else {
+            stage = base;
+            progress = elapsed / preset.getTotalDuration();
+        }
+
+        List<Location> points = stage.shape.generatePoints(origin, stage.shapeParams, progress);
+        if (!(points instanceof ArrayList)) {
+            points = new ArrayList<>(points); // Modifiers mutate in place
+        }
+        for (ModifierDefinition.ModifierInstance modifier : stage.modifiers) {
+            modifier.apply(points, origin, progress);
+        }
+
+        double[] offsets = new double[points.size() * 3];
+        for (int i = 0; i < points.size(); i++) {
+            Location point = points.get(i);
+            offsets[i * 3] = point.getX();
+            offsets[i * 3 + 1] = point.getY();
+            offsets[i * 3 + 2] = point.getZ();
+        }
+        return new Frame(offsets, stage.layers, progress);
+    }
+
+    private record Stage(ShapeDefinition shape,
+                         Map<String, Object> shapeParams,
+                         List<ModifierDefinition.ModifierInstance> modifiers,
+                         List<LayerDefinition> layers) {}
+
+    /**
+     * A computed frame: center-relative point offsets plus what to render there.
+     */
+    public static final class Frame {
+        static final Frame END = new Frame(new double[0], Collections.emptyList(), 1.0);
+
+        private final double[] offsets;
+        private final List<LayerDefinition> layers;
+        private final double progress;
+
+        private Frame(double[] offsets, List<LayerDefinition> layers, double progress) {
+            this.offsets = offsets;
+            this.layers = layers;
+            this.progress = progress;
+        }
+
+        /**
+         * True once every stage has played.
+         */
+        public boolean isEnd() {
+            return this == END;
+        }
+
+        /**
+         * Translate the frame onto a live center.
+         */
+        public List<Location> place(Location center) {
+            int count = offsets.length / 3;
+            List<Location> points = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                points.add(new Location(center.getWorld(),
+                    center.getX() + offsets[i * 3],
+                    center.getY() + offsets[i * 3 + 1],
+                    center.getZ() + offsets[i * 3 + 2]));
+            }
+            return points;
+        }
+
+        public List<LayerDefinition> getLayers() { return layers; }
+        public double getProgress() { return progress; }
+    }
+}
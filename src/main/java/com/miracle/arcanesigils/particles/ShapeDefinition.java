@@ -3,6 +3,9 @@ package com.miracle.arcanesigils.particles;
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -450,6 +453,43 @@ public class ShapeDefinition {
         return shape;
     }
 
+    // ============ Binary Cache ============
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeUTF(id);
+        out.writeUTF(name);
+        PresetCache.writeNullableUTF(out, description);
+        out.writeUTF(type.name());
+        PresetCache.writeNullableUTF(out, baseShape);
+        out.writeInt(params.size());
+        for (ParamDef param : params.values()) {
+            out.writeUTF(param.name);
+            out.writeDouble(param.defaultValue);
+            out.writeDouble(param.min);
+            out.writeDouble(param.max);
+            PresetCache.writeNullableUTF(out, param.description);
+        }
+    }
+
+    static ShapeDefinition readFrom(DataInputStream in) throws IOException {
+        ShapeDefinition shape = new ShapeDefinition(in.readUTF());
+        shape.name = in.readUTF();
+        shape.description = PresetCache.readNullableUTF(in);
+        shape.type = ShapeType.valueOf(in.readUTF());
+        shape.baseShape = PresetCache.readNullableUTF(in);
+        int paramCount = in.readInt();
+        for (int i = 0; i < paramCount; i++) {
+            ParamDef param = new ParamDef();
+            param.name = in.readUTF();
+            param.defaultValue = in.readDouble();
+            param.min = in.readDouble();
+            param.max = in.readDouble();
+            param.description = PresetCache.readNullableUTF(in);
+            shape.params.put(param.name, param);
+        }
+        return shape;
+    }
+
     // ============ Getters ============
 
     public String getId() { return id; }
@@ -1,17 +1,26 @@
 package com.miracle.arcanesigils.particles;
 
 import com.miracle.arcanesigils.ArmorSetsPlugin;
+import com.miracle.arcanesigils.effects.AnimationRuntime;
+import com.miracle.arcanesigils.effects.ParticleBudget;
+import com.miracle.arcanesigils.effects.VirtualDisplay;
+import com.miracle.arcanesigils.utils.ParallelLoader;
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.entity.Player;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 /**
@@ -23,46 +32,76 @@ public class ShapeEngine {
 
     private final ArmorSetsPlugin plugin;
 
-    private final Map<String, ShapeDefinition> shapes = new HashMap<>();
-    private final Map<String, ModifierDefinition> modifiers = new HashMap<>();
-    private final Map<String, PresetDefinition> presets = new HashMap<>();
+    // Replaced as a whole by loadAll(); geometry workers may be reading the old maps
+    private volatile Map<String, ShapeDefinition> shapes = Map.of();
+    private volatile Map<String, ModifierDefinition> modifiers = Map.of();
+    private volatile Map<String, PresetDefinition> presets = Map.of();
+
+    // file name -> definitions it produced, kept for a file that fails to load next time
+    private Map<String, List<ShapeDefinition>> shapesByFile = Map.of();
+    private Map<String, List<ModifierDefinition>> modifiersByFile = Map.of();
+    private Map<String, List<PresetDefinition>> presetsByFile = Map.of();
 
     // Track active animations for cleanup
     private final Map<UUID, ActiveAnimation> activeAnimations = new HashMap<>();
 
+    // Frames computed ahead of the tick that renders them
+    private static final int PREFETCH_FRAMES = 2;
+    private final ForkJoinPool geometryPool;
+    private final AtomicLong prefetchHits = new AtomicLong();
+    private final AtomicLong prefetchMisses = new AtomicLong();
+
     public ShapeEngine(ArmorSetsPlugin plugin) {
         this.plugin = plugin;
+        this.geometryPool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
     }
 
     /**
      * Load all shapes, modifiers, and presets.
      */
     public void loadAll() {
-        shapes.clear();
-        modifiers.clear();
-        presets.clear();
+        Map<String, ShapeDefinition> nextShapes = new HashMap<>();
+        Map<String, ModifierDefinition> nextModifiers = new HashMap<>();
+        Map<String, PresetDefinition> nextPresets = new HashMap<>();
 
         // Create directories and save defaults
         createDirectories();
 
-        // Load from plugin data folder
-        loadShapesFromDirectory(new File(plugin.getDataFolder(), "particles/shapes"));
-        loadModifiersFromDirectory(new File(plugin.getDataFolder(), "particles/modifiers"));
-        loadPresetsFromDirectory(new File(plugin.getDataFolder(), "particles/presets"));
+        // Load from plugin data folder - unchanged files come from the compiled cache
+        PresetCache cache = new PresetCache(
+            new File(plugin.getDataFolder(), "particles/.compiled.bin"),
+            plugin.getDescription().getVersion(),
+            plugin.getLogger()
+        );
+        Map<String, List<ShapeDefinition>> nextShapesByFile =
+            loadShapesFromDirectory(new File(plugin.getDataFolder(), "particles/shapes"), cache, nextShapes);
+        Map<String, List<ModifierDefinition>> nextModifiersByFile =
+            loadModifiersFromDirectory(new File(plugin.getDataFolder(), "particles/modifiers"), cache, nextModifiers);
+        Map<String, List<PresetDefinition>> nextPresetsByFile =
+            loadPresetsFromDirectory(new File(plugin.getDataFolder(), "particles/presets"), cache, nextPresets);
+        cache.saveIfChanged();
 
         // Register built-in shapes that don't need YAML
-        registerBuiltinShapes();
+        registerBuiltinShapes(nextShapes);
+
+        // Swap in only once everything parsed, so effects never see a half-loaded registry
+        shapes = Collections.unmodifiableMap(nextShapes);
+        modifiers = Collections.unmodifiableMap(nextModifiers);
+        presets = Collections.unmodifiableMap(nextPresets);
+        shapesByFile = nextShapesByFile;
+        modifiersByFile = nextModifiersByFile;
+        presetsByFile = nextPresetsByFile;
 
         plugin.getLogger().info(String.format(
-            "[ShapeEngine] Loaded %d shapes, %d modifiers, %d presets",
-            shapes.size(), modifiers.size(), presets.size()
+            "[ShapeEngine] Loaded %d shapes, %d modifiers, %d presets (%d files cached, %d compiled)",
+            shapes.size(), modifiers.size(), presets.size(), cache.getHits(), cache.getMisses()
         ));
     }
 
     /**
      * Register built-in shapes that are always available.
      */
-    private void registerBuiltinShapes() {
+    private void registerBuiltinShapes(Map<String, ShapeDefinition> shapes) {
         String[] builtinShapes = {"circle", "spiral", "helix", "sphere", "line", "beam", "cone", "point", "ring"};
         for (String shapeId : builtinShapes) {
             if (!shapes.containsKey(shapeId)) {
@@ -112,70 +151,117 @@ public class ShapeEngine {
 
     // ============ Loading ============
 
-    private void loadShapesFromDirectory(File directory) {
-        if (!directory.exists()) return;
+    private Map<String, List<ShapeDefinition>> loadShapesFromDirectory(File directory, PresetCache cache,
+                                                                       Map<String, ShapeDefinition> shapes) {
+        return loadDirectory(directory, cache, PresetCache.Section.SHAPES, "shape", shapesByFile,
+            ShapeDefinition::fromConfig, ShapeDefinition::readFrom, ShapeDefinition::writeTo,
+            shape -> shapes.put(shape.getId().toLowerCase(), shape));
+    }
 
-        File[] files = directory.listFiles((dir, name) -> name.endsWith(".yml"));
-        if (files == null) return;
+    private Map<String, List<ModifierDefinition>> loadModifiersFromDirectory(File directory, PresetCache cache,
+                                                                             Map<String, ModifierDefinition> modifiers) {
+        return loadDirectory(directory, cache, PresetCache.Section.MODIFIERS, "modifier", modifiersByFile,
+            ModifierDefinition::fromConfig, ModifierDefinition::readFrom, ModifierDefinition::writeTo,
+            modifier -> modifiers.put(modifier.getId().toLowerCase(), modifier));
+    }
 
-        for (File file : files) {
-            try {
-                FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-                for (String key : config.getKeys(false)) {
-                    ConfigurationSection section = config.getConfigurationSection(key);
-                    if (section != null) {
-                        ShapeDefinition shape = ShapeDefinition.fromConfig(key, section);
-                        shapes.put(key.toLowerCase(), shape);
-                    }
+    private Map<String, List<PresetDefinition>> loadPresetsFromDirectory(File directory, PresetCache cache,
+                                                                         Map<String, PresetDefinition> presets) {
+        return loadDirectory(directory, cache, PresetCache.Section.PRESETS, "preset", presetsByFile,
+            PresetDefinition::fromConfig, PresetDefinition::readFrom, PresetDefinition::writeTo,
+            preset -> {
+                for (String problem : preset.compile()) {
+                    plugin.getLogger().warning("[ShapeEngine] Preset '" + preset.getId() + "': " + problem);
                 }
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.WARNING, "Failed to load shape file: " + file.getName(), e);
-            }
-        }
+                presets.put(preset.getId().toLowerCase(), preset);
+            });
     }
 
-    private void loadModifiersFromDirectory(File directory) {
-        if (!directory.exists()) return;
+    /**
+     * Load every .yml in a directory, using cached definitions for files whose hash is unchanged.
+     * Reading and parsing run on the loader pool; the cache and registration stay on this thread.
+     * A file that fails to read or parse registers what it defined last time instead.
+     *
+     * @param previousByFile Definitions per file from the last load
+     * @return Definitions per file from this load
+     */
+    private <T> Map<String, List<T>> loadDirectory(File directory, PresetCache cache, PresetCache.Section section,
+                                   String label, Map<String, List<T>> previousByFile,
+                                   java.util.function.BiFunction<String, ConfigurationSection, T> parser,
+                                   PresetCache.Reader<T> reader, PresetCache.Writer<T> writer,
+                                   java.util.function.Consumer<T> register) {
+        if (!directory.exists()) return Map.of();
 
         File[] files = directory.listFiles((dir, name) -> name.endsWith(".yml"));
-        if (files == null) return;
+        if (files == null) return Map.of();
+
+        java.util.function.BiConsumer<File, Throwable> onError = (file, error) ->
+            plugin.getLogger().log(Level.WARNING, "Failed to load " + label + " file: " + file.getName(), error);
 
-        for (File file : files) {
+        List<File> fileList = Arrays.asList(files);
+        List<byte[]> contents = ParallelLoader.map(fileList, file -> Files.readAllBytes(file.toPath()), onError);
+
+        // Resolve cache hits first so only changed files are parsed
+        List<List<T>> definitions = new ArrayList<>(Collections.nCopies(fileList.size(), null));
+        List<Integer> misses = new ArrayList<>();
+        List<String> hashes = new ArrayList<>(Collections.nCopies(fileList.size(), null));
+        for (int i = 0; i < fileList.size(); i++) {
+            byte[] content = contents.get(i);
+            if (content == null) continue;
             try {
-                FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-                for (String key : config.getKeys(false)) {
-                    ConfigurationSection section = config.getConfigurationSection(key);
-                    if (section != null) {
-                        ModifierDefinition modifier = ModifierDefinition.fromConfig(key, section);
-                        modifiers.put(key.toLowerCase(), modifier);
-                    }
+                String hash = PresetCache.hash(content);
+                hashes.set(i, hash);
+                List<T> cached = cache.get(section, fileList.get(i).getName(), hash, reader);
+                if (cached != null) {
+                    definitions.set(i, cached);
+                } else {
+                    misses.add(i);
                 }
             } catch (Exception e) {
-                plugin.getLogger().log(Level.WARNING, "Failed to load modifier file: " + file.getName(), e);
+                onError.accept(fileList.get(i), e);
             }
         }
-    }
-
-    private void loadPresetsFromDirectory(File directory) {
-        if (!directory.exists()) return;
 
-        File[] files = directory.listFiles((dir, name) -> name.endsWith(".yml"));
-        if (files == null) return;
+        List<List<T>> parsed = ParallelLoader.map(misses, i -> {
+            YamlConfiguration config = new YamlConfiguration();
+            config.loadFromString(new String(contents.get(i), StandardCharsets.UTF_8));
+            List<T> fileDefinitions = new ArrayList<>();
+            for (String key : config.getKeys(false)) {
+                ConfigurationSection configSection = config.getConfigurationSection(key);
+                if (configSection != null) {
+                    fileDefinitions.add(parser.apply(key, configSection));
+                }
+            }
+            return fileDefinitions;
+        }, (i, error) -> onError.accept(fileList.get(i), error));
+
+        for (int m = 0; m < misses.size(); m++) {
+            int i = misses.get(m);
+            if (parsed.get(m) == null) continue;
+            cache.put(section, fileList.get(i).getName(), hashes.get(i), parsed.get(m), writer);
+            definitions.set(i, parsed.get(m));
+        }
 
-        for (File file : files) {
-            try {
-                FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-                for (String key : config.getKeys(false)) {
-                    ConfigurationSection section = config.getConfigurationSection(key);
-                    if (section != null) {
-                        PresetDefinition preset = PresetDefinition.fromConfig(key, section);
-                        presets.put(key.toLowerCase(), preset);
-                    }
+        Map<String, List<T>> byFile = new HashMap<>();
+        for (int i = 0; i < fileList.size(); i++) {
+            String fileName = fileList.get(i).getName();
+            List<T> fileDefinitions = definitions.get(i);
+            if (fileDefinitions == null) {
+                // Keep the last good version rather than dropping this file's definitions
+                fileDefinitions = previousByFile.getOrDefault(fileName, List.of());
+                if (!fileDefinitions.isEmpty()) {
+                    plugin.getLogger().warning("[ShapeEngine] Keeping " + fileDefinitions.size()
+                        + " previously loaded " + label + "s from " + fileName);
                 }
+            }
+            byFile.put(fileName, fileDefinitions);
+            try {
+                fileDefinitions.forEach(register);
             } catch (Exception e) {
-                plugin.getLogger().log(Level.WARNING, "Failed to load preset file: " + file.getName(), e);
+                onError.accept(fileList.get(i), e);
             }
         }
+        return byFile;
     }
 
     // ============ Generation ============
@@ -184,12 +270,19 @@ public class ShapeEngine {
      * Generate points for a shape.
      */
     public List<Location> generateShape(String shapeId, Map<String, Object> params, Location center, double progress) {
+        return resolveShape(shapeId).generatePoints(center, params, progress);
+    }
+
+    /**
+     * Look up a loaded shape, falling back to the built-in generator.
+     */
+    ShapeDefinition resolveShape(String shapeId) {
         ShapeDefinition shape = shapes.get(shapeId.toLowerCase());
         if (shape == null) {
             // Try as built-in
             shape = new ShapeDefinition(shapeId);
         }
-        return shape.generatePoints(center, params, progress);
+        return shape;
     }
 
     /**
@@ -229,6 +322,15 @@ public class ShapeEngine {
      * @return Animation ID for tracking
      */
     public UUID playPreset(String presetId, Location center, LivingEntity owner) {
+        return playPreset(presetId, center, owner, ParticleBudget.Priority.COSMETIC);
+    }
+
+    /**
+     * Play a preset at a location with an explicit visual budget priority.
+     *
+     * @param priority CRITICAL presets are never thinned by the particle budget
+     */
+    public UUID playPreset(String presetId, Location center, LivingEntity owner, ParticleBudget.Priority priority) {
         PresetDefinition preset = presets.get(presetId.toLowerCase());
         if (preset == null) {
             plugin.getLogger().warning("[ShapeEngine] Preset not found: " + presetId);
@@ -236,7 +338,7 @@ public class ShapeEngine {
         }
 
         UUID animationId = UUID.randomUUID();
-        ActiveAnimation animation = new ActiveAnimation(animationId, preset, center, owner);
+        ActiveAnimation animation = new ActiveAnimation(animationId, preset, center, owner, priority);
         activeAnimations.put(animationId, animation);
 
         // Start animation
@@ -265,6 +367,25 @@ public class ShapeEngine {
         activeAnimations.clear();
     }
 
+    /**
+     * Stop all animations and the geometry worker pool (plugin disable).
+     */
+    public void shutdown() {
+        stopAllAnimations();
+        geometryPool.shutdownNow();
+    }
+
+    /**
+     * Prefetch stats line for /as debug perf.
+     */
+    public String getGeometryStats() {
+        long hits = prefetchHits.get();
+        long misses = prefetchMisses.get();
+        long total = hits + misses;
+        return String.format("§7Preset frames: §f%d §7prefetched, §f%d §7computed inline §8(§7%.1f%% hit§8)",
+            hits, misses, total == 0 ? 100.0 : hits * 100.0 / total);
+    }
+
     // ============ Getters ============
 
     public ShapeDefinition getShape(String id) {
@@ -294,109 +415,116 @@ public class ShapeEngine {
     // ============ Active Animation ============
 
     /**
-     * Tracks and runs an active animation.
+     * Tracks an active preset; stepped by the shared {@link AnimationRuntime}.
+     * Frame geometry is computed on the worker pool {@value #PREFETCH_FRAMES} ticks ahead
+     * in center-relative space, so the main thread only translates points and renders.
      */
     private class ActiveAnimation {
         private final UUID id;
         private final PresetDefinition preset;
         private final Location baseCenter;
         private final LivingEntity owner;
-        private BukkitRunnable task;
-        private final List<Entity> spawnedEntities = new ArrayList<>();
-        private boolean stopped = false;
+        private final ParticleBudget.Priority priority;
+        private AnimationRuntime.Handle handle;
+        // Displays from the last frames - each frame's displays live for 2 ticks
+        private final Deque<List<VirtualDisplay>> recentFrames = new ArrayDeque<>();
         private double lastSoundLoopTime = -1;
 
-        public ActiveAnimation(UUID id, PresetDefinition preset, Location baseCenter, LivingEntity owner) {
+        private PresetGeometry geometry;
+        private final Map<Integer, CompletableFuture<PresetGeometry.Frame>> pendingFrames = new HashMap<>();
+        private PresetGeometry.Frame currentFrame;
+
+        public ActiveAnimation(UUID id, PresetDefinition preset, Location baseCenter, LivingEntity owner,
+                               ParticleBudget.Priority priority) {
             this.id = id;
             this.preset = preset;
             this.baseCenter = baseCenter.clone();
             this.owner = owner;
+            this.priority = priority;
         }
 
         public void start() {
             double totalDuration = preset.getTotalDuration();
             int totalTicks = (int) (totalDuration * 20);
 
+            geometry = new PresetGeometry(ShapeEngine.this, preset, baseCenter.getWorld());
+            for (int frame = 0; frame < Math.min(PREFETCH_FRAMES, totalTicks); frame++) {
+                prefetch(frame);
+            }
+
             // Play start sounds
             playSounds(PresetDefinition.SoundConfig.SoundTrigger.START, 0);
 
-            task = new BukkitRunnable() {
-                int frame = 0;
-
-                @Override
-                public void run() {
-                    if (stopped || frame >= totalTicks) {
-                        finish();
-                        return;
+            UUID ownerId = owner instanceof Player ? owner.getUniqueId() : null;
+            handle = plugin.getAnimationRuntime().create("preset:" + preset.getId(), baseCenter.getWorld())
+                .owner(ownerId)
+                .lifetime(totalTicks)
+                .position(this::getCurrentCenter)
+                .shape((center, progress, frame) -> {
+                    if (frame + PREFETCH_FRAMES < totalTicks) {
+                        prefetch(frame + PREFETCH_FRAMES);
                     }
 
-                    double elapsed = frame / 20.0;
-                    double progress = elapsed / totalDuration;
-
-                    // Get current center (may follow entity)
-                    Location center = getCurrentCenter();
-                    if (center == null) {
-                        finish();
-                        return;
+                    currentFrame = takeFrame(frame);
+                    if (currentFrame.isEnd()) {
+                        handle.complete();
+                        return null;
                     }
-
-                    // Determine what to render
-                    String shapeId;
-                    Map<String, Object> shapeParams;
-                    List<PresetDefinition.ModifierConfig> modConfigs;
-                    List<LayerDefinition> layers;
-
-                    if (preset.hasStages()) {
-                        PresetDefinition.StageDefinition stage = preset.getStageAt(elapsed);
-                        if (stage == null) {
-                            finish();
-                            return;
-                        }
-                        shapeId = stage.shape != null ? stage.shape : preset.getShape();
-                        shapeParams = new HashMap<>(preset.getShapeParams());
-                        shapeParams.putAll(stage.shapeParams);
-                        modConfigs = stage.modifiers.isEmpty() ? preset.getModifiers() : stage.modifiers;
-                        layers = stage.layers.isEmpty() ? preset.getLayers() : stage.layers;
-                        progress = preset.getStageProgress(elapsed);
-                    } else {
-                        shapeId = preset.getShape();
-                        shapeParams = preset.getShapeParams();
-                        modConfigs = preset.getModifiers();
-                        layers = preset.getLayers();
+                    return currentFrame.place(center);
+                })
+                .renderer((center, points, progress, frame) -> {
+                    // Render layers
+                    List<VirtualDisplay> spawned = new ArrayList<>();
+                    for (LayerDefinition layer : currentFrame.getLayers()) {
+                        spawned.addAll(layer.render(center.getWorld(), points, currentFrame.getProgress(), totalDuration,
+                            ownerId, priority));
                     }
 
-                    // Generate points
-                    List<Location> points = generateShape(shapeId, shapeParams, center, progress);
-
-                    // Apply modifiers
-                    List<ModifierDefinition.ModifierInstance> modInstances = createModifierInstances(modConfigs);
-                    applyModifiers(points, modInstances, center, progress);
-
-                    // Render layers
-                    for (LayerDefinition layer : layers) {
-                        List<Entity> spawned = layer.render(center.getWorld(), points, progress, totalDuration);
-                        spawnedEntities.addAll(spawned);
-
-                        // Schedule removal for display entities (they persist)
-                        if (!spawned.isEmpty()) {
-                            new BukkitRunnable() {
-                                @Override
-                                public void run() {
-                                    for (Entity e : spawned) {
-                                        if (e.isValid()) e.remove();
-                                    }
-                                }
-                            }.runTaskLater(plugin, 2L); // Remove after 2 ticks
-                        }
+                    // Drop displays spawned 2 frames ago
+                    recentFrames.addLast(spawned);
+                    while (recentFrames.size() > 2) {
+                        removeDisplays(recentFrames.pollFirst());
                     }
 
                     // Loop sounds
-                    playSounds(PresetDefinition.SoundConfig.SoundTrigger.LOOP, elapsed);
+                    playSounds(PresetDefinition.SoundConfig.SoundTrigger.LOOP, frame / 20.0);
+                })
+                .onEnd(reason -> {
+                    if (reason == AnimationRuntime.EndReason.EXPIRED) {
+                        // Play end sounds
+                        playSounds(PresetDefinition.SoundConfig.SoundTrigger.END, preset.getTotalDuration());
+                    }
+                    activeAnimations.remove(id);
+                    cleanup();
+                })
+                .start();
+        }
+
+        private void prefetch(int frame) {
+            if (geometryPool.isShutdown()) return;
+            PresetGeometry snapshot = geometry;
+            pendingFrames.put(frame, CompletableFuture.supplyAsync(() -> snapshot.compute(frame), geometryPool));
+        }
 
-                    frame++;
+        /**
+         * Use the prefetched frame if the worker finished it, otherwise compute it here.
+         */
+        private PresetGeometry.Frame takeFrame(int frame) {
+            CompletableFuture<PresetGeometry.Frame> future = pendingFrames.remove(frame);
+            if (future != null) {
+                try {
+                    PresetGeometry.Frame ready = future.getNow(null);
+                    if (ready != null) {
+                        prefetchHits.incrementAndGet();
+                        return ready;
+                    }
+                } catch (CompletionException | CancellationException e) {
+                    // Fall through to inline computation
                 }
-            };
-            task.runTaskTimer(plugin, 0L, 1L);
+                future.cancel(false);
+            }
+            prefetchMisses.incrementAndGet();
+            return geometry.compute(frame);
         }
 
         private Location getCurrentCenter() {
@@ -428,41 +556,29 @@ public class ShapeEngine {
         }
 
         private void playSound(PresetDefinition.SoundConfig sound, Location loc) {
-            try {
-                org.bukkit.Sound soundType = org.bukkit.Sound.valueOf(sound.sound.toUpperCase());
-                loc.getWorld().playSound(loc, soundType, (float) sound.volume, (float) sound.pitch);
-            } catch (IllegalArgumentException ignored) {}
+            if (sound.soundType == null) return; // Reported when the preset was compiled
+            loc.getWorld().playSound(loc, sound.soundType, (float) sound.volume, (float) sound.pitch);
         }
 
         public void stop() {
-            stopped = true;
-            if (task != null) {
-                task.cancel();
+            if (handle != null) {
+                handle.cancel();
             }
             cleanup();
         }
 
-        private void finish() {
-            // Play end sounds
-            playSounds(PresetDefinition.SoundConfig.SoundTrigger.END, preset.getTotalDuration());
-
-            activeAnimations.remove(id);
-            cleanup();
-            cancel();
-        }
-
         private void cleanup() {
-            for (Entity e : spawnedEntities) {
-                if (e != null && e.isValid()) {
-                    e.remove();
-                }
+            pendingFrames.values().forEach(future -> future.cancel(false));
+            pendingFrames.clear();
+            for (List<VirtualDisplay> frame : recentFrames) {
+                removeDisplays(frame);
             }
-            spawnedEntities.clear();
+            recentFrames.clear();
         }
 
-        private void cancel() {
-            if (task != null && !task.isCancelled()) {
-                task.cancel();
+        private void removeDisplays(List<VirtualDisplay> displays) {
+            for (VirtualDisplay d : displays) {
+                d.remove();
             }
         }
     }
@@ -1,16 +1,18 @@
 package com.miracle.arcanesigils.sets;
 
 import com.miracle.arcanesigils.ArmorSetsPlugin;
+import com.miracle.arcanesigils.core.ArmorSnapshot;
 import com.miracle.arcanesigils.core.Sigil;
+import com.miracle.arcanesigils.core.SocketedSigil;
 import com.miracle.arcanesigils.flow.FlowConfig;
 import com.miracle.arcanesigils.flow.FlowNode;
 import com.miracle.arcanesigils.flow.FlowSerializer;
 import com.miracle.arcanesigils.utils.LogHelper;
+import com.miracle.arcanesigils.utils.ParallelLoader;
 import org.bukkit.Sound;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 
 import java.io.File;
 import java.util.*;
@@ -22,12 +24,15 @@ import java.util.logging.Level;
  */
 public class SetBonusManager {
     private final ArmorSetsPlugin plugin;
-    private final Map<String, SetBonus> loadedSets; // setName -> SetBonus
+    private volatile Map<String, SetBonus> loadedSets; // setName -> SetBonus, replaced as a whole on reload
+    private Map<String, Map<String, SetBonus>> setsByFile = Map.of(); // file name -> sets it defined
     private final Map<UUID, Map<String, SetBonusState>> playerSetBonuses; // playerId -> (setName -> state)
+    private volatile List<CrateMatch> crateMatches = List.of(); // set crates with formatting stripped, built on load
+    private final Map<String, String> setNameByCrate = new java.util.concurrent.ConcurrentHashMap<>(); // sigil crate -> set name, "" for none
 
     public SetBonusManager(ArmorSetsPlugin plugin) {
         this.plugin = plugin;
-        this.loadedSets = new HashMap<>();
+        this.loadedSets = Map.of();
         this.playerSetBonuses = new HashMap<>();
         loadSetBonuses();
     }
@@ -46,25 +51,65 @@ public class SetBonusManager {
         File[] setFiles = setsDir.listFiles((dir, name) -> name.endsWith(".yml"));
         if (setFiles == null || setFiles.length == 0) {
             plugin.getLogger().warning("No set bonus files found in sets/ directory");
+            setsByFile = Map.of();
+            loadedSets = Map.of();
+            indexCrates();
             return;
         }
 
-        for (File setFile : setFiles) {
-            try {
-                loadSetBonusFile(setFile);
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to load set bonus file: " + setFile.getName(), e);
+        List<File> fileList = Arrays.asList(setFiles);
+        List<Map<String, SetBonus>> parsed = ParallelLoader.map(fileList, this::loadSetBonusFile,
+            (file, error) -> plugin.getLogger().log(Level.SEVERE, "Failed to load set bonus file: " + file.getName(), error));
+
+        // A file that failed keeps the sets it had before, so reload never drops half of them
+        Map<String, Map<String, SetBonus>> nextByFile = new HashMap<>();
+        Map<String, SetBonus> next = new HashMap<>();
+        for (int i = 0; i < fileList.size(); i++) {
+            String fileName = fileList.get(i).getName();
+            Map<String, SetBonus> fileSets = parsed.get(i);
+            if (fileSets == null) {
+                fileSets = setsByFile.getOrDefault(fileName, Map.of());
+            } else {
+                for (SetBonus setBonus : fileSets.values()) {
+                    plugin.getLogger().info("Loaded set bonus: " + setBonus.getName() + " (min pieces: " + setBonus.getMinPieces() + ")");
+                }
             }
+            nextByFile.put(fileName, fileSets);
+            next.putAll(fileSets);
         }
+        setsByFile = nextByFile;
+        loadedSets = Collections.unmodifiableMap(next);
+        indexCrates();
 
         plugin.getLogger().info("Loaded " + loadedSets.size() + " set bonuses");
     }
 
     /**
-     * Load a single set bonus YAML file.
+     * Strip formatting from every set's crate names once, so matching a sigil's crate
+     * is plain string work. Also forgets crate lookups made against the old sets.
+     */
+    private void indexCrates() {
+        List<CrateMatch> matches = new ArrayList<>();
+        for (Map.Entry<String, SetBonus> entry : loadedSets.entrySet()) {
+            for (String setCrate : entry.getValue().getCrates()) {
+                matches.add(new CrateMatch(stripFormatting(setCrate), entry.getKey()));
+            }
+        }
+        crateMatches = List.copyOf(matches);
+        setNameByCrate.clear();
+    }
+
+    private static String stripFormatting(String text) {
+        return text.replaceAll("<[^>]+>", "").replaceAll("§.", "");
+    }
+
+    /**
+     * Parse a single set bonus YAML file. Runs on a loader thread.
      */
-    private void loadSetBonusFile(File file) {
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+    private Map<String, SetBonus> loadSetBonusFile(File file) throws Exception {
+        YamlConfiguration config = new YamlConfiguration();
+        config.load(file);
+        Map<String, SetBonus> sets = new LinkedHashMap<>();
 
         for (String setKey : config.getKeys(false)) {
             ConfigurationSection setSection = config.getConfigurationSection(setKey);
@@ -111,10 +156,9 @@ public class SetBonusManager {
             }
 
             SetBonus setBonus = new SetBonus(name, description, crates, minPieces, flow, tierParams);
-            loadedSets.put(setKey, setBonus);
-
-            plugin.getLogger().info("Loaded set bonus: " + name + " (min pieces: " + minPieces + ")");
+            sets.put(setKey, setBonus);
         }
+        return sets;
     }
 
     /**
@@ -122,17 +166,24 @@ public class SetBonusManager {
      * Returns map of setName -> tier (based on 2 HIGHEST equipped pieces, rounded down)
      */
     public Map<String, Integer> calculateSetBonuses(Player player) {
-        ItemStack[] armor = player.getInventory().getArmorContents();
+        return calculateSetBonuses(ArmorSnapshot.of(plugin.getSocketManager(), player.getInventory().getArmorContents()));
+    }
+
+    /**
+     * Calculate active set bonuses from an armor snapshot.
+     */
+    public Map<String, Integer> calculateSetBonuses(ArmorSnapshot armor) {
         Map<String, List<Integer>> setTiers = new HashMap<>(); // setName -> list of tiers
 
-        for (ItemStack armorPiece : armor) {
-            if (armorPiece == null || armorPiece.getType().isAir()) continue;
+        for (int slot = 0; slot < ArmorSnapshot.SLOTS; slot++) {
+            for (SocketedSigil socket : armor.getSockets(slot)) {
+                // Crate is a definition field, so the base sigil will do; the tier comes from the item
+                Sigil sigil = plugin.getSigilManager().getSigil(socket.id());
+                if (sigil == null) continue;
 
-            List<Sigil> sigils = plugin.getSocketManager().getSocketedSigils(armorPiece);
-            for (Sigil sigil : sigils) {
                 String setName = getSetNameFromCrate(sigil.getCrate());
                 if (setName != null) {
-                    setTiers.computeIfAbsent(setName, k -> new ArrayList<>()).add(sigil.getTier());
+                    setTiers.computeIfAbsent(setName, k -> new ArrayList<>()).add(socket.tier());
                 }
             }
         }
@@ -166,31 +217,39 @@ public class SetBonusManager {
      * - "Pharaoh Crate Exclusive" -> "ancient_set"
      * - "Seasonal Pass Exclusive" -> "ancient_set"
      * - "<gradient:#9400D3:#4B0082>Seasonal Pass Exclusive</gradient>" -> "ancient_set"
+     *
+     * Results are remembered per crate string until the sets are reloaded.
      */
     private String getSetNameFromCrate(String crate) {
         if (crate == null || crate.isEmpty()) return null;
 
-        // Strip color codes/gradients
-        String cleaned = crate.replaceAll("<[^>]+>", "").replaceAll("§.", "");
+        String setName = setNameByCrate.computeIfAbsent(crate, key -> {
+            // Strip color codes/gradients
+            String cleaned = stripFormatting(key);
 
-        // Check each loaded set's crates list
-        for (Map.Entry<String, SetBonus> entry : loadedSets.entrySet()) {
-            for (String setCrate : entry.getValue().getCrates()) {
-                String cleanedSetCrate = setCrate.replaceAll("<[^>]+>", "").replaceAll("§.", "");
-                if (cleaned.contains(cleanedSetCrate) || cleanedSetCrate.contains(cleaned)) {
-                    return entry.getKey();
+            // Check each loaded set's crates list
+            for (CrateMatch match : crateMatches) {
+                if (cleaned.contains(match.crate()) || match.crate().contains(cleaned)) {
+                    return match.setName();
                 }
             }
-        }
-
-        return null;
+            return "";
+        });
+        return setName.isEmpty() ? null : setName;
     }
 
     /**
      * Update player's active set bonuses. Called by armor change listener.
      */
     public void updatePlayerSetBonuses(Player player) {
-        Map<String, Integer> newBonuses = calculateSetBonuses(player);
+        updatePlayerSetBonuses(player, ArmorSnapshot.of(plugin.getSocketManager(), player.getInventory().getArmorContents()));
+    }
+
+    /**
+     * Update player's active set bonuses from an armor snapshot already taken.
+     */
+    public void updatePlayerSetBonuses(Player player, ArmorSnapshot armor) {
+        Map<String, Integer> newBonuses = calculateSetBonuses(armor);
         Map<String, SetBonusState> oldBonuses = playerSetBonuses.getOrDefault(player.getUniqueId(), new HashMap<>());
 
         // Check for newly activated sets
@@ -293,8 +352,12 @@ public class SetBonusManager {
      * Reload all set bonuses from disk.
      */
     public void reload() {
-        loadedSets.clear();
         loadSetBonuses();
+
+        // Armor didn't change, but what it counts towards may have
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            updatePlayerSetBonuses(player);
+        }
     }
 
     /**
@@ -303,4 +366,7 @@ public class SetBonusManager {
     public void removePlayer(UUID playerId) {
         playerSetBonuses.remove(playerId);
     }
+
+    private record CrateMatch(String crate, String setName) {
+    }
 }
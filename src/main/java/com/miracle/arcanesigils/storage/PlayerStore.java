@@ -0,0 +1,68 @@
+package com.miracle.arcanesigils.storage;
+
+import com.miracle.arcanesigils.ArmorSetsPlugin;
+import com.miracle.arcanesigils.utils.LogHelper;
+
+import java.io.File;
+import java.util.UUID;
+
+/**
+ * Storage for player-scoped plugin state (binds, persistent variables).
+ *
+ * Each player has one text document per namespace; callers choose the format (YAML
+ * throughout the plugin). Loads block and may run on any thread, so call them from
+ * async events. Saves are queued and written in batches on a background thread; a load
+ * always sees the latest queued save, even before it reaches disk.
+ */
+public interface PlayerStore {
+
+    /**
+     * Read a player's document.
+     * @return the stored text, or null if there is none
+     */
+    String load(UUID playerId, String namespace);
+
+    /**
+     * Queue a player's document for writing.
+     * @param data the text to store, or null to delete the document
+     * @param afterWrite run on the writer thread once the write is done (may be null)
+     */
+    void save(UUID playerId, String namespace, String data, Runnable afterWrite);
+
+    /**
+     * Write everything still queued and release the backend. Blocks for a bounded time.
+     */
+    void shutdown();
+
+    /**
+     * Backend name for log messages.
+     */
+    String getName();
+
+    /**
+     * Open the backend selected by {@code storage.type} in config.yml.
+     * Falls back to YAML files if SQLite is selected but unavailable.
+     */
+    static PlayerStore open(ArmorSetsPlugin plugin) {
+        File dataFolder = plugin.getDataFolder();
+        String type = plugin.getConfigManager().getMainConfig().getString("storage.type", "sqlite");
+
+        PlayerStore store = null;
+        if (type.equalsIgnoreCase("sqlite")) {
+            try {
+                store = SqlitePlayerStore.open(new File(dataFolder, "playerdata.db"),
+                        new File(dataFolder, "playerdata"));
+            } catch (Exception e) {
+                LogHelper.severe("Could not open SQLite player storage, using YAML files: " + e.getMessage());
+            }
+        } else if (!type.equalsIgnoreCase("yaml")) {
+            LogHelper.warning("Unknown storage.type '" + type + "', using YAML files");
+        }
+        if (store == null) {
+            store = new YamlPlayerStore(new File(dataFolder, "playerdata"));
+        }
+
+        LogHelper.info("Player data storage: " + store.getName());
+        return store;
+    }
+}
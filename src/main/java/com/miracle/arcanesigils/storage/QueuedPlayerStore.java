@@ -0,0 +1,202 @@
+package com.miracle.arcanesigils.storage;
+
+import com.miracle.arcanesigils.utils.LogHelper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write queue shared by the storage backends.
+ *
+ * Saves are coalesced per (player, namespace) and handed to the backend in batches on a
+ * single writer thread. Until a save has been written, loads of the same document are
+ * answered from the queue, so a quick relog never reads stale data. A batch that fails to
+ * write goes back on the queue and is retried; its after-write callbacks wait until it lands.
+ */
+abstract class QueuedPlayerStore implements PlayerStore {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final long RETRY_DELAY_SECONDS = 5;
+
+    // Both guarded by this
+    private final Map<Key, Write> pending = new LinkedHashMap<>();
+    private final Map<Key, Write> inFlight = new HashMap<>();
+    private boolean drainQueued;
+
+    private final ScheduledExecutorService writer;
+
+    protected QueuedPlayerStore(String threadName) {
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Read a document straight from the backend.
+     */
+    protected abstract String read(UUID playerId, String namespace) throws Exception;
+
+    /**
+     * Write a batch of documents (null data deletes). Runs on the writer thread.
+     */
+    protected abstract void writeBatch(List<Write> batch) throws Exception;
+
+    /**
+     * Release backend resources after the last batch.
+     */
+    protected void close() {
+    }
+
+    @Override
+    public String load(UUID playerId, String namespace) {
+        Key key = new Key(playerId, namespace);
+        synchronized (this) {
+            Write queued = pending.get(key);
+            if (queued == null) {
+                queued = inFlight.get(key);
+            }
+            if (queued != null) {
+                return queued.data();
+            }
+        }
+
+        try {
+            return read(playerId, namespace);
+        } catch (Exception e) {
+            LogHelper.severe("Failed to load " + namespace + " data for " + playerId + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void save(UUID playerId, String namespace, String data, Runnable afterWrite) {
+        Key key = new Key(playerId, namespace);
+        synchronized (this) {
+            Write replaced = pending.get(key);
+            if (replaced != null) {
+                afterWrite = chain(replaced.afterWrite(), afterWrite);
+            }
+            pending.put(key, new Write(playerId, namespace, data, afterWrite));
+            if (drainQueued) {
+                return;
+            }
+            drainQueued = true;
+        }
+        writer.execute(this::drain);
+    }
+
+    private void drain() {
+        List<Write> batch;
+        synchronized (this) {
+            drainQueued = false;
+            batch = new ArrayList<>(pending.values());
+            for (Write write : batch) {
+                inFlight.put(write.key(), write);
+            }
+            pending.clear();
+        }
+
+        boolean written;
+        try {
+            writeBatch(batch);
+            written = true;
+        } catch (Exception e) {
+            LogHelper.severe("Failed to write " + batch.size() + " player data entries, retrying in "
+                    + RETRY_DELAY_SECONDS + "s: " + e.getMessage());
+            written = false;
+        }
+
+        boolean scheduleRetry = false;
+        synchronized (this) {
+            for (Write write : batch) {
+                if (inFlight.get(write.key()) == write) {
+                    inFlight.remove(write.key());
+                }
+            }
+            if (!written) {
+                requeue(batch);
+                if (!drainQueued) {
+                    drainQueued = true;
+                    scheduleRetry = true;
+                }
+            }
+        }
+        if (!written) {
+            // Callbacks may evict the only in-memory copy, so they wait for a successful write
+            if (scheduleRetry) {
+                try {
+                    writer.schedule(this::drain, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+                } catch (RejectedExecutionException e) {
+                    LogHelper.severe("Shutting down with " + batch.size() + " unsaved player data entries");
+                }
+            }
+            return;
+        }
+
+        for (Write write : batch) {
+            if (write.afterWrite() != null) {
+                write.afterWrite().run();
+            }
+        }
+    }
+
+    /**
+     * Put a failed batch back ahead of the queue. A key saved again since keeps its newer
+     * data, and also runs the failed write's callback once it lands. Caller holds this.
+     */
+    private void requeue(List<Write> failed) {
+        Map<Key, Write> merged = new LinkedHashMap<>();
+        for (Write write : failed) {
+            merged.put(write.key(), write);
+        }
+        for (Write newer : pending.values()) {
+            Write older = merged.get(newer.key());
+            Runnable afterWrite = older != null ? chain(older.afterWrite(), newer.afterWrite()) : newer.afterWrite();
+            merged.put(newer.key(), new Write(newer.playerId(), newer.namespace(), newer.data(), afterWrite));
+        }
+        pending.clear();
+        pending.putAll(merged);
+    }
+
+    private static Runnable chain(Runnable first, Runnable second) {
+        if (first == null) return second;
+        if (second == null) return first;
+        return () -> {
+            first.run();
+            second.run();
+        };
+    }
+
+    @Override
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LogHelper.warning("Timed out waiting for player data to finish saving");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        close();
+    }
+
+    private record Key(UUID playerId, String namespace) {}
+
+    /**
+     * One queued document write.
+     */
+    protected record Write(UUID playerId, String namespace, String data, Runnable afterWrite) {
+        private Key key() {
+            return new Key(playerId, namespace);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.miracle.arcanesigils.storage;
+
+import com.miracle.arcanesigils.utils.LogHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * All player documents in one SQLite database, using the driver bundled with the server.
+ *
+ * Each batch from the write queue is one transaction of prepared statements. Reads use a
+ * separate connection, which WAL mode lets run alongside the writer.
+ */
+class SqlitePlayerStore extends QueuedPlayerStore {
+    private static final String UPSERT =
+            "INSERT OR REPLACE INTO player_data (uuid, namespace, data, updated) VALUES (?, ?, ?, ?)";
+    private static final String DELETE = "DELETE FROM player_data WHERE uuid = ? AND namespace = ?";
+    private static final String SELECT = "SELECT data FROM player_data WHERE uuid = ? AND namespace = ?";
+
+    private final Connection writeConnection;
+    private final Connection readConnection;
+
+    private SqlitePlayerStore(Connection writeConnection, Connection readConnection) {
+        super("ArcaneSigils-PlayerData");
+        this.writeConnection = writeConnection;
+        this.readConnection = readConnection;
+    }
+
+    /**
+     * Open (or create) the database, importing any per-player YAML files found in
+     * the legacy folder on first use.
+     */
+    static SqlitePlayerStore open(File databaseFile, File legacyFolder) throws Exception {
+        Class.forName("org.sqlite.JDBC");
+        databaseFile.getParentFile().mkdirs();
+        String url = "jdbc:sqlite:" + databaseFile.getAbsolutePath();
+
+        Connection write = DriverManager.getConnection(url);
+        try (Statement statement = write.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("PRAGMA synchronous=NORMAL");
+            statement.execute("CREATE TABLE IF NOT EXISTS player_data ("
+                    + "uuid TEXT NOT NULL, namespace TEXT NOT NULL, data TEXT NOT NULL, updated INTEGER NOT NULL, "
+                    + "PRIMARY KEY (uuid, namespace))");
+        }
+        write.setAutoCommit(false);
+
+        try {
+            importYaml(write, legacyFolder);
+        } catch (SQLException e) {
+            write.close();
+            throw e;
+        }
+
+        Connection read = DriverManager.getConnection(url);
+        return new SqlitePlayerStore(write, read);
+    }
+
+    @Override
+    public String getName() {
+        return "SQLite";
+    }
+
+    @Override
+    protected String read(UUID playerId, String namespace) throws SQLException {
+        synchronized (readConnection) {
+            try (PreparedStatement select = readConnection.prepareStatement(SELECT)) {
+                select.setString(1, playerId.toString());
+                select.setString(2, namespace);
+                try (ResultSet result = select.executeQuery()) {
+                    return result.next() ? result.getString(1) : null;
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void writeBatch(List<Write> batch) throws SQLException {
+        long now = System.currentTimeMillis();
+        try (PreparedStatement upsert = writeConnection.prepareStatement(UPSERT);
+             PreparedStatement delete = writeConnection.prepareStatement(DELETE)) {
+            for (Write write : batch) {
+                if (write.data() == null) {
+                    delete.setString(1, write.playerId().toString());
+                    delete.setString(2, write.namespace());
+                    delete.addBatch();
+                } else {
+                    upsert.setString(1, write.playerId().toString());
+                    upsert.setString(2, write.namespace());
+                    upsert.setString(3, write.data());
+                    upsert.setLong(4, now);
+                    upsert.addBatch();
+                }
+            }
+            delete.executeBatch();
+            upsert.executeBatch();
+            writeConnection.commit();
+        } catch (SQLException e) {
+            writeConnection.rollback();
+            throw e;
+        }
+    }
+
+    @Override
+    protected void close() {
+        try {
+            writeConnection.close();
+            readConnection.close();
+        } catch (SQLException e) {
+            LogHelper.warning("Failed to close player database: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Copy files written by the YAML backend into the database, then move the folder
+     * aside so the import only happens once.
+     */
+    private static void importYaml(Connection connection, File folder) throws SQLException {
+        if (!folder.isDirectory()) {
+            return;
+        }
+
+        int imported = 0;
+        long now = System.currentTimeMillis();
+        try (PreparedStatement upsert = connection.prepareStatement(UPSERT)) {
+            imported += importFolder(upsert, folder, YamlPlayerStore.ROOT_NAMESPACE, now);
+            File[] namespaces = folder.listFiles(File::isDirectory);
+            if (namespaces != null) {
+                for (File namespace : namespaces) {
+                    imported += importFolder(upsert, namespace, namespace.getName(), now);
+                }
+            }
+            upsert.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+
+        File done = new File(folder.getParentFile(), folder.getName() + "-imported");
+        if (!folder.renameTo(done)) {
+            LogHelper.warning("Imported player data but could not rename " + folder.getName()
+                    + "; it will be imported again on next start");
+        }
+        LogHelper.info("Imported " + imported + " player data files into SQLite");
+    }
+
+    private static int importFolder(PreparedStatement upsert, File folder, String namespace, long now) throws SQLException {
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files == null) {
+            return 0;
+        }
+
+        int count = 0;
+        for (File file : files) {
+            UUID playerId;
+            try {
+                playerId = UUID.fromString(file.getName().substring(0, file.getName().length() - 4));
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            try {
+                upsert.setString(1, playerId.toString());
+                upsert.setString(2, namespace);
+                upsert.setString(3, Files.readString(file.toPath(), StandardCharsets.UTF_8));
+                upsert.setLong(4, now);
+                upsert.addBatch();
+                count++;
+            } catch (IOException e) {
+                LogHelper.warning("Skipped unreadable player data file " + file.getName() + ": " + e.getMessage());
+            }
+        }
+        return count;
+    }
+}
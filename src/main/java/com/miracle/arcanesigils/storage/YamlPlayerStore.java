@@ -0,0 +1,61 @@
+package com.miracle.arcanesigils.storage;
+
+import com.miracle.arcanesigils.utils.FileUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One file per player and namespace. Binds keep their original location
+ * (playerdata/&lt;uuid&gt;.yml); other namespaces get a subfolder.
+ *
+ * Files are replaced atomically (see {@link FileUtil#writeAtomically}), so a crash
+ * mid-write can't leave a truncated file behind.
+ */
+class YamlPlayerStore extends QueuedPlayerStore {
+    static final String ROOT_NAMESPACE = "binds";
+
+    private final File folder;
+
+    YamlPlayerStore(File folder) {
+        super("ArcaneSigils-PlayerData");
+        this.folder = folder;
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "YAML files";
+    }
+
+    @Override
+    protected String read(UUID playerId, String namespace) throws IOException {
+        Path path = getFile(playerId, namespace);
+        return Files.exists(path) ? Files.readString(path, StandardCharsets.UTF_8) : null;
+    }
+
+    @Override
+    protected void writeBatch(List<Write> batch) throws IOException {
+        for (Write write : batch) {
+            Path target = getFile(write.playerId(), write.namespace());
+            if (write.data() == null) {
+                Files.deleteIfExists(target);
+                continue;
+            }
+
+            FileUtil.writeAtomically(target, write.data());
+        }
+    }
+
+    private Path getFile(UUID playerId, String namespace) {
+        File parent = namespace.equals(ROOT_NAMESPACE) ? folder : new File(folder, namespace);
+        return new File(parent, playerId.toString() + ".yml").toPath();
+    }
+}
@@ -2,29 +2,61 @@ package com.miracle.arcanesigils.tier;
 
 import com.miracle.arcanesigils.ArmorSetsPlugin;
 import com.miracle.arcanesigils.core.Sigil;
+import com.miracle.arcanesigils.core.SocketManager;
+import com.miracle.arcanesigils.core.SocketedSigil;
+import com.miracle.arcanesigils.utils.LogHelper;
 import com.miracle.arcanesigils.utils.RomanNumerals;
 import com.miracle.arcanesigils.utils.TextUtil;
 import net.kyori.adventure.text.Component;
+import com.destroystokyo.paper.event.player.PlayerArmorChangeEvent;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Manages sigil XP progression and tier advancement.
- * XP is stored on sigil items (in armor PDC) and advances tiers automatically.
+ * XP is stored in the item's socket entry for the sigil (see {@link SocketedSigil}).
+ *
+ * XP gains are accumulated in memory per (player, inventory slot, sigil) and written to
+ * the items in one meta update per slot: every few seconds, before the player's inventory
+ * changes, on quit or death, and before anything reads XP for display (see {@link #flush(Player)}).
  */
-public class TierProgressionManager {
+public class TierProgressionManager implements Listener {
+
+    private static final long FLUSH_INTERVAL_TICKS = 100L;
 
     private final ArmorSetsPlugin plugin;
     private final NamespacedKey SIGIL_XP_KEY;
+    // player -> (slot, sigil) -> XP not yet written to the item
+    private final Map<UUID, Map<PendingKey, Integer>> pendingXP = new HashMap<>();
+    private final BukkitTask flushTask;
 
     public TierProgressionManager(ArmorSetsPlugin plugin) {
         this.plugin = plugin;
         this.SIGIL_XP_KEY = new NamespacedKey(plugin, "sigil_xp");
+        this.flushTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::flushAll,
+                FLUSH_INTERVAL_TICKS, FLUSH_INTERVAL_TICKS);
     }
 
     /**
@@ -33,11 +65,12 @@ public class TierProgressionManager {
      *
      * @param player The player wearing the armor
      * @param armorItem The armor item containing the sigil
+     * @param slot The item's raw player inventory slot, or -1 to write the XP immediately
      * @param sigilId The sigil ID that activated
      * @param currentTier Current tier of the sigil
      * @return always false (no auto tier-up)
      */
-    public boolean awardXP(Player player, ItemStack armorItem, String sigilId, int currentTier) {
+    public boolean awardXP(Player player, ItemStack armorItem, int slot, String sigilId, int currentTier) {
         if (armorItem == null || !armorItem.hasItemMeta()) {
             return false;
         }
@@ -59,12 +92,13 @@ public class TierProgressionManager {
             return false;
         }
 
-        // Get current XP for this sigil on this item
-        int currentXP = getSigilXP(armorItem, sigilId);
-
-        // Add XP
         int xpGain = xpConfig.getGainPerActivation();
-        int newXP = currentXP + xpGain;
+
+        // Items that aren't in a known slot (e.g. breaking) can't be flushed later
+        if (slot < 0) {
+            setSigilXP(armorItem, sigilId, getSigilXP(armorItem, sigilId) + xpGain);
+            return false;
+        }
 
         // DISABLED: Auto tier-up
         // Players must manually upgrade via Enchanter GUI using vanilla XP + materials
@@ -91,12 +125,192 @@ public class TierProgressionManager {
         }
         */
 
-        // Save new XP (kept for compatibility, but no longer used for auto tier-up)
-        setSigilXP(armorItem, sigilId, newXP);
+        // Accumulate; written to the item by flush() (kept for compatibility, no longer used for auto tier-up)
+        pendingXP.computeIfAbsent(player.getUniqueId(), id -> new HashMap<>())
+                .merge(new PendingKey(slot, sigilId), xpGain, Integer::sum);
 
         return false; // No auto tier-up
     }
 
+    /**
+     * Write a player's accumulated XP to their items, one meta update per slot.
+     * XP for a slot that no longer holds the sigil is dropped.
+     */
+    public void flush(Player player) {
+        Map<PendingKey, Integer> pending = pendingXP.remove(player.getUniqueId());
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Map<String, Integer>> bySlot = new HashMap<>();
+        for (Map.Entry<PendingKey, Integer> entry : pending.entrySet()) {
+            bySlot.computeIfAbsent(entry.getKey().slot(), s -> new HashMap<>())
+                    .put(entry.getKey().sigilId(), entry.getValue());
+        }
+
+        for (Map.Entry<Integer, Map<String, Integer>> slotEntry : bySlot.entrySet()) {
+            ItemStack item = player.getInventory().getItem(slotEntry.getKey());
+            if (item == null || !item.hasItemMeta()) {
+                continue;
+            }
+            SocketManager socketManager = plugin.getSocketManager();
+            List<SocketedSigil> sockets = new ArrayList<>(socketManager.getSockets(item));
+            boolean changed = false;
+            for (int i = 0; i < sockets.size(); i++) {
+                SocketedSigil socket = sockets.get(i);
+                Integer gain = slotEntry.getValue().get(socket.id());
+                if (gain != null) {
+                    sockets.set(i, socket.withXP(socket.xp() + gain));
+                    changed = true;
+                }
+            }
+            // Sigils not found here were swapped out before the flush
+            if (changed) {
+                ItemMeta meta = item.getItemMeta();
+                socketManager.setSockets(meta, sockets);
+                item.setItemMeta(meta);
+            }
+        }
+    }
+
+    /**
+     * Write every online player's accumulated XP to their items.
+     */
+    public void flushAll() {
+        if (pendingXP.isEmpty()) {
+            return;
+        }
+        for (UUID uuid : List.copyOf(pendingXP.keySet())) {
+            Player player = plugin.getServer().getPlayer(uuid);
+            if (player != null) {
+                flush(player);
+            } else {
+                pendingXP.remove(uuid);
+            }
+        }
+    }
+
+    /**
+     * Flush all pending XP and stop the flush timer.
+     */
+    public void shutdown() {
+        flushTask.cancel();
+        flushAll();
+    }
+
+    // Flush before the inventory changes, so XP lands on the item that earned it
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (event.getWhoClicked() instanceof Player player && pendingXP.containsKey(player.getUniqueId())) {
+            flush(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (event.getWhoClicked() instanceof Player player && pendingXP.containsKey(player.getUniqueId())) {
+            flush(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        if (pendingXP.containsKey(event.getPlayer().getUniqueId())) {
+            flush(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onDrop(PlayerDropItemEvent event) {
+        if (pendingXP.containsKey(event.getPlayer().getUniqueId())) {
+            flush(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onInteract(PlayerInteractEvent event) {
+        // Right-clicking armor swaps it with the worn piece
+        if (event.getAction().isRightClick() && pendingXP.containsKey(event.getPlayer().getUniqueId())) {
+            flush(event.getPlayer());
+        }
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        flush(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLethalDamage(EntityDamageEvent event) {
+        // Death drops are copied out of the inventory before PlayerDeathEvent fires
+        if (event.getEntity() instanceof Player player && pendingXP.containsKey(player.getUniqueId())
+                && event.getFinalDamage() >= player.getHealth() + player.getAbsorptionAmount()) {
+            flush(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onDeath(PlayerDeathEvent event) {
+        // Deaths without a damage event (/kill, setHealth); still reaches kept inventories
+        flush(event.getEntity());
+    }
+
+    /**
+     * Armor can leave a slot without any of the events above (dispensers, breaking, plugins).
+     * Fired after the change, so the old piece can't be written to any more; drop its XP
+     * rather than let it land on whatever now occupies the slot.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onArmorChange(PlayerArmorChangeEvent event) {
+        Map<PendingKey, Integer> pending = pendingXP.get(event.getPlayer().getUniqueId());
+        if (pending == null) {
+            return;
+        }
+        // Durability loss and our own XP writes fire this too; those are still the same piece
+        if (isSamePiece(event.getOldItem(), event.getNewItem())) {
+            return;
+        }
+        int slot = switch (event.getSlotType()) {
+            case FEET -> 36;
+            case LEGS -> 37;
+            case CHEST -> 38;
+            case HEAD -> 39;
+        };
+        if (pending.keySet().removeIf(key -> key.slot() == slot)) {
+            LogHelper.debug("[TierProgression] Dropped pending XP for %s slot %d (armor replaced)",
+                    event.getPlayer().getName(), slot);
+        }
+        if (pending.isEmpty()) {
+            pendingXP.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    /**
+     * Same material and the same sigils at the same tiers; XP and durability may differ.
+     */
+    private boolean isSamePiece(ItemStack oldItem, ItemStack newItem) {
+        if (oldItem == null || newItem == null || oldItem.getType() != newItem.getType()
+                || oldItem.getType().isAir()) {
+            return false;
+        }
+        SocketManager socketManager = plugin.getSocketManager();
+        List<SocketedSigil> oldSockets = socketManager.getSockets(oldItem);
+        List<SocketedSigil> newSockets = socketManager.getSockets(newItem);
+        if (oldSockets.size() != newSockets.size()) {
+            return false;
+        }
+        for (int i = 0; i < oldSockets.size(); i++) {
+            if (!oldSockets.get(i).id().equals(newSockets.get(i).id())
+                    || oldSockets.get(i).tier() != newSockets.get(i).tier()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record PendingKey(int slot, String sigilId) {}
+
     /**
      * Get the current XP for a sigil on an armor item.
      */
@@ -105,15 +319,14 @@ public class TierProgressionManager {
             return 0;
         }
 
-        ItemMeta meta = armorItem.getItemMeta();
-        PersistentDataContainer pdc = meta.getPersistentDataContainer();
-
-        // XP is stored as "sigilId:xp" format in a compound key
-        String xpKey = sigilId + "_xp";
-        NamespacedKey key = new NamespacedKey(plugin, xpKey);
+        SocketManager socketManager = plugin.getSocketManager();
+        SocketedSigil socket = socketManager.getSocket(armorItem, sigilId);
+        int xp = socket != null ? socket.xp() : 0;
 
-        Integer xp = pdc.get(key, PersistentDataType.INTEGER);
-        return xp != null ? xp : 0;
+        // Items not rewritten since XP moved into the socket entry still carry a "<sigilId>_xp" key
+        Integer legacyXP = armorItem.getPersistentDataContainer()
+                .get(socketManager.getLegacyXPKey(sigilId), PersistentDataType.INTEGER);
+        return legacyXP != null ? xp + legacyXP : xp;
     }
 
     /**
@@ -124,13 +337,19 @@ public class TierProgressionManager {
             return;
         }
 
+        SocketManager socketManager = plugin.getSocketManager();
         ItemMeta meta = armorItem.getItemMeta();
-        PersistentDataContainer pdc = meta.getPersistentDataContainer();
-
-        String xpKey = sigilId + "_xp";
-        NamespacedKey key = new NamespacedKey(plugin, xpKey);
-
-        pdc.set(key, PersistentDataType.INTEGER, xp);
+        // The new total already includes any legacy XP, so don't let setSockets fold it in again
+        meta.getPersistentDataContainer().remove(socketManager.getLegacyXPKey(sigilId));
+
+        List<SocketedSigil> sockets = new ArrayList<>(socketManager.getSockets(meta));
+        for (int i = 0; i < sockets.size(); i++) {
+            if (sockets.get(i).id().equalsIgnoreCase(sigilId)) {
+                sockets.set(i, sockets.get(i).withXP(xp));
+                socketManager.setSockets(meta, sockets);
+                break;
+            }
+        }
         armorItem.setItemMeta(meta);
     }
 
@@ -0,0 +1,84 @@
+package com.miracle.arcanesigils.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs independent load steps (parsing one YAML file, compiling its flows) on a short-lived
+ * worker pool and hands the results back to the calling thread in input order.
+ *
+ * Tasks must not touch Bukkit state or anything outside their own input; callers build
+ * their registries from the returned results and swap them in once everything is done.
+ */
+public final class ParallelLoader {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private ParallelLoader() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Apply a task to every input in parallel and wait for all of them.
+     *
+     * @param inputs The inputs, usually files
+     * @param task The work for one input
+     * @param onError Called on the calling thread for each input whose task threw
+     * @return One result per input, in input order; null where the task failed
+     */
+    public static <T, R> List<R> map(List<T> inputs, Task<T, R> task, BiConsumer<T, Throwable> onError) {
+        List<R> results = new ArrayList<>(inputs.size());
+        if (inputs.size() <= 1) {
+            for (T input : inputs) {
+                try {
+                    results.add(task.apply(input));
+                } catch (Exception e) {
+                    onError.accept(input, e);
+                    results.add(null);
+                }
+            }
+            return results;
+        }
+
+        int threads = Math.min(inputs.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "ArcaneSigils-Loader-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<R>> futures = new ArrayList<>(inputs.size());
+            for (T input : inputs) {
+                futures.add(pool.submit(() -> task.apply(input)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    onError.accept(inputs.get(i), e.getCause());
+                    results.add(null);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * The work for one input; may throw, which is reported through the error callback.
+     */
+    @FunctionalInterface
+    public interface Task<T, R> {
+        R apply(T input) throws Exception;
+    }
+}
@@ -3,11 +3,17 @@ package com.miracle.arcanesigils.variables;
 import com.miracle.arcanesigils.ArmorSetsPlugin;
 import com.miracle.arcanesigils.utils.LogHelper;
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,8 +26,13 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Track ability active states (e.g., "quicksand_active")
  * - Store temporary player data accessible across multiple flows
  * - Any sigil state that needs to persist for a duration
+ *
+ * Variables holding numbers, strings or booleans are saved to the player store on quit
+ * and shutdown and restored at pre-login, keeping their original expiry time.
  */
 public class PlayerVariableManager implements Listener {
+    private static final String STORE_NAMESPACE = "player_variables";
+
     private final ArmorSetsPlugin plugin;
     
     // Map of player UUID -> Map of variable name -> PlayerVariable
@@ -180,17 +191,85 @@ public class PlayerVariableManager implements Listener {
     }
     
     /**
-     * Clean up variables when player quits.
+     * Restore saved variables before the player joins.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            loadVariables(event.getUniqueId());
+        }
+    }
+    
+    /**
+     * Save and clean up variables when player quits.
      */
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        clearAllVariables(event.getPlayer().getUniqueId());
+        UUID playerId = event.getPlayer().getUniqueId();
+        saveVariables(playerId);
+        clearAllVariables(playerId);
+    }
+    
+    private void loadVariables(UUID playerId) {
+        String stored = plugin.getPlayerStore().load(playerId, STORE_NAMESPACE);
+        if (stored == null) return;
+        
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.loadFromString(stored);
+        } catch (InvalidConfigurationException e) {
+            LogHelper.warning("Failed to load variables for " + playerId + ": " + e.getMessage());
+            return;
+        }
+        
+        long now = System.currentTimeMillis();
+        Map<String, PlayerVariable> vars = playerVariables.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>());
+        for (String name : config.getKeys(false)) {
+            Object value = config.get(name + ".value");
+            long expiryTime = config.getLong(name + ".expires", Long.MAX_VALUE);
+            if (value != null && expiryTime > now) {
+                vars.putIfAbsent(name, new PlayerVariable(value, expiryTime));
+            }
+        }
+        if (vars.isEmpty()) {
+            playerVariables.remove(playerId, vars);
+        }
+    }
+    
+    private void saveVariables(UUID playerId) {
+        Map<String, PlayerVariable> vars = playerVariables.get(playerId);
+        YamlConfiguration config = new YamlConfiguration();
+        if (vars != null) {
+            long now = System.currentTimeMillis();
+            for (Map.Entry<String, PlayerVariable> entry : vars.entrySet()) {
+                PlayerVariable var = entry.getValue();
+                if (var.expiryTime <= now || !isPersistable(var.value)) continue;
+                
+                ConfigurationSection section = config.createSection(entry.getKey());
+                section.set("value", var.value);
+                if (var.expiryTime != Long.MAX_VALUE) {
+                    section.set("expires", var.expiryTime);
+                }
+            }
+        }
+        String data = config.getKeys(false).isEmpty() ? null : config.saveToString();
+        plugin.getPlayerStore().save(playerId, STORE_NAMESPACE, data, null);
+    }
+    
+    /**
+     * Only plain values survive a restart; entities, locations etc. are session-only.
+     */
+    private static boolean isPersistable(Object value) {
+        return value instanceof Number || value instanceof String || value instanceof Boolean;
     }
     
     /**
-     * Shutdown cleanup.
+     * Save every player's variables and clear them (before the player store shuts down).
      */
     public void shutdown() {
+        for (UUID playerId : new ArrayList<>(playerVariables.keySet())) {
+            saveVariables(playerId);
+        }
         playerVariables.clear();
     }
 }
@@ -3,13 +3,20 @@ package com.miracle.arcanesigils.variables;
 import com.miracle.arcanesigils.ArmorSetsPlugin;
 import com.miracle.arcanesigils.utils.LogHelper;
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -21,8 +28,13 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Track per-sigil charge counters (e.g., King's Brace charge: 0-100)
  * - Store state for individual sigil instances
  * - Handle multiple instances of the same sigil with separate state
+ *
+ * Variables holding numbers, strings or booleans (e.g. charges) are saved to the player
+ * store on quit and shutdown and restored at pre-login, keeping their original expiry time.
  */
 public class SigilVariableManager implements Listener {
+    private static final String STORE_NAMESPACE = "sigil_variables";
+
     private final ArmorSetsPlugin plugin;
     
     // Map of composite key -> Map of variable name -> SigilVariable
@@ -268,17 +280,102 @@ public class SigilVariableManager implements Listener {
     }
     
     /**
-     * Clean up variables when player quits.
+     * Restore saved variables before the player joins.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            loadPlayerVariables(event.getUniqueId());
+        }
+    }
+    
+    /**
+     * Save and clean up variables when player quits.
      */
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        clearAllPlayerVariables(event.getPlayer().getUniqueId());
+        UUID playerId = event.getPlayer().getUniqueId();
+        savePlayerVariables(playerId);
+        clearAllPlayerVariables(playerId);
     }
     
     /**
-     * Shutdown cleanup.
+     * Stored layout: one section per "sigilId|SLOT", holding value/expires per variable.
+     */
+    private void loadPlayerVariables(UUID playerId) {
+        String stored = plugin.getPlayerStore().load(playerId, STORE_NAMESPACE);
+        if (stored == null) return;
+        
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.loadFromString(stored);
+        } catch (InvalidConfigurationException e) {
+            LogHelper.warning("Failed to load sigil variables for " + playerId + ": " + e.getMessage());
+            return;
+        }
+        
+        long now = System.currentTimeMillis();
+        String playerPrefix = playerId.toString() + "|";
+        for (String scope : config.getKeys(false)) {
+            ConfigurationSection scopeSection = config.getConfigurationSection(scope);
+            if (scopeSection == null) continue;
+            
+            for (String varName : scopeSection.getKeys(false)) {
+                Object value = scopeSection.get(varName + ".value");
+                long expiryTime = scopeSection.getLong(varName + ".expires", Long.MAX_VALUE);
+                if (value != null && expiryTime > now) {
+                    sigilVariables.computeIfAbsent(playerPrefix + scope, k -> new ConcurrentHashMap<>())
+                        .putIfAbsent(varName, new SigilVariable(value, expiryTime));
+                }
+            }
+        }
+    }
+    
+    private void savePlayerVariables(UUID playerId) {
+        String playerPrefix = playerId.toString() + "|";
+        long now = System.currentTimeMillis();
+        YamlConfiguration config = new YamlConfiguration();
+        
+        for (Map.Entry<String, Map<String, SigilVariable>> entry : sigilVariables.entrySet()) {
+            if (!entry.getKey().startsWith(playerPrefix)) continue;
+            
+            String scope = entry.getKey().substring(playerPrefix.length());
+            for (Map.Entry<String, SigilVariable> varEntry : entry.getValue().entrySet()) {
+                SigilVariable var = varEntry.getValue();
+                if (var.expiryTime <= now || !isPersistable(var.value)) continue;
+                
+                ConfigurationSection scopeSection = config.isConfigurationSection(scope)
+                    ? config.getConfigurationSection(scope) : config.createSection(scope);
+                ConfigurationSection section = scopeSection.createSection(varEntry.getKey());
+                section.set("value", var.value);
+                if (var.expiryTime != Long.MAX_VALUE) {
+                    section.set("expires", var.expiryTime);
+                }
+            }
+        }
+        
+        String data = config.getKeys(false).isEmpty() ? null : config.saveToString();
+        plugin.getPlayerStore().save(playerId, STORE_NAMESPACE, data, null);
+    }
+    
+    /**
+     * Only plain values survive a restart; entities, locations etc. are session-only.
+     */
+    private static boolean isPersistable(Object value) {
+        return value instanceof Number || value instanceof String || value instanceof Boolean;
+    }
+    
+    /**
+     * Save every player's variables and clear them (before the player store shuts down).
      */
     public void shutdown() {
+        Set<UUID> players = new HashSet<>();
+        for (String key : sigilVariables.keySet()) {
+            players.add(UUID.fromString(key.substring(0, key.indexOf('|'))));
+        }
+        for (UUID playerId : players) {
+            savePlayerVariables(playerId);
+        }
         sigilVariables.clear();
     }
 }
@@ -0,0 +1,195 @@
+package com.miracle.arcanesigils.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the binary socket format stored on items, and the legacy string it replaced.
+ */
+@DisplayName("SocketCodec")
+class SocketCodecTest {
+
+    @Nested
+    @DisplayName("Round trip")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("Entries survive encode -> decode in order")
+        void entriesSurvive() {
+            List<SocketedSigil> sockets = List.of(
+                    new SocketedSigil("fire_aura", 3, 120),
+                    new SocketedSigil("frost_ward", 1, 0),
+                    new SocketedSigil("ancient_crown", 10, 4500));
+
+            assertThat(SocketCodec.decode(SocketCodec.encode(sockets))).containsExactlyElementsOf(sockets);
+        }
+
+        @Test
+        @DisplayName("Multi-byte UTF-8 ids are preserved")
+        void multiByteIds() {
+            List<SocketedSigil> sockets = List.of(
+                    new SocketedSigil("éclair_ß", 2, 7),
+                    new SocketedSigil("火の印", 4, 300),
+                    new SocketedSigil("rune_🔥", 1, 1));
+
+            assertThat(SocketCodec.decode(SocketCodec.encode(sockets))).containsExactlyElementsOf(sockets);
+        }
+
+        @Test
+        @DisplayName("Large XP and tier values use multi-byte varints")
+        void largeValues() {
+            List<SocketedSigil> sockets = List.of(
+                    new SocketedSigil("grinder", 127, 128),
+                    new SocketedSigil("veteran", 16384, Integer.MAX_VALUE));
+
+            assertThat(SocketCodec.decode(SocketCodec.encode(sockets))).containsExactlyElementsOf(sockets);
+        }
+
+        @Test
+        @DisplayName("No sockets encodes to a payload that decodes to an empty list")
+        void emptyList() {
+            assertThat(SocketCodec.decode(SocketCodec.encode(List.of()))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Decoded lists are immutable")
+        void decodedListIsImmutable() {
+            List<SocketedSigil> decoded = SocketCodec.decode(
+                    SocketCodec.encode(List.of(new SocketedSigil("fire_aura", 1, 0))));
+
+            assertThatThrownBy(() -> decoded.add(new SocketedSigil("other", 1, 0)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Legacy string")
+    class Legacy {
+
+        @Test
+        @DisplayName("Id without a tier defaults to tier 1")
+        void idOnly() {
+            assertThat(SocketCodec.parseLegacy("fire_aura"))
+                    .containsExactly(new SocketedSigil("fire_aura", 1, 0));
+        }
+
+        @Test
+        @DisplayName("Id with a tier keeps the tier")
+        void idWithTier() {
+            assertThat(SocketCodec.parseLegacy("fire_aura:4"))
+                    .containsExactly(new SocketedSigil("fire_aura", 4, 0));
+        }
+
+        @Test
+        @DisplayName("Unparseable tier falls back to tier 1")
+        void badTier() {
+            assertThat(SocketCodec.parseLegacy("fire_aura:bad"))
+                    .containsExactly(new SocketedSigil("fire_aura", 1, 0));
+        }
+
+        @Test
+        @DisplayName("Empty string has no sockets")
+        void emptyString() {
+            assertThat(SocketCodec.parseLegacy("")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Multiple entries are kept in order")
+        void multipleEntries() {
+            assertThat(SocketCodec.parseLegacy("fire_aura:2,frost_ward"))
+                    .containsExactly(
+                            new SocketedSigil("fire_aura", 2, 0),
+                            new SocketedSigil("frost_ward", 1, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Malformed payloads")
+    class Malformed {
+
+        @Test
+        @DisplayName("Every truncation of a valid payload decodes to an empty list")
+        void truncated() {
+            byte[] full = SocketCodec.encode(List.of(
+                    new SocketedSigil("fire_aura", 3, 120),
+                    new SocketedSigil("火の印", 2, 100000)));
+
+            for (int length = 0; length < full.length; length++) {
+                assertThat(SocketCodec.decode(Arrays.copyOf(full, length)))
+                        .as("payload truncated to %d of %d bytes", length, full.length)
+                        .isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("Unknown version decodes to an empty list")
+        void unknownVersion() {
+            byte[] data = SocketCodec.encode(List.of(new SocketedSigil("fire_aura", 1, 0)));
+            data[0] = (byte) (SocketCodec.VERSION + 1);
+
+            assertThat(SocketCodec.decode(data)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Count larger than the payload decodes to an empty list")
+        void oversizedCount() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(SocketCodec.VERSION);
+            writeVarInt(out, Integer.MAX_VALUE);
+
+            assertThat(SocketCodec.decode(out.toByteArray())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Negative count decodes to an empty list")
+        void negativeCount() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(SocketCodec.VERSION);
+            writeVarInt(out, -1);
+
+            assertThat(SocketCodec.decode(out.toByteArray())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Negative or oversized id length decodes to an empty list")
+        void badIdLength() {
+            for (int length : new int[] {-1, Integer.MIN_VALUE, Integer.MAX_VALUE, 50}) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                out.write(SocketCodec.VERSION);
+                writeVarInt(out, 1);
+                writeVarInt(out, length);
+                out.write('a');
+                writeVarInt(out, 1);
+                writeVarInt(out, 0);
+
+                assertThat(SocketCodec.decode(out.toByteArray()))
+                        .as("id length %d", length)
+                        .isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("Overlong varint decodes to an empty list")
+        void overlongVarInt() {
+            byte[] data = {SocketCodec.VERSION, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01};
+
+            assertThat(SocketCodec.decode(data)).isEmpty();
+        }
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}